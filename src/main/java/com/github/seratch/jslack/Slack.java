@@ -1,7 +1,12 @@
 package com.github.seratch.jslack;
 
+import com.github.seratch.jslack.api.files.FilesDownloader;
+import com.github.seratch.jslack.api.methods.AsyncMethodsClient;
+import com.github.seratch.jslack.api.methods.MethodsCache;
 import com.github.seratch.jslack.api.methods.MethodsClient;
 import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.impl.AsyncMethodsClientImpl;
+import com.github.seratch.jslack.api.methods.impl.CachingMethodsClient;
 import com.github.seratch.jslack.api.methods.impl.MethodsClientImpl;
 import com.github.seratch.jslack.api.methods.request.rtm.RTMConnectRequest;
 import com.github.seratch.jslack.api.methods.request.rtm.RTMStartRequest;
@@ -35,6 +40,7 @@ public class Slack {
 
     private final SlackHttpClient httpClient;
     private final SlackConfig config;
+    private volatile FilesDownloader filesDownloader;
 
     public Slack() {
         this(SlackConfig.DEFAULT, new SlackHttpClient());
@@ -50,8 +56,12 @@ public class Slack {
         return SINGLETON;
     }
 
+    /**
+     * The instances created by this method share the HTTP connections and threads
+     * as long as the configs have the same HTTP settings.
+     */
     public static Slack getInstance(SlackConfig config) {
-        return new Slack(config, new SlackHttpClient());
+        return new Slack(config, new SlackHttpClient(config));
     }
 
     public static Slack getInstance(SlackConfig config, SlackHttpClient httpClient) {
@@ -195,6 +205,37 @@ public class Slack {
         return new MethodsClientImpl(httpClient);
     }
 
+    /**
+     * Returns a MethodsClient which serves the read-only methods enabled in the cache from it.
+     * Share the same MethodsCache instance among the clients to share the cached responses.
+     */
+    public MethodsClient methods(MethodsCache cache) {
+        return new CachingMethodsClient(httpClient, cache);
+    }
+
+    /**
+     * Creates an asynchronous Methods API client.
+     */
+    public AsyncMethodsClient methodsAsync() {
+        return new AsyncMethodsClientImpl(httpClient);
+    }
+
+    /**
+     * Returns the FilesDownloader of this instance. The downloads through it share the concurrency limit.
+     */
+    public FilesDownloader filesDownloader() {
+        FilesDownloader downloader = filesDownloader;
+        if (downloader == null) {
+            synchronized (this) {
+                if (filesDownloader == null) {
+                    filesDownloader = new FilesDownloader(httpClient);
+                }
+                downloader = filesDownloader;
+            }
+        }
+        return downloader;
+    }
+
     public Shortcut shortcut() {
         return new ShortcutImpl(this);
     }
@@ -1,9 +1,15 @@
 package com.github.seratch.jslack;
 
+import com.github.seratch.jslack.api.methods.MethodsRateLimiter;
+import com.github.seratch.jslack.api.methods.MethodsRetryPolicy;
+import com.github.seratch.jslack.api.rtm.RTMClientConfig;
+import com.github.seratch.jslack.common.http.SlackBulkheads;
+import com.github.seratch.jslack.common.http.SlackCircuitBreaker;
 import com.github.seratch.jslack.common.http.listener.DetailedLoggingListener;
 import com.github.seratch.jslack.common.http.listener.HttpResponseListener;
 import com.github.seratch.jslack.common.http.listener.ResponsePrettyPrintingListener;
 import lombok.Data;
+import okhttp3.ConnectionPool;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +27,71 @@ public class SlackConfig {
         public void setLibraryMaintainerMode(boolean libraryMaintainerMode) {
             throw new UnsupportedOperationException("This config is immutable");
         }
+
+        @Override
+        public void setMethodsRateLimiter(MethodsRateLimiter methodsRateLimiter) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
+
+        @Override
+        public void setMethodsRetryPolicy(MethodsRetryPolicy methodsRetryPolicy) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
+
+        @Override
+        public void setCircuitBreaker(SlackCircuitBreaker circuitBreaker) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
+
+        @Override
+        public void setBulkheads(SlackBulkheads bulkheads) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
+
+        @Override
+        public void setRtmClientConfig(RTMClientConfig rtmClientConfig) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
+
+        @Override
+        public void setHttpConnectionPool(ConnectionPool httpConnectionPool) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
+
+        @Override
+        public void setHttpMaxRequests(int httpMaxRequests) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
+
+        @Override
+        public void setHttpMaxRequestsPerHost(int httpMaxRequestsPerHost) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
+
+        @Override
+        public void setHttpConnectTimeoutMillis(long httpConnectTimeoutMillis) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
+
+        @Override
+        public void setHttpReadTimeoutMillis(long httpReadTimeoutMillis) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
+
+        @Override
+        public void setHttpWriteTimeoutMillis(long httpWriteTimeoutMillis) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
+
+        @Override
+        public void setHttpCallTimeoutMillis(long httpCallTimeoutMillis) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
+
+        @Override
+        public void setHttp2Enabled(boolean http2Enabled) {
+            throw new UnsupportedOperationException("This config is immutable");
+        }
     };
 
     public SlackConfig() {
@@ -37,4 +108,65 @@ public class SlackConfig {
 
     private List<HttpResponseListener> httpClientResponseHandlers = new ArrayList<>();
 
+    /**
+     * Smooths API method calls within Slack's rate limits and retries on 429 responses. Disabled when null.
+     * Applied only to the blocking client (Slack#methods()); the calls of Slack#methodsAsync() don't wait for it.
+     */
+    private MethodsRateLimiter methodsRateLimiter;
+
+    /**
+     * Retries API method calls that failed with transient errors. Disabled when null.
+     * Applied only to the blocking client (Slack#methods()); the calls of Slack#methodsAsync() are never retried.
+     */
+    private MethodsRetryPolicy methodsRetryPolicy;
+
+    /**
+     * Fails API method calls fast while the method keeps failing. Disabled when null.
+     */
+    private SlackCircuitBreaker circuitBreaker;
+
+    /**
+     * Limits the concurrent API method calls per API family. Disabled when null.
+     */
+    private SlackBulkheads bulkheads;
+
+    /**
+     * The connection supervision settings of RTMClient (pings, auto reconnect).
+     */
+    private RTMClientConfig rtmClientConfig = RTMClientConfig.DEFAULT;
+
+    // ------------------------------
+    // HTTP transport
+    // The Slack instances that have the same settings share a single OkHttpClient.
+    // These settings are read when Slack#getInstance(SlackConfig) is called.
+
+    /**
+     * The connection pool used instead of the library-wide shared one. Null means the shared one.
+     */
+    private ConnectionPool httpConnectionPool;
+
+    /**
+     * The max number of concurrent asynchronous requests.
+     */
+    private int httpMaxRequests = 64;
+
+    /**
+     * The max number of concurrent asynchronous requests to the same host.
+     */
+    private int httpMaxRequestsPerHost = 5;
+
+    private long httpConnectTimeoutMillis = 10_000L;
+    private long httpReadTimeoutMillis = 10_000L;
+    private long httpWriteTimeoutMillis = 10_000L;
+
+    /**
+     * The timeout for a whole HTTP call including redirects. 0 means no timeout.
+     */
+    private long httpCallTimeoutMillis = 0L;
+
+    /**
+     * Prefers HTTP/2 when the server supports it.
+     */
+    private boolean http2Enabled = true;
+
 }
@@ -0,0 +1,31 @@
+package com.github.seratch.jslack.api.files;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FilesDownloadResult {
+
+    private String url;
+    private String contentType;
+    /**
+     * The bytes received by this download, which excludes the part already downloaded when resumed.
+     */
+    private long bytesDownloaded;
+    /**
+     * The size of the whole file. -1 when unknown.
+     */
+    private long totalBytes;
+    private boolean resumed;
+    /**
+     * True when the content was verified with a checksum sent by the server (Digest or Content-MD5 header),
+     * false when no checksum was available.
+     */
+    private boolean checksumVerified;
+
+}
@@ -0,0 +1,326 @@
+package com.github.seratch.jslack.api.files;
+
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.model.File;
+import com.github.seratch.jslack.common.http.SlackHttpClient;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Headers;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Downloads the files shared in Slack (File#urlPrivate and File#urlPrivateDownload) with a token.
+ * <p>
+ * The content is streamed with a constant-size buffer, so the memory usage doesn't depend on the file size.
+ * Downloads to a Path resume from the existing partial content with a conditional HTTP Range request.
+ * When the server sends a checksum (Digest: SHA-256=... or Content-MD5 header), the content is verified with it.
+ * <p>
+ * The number of concurrent downloads is limited per instance; share an instance (e.g., Slack#filesDownloader()).
+ */
+@Slf4j
+public class FilesDownloader {
+
+    public static final int DEFAULT_MAX_CONCURRENT_DOWNLOADS = 4;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final SlackHttpClient httpClient;
+    private final Semaphore permits;
+
+    public FilesDownloader(SlackHttpClient httpClient) {
+        this(httpClient, DEFAULT_MAX_CONCURRENT_DOWNLOADS);
+    }
+
+    public FilesDownloader(SlackHttpClient httpClient, int maxConcurrentDownloads) {
+        this.httpClient = httpClient;
+        this.permits = new Semaphore(maxConcurrentDownloads, true);
+    }
+
+    public FilesDownloadResult download(String token, String url, OutputStream out) throws IOException, SlackApiException {
+        return download(token, url, Channels.newChannel(out));
+    }
+
+    public FilesDownloadResult download(String token, String url, WritableByteChannel out) throws IOException, SlackApiException {
+        acquirePermit();
+        try (Response response = httpClient.getWithBearerHeader(url, token, null)) {
+            if (!response.isSuccessful()) {
+                throw new SlackApiException(response, response.body().string());
+            }
+            Checksum checksum = Checksum.from(response);
+            long downloaded = transfer(response.body(), out, checksum);
+            boolean verified = checksum != null && checksum.verify(url);
+            return FilesDownloadResult.builder()
+                    .url(url)
+                    .contentType(contentType(response))
+                    .bytesDownloaded(downloaded)
+                    .totalBytes(downloaded)
+                    .checksumVerified(verified)
+                    .build();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Downloads the file to the path. When the path already has a part of the file, the rest is requested
+     * with an HTTP Range header and appended; if the server doesn't support ranges, the file is downloaded again.
+     * <p>
+     * The resume is conditional (If-Range) on the ETag or Last-Modified of the response the partial content came from,
+     * kept in a "{file name}.validator" file next to the path until the download completes. Without it,
+     * or when the server answers with another range than requested, the file is downloaded again from the start,
+     * so that two versions of a file changed between the attempts are never spliced together.
+     * A file failing the checksum verification is deleted.
+     */
+    public FilesDownloadResult download(String token, String url, Path path) throws IOException, SlackApiException {
+        acquirePermit();
+        try {
+            Path validatorPath = validatorPath(path);
+            long existing = Files.exists(path) ? Files.size(path) : 0L;
+            String validator = null;
+            if (existing > 0) {
+                if (Files.exists(validatorPath)) {
+                    validator = new String(Files.readAllBytes(validatorPath), StandardCharsets.UTF_8).trim();
+                }
+                if (validator == null || validator.isEmpty()) {
+                    log.debug("No validator for the partial content, downloading again: {}", path);
+                    existing = 0L;
+                }
+            }
+            FilesDownloadResult result = download(token, url, path, existing, validator);
+            if (result == null) {
+                result = download(token, url, path, 0L, null);
+            }
+            return result;
+        } finally {
+            permits.release();
+        }
+    }
+
+    // returns null when the server sent another range than the requested one
+    private FilesDownloadResult download(String token, String url, Path path, long existing, String validator)
+            throws IOException, SlackApiException {
+        Path validatorPath = validatorPath(path);
+        Headers headers = existing > 0 ? Headers.of("Range", "bytes=" + existing + "-", "If-Range", validator) : null;
+        try (Response response = httpClient.getWithBearerHeader(url, token, headers)) {
+            if (response.code() == 416 && existing > 0 && existing == parseTotalFromContentRange(response)) {
+                // already complete
+                Files.deleteIfExists(validatorPath);
+                return FilesDownloadResult.builder()
+                        .url(url).contentType(contentType(response)).totalBytes(existing).resumed(true).build();
+            }
+            if (!response.isSuccessful()) {
+                throw new SlackApiException(response, response.body().string());
+            }
+            boolean resumed = response.code() == 206;
+            if (resumed && parseStartFromContentRange(response) != existing) {
+                log.debug("Unexpected Content-Range {} for {} bytes, downloading again: {}",
+                        response.header("Content-Range"), existing, url);
+                return null;
+            }
+            Checksum checksum = Checksum.from(response);
+            long downloaded;
+            try (FileChannel out = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    resumed ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING)) {
+                if (!resumed) {
+                    // written after the truncation, so that the validator never describes the previous content
+                    String newValidator = validator(response);
+                    if (newValidator != null) {
+                        Files.write(validatorPath, newValidator.getBytes(StandardCharsets.UTF_8));
+                    } else {
+                        Files.deleteIfExists(validatorPath);
+                    }
+                }
+                if (resumed && checksum != null) {
+                    checksum.update(path, existing);
+                }
+                downloaded = transfer(response.body(), out, checksum);
+            }
+            long total = resumed ? existing + downloaded : downloaded;
+            boolean verified = false;
+            if (checksum != null) {
+                try {
+                    verified = checksum.verify(url);
+                } catch (IOException e) {
+                    // the file has been closed above, so that it can be deleted on any platform
+                    Files.deleteIfExists(path);
+                    Files.deleteIfExists(validatorPath);
+                    throw e;
+                }
+            }
+            Files.deleteIfExists(validatorPath);
+            return FilesDownloadResult.builder()
+                    .url(url)
+                    .contentType(contentType(response))
+                    .bytesDownloaded(downloaded)
+                    .totalBytes(total)
+                    .resumed(resumed)
+                    .checksumVerified(verified)
+                    .build();
+        }
+    }
+
+    /**
+     * Downloads the file with File#urlPrivateDownload (or File#urlPrivate) and verifies its size with File#size.
+     */
+    public FilesDownloadResult download(String token, File file, Path path) throws IOException, SlackApiException {
+        String url = file.getUrlPrivateDownload() != null ? file.getUrlPrivateDownload() : file.getUrlPrivate();
+        if (url == null) {
+            throw new IllegalArgumentException("The file " + file.getId() + " has no url_private");
+        }
+        FilesDownloadResult result = download(token, url, path);
+        if (file.getSize() != null && result.getTotalBytes() != file.getSize()) {
+            throw new IOException("The downloaded size (" + result.getTotalBytes() + " bytes) differs from the file's size ("
+                    + file.getSize() + " bytes): " + url);
+        }
+        return result;
+    }
+
+    private void acquirePermit() throws InterruptedIOException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the other downloads");
+        }
+    }
+
+    private static long transfer(ResponseBody body, WritableByteChannel out, Checksum checksum) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long total = 0L;
+        BufferedSource source = body.source();
+        int read;
+        while ((read = source.read(buffer)) != -1) {
+            buffer.flip();
+            if (checksum != null) {
+                checksum.digest.update(buffer.array(), 0, read);
+            }
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            buffer.clear();
+            total += read;
+        }
+        return total;
+    }
+
+    private static String contentType(Response response) {
+        return response.header("Content-Type");
+    }
+
+    static Path validatorPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".validator");
+    }
+
+    // If-Range takes a strong ETag or a Last-Modified date
+    private static String validator(Response response) {
+        String etag = response.header("ETag");
+        if (etag != null && !etag.startsWith("W/")) {
+            return etag;
+        }
+        return response.header("Last-Modified");
+    }
+
+    // Content-Range: bytes 100-12344/12345
+    private static long parseStartFromContentRange(Response response) {
+        String contentRange = response.header("Content-Range");
+        if (contentRange != null && contentRange.startsWith("bytes ")) {
+            int index = contentRange.indexOf('-');
+            if (index > 0) {
+                try {
+                    return Long.parseLong(contentRange.substring("bytes ".length(), index).trim());
+                } catch (NumberFormatException e) {
+                    log.debug("Failed to parse Content-Range header: {}", contentRange);
+                }
+            }
+        }
+        return -1L;
+    }
+
+    // Content-Range: bytes */12345
+    private static long parseTotalFromContentRange(Response response) {
+        String contentRange = response.header("Content-Range");
+        if (contentRange != null) {
+            int index = contentRange.lastIndexOf('/');
+            if (index >= 0) {
+                try {
+                    return Long.parseLong(contentRange.substring(index + 1).trim());
+                } catch (NumberFormatException e) {
+                    log.debug("Failed to parse Content-Range header: {}", contentRange);
+                }
+            }
+        }
+        return -1L;
+    }
+
+    private static class Checksum {
+        private final MessageDigest digest;
+        private final byte[] expected;
+
+        private Checksum(MessageDigest digest, byte[] expected) {
+            this.digest = digest;
+            this.expected = expected;
+        }
+
+        private static Checksum from(Response response) {
+            try {
+                // a partial response's Content-MD5 covers the range only, so only Digest is used when resuming
+                String digestHeader = response.header("Digest");
+                if (digestHeader != null) {
+                    for (String value : digestHeader.split(",")) {
+                        int index = value.indexOf('=');
+                        if (index > 0 && value.substring(0, index).trim().equalsIgnoreCase("SHA-256")) {
+                            return new Checksum(MessageDigest.getInstance("SHA-256"),
+                                    Base64.getDecoder().decode(value.substring(index + 1).trim()));
+                        }
+                    }
+                }
+                String contentMd5 = response.header("Content-MD5");
+                if (contentMd5 != null && response.code() == 200) {
+                    return new Checksum(MessageDigest.getInstance("MD5"), Base64.getDecoder().decode(contentMd5.trim()));
+                }
+            } catch (NoSuchAlgorithmException | IllegalArgumentException e) {
+                log.debug("Skipped the checksum verification: {}", e.getMessage());
+            }
+            return null;
+        }
+
+        private void update(Path path, long length) throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long remaining = length;
+            try (InputStream in = Files.newInputStream(path)) {
+                int read;
+                while (remaining > 0 && (read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+                    digest.update(buffer, 0, read);
+                    remaining -= read;
+                }
+            }
+        }
+
+        private boolean verify(String url) throws IOException {
+            if (!MessageDigest.isEqual(digest.digest(), expected)) {
+                throw new IOException("The downloaded content doesn't match the " + digest.getAlgorithm() + " checksum: " + url);
+            }
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,595 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.api.methods.request.api.ApiTestRequest;
+import com.github.seratch.jslack.api.methods.request.apps.AppsUninstallRequest;
+import com.github.seratch.jslack.api.methods.request.apps.permissions.AppsPermissionsInfoRequest;
+import com.github.seratch.jslack.api.methods.request.apps.permissions.AppsPermissionsRequestRequest;
+import com.github.seratch.jslack.api.methods.request.apps.permissions.resources.AppsPermissionsResourcesListRequest;
+import com.github.seratch.jslack.api.methods.request.apps.permissions.scopes.AppsPermissionsScopesListRequest;
+import com.github.seratch.jslack.api.methods.request.apps.permissions.users.AppsPermissionsUsersListRequest;
+import com.github.seratch.jslack.api.methods.request.apps.permissions.users.AppsPermissionsUsersRequestRequest;
+import com.github.seratch.jslack.api.methods.request.auth.AuthRevokeRequest;
+import com.github.seratch.jslack.api.methods.request.auth.AuthTestRequest;
+import com.github.seratch.jslack.api.methods.request.bots.BotsInfoRequest;
+import com.github.seratch.jslack.api.methods.request.channels.*;
+import com.github.seratch.jslack.api.methods.request.chat.*;
+import com.github.seratch.jslack.api.methods.request.chat.scheduled_messages.ChatScheduleMessagesListRequest;
+import com.github.seratch.jslack.api.methods.request.conversations.*;
+import com.github.seratch.jslack.api.methods.request.dialog.DialogOpenRequest;
+import com.github.seratch.jslack.api.methods.request.dnd.*;
+import com.github.seratch.jslack.api.methods.request.emoji.EmojiListRequest;
+import com.github.seratch.jslack.api.methods.request.files.*;
+import com.github.seratch.jslack.api.methods.request.files.comments.FilesCommentsAddRequest;
+import com.github.seratch.jslack.api.methods.request.files.comments.FilesCommentsDeleteRequest;
+import com.github.seratch.jslack.api.methods.request.files.comments.FilesCommentsEditRequest;
+import com.github.seratch.jslack.api.methods.request.groups.*;
+import com.github.seratch.jslack.api.methods.request.im.*;
+import com.github.seratch.jslack.api.methods.request.migration.MigrationExchangeRequest;
+import com.github.seratch.jslack.api.methods.request.mpim.*;
+import com.github.seratch.jslack.api.methods.request.oauth.OAuthAccessRequest;
+import com.github.seratch.jslack.api.methods.request.oauth.OAuthTokenRequest;
+import com.github.seratch.jslack.api.methods.request.pins.PinsAddRequest;
+import com.github.seratch.jslack.api.methods.request.pins.PinsListRequest;
+import com.github.seratch.jslack.api.methods.request.pins.PinsRemoveRequest;
+import com.github.seratch.jslack.api.methods.request.reactions.ReactionsAddRequest;
+import com.github.seratch.jslack.api.methods.request.reactions.ReactionsGetRequest;
+import com.github.seratch.jslack.api.methods.request.reactions.ReactionsListRequest;
+import com.github.seratch.jslack.api.methods.request.reactions.ReactionsRemoveRequest;
+import com.github.seratch.jslack.api.methods.request.reminders.*;
+import com.github.seratch.jslack.api.methods.request.rtm.RTMConnectRequest;
+import com.github.seratch.jslack.api.methods.request.rtm.RTMStartRequest;
+import com.github.seratch.jslack.api.methods.request.search.SearchAllRequest;
+import com.github.seratch.jslack.api.methods.request.search.SearchFilesRequest;
+import com.github.seratch.jslack.api.methods.request.search.SearchMessagesRequest;
+import com.github.seratch.jslack.api.methods.request.stars.StarsAddRequest;
+import com.github.seratch.jslack.api.methods.request.stars.StarsListRequest;
+import com.github.seratch.jslack.api.methods.request.stars.StarsRemoveRequest;
+import com.github.seratch.jslack.api.methods.request.team.TeamAccessLogsRequest;
+import com.github.seratch.jslack.api.methods.request.team.TeamBillableInfoRequest;
+import com.github.seratch.jslack.api.methods.request.team.TeamInfoRequest;
+import com.github.seratch.jslack.api.methods.request.team.TeamIntegrationLogsRequest;
+import com.github.seratch.jslack.api.methods.request.team.profile.TeamProfileGetRequest;
+import com.github.seratch.jslack.api.methods.request.usergroups.*;
+import com.github.seratch.jslack.api.methods.request.usergroups.users.UsergroupUsersListRequest;
+import com.github.seratch.jslack.api.methods.request.usergroups.users.UsergroupUsersUpdateRequest;
+import com.github.seratch.jslack.api.methods.request.users.*;
+import com.github.seratch.jslack.api.methods.request.users.profile.UsersProfileGetRequest;
+import com.github.seratch.jslack.api.methods.request.users.profile.UsersProfileSetRequest;
+import com.github.seratch.jslack.api.methods.response.api.ApiTestResponse;
+import com.github.seratch.jslack.api.methods.response.apps.AppsUninstallResponse;
+import com.github.seratch.jslack.api.methods.response.apps.permissions.AppsPermissionsInfoResponse;
+import com.github.seratch.jslack.api.methods.response.apps.permissions.AppsPermissionsRequestResponse;
+import com.github.seratch.jslack.api.methods.response.apps.permissions.resources.AppsPermissionsResourcesListResponse;
+import com.github.seratch.jslack.api.methods.response.apps.permissions.scopes.AppsPermissionsScopesListResponse;
+import com.github.seratch.jslack.api.methods.response.apps.permissions.users.AppsPermissionsUsersListResponse;
+import com.github.seratch.jslack.api.methods.response.apps.permissions.users.AppsPermissionsUsersRequestResponse;
+import com.github.seratch.jslack.api.methods.response.auth.AuthRevokeResponse;
+import com.github.seratch.jslack.api.methods.response.auth.AuthTestResponse;
+import com.github.seratch.jslack.api.methods.response.bots.BotsInfoResponse;
+import com.github.seratch.jslack.api.methods.response.channels.*;
+import com.github.seratch.jslack.api.methods.response.chat.*;
+import com.github.seratch.jslack.api.methods.response.chat.scheduled_messages.ChatScheduleMessagesListResponse;
+import com.github.seratch.jslack.api.methods.response.conversations.*;
+import com.github.seratch.jslack.api.methods.response.dialog.DialogOpenResponse;
+import com.github.seratch.jslack.api.methods.response.dnd.*;
+import com.github.seratch.jslack.api.methods.response.emoji.EmojiListResponse;
+import com.github.seratch.jslack.api.methods.response.files.*;
+import com.github.seratch.jslack.api.methods.response.files.comments.FilesCommentsAddResponse;
+import com.github.seratch.jslack.api.methods.response.files.comments.FilesCommentsDeleteResponse;
+import com.github.seratch.jslack.api.methods.response.files.comments.FilesCommentsEditResponse;
+import com.github.seratch.jslack.api.methods.response.groups.*;
+import com.github.seratch.jslack.api.methods.response.im.*;
+import com.github.seratch.jslack.api.methods.response.migration.MigrationExchangeResponse;
+import com.github.seratch.jslack.api.methods.response.mpim.*;
+import com.github.seratch.jslack.api.methods.response.oauth.OAuthAccessResponse;
+import com.github.seratch.jslack.api.methods.response.oauth.OAuthTokenResponse;
+import com.github.seratch.jslack.api.methods.response.pins.PinsAddResponse;
+import com.github.seratch.jslack.api.methods.response.pins.PinsListResponse;
+import com.github.seratch.jslack.api.methods.response.pins.PinsRemoveResponse;
+import com.github.seratch.jslack.api.methods.response.reactions.ReactionsAddResponse;
+import com.github.seratch.jslack.api.methods.response.reactions.ReactionsGetResponse;
+import com.github.seratch.jslack.api.methods.response.reactions.ReactionsListResponse;
+import com.github.seratch.jslack.api.methods.response.reactions.ReactionsRemoveResponse;
+import com.github.seratch.jslack.api.methods.response.reminders.*;
+import com.github.seratch.jslack.api.methods.response.rtm.RTMConnectResponse;
+import com.github.seratch.jslack.api.methods.response.rtm.RTMStartResponse;
+import com.github.seratch.jslack.api.methods.response.search.SearchAllResponse;
+import com.github.seratch.jslack.api.methods.response.search.SearchFilesResponse;
+import com.github.seratch.jslack.api.methods.response.search.SearchMessagesResponse;
+import com.github.seratch.jslack.api.methods.response.stars.StarsAddResponse;
+import com.github.seratch.jslack.api.methods.response.stars.StarsListResponse;
+import com.github.seratch.jslack.api.methods.response.stars.StarsRemoveResponse;
+import com.github.seratch.jslack.api.methods.response.team.TeamAccessLogsResponse;
+import com.github.seratch.jslack.api.methods.response.team.TeamBillableInfoResponse;
+import com.github.seratch.jslack.api.methods.response.team.TeamInfoResponse;
+import com.github.seratch.jslack.api.methods.response.team.TeamIntegrationLogsResponse;
+import com.github.seratch.jslack.api.methods.response.team.profile.TeamProfileGetResponse;
+import com.github.seratch.jslack.api.methods.response.usergroups.*;
+import com.github.seratch.jslack.api.methods.response.usergroups.users.UsergroupUsersListResponse;
+import com.github.seratch.jslack.api.methods.response.usergroups.users.UsergroupUsersUpdateResponse;
+import com.github.seratch.jslack.api.methods.response.users.*;
+import com.github.seratch.jslack.api.methods.response.users.profile.UsersProfileGetResponse;
+import com.github.seratch.jslack.api.methods.response.users.profile.UsersProfileSetResponse;
+import okhttp3.FormBody;
+import okhttp3.MultipartBody;
+import okhttp3.Response;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * API Methods, executed asynchronously.
+ * https://api.slack.com/methods
+ * <p>
+ * Every method mirrors the one in {@link MethodsClient} and returns a CompletableFuture.
+ * The HTTP calls are enqueued to the OkHttp dispatcher, so no caller thread waits for in-flight requests.
+ * The futures complete exceptionally with an IOException or a SlackApiException on failures.
+ * <p>
+ * SlackConfig#methodsRateLimiter isn't applied to these calls: they are sent without waiting for a permit,
+ * and a 429 response completes the future with a SlackApiException.
+ * SlackConfig#methodsRetryPolicy isn't applied either: a failed call is never retried.
+ */
+public interface AsyncMethodsClient {
+
+    void setEndpointUrlPrefix(String endpointUrlPrefix);
+
+    CompletableFuture<Response> runPostForm(
+            FormBody.Builder form,
+            String endpoint);
+
+    CompletableFuture<Response> runPostFormWithToken(
+            FormBody.Builder form,
+            String endpoint,
+            String token);
+
+    CompletableFuture<Response> runPostMultipart(
+            MultipartBody.Builder form,
+            String endpoint,
+            String token);
+
+    // ------------------------------
+    // api
+    // ------------------------------
+
+    CompletableFuture<ApiTestResponse> apiTest(ApiTestRequest req);
+
+    // ------------------------------
+    // apps
+    // ------------------------------
+
+    CompletableFuture<AppsUninstallResponse> appsUninstall(AppsUninstallRequest req);
+
+    // ------------------------------
+    // apps.permissions
+    // ------------------------------
+
+    CompletableFuture<AppsPermissionsInfoResponse> appsPermissionsInfo(AppsPermissionsInfoRequest req);
+
+    CompletableFuture<AppsPermissionsRequestResponse> appsPermissionsRequest(AppsPermissionsRequestRequest req);
+
+    // ------------------------------
+    // apps.permissions.resources
+    // ------------------------------
+
+    // Developer preview has ended
+    // This feature was exclusive to our workspace apps developer preview.
+    // The preview has now ended, but fan-favorite features such as token rotation
+    // and the Conversations API will become available to classic Slack apps over the coming months.
+    @Deprecated
+    CompletableFuture<AppsPermissionsResourcesListResponse> appsPermissionsResourcesList(AppsPermissionsResourcesListRequest req);
+
+    // ------------------------------
+    // apps.permissions.scopes
+    // ------------------------------
+
+    // Developer preview has ended
+    // This feature was exclusive to our workspace apps developer preview.
+    // The preview has now ended, but fan-favorite features such as token rotation
+    // and the Conversations API will become available to classic Slack apps over the coming months.
+    @Deprecated
+    CompletableFuture<AppsPermissionsScopesListResponse> appsPermissionsScopesList(AppsPermissionsScopesListRequest req);
+
+    // ------------------------------
+    // apps.permissions.users
+    // ------------------------------
+
+    // Developer preview has ended
+    // This feature was exclusive to our workspace apps developer preview.
+    // The preview has now ended, but fan-favorite features such as token rotation
+    // and the Conversations API will become available to classic Slack apps over the coming months.
+    @Deprecated
+    CompletableFuture<AppsPermissionsUsersListResponse> appsPermissionsUsersList(AppsPermissionsUsersListRequest req);
+
+    // Developer preview has ended
+    // This feature was exclusive to our workspace apps developer preview.
+    // The preview has now ended, but fan-favorite features such as token rotation
+    // and the Conversations API will become available to classic Slack apps over the coming months.
+    @Deprecated
+    CompletableFuture<AppsPermissionsUsersRequestResponse> appsPermissionsUsersRequest(AppsPermissionsUsersRequestRequest req);
+
+    // ------------------------------
+    // auth
+    // ------------------------------
+
+    CompletableFuture<AuthRevokeResponse> authRevoke(AuthRevokeRequest req);
+
+    CompletableFuture<AuthTestResponse> authTest(AuthTestRequest req);
+
+    // ------------------------------
+    // bots
+    // ------------------------------
+
+    CompletableFuture<BotsInfoResponse> botsInfo(BotsInfoRequest req);
+
+    // ------------------------------
+    // channels
+    // ------------------------------
+
+    CompletableFuture<ChannelsArchiveResponse> channelsArchive(ChannelsArchiveRequest req);
+
+    CompletableFuture<ChannelsCreateResponse> channelsCreate(ChannelsCreateRequest req);
+
+    CompletableFuture<ChannelsHistoryResponse> channelsHistory(ChannelsHistoryRequest req);
+
+    CompletableFuture<ChannelsRepliesResponse> channelsReplies(ChannelsRepliesRequest req);
+
+    CompletableFuture<ChannelsInfoResponse> channelsInfo(ChannelsInfoRequest req);
+
+    CompletableFuture<ChannelsListResponse> channelsList(ChannelsListRequest req);
+
+    CompletableFuture<ChannelsInviteResponse> channelsInvite(ChannelsInviteRequest req);
+
+    CompletableFuture<ChannelsJoinResponse> channelsJoin(ChannelsJoinRequest req);
+
+    CompletableFuture<ChannelsKickResponse> channelsKick(ChannelsKickRequest req);
+
+    CompletableFuture<ChannelsLeaveResponse> channelsLeave(ChannelsLeaveRequest req);
+
+    CompletableFuture<ChannelsMarkResponse> channelsMark(ChannelsMarkRequest req);
+
+    CompletableFuture<ChannelsRenameResponse> channelsRename(ChannelsRenameRequest req);
+
+    CompletableFuture<ChannelsSetPurposeResponse> channelsSetPurpose(ChannelsSetPurposeRequest req);
+
+    CompletableFuture<ChannelsSetTopicResponse> channelsSetTopic(ChannelsSetTopicRequest req);
+
+    CompletableFuture<ChannelsUnarchiveResponse> channelsUnarchive(ChannelsUnarchiveRequest req);
+
+    // ------------------------------
+    // chat
+    // ------------------------------
+
+    CompletableFuture<ChatGetPermalinkResponse> chatGetPermalink(ChatGetPermalinkRequest req);
+
+    CompletableFuture<ChatDeleteResponse> chatDelete(ChatDeleteRequest req);
+
+    CompletableFuture<ChatDeleteScheduledMessageResponse> chatDeleteScheduledMessage(ChatDeleteScheduledMessageRequest req);
+
+    CompletableFuture<ChatMeMessageResponse> chatMeMessage(ChatMeMessageRequest req);
+
+    CompletableFuture<ChatPostEphemeralResponse> chatPostEphemeral(ChatPostEphemeralRequest req);
+
+    CompletableFuture<ChatPostMessageResponse> chatPostMessage(ChatPostMessageRequest req);
+
+    CompletableFuture<ChatScheduleMessageResponse> chatScheduleMessage(ChatScheduleMessageRequest req);
+
+    CompletableFuture<ChatUpdateResponse> chatUpdate(ChatUpdateRequest req);
+
+    CompletableFuture<ChatUnfurlResponse> chatUnfurl(ChatUnfurlRequest req);
+
+    // ------------------------------
+    // chat.scheduledMessages
+    // ------------------------------
+
+    CompletableFuture<ChatScheduleMessagesListResponse> chatScheduleMessagesListMessage(ChatScheduleMessagesListRequest req);
+
+    // ------------------------------
+    // conversations
+    // ------------------------------
+
+    CompletableFuture<ConversationsArchiveResponse> conversationsArchive(ConversationsArchiveRequest req);
+
+    CompletableFuture<ConversationsCloseResponse> conversationsClose(ConversationsCloseRequest req);
+
+    CompletableFuture<ConversationsCreateResponse> conversationsCreate(ConversationsCreateRequest req);
+
+    CompletableFuture<ConversationsHistoryResponse> conversationsHistory(ConversationsHistoryRequest req);
+
+    CompletableFuture<ConversationsInfoResponse> conversationsInfo(ConversationsInfoRequest req);
+
+    CompletableFuture<ConversationsInviteResponse> conversationsInvite(ConversationsInviteRequest req);
+
+    CompletableFuture<ConversationsJoinResponse> conversationsJoin(ConversationsJoinRequest req);
+
+    CompletableFuture<ConversationsKickResponse> conversationsKick(ConversationsKickRequest req);
+
+    CompletableFuture<ConversationsLeaveResponse> conversationsLeave(ConversationsLeaveRequest req);
+
+    CompletableFuture<ConversationsListResponse> conversationsList(ConversationsListRequest req);
+
+    CompletableFuture<ConversationsMembersResponse> conversationsMembers(ConversationsMembersRequest req);
+
+    CompletableFuture<ConversationsOpenResponse> conversationsOpen(ConversationsOpenRequest req);
+
+    CompletableFuture<ConversationsRenameResponse> conversationsRename(ConversationsRenameRequest req);
+
+    CompletableFuture<ConversationsRepliesResponse> conversationsReplies(ConversationsRepliesRequest req);
+
+    CompletableFuture<ConversationsSetPurposeResponse> conversationsSetPurpose(ConversationsSetPurposeRequest req);
+
+    CompletableFuture<ConversationsSetTopicResponse> conversationsSetTopic(ConversationsSetTopicRequest req);
+
+    CompletableFuture<ConversationsUnarchiveResponse> conversationsUnarchive(ConversationsUnarchiveRequest req);
+
+    // ------------------------------
+    // dialog
+    // ------------------------------
+
+    CompletableFuture<DialogOpenResponse> dialogOpen(DialogOpenRequest req);
+
+    // ------------------------------
+    // dnd
+    // ------------------------------
+
+    CompletableFuture<DndEndDndResponse> dndEndDnd(DndEndDndRequest req);
+
+    CompletableFuture<DndEndSnoozeResponse> dndEndSnooze(DndEndSnoozeRequest req);
+
+    CompletableFuture<DndInfoResponse> dndInfo(DndInfoRequest req);
+
+    CompletableFuture<DndSetSnoozeResponse> dndSetSnooze(DndSetSnoozeRequest req);
+
+    CompletableFuture<DndTeamInfoResponse> dndTeamInfo(DndTeamInfoRequest req);
+
+    // ------------------------------
+    // emoji
+    // ------------------------------
+
+    CompletableFuture<EmojiListResponse> emojiList(EmojiListRequest req);
+
+    // ------------------------------
+    // files
+    // ------------------------------
+
+    CompletableFuture<FilesDeleteResponse> filesDelete(FilesDeleteRequest req);
+
+    CompletableFuture<FilesInfoResponse> filesInfo(FilesInfoRequest req);
+
+    CompletableFuture<FilesListResponse> filesList(FilesListRequest req);
+
+    CompletableFuture<FilesRevokePublicURLResponse> filesRevokePublicURL(FilesRevokePublicURLRequest req);
+
+    CompletableFuture<FilesSharedPublicURLResponse> filesSharedPublicURL(FilesSharedPublicURLRequest req);
+
+    CompletableFuture<FilesUploadResponse> filesUpload(FilesUploadRequest req);
+
+    // ------------------------------
+    // files.comments
+    // ------------------------------
+
+    // https://api.slack.com/changelog/2018-05-file-threads-soon-tread
+    @Deprecated
+    CompletableFuture<FilesCommentsAddResponse> filesCommentsAdd(FilesCommentsAddRequest req);
+
+    // https://api.slack.com/changelog/2018-05-file-threads-soon-tread
+    @Deprecated
+    CompletableFuture<FilesCommentsDeleteResponse> filesCommentsDelete(FilesCommentsDeleteRequest req);
+
+    // https://api.slack.com/changelog/2018-05-file-threads-soon-tread
+    @Deprecated
+    CompletableFuture<FilesCommentsEditResponse> filesCommentEdit(FilesCommentsEditRequest req);
+
+    // ------------------------------
+    // groups
+    // ------------------------------
+
+    CompletableFuture<GroupsArchiveResponse> groupsArchive(GroupsArchiveRequest req);
+
+    // https://github.com/slackapi/slack-api-specs/issues/12
+    @Deprecated
+    CompletableFuture<GroupsCloseResponse> groupsClose(GroupsCloseRequest req);
+
+    CompletableFuture<GroupsCreateChildResponse> groupsCreateChild(GroupsCreateChildRequest req);
+
+    CompletableFuture<GroupsCreateResponse> groupsCreate(GroupsCreateRequest req);
+
+    CompletableFuture<GroupsHistoryResponse> groupsHistory(GroupsHistoryRequest req);
+
+    CompletableFuture<GroupsInfoResponse> groupsInfo(GroupsInfoRequest req);
+
+    CompletableFuture<GroupsInviteResponse> groupsInvite(GroupsInviteRequest req);
+
+    CompletableFuture<GroupsKickResponse> groupsKick(GroupsKickRequest req);
+
+    CompletableFuture<GroupsLeaveResponse> groupsLeave(GroupsLeaveRequest req);
+
+    CompletableFuture<GroupsListResponse> groupsList(GroupsListRequest req);
+
+    CompletableFuture<GroupsMarkResponse> groupsMark(GroupsMarkRequest req);
+
+    CompletableFuture<GroupsOpenResponse> groupsOpen(GroupsOpenRequest req);
+
+    CompletableFuture<GroupsRenameResponse> groupsRename(GroupsRenameRequest req);
+
+    CompletableFuture<GroupsSetPurposeResponse> groupsSetPurpose(GroupsSetPurposeRequest req);
+
+    CompletableFuture<GroupsSetTopicResponse> groupsSetTopic(GroupsSetTopicRequest req);
+
+    CompletableFuture<GroupsUnarchiveResponse> groupsUnarchive(GroupsUnarchiveRequest req);
+
+    CompletableFuture<GroupsRepliesResponse> groupsReplies(GroupsRepliesRequest req);
+
+    // ------------------------------
+    // im
+    // ------------------------------
+
+    CompletableFuture<ImCloseResponse> imClose(ImCloseRequest req);
+
+    CompletableFuture<ImHistoryResponse> imHistory(ImHistoryRequest req);
+
+    CompletableFuture<ImListResponse> imList(ImListRequest req);
+
+    CompletableFuture<ImMarkResponse> imMark(ImMarkRequest req);
+
+    CompletableFuture<ImOpenResponse> imOpen(ImOpenRequest req);
+
+    CompletableFuture<ImRepliesResponse> imReplies(ImRepliesRequest req);
+
+    // ------------------------------
+    // migration
+    // ------------------------------
+
+    CompletableFuture<MigrationExchangeResponse> migrationExchange(MigrationExchangeRequest req);
+
+    // ------------------------------
+    // mpim
+    // ------------------------------
+
+    CompletableFuture<MpimCloseResponse> mpimClose(MpimCloseRequest req);
+
+    CompletableFuture<MpimHistoryResponse> mpimHistory(MpimHistoryRequest req);
+
+    CompletableFuture<MpimListResponse> mpimList(MpimListRequest req);
+
+    CompletableFuture<MpimRepliesResponse> mpimReplies(MpimRepliesRequest req);
+
+    CompletableFuture<MpimMarkResponse> mpimMark(MpimMarkRequest req);
+
+    CompletableFuture<MpimOpenResponse> mpimOpen(MpimOpenRequest req);
+
+    // ------------------------------
+    // oauth
+    // ------------------------------
+
+    CompletableFuture<OAuthAccessResponse> oauthAccess(OAuthAccessRequest req);
+
+    CompletableFuture<OAuthTokenResponse> oauthToken(OAuthTokenRequest req);
+
+    // ------------------------------
+    // pins
+    // ------------------------------
+
+    CompletableFuture<PinsAddResponse> pinsAdd(PinsAddRequest req);
+
+    CompletableFuture<PinsListResponse> pinsList(PinsListRequest req);
+
+    CompletableFuture<PinsRemoveResponse> pinsRemove(PinsRemoveRequest req);
+
+    // ------------------------------
+    // reactions
+    // ------------------------------
+
+    CompletableFuture<ReactionsAddResponse> reactionsAdd(ReactionsAddRequest req);
+
+    CompletableFuture<ReactionsGetResponse> reactionsGet(ReactionsGetRequest req);
+
+    CompletableFuture<ReactionsListResponse> reactionsList(ReactionsListRequest req);
+
+    CompletableFuture<ReactionsRemoveResponse> reactionsRemove(ReactionsRemoveRequest req);
+
+    // ------------------------------
+    // reminders
+    // ------------------------------
+
+    CompletableFuture<RemindersAddResponse> remindersAdd(RemindersAddRequest req);
+
+    CompletableFuture<RemindersCompleteResponse> remindersComplete(RemindersCompleteRequest req);
+
+    CompletableFuture<RemindersDeleteResponse> remindersDelete(RemindersDeleteRequest req);
+
+    CompletableFuture<RemindersInfoResponse> remindersInfo(RemindersInfoRequest req);
+
+    CompletableFuture<RemindersListResponse> remindersList(RemindersListRequest req);
+
+    // ------------------------------
+    // rtm
+    // ------------------------------
+
+    CompletableFuture<RTMConnectResponse> rtmConnect(RTMConnectRequest req);
+
+    CompletableFuture<RTMStartResponse> rtmStart(RTMStartRequest req);
+
+    // ------------------------------
+    // search
+    // ------------------------------
+
+    CompletableFuture<SearchAllResponse> searchAll(SearchAllRequest req);
+
+    CompletableFuture<SearchMessagesResponse> searchMessages(SearchMessagesRequest req);
+
+    CompletableFuture<SearchFilesResponse> searchFiles(SearchFilesRequest req);
+
+    // ------------------------------
+    // stars
+    // ------------------------------
+
+    CompletableFuture<StarsAddResponse> starsAdd(StarsAddRequest req);
+
+    CompletableFuture<StarsListResponse> starsList(StarsListRequest req);
+
+    CompletableFuture<StarsRemoveResponse> starsRemove(StarsRemoveRequest req);
+
+    // ------------------------------
+    // team
+    // ------------------------------
+
+    CompletableFuture<TeamAccessLogsResponse> teamAccessLogs(TeamAccessLogsRequest req);
+
+    CompletableFuture<TeamBillableInfoResponse> teamBillableInfo(TeamBillableInfoRequest req);
+
+    CompletableFuture<TeamInfoResponse> teamInfo(TeamInfoRequest req);
+
+    CompletableFuture<TeamIntegrationLogsResponse> teamIntegrationLogs(TeamIntegrationLogsRequest req);
+
+    CompletableFuture<TeamProfileGetResponse> teamProfileGet(TeamProfileGetRequest req);
+
+    // ------------------------------
+    // usergroups
+    // ------------------------------
+
+    CompletableFuture<UsergroupsCreateResponse> usergroupsCreate(UsergroupsCreateRequest req);
+
+    CompletableFuture<UsergroupsDisableResponse> usergroupsDisable(UsergroupsDisableRequest req);
+
+    CompletableFuture<UsergroupsEnableResponse> usergroupsEnable(UsergroupsEnableRequest req);
+
+    CompletableFuture<UsergroupsListResponse> usergroupsList(UsergroupsListRequest req);
+
+    CompletableFuture<UsergroupsUpdateResponse> usergroupsUpdate(UsergroupsUpdateRequest req);
+
+    CompletableFuture<UsergroupUsersListResponse> usergroupUsersList(UsergroupUsersListRequest req);
+
+    CompletableFuture<UsergroupUsersUpdateResponse> usergroupUsersUpdate(UsergroupUsersUpdateRequest req);
+
+    // ------------------------------
+    // users
+    // ------------------------------
+
+    CompletableFuture<UsersConversationsResponse> usersConversations(UsersConversationsRequest req);
+
+    CompletableFuture<UsersDeletePhotoResponse> usersDeletePhoto(UsersDeletePhotoRequest req);
+
+    CompletableFuture<UsersGetPresenceResponse> usersGetPresence(UsersGetPresenceRequest req);
+
+    CompletableFuture<UsersIdentityResponse> usersIdentity(UsersIdentityRequest req);
+
+    CompletableFuture<UsersInfoResponse> usersInfo(UsersInfoRequest req);
+
+    CompletableFuture<UsersListResponse> usersList(UsersListRequest req);
+
+    CompletableFuture<UsersLookupByEmailResponse> usersLookupByEmail(UsersLookupByEmailRequest req);
+
+    CompletableFuture<UsersSetActiveResponse> usersSetActive(UsersSetActiveRequest req);
+
+    CompletableFuture<UsersSetPhotoResponse> usersSetPhoto(UsersSetPhotoRequest req);
+
+    CompletableFuture<UsersSetPresenceResponse> usersSetPresence(UsersSetPresenceRequest req);
+
+    // ------------------------------
+    // users.profile
+    // ------------------------------
+
+    CompletableFuture<UsersProfileGetResponse> usersProfileGet(UsersProfileGetRequest req);
+
+    CompletableFuture<UsersProfileSetResponse> usersProfileSet(UsersProfileSetRequest req);
+
+}
@@ -0,0 +1,169 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.google.gson.Gson;
+
+/**
+ * Encodes the form values in the same way as OkHttp's FormBody.Builder#add does,
+ * without the intermediate okio Buffer, so that the results can be passed to FormBody.Builder#addEncoded as-is.
+ * <p>
+ * JSON values are encoded while Gson writes them, instead of building the JSON string first.
+ */
+final class FormValueEncoder {
+
+    private FormValueEncoder() {
+    }
+
+    // the same characters as HttpUrl.FORM_ENCODE_SET, plus '%' and '+'
+    private static final boolean[] ASCII_TO_ENCODE = new boolean[128];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ASCII_TO_ENCODE[c] = true;
+        }
+        ASCII_TO_ENCODE[0x7f] = true;
+        for (char c : " \"':;<=>@[]^`{}|/\\?#&!$(),~%+".toCharArray()) {
+            ASCII_TO_ENCODE[c] = true;
+        }
+    }
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    // the builders larger than this are not kept for reuse
+    private static final int MAX_REUSED_CAPACITY = 16 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFERS = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private static boolean needsEncoding(char c) {
+        return c >= 0x80 || ASCII_TO_ENCODE[c];
+    }
+
+    /**
+     * Returns the value itself when no character needs to be encoded.
+     */
+    static String encode(String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && !needsEncoding(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return value;
+        }
+        StringBuilder buffer = borrowBuffer();
+        try {
+            buffer.append(value, 0, i);
+            EncodingAppendable out = new EncodingAppendable(buffer);
+            out.append(value, i, length);
+            out.finish();
+            return buffer.toString();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    static String encodeJson(Gson gson, Object value) {
+        StringBuilder buffer = borrowBuffer();
+        try {
+            EncodingAppendable out = new EncodingAppendable(buffer);
+            gson.toJson(value, out);
+            out.finish();
+            return buffer.toString();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    private static StringBuilder borrowBuffer() {
+        StringBuilder buffer = BUFFERS.get();
+        // null while borrowed; a nested call gets a fresh one
+        BUFFERS.set(null);
+        return buffer != null ? buffer : new StringBuilder(256);
+    }
+
+    private static void releaseBuffer(StringBuilder buffer) {
+        if (buffer.capacity() <= MAX_REUSED_CAPACITY) {
+            buffer.setLength(0);
+            BUFFERS.set(buffer);
+        } else {
+            BUFFERS.remove();
+        }
+    }
+
+    private static class EncodingAppendable implements Appendable {
+
+        private final StringBuilder out;
+        // a high surrogate waiting for the following low surrogate
+        private char pendingHighSurrogate;
+
+        private EncodingAppendable(StringBuilder out) {
+            this.out = out;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            for (int i = start; i < end; i++) {
+                append(csq.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            if (pendingHighSurrogate != 0) {
+                char high = pendingHighSurrogate;
+                pendingHighSurrogate = 0;
+                if (Character.isLowSurrogate(c)) {
+                    writeUtf8(Character.toCodePoint(high, c));
+                    return this;
+                }
+                writeUtf8(high);
+            }
+            if (!needsEncoding(c)) {
+                out.append(c);
+            } else if (Character.isHighSurrogate(c)) {
+                pendingHighSurrogate = c;
+            } else {
+                writeUtf8(c);
+            }
+            return this;
+        }
+
+        private void finish() {
+            if (pendingHighSurrogate != 0) {
+                writeUtf8(pendingHighSurrogate);
+                pendingHighSurrogate = 0;
+            }
+        }
+
+        private void writeUtf8(int codePoint) {
+            if (codePoint < 0x80) {
+                writePercentEncoded(codePoint);
+            } else if (codePoint < 0x800) {
+                writePercentEncoded(0xc0 | (codePoint >> 6));
+                writePercentEncoded(0x80 | (codePoint & 0x3f));
+            } else if (codePoint >= 0xd800 && codePoint <= 0xdfff) {
+                // okio writes '?' for the unpaired surrogates
+                writePercentEncoded('?');
+            } else if (codePoint < 0x10000) {
+                writePercentEncoded(0xe0 | (codePoint >> 12));
+                writePercentEncoded(0x80 | ((codePoint >> 6) & 0x3f));
+                writePercentEncoded(0x80 | (codePoint & 0x3f));
+            } else {
+                writePercentEncoded(0xf0 | (codePoint >> 18));
+                writePercentEncoded(0x80 | ((codePoint >> 12) & 0x3f));
+                writePercentEncoded(0x80 | ((codePoint >> 6) & 0x3f));
+                writePercentEncoded(0x80 | (codePoint & 0x3f));
+            }
+        }
+
+        private void writePercentEncoded(int b) {
+            out.append('%').append(HEX_DIGITS[(b >> 4) & 0xf]).append(HEX_DIGITS[b & 0xf]);
+        }
+    }
+
+}
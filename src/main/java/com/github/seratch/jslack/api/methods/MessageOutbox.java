@@ -0,0 +1,373 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
+import com.github.seratch.jslack.api.methods.request.chat.ChatUpdateRequest;
+import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
+import com.github.seratch.jslack.api.methods.response.chat.ChatUpdateResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+
+/**
+ * Queues chat.postMessage and chat.update requests per channel and sends them at the per-channel rate limit.
+ * <p>
+ * While a channel is waiting for its next turn:
+ * <ul>
+ * <li>consecutive text-only messages with the same options are merged into a single message</li>
+ * <li>an update of a message that already has a queued update replaces the queued one</li>
+ * </ul>
+ * The futures of merged or superseded requests complete with the response of the request actually sent.
+ * I/O errors and SlackApiException complete them exceptionally.
+ * <p>
+ * The queues are keyed by the token and the channel as given in the request, without resolving channel names:
+ * "#general" and its channel ID are paced as two channels, so use channel IDs for a channel posted to often.
+ * A queue is removed once it has been idle for channelIntervalMillis.
+ */
+@Slf4j
+public class MessageOutbox implements AutoCloseable {
+
+    private final MethodsClient methods;
+    private final MessageOutboxConfig config;
+    private final ScheduledExecutorService executor;
+
+    private final ConcurrentMap<String, ChannelQueue> queues = new ConcurrentHashMap<>();
+    // the futures not completed yet, close() waits for them
+    private final Set<CompletableFuture<?>> unfinished = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
+
+    public MessageOutbox(MethodsClient methods) {
+        this(methods, new MessageOutboxConfig());
+    }
+
+    public MessageOutbox(MethodsClient methods, MessageOutboxConfig config) {
+        this.methods = methods;
+        this.config = config;
+        this.executor = Executors.newScheduledThreadPool(config.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "jslack-message-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public CompletableFuture<ChatPostMessageResponse> post(ChatPostMessageRequest req) {
+        CompletableFuture<ChatPostMessageResponse> future = new CompletableFuture<>();
+        if (closed) {
+            future.completeExceptionally(new RejectedExecutionException("This outbox has been closed"));
+            return future;
+        }
+        track(future);
+        PostMessage message = new PostMessage(req, future);
+        enqueue(req.getToken(), req.getChannel(), queue -> queue.add(message));
+        return future;
+    }
+
+    public CompletableFuture<ChatUpdateResponse> update(ChatUpdateRequest req) {
+        CompletableFuture<ChatUpdateResponse> future = new CompletableFuture<>();
+        if (closed) {
+            future.completeExceptionally(new RejectedExecutionException("This outbox has been closed"));
+            return future;
+        }
+        track(future);
+        enqueue(req.getToken(), req.getChannel(), queue -> queue.addUpdate(req, future));
+        return future;
+    }
+
+    /**
+     * Returns the number of requests waiting in the queues or being sent (merged and superseded ones are counted as one).
+     */
+    public int getQueueSize() {
+        int size = 0;
+        for (ChannelQueue queue : queues.values()) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    /**
+     * Stops accepting new requests and waits up to closeTimeoutMillis for the queued ones to be sent.
+     * The futures of the requests not sent by then are cancelled.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            CompletableFuture.allOf(unfinished.toArray(new CompletableFuture<?>[0]))
+                    .get(config.getCloseTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // failed ones are reported through their futures, the ones left are cancelled below
+        }
+        executor.shutdownNow();
+        queues.values().forEach(ChannelQueue::cancelAll);
+    }
+
+    /**
+     * The number of channel queues currently held.
+     */
+    int getChannelQueueCount() {
+        return queues.size();
+    }
+
+    private void track(CompletableFuture<?> future) {
+        unfinished.add(future);
+        future.whenComplete((response, e) -> unfinished.remove(future));
+    }
+
+    private void enqueue(String token, String channel, Predicate<ChannelQueue> add) {
+        String key = token + ":" + channel;
+        while (!add.test(queues.computeIfAbsent(key, ChannelQueue::new))) {
+            // the queue was removed as idle after the lookup; the next lookup creates a new one
+        }
+    }
+
+    private interface Outgoing {
+        void send();
+
+        void cancel();
+    }
+
+    private class ChannelQueue {
+
+        private final String key;
+        private final Deque<Outgoing> pending = new ArrayDeque<>();
+        private final Map<String, UpdateMessage> pendingUpdates = new HashMap<>();
+        private boolean scheduled;
+        private boolean sending;
+        private long nextSendAt = System.nanoTime();
+        // removed from the queues as idle; new requests go to a new queue
+        private boolean removed;
+        // the outbox has been closed; new requests are cancelled
+        private boolean cancelled;
+
+        private ChannelQueue(String key) {
+            this.key = key;
+        }
+
+        private synchronized int size() {
+            return pending.size() + (sending ? 1 : 0);
+        }
+
+        // returns false when the queue has been removed
+        private synchronized boolean add(Outgoing outgoing) {
+            if (removed) {
+                return false;
+            }
+            if (cancelled) {
+                outgoing.cancel();
+                return true;
+            }
+            pending.addLast(outgoing);
+            scheduleIfNeeded();
+            return true;
+        }
+
+        // returns false when the queue has been removed
+        private synchronized boolean addUpdate(ChatUpdateRequest req, CompletableFuture<ChatUpdateResponse> future) {
+            UpdateMessage queued = pendingUpdates.get(req.getTs());
+            if (queued != null) {
+                queued.request = req;
+                queued.futures.add(future);
+                return true;
+            }
+            UpdateMessage update = new UpdateMessage(req, future);
+            if (!add(update)) {
+                return false;
+            }
+            if (!cancelled) {
+                pendingUpdates.put(req.getTs(), update);
+            }
+            return true;
+        }
+
+        // guarded by this
+        private void scheduleIfNeeded() {
+            if (!scheduled && !pending.isEmpty()) {
+                scheduled = true;
+                long delay = Math.max(0L, nextSendAt - System.nanoTime());
+                try {
+                    executor.schedule(this::sendNext, delay, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    // closed
+                    scheduled = false;
+                    cancelAll();
+                }
+            } else if (!scheduled && !sending) {
+                try {
+                    executor.schedule(this::removeIfIdle, config.getChannelIntervalMillis(), TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    // closed
+                }
+            }
+        }
+
+        // removed only after channelIntervalMillis, so that a new queue for the channel doesn't break the pacing
+        private synchronized void removeIfIdle() {
+            if (!removed && pending.isEmpty() && !scheduled && !sending && System.nanoTime() - nextSendAt >= 0) {
+                removed = true;
+                queues.remove(key, this);
+            }
+        }
+
+        private void sendNext() {
+            Outgoing next;
+            synchronized (this) {
+                next = pending.pollFirst();
+                if (next instanceof PostMessage) {
+                    next = mergeFollowingMessages((PostMessage) next);
+                } else if (next instanceof UpdateMessage) {
+                    pendingUpdates.remove(((UpdateMessage) next).request.getTs());
+                }
+                sending = next != null;
+            }
+            if (next != null) {
+                next.send();
+            }
+            synchronized (this) {
+                sending = false;
+                nextSendAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getChannelIntervalMillis());
+                scheduled = false;
+                scheduleIfNeeded();
+            }
+        }
+
+        // guarded by this
+        private PostMessage mergeFollowingMessages(PostMessage first) {
+            if (!first.isMergeable()) {
+                return first;
+            }
+            PostMessage merged = null;
+            while (pending.peekFirst() instanceof PostMessage) {
+                PostMessage candidate = (PostMessage) pending.peekFirst();
+                PostMessage current = merged != null ? merged : first;
+                if (current.mergedCount + 1 > config.getMaxMergedMessages()
+                        || !candidate.isMergeable()
+                        || !hasSameOptions(first.request, candidate.request)
+                        || current.request.getText().length() + config.getMergedTextSeparator().length()
+                        + candidate.request.getText().length() > config.getMaxMergedTextLength()) {
+                    break;
+                }
+                pending.pollFirst();
+                merged = current.merge(candidate, config.getMergedTextSeparator());
+            }
+            return merged != null ? merged : first;
+        }
+
+        private synchronized void cancelAll() {
+            cancelled = true;
+            pending.forEach(Outgoing::cancel);
+            pending.clear();
+            pendingUpdates.clear();
+        }
+    }
+
+    private class PostMessage implements Outgoing {
+        private final ChatPostMessageRequest request;
+        private final List<CompletableFuture<ChatPostMessageResponse>> futures;
+        private final int mergedCount;
+
+        private PostMessage(ChatPostMessageRequest request, CompletableFuture<ChatPostMessageResponse> future) {
+            this(request, new ArrayList<>(Collections.singletonList(future)), 1);
+        }
+
+        private PostMessage(ChatPostMessageRequest request, List<CompletableFuture<ChatPostMessageResponse>> futures, int mergedCount) {
+            this.request = request;
+            this.futures = futures;
+            this.mergedCount = mergedCount;
+        }
+
+        private boolean isMergeable() {
+            return request.getText() != null
+                    && request.getText().length() <= config.getMaxMergedTextLength()
+                    && (request.getBlocks() == null || request.getBlocks().isEmpty())
+                    && (request.getAttachments() == null || request.getAttachments().isEmpty());
+        }
+
+        private PostMessage merge(PostMessage other, String separator) {
+            ChatPostMessageRequest mergedRequest = copyWithText(request, request.getText() + separator + other.request.getText());
+            List<CompletableFuture<ChatPostMessageResponse>> mergedFutures = new ArrayList<>(futures);
+            mergedFutures.addAll(other.futures);
+            return new PostMessage(mergedRequest, mergedFutures, mergedCount + other.mergedCount);
+        }
+
+        @Override
+        public void send() {
+            try {
+                ChatPostMessageResponse response = methods.chatPostMessage(request);
+                futures.forEach(f -> f.complete(response));
+            } catch (Exception e) {
+                futures.forEach(f -> f.completeExceptionally(e));
+            }
+        }
+
+        @Override
+        public void cancel() {
+            futures.forEach(f -> f.cancel(false));
+        }
+    }
+
+    private class UpdateMessage implements Outgoing {
+        // guarded by the ChannelQueue
+        private ChatUpdateRequest request;
+        private final List<CompletableFuture<ChatUpdateResponse>> futures = new ArrayList<>();
+
+        private UpdateMessage(ChatUpdateRequest request, CompletableFuture<ChatUpdateResponse> future) {
+            this.request = request;
+            this.futures.add(future);
+        }
+
+        @Override
+        public void send() {
+            try {
+                ChatUpdateResponse response = methods.chatUpdate(request);
+                futures.forEach(f -> f.complete(response));
+            } catch (Exception e) {
+                futures.forEach(f -> f.completeExceptionally(e));
+            }
+        }
+
+        @Override
+        public void cancel() {
+            futures.forEach(f -> f.cancel(false));
+        }
+    }
+
+    private static boolean hasSameOptions(ChatPostMessageRequest a, ChatPostMessageRequest b) {
+        return Objects.equals(a.getToken(), b.getToken())
+                && Objects.equals(a.getChannel(), b.getChannel())
+                && Objects.equals(a.getThreadTs(), b.getThreadTs())
+                && Objects.equals(a.getUsername(), b.getUsername())
+                && Objects.equals(a.getParse(), b.getParse())
+                && Objects.equals(a.isAsUser(), b.isAsUser())
+                && Objects.equals(a.getIconUrl(), b.getIconUrl())
+                && Objects.equals(a.getIconEmoji(), b.getIconEmoji())
+                && a.isLinkNames() == b.isLinkNames()
+                && a.isUnfurlLinks() == b.isUnfurlLinks()
+                && a.isUnfurlMedia() == b.isUnfurlMedia()
+                && a.isMrkdwn() == b.isMrkdwn()
+                && a.isReplyBroadcast() == b.isReplyBroadcast();
+    }
+
+    private static ChatPostMessageRequest copyWithText(ChatPostMessageRequest req, String text) {
+        return ChatPostMessageRequest.builder()
+                .token(req.getToken())
+                .channel(req.getChannel())
+                .threadTs(req.getThreadTs())
+                .username(req.getUsername())
+                .parse(req.getParse())
+                .asUser(req.isAsUser())
+                .iconUrl(req.getIconUrl())
+                .iconEmoji(req.getIconEmoji())
+                .linkNames(req.isLinkNames())
+                .unfurlLinks(req.isUnfurlLinks())
+                .unfurlMedia(req.isUnfurlMedia())
+                .mrkdwn(req.isMrkdwn())
+                .replyBroadcast(req.isReplyBroadcast())
+                .text(text)
+                .build();
+    }
+
+}
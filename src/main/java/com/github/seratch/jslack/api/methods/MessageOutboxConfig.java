@@ -0,0 +1,51 @@
+package com.github.seratch.jslack.api.methods;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Settings for {@link MessageOutbox}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageOutboxConfig {
+
+    /**
+     * The minimum interval between two API calls for the same channel.
+     * Slack allows posting about 1 message per second to a channel.
+     */
+    @Builder.Default
+    private long channelIntervalMillis = 1000L;
+
+    /**
+     * The max number of queued messages merged into one. 1 disables merging.
+     */
+    @Builder.Default
+    private int maxMergedMessages = 20;
+
+    /**
+     * The max length of a merged text. Messages longer than this are never merged.
+     */
+    @Builder.Default
+    private int maxMergedTextLength = 4000;
+
+    @Builder.Default
+    private String mergedTextSeparator = "\n";
+
+    /**
+     * The number of threads sending the messages.
+     */
+    @Builder.Default
+    private int threads = 2;
+
+    /**
+     * How long close() waits for the queued messages to be sent.
+     */
+    @Builder.Default
+    private long closeTimeoutMillis = 10_000L;
+
+}
@@ -0,0 +1,288 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.api.methods.request.bots.BotsInfoRequest;
+import com.github.seratch.jslack.api.methods.request.conversations.ConversationsInfoRequest;
+import com.github.seratch.jslack.api.methods.request.conversations.ConversationsListRequest;
+import com.github.seratch.jslack.api.methods.request.users.UsersInfoRequest;
+import com.github.seratch.jslack.api.methods.request.users.UsersListRequest;
+import com.github.seratch.jslack.api.methods.response.bots.BotsInfoResponse;
+import com.github.seratch.jslack.api.methods.response.conversations.ConversationsInfoResponse;
+import com.github.seratch.jslack.api.methods.response.users.UsersInfoResponse;
+import com.github.seratch.jslack.api.model.Conversation;
+import com.github.seratch.jslack.api.model.ConversationType;
+import com.github.seratch.jslack.api.model.User;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Collects users.info, bots.info and conversations.info lookups for a workspace arriving within a short window,
+ * dedupes them, and resolves them with as few API calls as possible.
+ * <p>
+ * When a batch has many distinct users (or channels), a single paginated users.list (or conversations.list)
+ * scan resolves them instead of one call per ID. The IDs not found by the scan are looked up one by one,
+ * so the responses are the same as the ones of the *.info methods, including the errors.
+ * <p>
+ * Each caller gets its own CompletableFuture, completed with the result of its own ID: a failure (IOException,
+ * SlackApiException) of a lookup completes only the futures for that ID exceptionally. When a scan fails,
+ * the IDs are looked up one by one instead. The scans and the lookups run on a pool of worker threads,
+ * so that a long users.list scan doesn't hold up the other lookups.
+ */
+@Slf4j
+public class MethodsBatchLoader implements AutoCloseable {
+
+    public static final long DEFAULT_WINDOW_MILLIS = 10L;
+    public static final int DEFAULT_LIST_SCAN_THRESHOLD = 50;
+    public static final int DEFAULT_THREADS = 4;
+
+    private final MethodsClient methods;
+    private final String token;
+    private final long windowMillis;
+    private final int listScanThreshold;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jslack-methods-batch-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ExecutorService workers;
+
+    private final Batch<UsersInfoResponse> users = new Batch<>(this::scanUsers, this::lookupUser);
+    private final Batch<BotsInfoResponse> bots = new Batch<>(null, this::lookupBot);
+    private final Batch<ConversationsInfoResponse> conversations = new Batch<>(this::scanConversations, this::lookupConversation);
+
+    public MethodsBatchLoader(MethodsClient methods, String token) {
+        this(methods, token, DEFAULT_WINDOW_MILLIS, DEFAULT_LIST_SCAN_THRESHOLD);
+    }
+
+    /**
+     * @param windowMillis      how long the lookups are collected before sending requests
+     * @param listScanThreshold the number of distinct IDs in a batch to switch to a users.list / conversations.list scan
+     */
+    public MethodsBatchLoader(MethodsClient methods, String token, long windowMillis, int listScanThreshold) {
+        this(methods, token, windowMillis, listScanThreshold, DEFAULT_THREADS);
+    }
+
+    /**
+     * @param threads the number of threads sending the requests
+     */
+    public MethodsBatchLoader(MethodsClient methods, String token, long windowMillis, int listScanThreshold, int threads) {
+        this.methods = methods;
+        this.token = token;
+        this.windowMillis = windowMillis;
+        this.listScanThreshold = listScanThreshold;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "jslack-methods-batch-loader-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public CompletableFuture<UsersInfoResponse> usersInfo(String user) {
+        return users.add(user);
+    }
+
+    public CompletableFuture<BotsInfoResponse> botsInfo(String bot) {
+        return bots.add(bot);
+    }
+
+    public CompletableFuture<ConversationsInfoResponse> conversationsInfo(String channel) {
+        return conversations.add(channel);
+    }
+
+    /**
+     * Stops the loader. The lookups not sent yet are completed with a CancellationException.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        for (Runnable notStarted : workers.shutdownNow()) {
+            if (notStarted instanceof Work) {
+                ((Work) notStarted).cancel();
+            }
+        }
+        users.cancelAll();
+        bots.cancelAll();
+        conversations.cancelAll();
+    }
+
+    @FunctionalInterface
+    private interface Scanner<RES> {
+        Map<String, RES> scan(Set<String> ids) throws IOException, SlackApiException;
+    }
+
+    @FunctionalInterface
+    private interface Lookup<RES> {
+        RES lookup(String id) throws IOException, SlackApiException;
+    }
+
+    /**
+     * A task on the worker threads, which cancels the futures waiting for it when it's dropped on close().
+     */
+    private static class Work implements Runnable {
+        private final Runnable task;
+        private final Collection<? extends List<? extends CompletableFuture<?>>> futures;
+
+        private Work(Runnable task, Collection<? extends List<? extends CompletableFuture<?>>> futures) {
+            this.task = task;
+            this.futures = futures;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        private void cancel() {
+            futures.forEach(list -> list.forEach(f -> f.cancel(false)));
+        }
+    }
+
+    private class Batch<RES> {
+
+        // null when no list method can resolve many IDs at once
+        private final Scanner<RES> scanner;
+        private final Lookup<RES> lookup;
+
+        private Map<String, List<CompletableFuture<RES>>> pending = new LinkedHashMap<>();
+
+        private Batch(Scanner<RES> scanner, Lookup<RES> lookup) {
+            this.scanner = scanner;
+            this.lookup = lookup;
+        }
+
+        private synchronized CompletableFuture<RES> add(String id) {
+            CompletableFuture<RES> future = new CompletableFuture<>();
+            if (scheduler.isShutdown()) {
+                future.completeExceptionally(new RejectedExecutionException("This loader has been closed"));
+                return future;
+            }
+            if (pending.isEmpty()) {
+                scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+            pending.computeIfAbsent(id, k -> new ArrayList<>()).add(future);
+            return future;
+        }
+
+        private void flush() {
+            Map<String, List<CompletableFuture<RES>>> batch;
+            synchronized (this) {
+                batch = pending;
+                pending = new LinkedHashMap<>();
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            if (scanner != null && batch.size() >= listScanThreshold) {
+                submit(new Work(() -> scanAndLookUp(batch), batch.values()));
+            } else {
+                batch.forEach(this::submitLookup);
+            }
+        }
+
+        private void scanAndLookUp(Map<String, List<CompletableFuture<RES>>> batch) {
+            Map<String, RES> found = Collections.emptyMap();
+            try {
+                found = scanner.scan(batch.keySet());
+            } catch (IOException | SlackApiException | RuntimeException e) {
+                log.debug("Failed to scan {} IDs, looking them up one by one: {}", batch.size(), e.getMessage());
+            }
+            for (Map.Entry<String, List<CompletableFuture<RES>>> entry : batch.entrySet()) {
+                RES response = found.get(entry.getKey());
+                if (response != null) {
+                    entry.getValue().forEach(f -> f.complete(response));
+                } else {
+                    submitLookup(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        private void submitLookup(String id, List<CompletableFuture<RES>> futures) {
+            submit(new Work(() -> {
+                try {
+                    RES response = lookup.lookup(id);
+                    futures.forEach(f -> f.complete(response));
+                } catch (Exception e) {
+                    futures.forEach(f -> f.completeExceptionally(e));
+                }
+            }, Collections.singletonList(futures)));
+        }
+
+        private void submit(Work work) {
+            try {
+                workers.execute(work);
+            } catch (RejectedExecutionException e) {
+                // closed
+                work.cancel();
+            }
+        }
+
+        private synchronized void cancelAll() {
+            pending.values().forEach(futures -> futures.forEach(f -> f.cancel(false)));
+            pending.clear();
+        }
+    }
+
+    private Map<String, UsersInfoResponse> scanUsers(Set<String> ids) throws IOException, SlackApiException {
+        log.debug("Resolving {} users with a users.list scan", ids.size());
+        Map<String, UsersInfoResponse> responses = new HashMap<>();
+        Set<String> remaining = new HashSet<>(ids);
+        try (Stream<User> members = methods.paginate(UsersListRequest.builder().token(token).limit(1000).build())) {
+            Iterator<User> iterator = members.iterator();
+            while (!remaining.isEmpty() && iterator.hasNext()) {
+                User user = iterator.next();
+                if (remaining.remove(user.getId())) {
+                    UsersInfoResponse response = new UsersInfoResponse();
+                    response.setOk(true);
+                    response.setUser(user);
+                    responses.put(user.getId(), response);
+                }
+            }
+        }
+        return responses;
+    }
+
+    private UsersInfoResponse lookupUser(String id) throws IOException, SlackApiException {
+        return methods.usersInfo(UsersInfoRequest.builder().token(token).user(id).build());
+    }
+
+    // bots.list doesn't exist, so the lookups are only deduped
+    private BotsInfoResponse lookupBot(String id) throws IOException, SlackApiException {
+        return methods.botsInfo(BotsInfoRequest.builder().token(token).bot(id).build());
+    }
+
+    private Map<String, ConversationsInfoResponse> scanConversations(Set<String> ids) throws IOException, SlackApiException {
+        log.debug("Resolving {} channels with a conversations.list scan", ids.size());
+        Map<String, ConversationsInfoResponse> responses = new HashMap<>();
+        Set<String> remaining = new HashSet<>(ids);
+        ConversationsListRequest request = ConversationsListRequest.builder()
+                .token(token)
+                .limit(1000)
+                .types(Arrays.asList(ConversationType.PUBLIC_CHANNEL, ConversationType.PRIVATE_CHANNEL))
+                .build();
+        try (Stream<Conversation> channels = methods.paginate(request)) {
+            Iterator<Conversation> iterator = channels.iterator();
+            while (!remaining.isEmpty() && iterator.hasNext()) {
+                Conversation channel = iterator.next();
+                if (remaining.remove(channel.getId())) {
+                    ConversationsInfoResponse response = new ConversationsInfoResponse();
+                    response.setOk(true);
+                    response.setChannel(channel);
+                    responses.put(channel.getId(), response);
+                }
+            }
+        }
+        return responses;
+    }
+
+    private ConversationsInfoResponse lookupConversation(String id) throws IOException, SlackApiException {
+        return methods.conversationsInfo(ConversationsInfoRequest.builder().token(token).channel(id).build());
+    }
+
+}
@@ -0,0 +1,247 @@
+package com.github.seratch.jslack.api.methods;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A read-through cache for the responses of read-only API methods (e.g., users.info).
+ * <p>
+ * Each method is enabled with its own TTL and max number of entries; the least recently used entries are evicted.
+ * The entries are keyed by the method name, the token and all the request parameters.
+ * Concurrent calls with the same key share a single HTTP request.
+ * Only successful ("ok": true) responses are cached.
+ * <p>
+ * The cached response objects are shared among the callers. Don't modify them.
+ *
+ * @see com.github.seratch.jslack.Slack#methods(MethodsCache)
+ */
+public class MethodsCache {
+
+    // The last segment of the method names which never change anything on Slack
+    private static final Set<String> READ_ONLY_METHOD_SUFFIXES = new HashSet<>(Arrays.asList(
+            "info", "list", "get", "getPresence", "lookupByEmail", "history", "replies", "members", "conversations"
+    ));
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws IOException, SlackApiException;
+    }
+
+    private final Map<String, Store> stores;
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private MethodsCache(Map<String, Store> stores) {
+        this.stores = stores;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private final Map<String, Store> stores = new HashMap<>();
+
+        /**
+         * Enables caching for the method.
+         *
+         * @param method     the API method name (e.g., Methods.USERS_INFO)
+         * @param ttl        how long the responses are kept
+         * @param maxEntries the max number of responses kept for the method
+         * @throws IllegalArgumentException when the method is not a read-only one
+         */
+        public Builder cache(String method, long ttl, TimeUnit unit, int maxEntries) {
+            if (!isReadOnlyMethod(method)) {
+                throw new IllegalArgumentException(method + " is not a read-only method");
+            }
+            if (ttl <= 0 || maxEntries <= 0) {
+                throw new IllegalArgumentException("ttl and maxEntries must be positive");
+            }
+            stores.put(method, new Store(unit.toNanos(ttl), maxEntries));
+            return this;
+        }
+
+        public MethodsCache build() {
+            return new MethodsCache(new HashMap<>(stores));
+        }
+    }
+
+    static boolean isReadOnlyMethod(String method) {
+        if (method == null) {
+            return false;
+        }
+        String suffix = method.substring(method.lastIndexOf('.') + 1);
+        return READ_ONLY_METHOD_SUFFIXES.contains(suffix);
+    }
+
+    public boolean isEnabled(String method) {
+        return stores.containsKey(method);
+    }
+
+    /**
+     * Returns the cached response or loads it. Only one loader runs at a time for the same key.
+     *
+     * @param responseClass the class the cached responses of the key are cast to
+     */
+    public <T extends SlackApiResponse> T get(String method, String key, Class<T> responseClass, Loader<T> loader)
+            throws IOException, SlackApiException {
+        Store store = stores.get(method);
+        if (store == null) {
+            return loader.load();
+        }
+        Object cached = store.get(key, System.nanoTime());
+        if (cached != null) {
+            store.hitCount.increment();
+            return responseClass.cast(cached);
+        }
+
+        CompletableFuture<Object> myFuture = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, myFuture);
+        if (existing != null) {
+            store.hitCount.increment();
+            store.coalescedCount.increment();
+            return responseClass.cast(await(existing));
+        }
+        try {
+            // another caller may have completed the same request in the meantime
+            cached = store.get(key, System.nanoTime());
+            if (cached != null) {
+                store.hitCount.increment();
+                myFuture.complete(cached);
+                return responseClass.cast(cached);
+            }
+            store.missCount.increment();
+            T response = loader.load();
+            if (response != null && response.isOk()) {
+                store.put(key, response, System.nanoTime());
+            }
+            myFuture.complete(response);
+            return response;
+        } catch (IOException | SlackApiException | RuntimeException e) {
+            myFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, myFuture);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) throws IOException, SlackApiException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the same request");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof SlackApiException) {
+                throw (SlackApiException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    /**
+     * Removes all the cached responses of the method.
+     */
+    public void invalidate(String method) {
+        Store store = stores.get(method);
+        if (store != null) {
+            store.clear();
+        }
+    }
+
+    public void invalidateAll() {
+        stores.values().forEach(Store::clear);
+    }
+
+    public MethodsCacheStats getStats(String method) {
+        Store store = stores.get(method);
+        if (store == null) {
+            return null;
+        }
+        return MethodsCacheStats.builder()
+                .size(store.size())
+                .hitCount(store.hitCount.sum())
+                .missCount(store.missCount.sum())
+                .coalescedCount(store.coalescedCount.sum())
+                .evictionCount(store.evictionCount.sum())
+                .expirationCount(store.expirationCount.sum())
+                .build();
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final long expiresAt;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class Store {
+
+        private final long ttlNanos;
+
+        private final LinkedHashMap<String, Entry> entries;
+
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+        private final LongAdder coalescedCount = new LongAdder();
+        private final LongAdder evictionCount = new LongAdder();
+        private final LongAdder expirationCount = new LongAdder();
+
+        private Store(long ttlNanos, int maxEntries) {
+            this.ttlNanos = ttlNanos;
+            this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    if (size() > maxEntries) {
+                        evictionCount.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private synchronized Object get(String key, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt - now <= 0) {
+                entries.remove(key);
+                expirationCount.increment();
+                return null;
+            }
+            return entry.value;
+        }
+
+        private synchronized void put(String key, Object value, long now) {
+            entries.put(key, new Entry(value, now + ttlNanos));
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.github.seratch.jslack.api.methods;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A snapshot of the MethodsCache statistics for an API method.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MethodsCacheStats {
+
+    private int size;
+    /**
+     * The calls served without sending a new request, including the coalesced ones.
+     */
+    private long hitCount;
+    private long missCount;
+    /**
+     * The calls that waited for the same request already in flight.
+     */
+    private long coalescedCount;
+    private long evictionCount;
+    private long expirationCount;
+
+}
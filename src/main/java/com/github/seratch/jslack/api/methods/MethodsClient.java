@@ -110,11 +110,13 @@ import com.github.seratch.jslack.api.methods.response.usergroups.users.Usergroup
 import com.github.seratch.jslack.api.methods.response.users.*;
 import com.github.seratch.jslack.api.methods.response.users.profile.UsersProfileGetResponse;
 import com.github.seratch.jslack.api.methods.response.users.profile.UsersProfileSetResponse;
+import com.github.seratch.jslack.api.model.*;
 import okhttp3.FormBody;
 import okhttp3.MultipartBody;
 import okhttp3.Response;
 
 import java.io.IOException;
+import java.util.stream.Stream;
 
 /**
  * API Methods.
@@ -584,4 +586,73 @@ public interface MethodsClient {
 
     UsersProfileSetResponse usersProfileSet(UsersProfileSetRequest req) throws IOException, SlackApiException;
 
+
+    // ------------------------------
+    // pagination
+    // ------------------------------
+
+    /**
+     * Lazily iterates over all the items of {@link #channelsList(ChannelsListRequest)}, following the cursors.
+     * Close the stream to stop the pagination early.
+     */
+    default Stream<Channel> paginate(ChannelsListRequest req) {
+        return new Paginator<>(req, ChannelsListRequest::setCursor, this::channelsList, ChannelsListResponse::getChannels, ChannelsListResponse::getResponseMetadata).stream();
+    }
+
+    /**
+     * Lazily iterates over all the items of {@link #conversationsHistory(ConversationsHistoryRequest)}, following the cursors.
+     * Close the stream to stop the pagination early.
+     */
+    default Stream<Message> paginate(ConversationsHistoryRequest req) {
+        return new Paginator<>(req, ConversationsHistoryRequest::setCursor, this::conversationsHistory, ConversationsHistoryResponse::getMessages, ConversationsHistoryResponse::getResponseMetadata).stream();
+    }
+
+    /**
+     * Lazily iterates over all the items of {@link #conversationsList(ConversationsListRequest)}, following the cursors.
+     * Close the stream to stop the pagination early.
+     */
+    default Stream<Conversation> paginate(ConversationsListRequest req) {
+        return new Paginator<>(req, ConversationsListRequest::setCursor, this::conversationsList, ConversationsListResponse::getChannels, ConversationsListResponse::getResponseMetadata).stream();
+    }
+
+    /**
+     * Lazily iterates over all the items of {@link #conversationsMembers(ConversationsMembersRequest)}, following the cursors.
+     * Close the stream to stop the pagination early.
+     */
+    default Stream<String> paginate(ConversationsMembersRequest req) {
+        return new Paginator<>(req, ConversationsMembersRequest::setCursor, this::conversationsMembers, ConversationsMembersResponse::getMembers, ConversationsMembersResponse::getResponseMetadata).stream();
+    }
+
+    /**
+     * Lazily iterates over all the items of {@link #conversationsReplies(ConversationsRepliesRequest)}, following the cursors.
+     * Close the stream to stop the pagination early.
+     */
+    default Stream<Message> paginate(ConversationsRepliesRequest req) {
+        return new Paginator<>(req, ConversationsRepliesRequest::setCursor, this::conversationsReplies, ConversationsRepliesResponse::getMessages, ConversationsRepliesResponse::getResponseMetadata).stream();
+    }
+
+    /**
+     * Lazily iterates over all the items of {@link #imList(ImListRequest)}, following the cursors.
+     * Close the stream to stop the pagination early.
+     */
+    default Stream<Im> paginate(ImListRequest req) {
+        return new Paginator<>(req, ImListRequest::setCursor, this::imList, ImListResponse::getIms, ImListResponse::getResponseMetadata).stream();
+    }
+
+    /**
+     * Lazily iterates over all the items of {@link #usersConversations(UsersConversationsRequest)}, following the cursors.
+     * Close the stream to stop the pagination early.
+     */
+    default Stream<Conversation> paginate(UsersConversationsRequest req) {
+        return new Paginator<>(req, UsersConversationsRequest::setCursor, this::usersConversations, UsersConversationsResponse::getChannels, UsersConversationsResponse::getResponseMetadata).stream();
+    }
+
+    /**
+     * Lazily iterates over all the items of {@link #usersList(UsersListRequest)}, following the cursors.
+     * Close the stream to stop the pagination early.
+     */
+    default Stream<User> paginate(UsersListRequest req) {
+        return new Paginator<>(req, UsersListRequest::setCursor, this::usersList, UsersListResponse::getMembers, UsersListResponse::getResponseMetadata).stream();
+    }
+
 }
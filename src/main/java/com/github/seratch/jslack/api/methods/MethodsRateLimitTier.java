@@ -0,0 +1,27 @@
+package com.github.seratch.jslack.api.methods;
+
+/**
+ * https://api.slack.com/docs/rate-limits#tiers
+ */
+public enum MethodsRateLimitTier {
+
+    TIER_1(1),
+    TIER_2(20),
+    TIER_3(50),
+    TIER_4(100),
+    /**
+     * chat.postMessage: 1 message per second per channel, short bursts are allowed.
+     */
+    SPECIAL(60);
+
+    private final int requestsPerMinute;
+
+    MethodsRateLimitTier(int requestsPerMinute) {
+        this.requestsPerMinute = requestsPerMinute;
+    }
+
+    public int getRequestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+}
@@ -0,0 +1,237 @@
+package com.github.seratch.jslack.api.methods;
+
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Smooths API method calls so that they stay within Slack's rate limits.
+ * <p>
+ * Each (token, method) pair has a token bucket sized by the method's tier.
+ * chat.postMessage is serialized per channel (1 message per second) instead.
+ * When Slack still returns 429 Too Many Requests, the bucket is paused
+ * for the Retry-After duration and the request is sent again.
+ * A bucket left full and unused for longer than it takes to refill is removed,
+ * so that the buckets of the tokens and channels no longer used don't pile up.
+ * <p>
+ * Share a single instance among the clients for the same workspaces (e.g., via SlackConfig)
+ * because the limits are applied per token.
+ * <p>
+ * Only MethodsClient (Slack#methods()) waits for the permits; AsyncMethodsClient sends the requests right away,
+ * so control the pace of the asynchronous calls on your side.
+ *
+ * @see "https://api.slack.com/docs/rate-limits"
+ */
+@Slf4j
+public class MethodsRateLimiter {
+
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    private static final long DEFAULT_RETRY_AFTER_SECONDS = 1L;
+
+    // how often the idle buckets are looked for
+    private static final long EVICTION_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    @FunctionalInterface
+    public interface HttpCall {
+        Response execute() throws IOException;
+    }
+
+    private final int maxRetries;
+
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastEvictedAt = new AtomicLong(System.nanoTime());
+
+    public MethodsRateLimiter() {
+        this(DEFAULT_MAX_RETRIES);
+    }
+
+    /**
+     * @param maxRetries how many times a request that got 429 is sent again
+     */
+    public MethodsRateLimiter(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * Runs the HTTP call once a permit is available and retries it when Slack responds with 429.
+     *
+     * @param token   the token used for the call, which identifies the workspace (nullable)
+     * @param method  the API method name (e.g., Methods.USERS_INFO)
+     * @param channel the channel ID, used only for chat.postMessage (nullable)
+     */
+    public Response execute(String token, String method, String channel, HttpCall call) throws IOException {
+        return execute(token, method, channel, maxRetries, call);
+    }
+
+    /**
+     * Runs the HTTP call once a permit is available and retries it up to the given times when Slack responds with 429.
+     * With 0 retries, the 429 response is returned as-is (e.g., for a request body which can be sent only once).
+     */
+    public Response execute(String token, String method, String channel, int maxRetries, HttpCall call) throws IOException {
+        Bucket bucket = getBucket(token, method, channel);
+        int retries = 0;
+        while (true) {
+            if (bucket != null) {
+                long waitNanos;
+                while ((waitNanos = bucket.reserve(System.nanoTime())) < 0) {
+                    // evicted meanwhile
+                    bucket = getBucket(token, method, channel);
+                }
+                waitFor(waitNanos);
+            }
+            Response response = call.execute();
+            if (response.code() != 429 || retries >= maxRetries) {
+                return response;
+            }
+            long retryAfterSeconds = parseRetryAfter(response.header("Retry-After"));
+            response.close();
+            log.debug("Rate limited on {}, retrying after {} seconds", method, retryAfterSeconds);
+            if (bucket != null) {
+                long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(retryAfterSeconds);
+                while (!bucket.pause(until)) {
+                    bucket = getBucket(token, method, channel);
+                }
+            } else {
+                waitFor(TimeUnit.SECONDS.toNanos(retryAfterSeconds));
+            }
+            retries++;
+        }
+    }
+
+    private Bucket getBucket(String token, String method, String channel) {
+        MethodsRateLimitTier tier = MethodsRateLimits.lookupTier(method);
+        if (tier == null) {
+            return null;
+        }
+        String key = tier == MethodsRateLimitTier.SPECIAL
+                ? token + ":" + method + ":" + channel
+                : token + ":" + method;
+        long now = System.nanoTime();
+        long last = lastEvictedAt.get();
+        if (now - last >= EVICTION_INTERVAL_NANOS && lastEvictedAt.compareAndSet(last, now)) {
+            evictIdleBuckets(now);
+        }
+        return buckets.computeIfAbsent(key, k -> new Bucket(tier));
+    }
+
+    /**
+     * Removes the buckets which have been full and unused for longer than it takes to refill them.
+     * A new bucket is full, so removing them changes nothing but the memory usage.
+     */
+    void evictIdleBuckets(long now) {
+        buckets.entrySet().removeIf(entry -> entry.getValue().evictIfIdle(now));
+    }
+
+    int getBucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * Returns the seconds in the Retry-After header value, or 1 when it's absent or malformed.
+     */
+    public static long parseRetryAfter(String value) {
+        if (value != null) {
+            try {
+                return Math.max(0L, Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                log.debug("Failed to parse Retry-After header: {}", value);
+            }
+        }
+        return DEFAULT_RETRY_AFTER_SECONDS;
+    }
+
+    private static void waitFor(long nanos) throws InterruptedIOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the rate limit");
+        }
+    }
+
+    /**
+     * A token bucket which allows the reserved permits to go negative so that waiting callers form a queue.
+     */
+    static class Bucket {
+
+        private final double capacity;
+        private final double nanosPerPermit;
+
+        private double available;
+        private long lastRefilledAt;
+        private long pausedUntil;
+        // true once removed from the map; the callers holding it get the new bucket instead
+        private boolean evicted;
+
+        Bucket(MethodsRateLimitTier tier) {
+            this(tier == MethodsRateLimitTier.SPECIAL ? 1 : Math.max(1, tier.getRequestsPerMinute() / 10),
+                    TimeUnit.MINUTES.toNanos(1) / (double) tier.getRequestsPerMinute(),
+                    System.nanoTime());
+        }
+
+        Bucket(double capacity, double nanosPerPermit, long now) {
+            this.capacity = capacity;
+            this.nanosPerPermit = nanosPerPermit;
+            this.available = capacity;
+            this.lastRefilledAt = now;
+            this.pausedUntil = now;
+        }
+
+        /**
+         * Takes a permit and returns how long the caller needs to wait for it in nanoseconds,
+         * or -1 when this bucket has been evicted.
+         */
+        synchronized long reserve(long now) {
+            if (evicted) {
+                return -1L;
+            }
+            if (now > lastRefilledAt) {
+                available = Math.min(capacity, available + (now - lastRefilledAt) / nanosPerPermit);
+                lastRefilledAt = now;
+            }
+            available -= 1;
+            long waitForPermit = available >= 0 ? 0L : (long) Math.ceil(-available * nanosPerPermit);
+            return Math.max(waitForPermit, pausedUntil - now);
+        }
+
+        /**
+         * Blocks the permits until the given time (Retry-After).
+         *
+         * @return false when this bucket has been evicted
+         */
+        synchronized boolean pause(long until) {
+            if (evicted) {
+                return false;
+            }
+            if (until > pausedUntil) {
+                pausedUntil = until;
+                // the permits consumed before the pause have already been rejected by the server
+                available = Math.min(available, 0);
+            }
+            return true;
+        }
+
+        /**
+         * Marks this bucket as evicted when it has been full and unused for longer than it takes to refill it.
+         */
+        synchronized boolean evictIfIdle(long now) {
+            long refillNanos = (long) Math.ceil(capacity * nanosPerPermit);
+            long fullAt = lastRefilledAt + (long) Math.ceil((capacity - available) * nanosPerPermit);
+            if (now - Math.max(fullAt, pausedUntil) > refillNanos) {
+                evicted = true;
+            }
+            return evicted;
+        }
+    }
+
+}
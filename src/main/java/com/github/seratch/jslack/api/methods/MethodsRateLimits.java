@@ -0,0 +1,172 @@
+package com.github.seratch.jslack.api.methods;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rate limit tiers for the API methods.
+ * https://api.slack.com/docs/rate-limits
+ */
+public class MethodsRateLimits {
+
+    private MethodsRateLimits() {
+    }
+
+    private static final Map<String, MethodsRateLimitTier> TIERS = new HashMap<>();
+
+    static {
+        TIERS.put(Methods.API_TEST, MethodsRateLimitTier.TIER_4);
+        TIERS.put(Methods.APPS_UNINSTALL, MethodsRateLimitTier.TIER_1);
+        TIERS.put(Methods.APPS_PERMISSIONS_INFO, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.APPS_PERMISSIONS_REQUEST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.APPS_PERMISSIONS_RESOURCES_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.APPS_PERMISSIONS_SCOPES_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.APPS_PERMISSIONS_USERS_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.APPS_PERMISSIONS_USERS_REQUEST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.AUTH_REVOKE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.AUTH_TEST, MethodsRateLimitTier.TIER_4);
+        TIERS.put(Methods.BOTS_INFO, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHANNELS_ARCHIVE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CHANNELS_CREATE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CHANNELS_HISTORY, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHANNELS_INFO, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHANNELS_INVITE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHANNELS_JOIN, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHANNELS_KICK, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHANNELS_LEAVE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHANNELS_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CHANNELS_MARK, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHANNELS_RENAME, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CHANNELS_REPLIES, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHANNELS_SET_PURPOSE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CHANNELS_SET_TOPIC, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CHANNELS_UNARCHIVE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CHAT_DELETE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHAT_DELETE_SCHEDULED_MESSAGE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHAT_GET_PERMALINK, MethodsRateLimitTier.TIER_4);
+        TIERS.put(Methods.CHAT_ME_MESSAGE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHAT_POST_EPHEMERAL, MethodsRateLimitTier.TIER_4);
+        TIERS.put(Methods.CHAT_POST_MESSAGE, MethodsRateLimitTier.SPECIAL);
+        TIERS.put(Methods.CHAT_SCHEDULE_MESSAGE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHAT_UNFURL, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHAT_UPDATE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CHAT_SCHEDULED_MESSAGES_LIST, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CONVERSATIONS_ARCHIVE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CONVERSATIONS_CLOSE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CONVERSATIONS_CREATE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CONVERSATIONS_HISTORY, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CONVERSATIONS_INFO, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CONVERSATIONS_INVITE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CONVERSATIONS_JOIN, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CONVERSATIONS_KICK, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CONVERSATIONS_LEAVE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CONVERSATIONS_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CONVERSATIONS_MEMBERS, MethodsRateLimitTier.TIER_4);
+        TIERS.put(Methods.CONVERSATIONS_OPEN, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CONVERSATIONS_RENAME, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CONVERSATIONS_REPLIES, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.CONVERSATIONS_SET_PURPOSE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CONVERSATIONS_SET_TOPIC, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.CONVERSATIONS_UNARCHIVE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.DIALOG_OPEN, MethodsRateLimitTier.TIER_4);
+        TIERS.put(Methods.DND_END_DND, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.DND_END_SNOOZE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.DND_INFO, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.DND_SET_SNOOZE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.DND_TEAM_INFO, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.EMOJI_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.FILES_COMMENTS_ADD, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.FILES_COMMENTS_DELETE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.FILES_COMMENTS_EDIT, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.FILES_DELETE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.FILES_INFO, MethodsRateLimitTier.TIER_4);
+        TIERS.put(Methods.FILES_LIST, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.FILES_REVOKE_PUBLIC_URL, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.FILES_SHARED_PUBLIC_URL, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.FILES_UPLOAD, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.GROUPS_ARCHIVE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.GROUPS_CLOSE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.GROUPS_CREATE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.GROUPS_CREATE_CHILD, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.GROUPS_HISTORY, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.GROUPS_INFO, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.GROUPS_INVITE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.GROUPS_KICK, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.GROUPS_LEAVE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.GROUPS_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.GROUPS_MARK, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.GROUPS_OPEN, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.GROUPS_RENAME, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.GROUPS_SET_PURPOSE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.GROUPS_SET_TOPIC, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.GROUPS_UNARCHIVE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.GROUPS_REPLIES, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.IM_CLOSE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.IM_HISTORY, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.IM_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.IM_MARK, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.IM_OPEN, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.IM_REPLIES, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.MIGRATION_EXCHANGE, MethodsRateLimitTier.TIER_1);
+        TIERS.put(Methods.MPIM_CLOSE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.MPIM_HISTORY, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.MPIM_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.MPIM_MARK, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.MPIM_OPEN, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.MPIM_REPLIES, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.OAUTH_ACCESS, MethodsRateLimitTier.TIER_4);
+        TIERS.put(Methods.OAUTH_TOKEN, MethodsRateLimitTier.TIER_4);
+        TIERS.put(Methods.PINS_ADD, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.PINS_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.PINS_REMOVE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.REACTIONS_ADD, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.REACTIONS_GET, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.REACTIONS_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.REACTIONS_REMOVE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.REMINDERS_ADD, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.REMINDERS_COMPLETE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.REMINDERS_DELETE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.REMINDERS_INFO, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.REMINDERS_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.RTM_CONNECT, MethodsRateLimitTier.TIER_1);
+        TIERS.put(Methods.RTM_START, MethodsRateLimitTier.TIER_1);
+        TIERS.put(Methods.SEARCH_ALL, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.SEARCH_FILES, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.SEARCH_MESSAGES, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.STARS_ADD, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.STARS_LIST, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.STARS_REMOVE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.TEAM_ACCESS_LOGS, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.TEAM_BILLABLE_INFO, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.TEAM_INFO, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.TEAM_INTEGRATION_LOGS, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.TEAM_PROFILE_GET, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.USERGROUPS_CREATE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.USERGROUPS_DISABLE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.USERGROUPS_ENABLE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.USERGROUPS_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.USERGROUPS_UPDATE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.USERGROUPS_USERS_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.USERGROUPS_USERS_UPDATE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.USERS_CONVERSATIONS, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.USERS_DELETE_PHOTO, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.USERS_GET_PRESENCE, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.USERS_IDENTITY, MethodsRateLimitTier.TIER_4);
+        TIERS.put(Methods.USERS_INFO, MethodsRateLimitTier.TIER_4);
+        TIERS.put(Methods.USERS_LIST, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.USERS_LOOKUP_BY_EMAIL, MethodsRateLimitTier.TIER_3);
+        TIERS.put(Methods.USERS_SET_ACTIVE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.USERS_SET_PHOTO, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.USERS_SET_PRESENCE, MethodsRateLimitTier.TIER_2);
+        TIERS.put(Methods.USERS_PROFILE_GET, MethodsRateLimitTier.TIER_4);
+        TIERS.put(Methods.USERS_PROFILE_SET, MethodsRateLimitTier.TIER_3);
+    }
+
+    /**
+     * Returns the rate limit tier of the given method (e.g., Methods.USERS_INFO) or null if it's unknown.
+     */
+    public static MethodsRateLimitTier lookupTier(String methodName) {
+        return TIERS.get(methodName);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.github.seratch.jslack.api.methods;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The result of an attempt made by MethodsRetryPolicy.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MethodsRetryAttempt {
+
+    private String method;
+    /**
+     * 1 for the first attempt.
+     */
+    private int attemptNumber;
+    private long durationMillis;
+    /**
+     * The failure (e.g., "HTTP 503", "internal_error", "ConnectException"). Null when the attempt succeeded.
+     */
+    private String failure;
+    private boolean willRetry;
+    private long backoffMillis;
+
+}
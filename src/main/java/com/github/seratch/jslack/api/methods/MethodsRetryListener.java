@@ -0,0 +1,11 @@
+package com.github.seratch.jslack.api.methods;
+
+@FunctionalInterface
+public interface MethodsRetryListener {
+
+    /**
+     * Called on the calling thread after every attempt. Don't block in this method.
+     */
+    void onAttempt(MethodsRetryAttempt attempt);
+
+}
@@ -0,0 +1,257 @@
+package com.github.seratch.jslack.api.methods;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Retries API method calls that failed with transient errors, with exponential backoff and jitter.
+ * <p>
+ * The retryable failures are:
+ * <ul>
+ * <li>connect-phase I/O errors (e.g., connection refused, connect timeout)</li>
+ * <li>the other I/O errors (e.g., connection reset, read timeout)</li>
+ * <li>HTTP 429 (waits for Retry-After) and the retryable status codes (500, 502, 503 by default)</li>
+ * <li>"ok": false responses with the retryable errors ("ratelimited" and "internal_error" by default)</li>
+ * </ul>
+ * Methods that change something on Slack (e.g., chat.postMessage) may have been processed
+ * when the failure happened after the request was sent, so they are retried only when the request
+ * surely didn't reach Slack: connect-phase errors and rate limited responses.
+ * <p>
+ * When SlackConfig#methodsRateLimiter is also set, HTTP 429 is left to the rate limiter, which already waits for
+ * Retry-After and sends the request again, so that a rate limited call isn't retried by both of them.
+ * <p>
+ * Set an instance to SlackConfig#methodsRetryPolicy to enable it. It applies to MethodsClient (Slack#methods()) only;
+ * the futures of AsyncMethodsClient fail with the first error, so retry them on your side when needed.
+ */
+@Slf4j
+@Getter
+@Builder
+public class MethodsRetryPolicy {
+
+    public static final Set<Integer> DEFAULT_RETRYABLE_STATUS_CODES =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList(500, 502, 503)));
+
+    public static final Set<String> DEFAULT_RETRYABLE_ERRORS =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList("ratelimited", "internal_error")));
+
+    private static final String RATE_LIMITED_ERROR = "ratelimited";
+
+    /**
+     * The max number of attempts including the first one.
+     */
+    @Builder.Default
+    private int maxAttempts = 3;
+
+    @Builder.Default
+    private long initialBackoffMillis = 500L;
+
+    @Builder.Default
+    private long maxBackoffMillis = 30_000L;
+
+    /**
+     * The ratio of the backoff randomly reduced (0.0: no jitter, 1.0: full jitter).
+     */
+    @Builder.Default
+    private double jitter = 0.5d;
+
+    /**
+     * The time budget for all the attempts and the backoffs. No retry is made when it would exceed the budget.
+     */
+    @Builder.Default
+    private long deadlineMillis = 60_000L;
+
+    @Builder.Default
+    private Set<Integer> retryableStatusCodes = DEFAULT_RETRYABLE_STATUS_CODES;
+
+    @Builder.Default
+    private Set<String> retryableErrors = DEFAULT_RETRYABLE_ERRORS;
+
+    /**
+     * Additional methods which are safe to retry on any retryable failure.
+     * The read-only methods (e.g., users.info, conversations.history) are always treated as idempotent.
+     */
+    @Builder.Default
+    private Set<String> idempotentMethods = Collections.emptySet();
+
+    /**
+     * Receives the result of every attempt. Nullable.
+     */
+    private MethodsRetryListener listener;
+
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface Call<T> {
+        T execute() throws IOException, SlackApiException;
+    }
+
+    public boolean isIdempotent(String method) {
+        return MethodsCache.isReadOnlyMethod(method) || idempotentMethods.contains(method);
+    }
+
+    /**
+     * Runs the call and retries it while the failure is retryable for the method.
+     * When all the attempts fail, the last exception is thrown or the last "ok": false response is returned.
+     */
+    public <T> T execute(String method, Call<T> call) throws IOException, SlackApiException {
+        return execute(method, true, call);
+    }
+
+    /**
+     * Runs the call and retries it while the failure is retryable for the method.
+     *
+     * @param retryHttp429 false when HTTP 429 responses are retried by another layer (e.g., MethodsRateLimiter)
+     */
+    public <T> T execute(String method, boolean retryHttp429, Call<T> call) throws IOException, SlackApiException {
+        boolean idempotent = isIdempotent(method);
+        Counters methodCounters = counters.computeIfAbsent(method, k -> new Counters());
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        for (int attempt = 1; ; attempt++) {
+            methodCounters.attemptCount.increment();
+            long attemptStartedAt = System.nanoTime();
+            T result = null;
+            Exception failure = null;
+            try {
+                result = call.execute();
+            } catch (IOException | SlackApiException e) {
+                failure = e;
+            }
+            Failure classified = failure != null ? classify(failure, idempotent, retryHttp429) : classify(result, idempotent);
+            long attemptMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - attemptStartedAt);
+
+            long backoffMillis = -1L;
+            if (classified != null && classified.retryable && attempt < maxAttempts) {
+                long candidate = classified.retryAfterMillis >= 0 ? classified.retryAfterMillis : backoffMillis(attempt);
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(candidate) - deadline < 0) {
+                    backoffMillis = candidate;
+                }
+            }
+            boolean willRetry = backoffMillis >= 0;
+            if (listener != null) {
+                listener.onAttempt(MethodsRetryAttempt.builder()
+                        .method(method)
+                        .attemptNumber(attempt)
+                        .durationMillis(attemptMillis)
+                        .failure(classified != null ? classified.reason : null)
+                        .willRetry(willRetry)
+                        .backoffMillis(willRetry ? backoffMillis : 0L)
+                        .build());
+            }
+            if (!willRetry) {
+                if (classified != null && classified.retryable) {
+                    methodCounters.exhaustedCount.increment();
+                }
+                if (failure instanceof IOException) {
+                    throw (IOException) failure;
+                } else if (failure instanceof SlackApiException) {
+                    throw (SlackApiException) failure;
+                }
+                return result;
+            }
+            methodCounters.retryCount.increment();
+            log.debug("Retrying {} in {} ms (attempt: {}, failure: {})", method, backoffMillis, attempt, classified.reason);
+            sleep(backoffMillis);
+        }
+    }
+
+    long backoffMillis(int attempt) {
+        double exponential = initialBackoffMillis * Math.pow(2, attempt - 1);
+        long capped = (long) Math.min(maxBackoffMillis, exponential);
+        return capped - (long) (capped * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    public MethodsRetryStats getStats(String method) {
+        Counters methodCounters = counters.get(method);
+        if (methodCounters == null) {
+            return new MethodsRetryStats();
+        }
+        return MethodsRetryStats.builder()
+                .attemptCount(methodCounters.attemptCount.sum())
+                .retryCount(methodCounters.retryCount.sum())
+                .exhaustedCount(methodCounters.exhaustedCount.sum())
+                .build();
+    }
+
+    private static class Counters {
+        private final LongAdder attemptCount = new LongAdder();
+        private final LongAdder retryCount = new LongAdder();
+        private final LongAdder exhaustedCount = new LongAdder();
+    }
+
+    private static class Failure {
+        private final String reason;
+        private final boolean retryable;
+        private final long retryAfterMillis;
+
+        private Failure(String reason, boolean retryable, long retryAfterMillis) {
+            this.reason = reason;
+            this.retryable = retryable;
+            this.retryAfterMillis = retryAfterMillis;
+        }
+    }
+
+    private Failure classify(Object result, boolean idempotent) {
+        if (!(result instanceof SlackApiResponse) || ((SlackApiResponse) result).isOk()) {
+            return null;
+        }
+        String error = ((SlackApiResponse) result).getError();
+        boolean retryable = retryableErrors.contains(error) && (idempotent || RATE_LIMITED_ERROR.equals(error));
+        return new Failure(error, retryable, -1L);
+    }
+
+    private Failure classify(Exception e, boolean idempotent, boolean retryHttp429) {
+        if (e instanceof SlackApiException) {
+            Response response = ((SlackApiException) e).getResponse();
+            int status = response.code();
+            if (status == 429) {
+                long retryAfterSeconds = MethodsRateLimiter.parseRetryAfter(response.header("Retry-After"));
+                return new Failure("HTTP 429", retryHttp429, TimeUnit.SECONDS.toMillis(retryAfterSeconds));
+            }
+            return new Failure("HTTP " + status, idempotent && retryableStatusCodes.contains(status), -1L);
+        }
+        if (e instanceof InterruptedIOException && !(e instanceof SocketTimeoutException)) {
+            return new Failure(e.getClass().getSimpleName(), false, -1L);
+        }
+        return new Failure(e.getClass().getSimpleName(), idempotent || isConnectFailure(e), -1L);
+    }
+
+    static boolean isConnectFailure(Throwable e) {
+        if (e instanceof ConnectException || e instanceof NoRouteToHostException) {
+            return true;
+        }
+        // OkHttp doesn't have a dedicated exception for connect timeouts
+        return e instanceof SocketTimeoutException
+                && e.getMessage() != null
+                && e.getMessage().startsWith("connect timed out");
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a retry");
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.github.seratch.jslack.api.methods;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A snapshot of the MethodsRetryPolicy statistics for an API method.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MethodsRetryStats {
+
+    private long attemptCount;
+    private long retryCount;
+    /**
+     * The calls that still failed with a retryable failure when no more retry was allowed.
+     */
+    private long exhaustedCount;
+
+}
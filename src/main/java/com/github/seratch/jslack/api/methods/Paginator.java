@@ -0,0 +1,161 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.api.model.ResponseMetadata;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily iterates over the items of a cursor-paginated API method.
+ * <p>
+ * Only the current page is held, and the next page is fetched in the background while it's consumed.
+ * Stop consuming whenever you like; closing the stream discards the prefetched page.
+ * The cursor of the given request object is updated while paginating.
+ * <p>
+ * IOExceptions are rethrown as UncheckedIOException, SlackApiExceptions and error responses
+ * as IllegalStateException.
+ *
+ * @see "https://api.slack.com/docs/pagination"
+ */
+public class Paginator<REQ extends SlackApiRequest, RES extends SlackApiResponse, ITEM> implements Iterator<ITEM>, AutoCloseable {
+
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "jslack-paginator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @FunctionalInterface
+    public interface PageFetcher<REQ, RES> {
+        RES fetch(REQ req) throws IOException, SlackApiException;
+    }
+
+    private final REQ request;
+    private final BiConsumer<REQ, String> cursorSetter;
+    private final PageFetcher<REQ, RES> fetcher;
+    private final Function<RES, List<ITEM>> itemsGetter;
+    private final Function<RES, ResponseMetadata> metadataGetter;
+
+    private boolean started = false;
+    private Iterator<ITEM> currentPage = Collections.emptyIterator();
+    private CompletableFuture<RES> nextPage;
+
+    public Paginator(
+            REQ request,
+            BiConsumer<REQ, String> cursorSetter,
+            PageFetcher<REQ, RES> fetcher,
+            Function<RES, List<ITEM>> itemsGetter,
+            Function<RES, ResponseMetadata> metadataGetter) {
+        this.request = request;
+        this.cursorSetter = cursorSetter;
+        this.fetcher = fetcher;
+        this.itemsGetter = itemsGetter;
+        this.metadataGetter = metadataGetter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            started = true;
+            nextPage = fetchAsync();
+        }
+        while (!currentPage.hasNext()) {
+            if (nextPage == null) {
+                return false;
+            }
+            RES page = await(nextPage);
+            ResponseMetadata metadata = metadataGetter.apply(page);
+            String nextCursor = metadata != null ? metadata.getNextCursor() : null;
+            if (nextCursor != null && !nextCursor.isEmpty()) {
+                cursorSetter.accept(request, nextCursor);
+                nextPage = fetchAsync();
+            } else {
+                nextPage = null;
+            }
+            List<ITEM> items = itemsGetter.apply(page);
+            currentPage = items != null ? items.iterator() : Collections.emptyIterator();
+        }
+        return true;
+    }
+
+    @Override
+    public ITEM next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+
+    /**
+     * Stops the pagination and discards the prefetched page.
+     */
+    @Override
+    public void close() {
+        started = true;
+        currentPage = Collections.emptyIterator();
+        if (nextPage != null) {
+            nextPage.cancel(false);
+            nextPage = null;
+        }
+    }
+
+    public Stream<ITEM> stream() {
+        Spliterator<ITEM> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    private CompletableFuture<RES> fetchAsync() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return fetcher.fetch(request);
+            } catch (IOException | SlackApiException e) {
+                throw new CompletionException(e);
+            }
+        }, PREFETCH_EXECUTOR);
+    }
+
+    private RES await(CompletableFuture<RES> future) {
+        RES page;
+        try {
+            page = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted while fetching the next page"));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            } else if (cause instanceof SlackApiException) {
+                SlackApiException apiException = (SlackApiException) cause;
+                throw new IllegalStateException("Failed to fetch the next page (" +
+                        "status: " + apiException.getResponse().code() + ", " +
+                        "body: " + apiException.getResponseBody() + ")", cause);
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new IllegalStateException(cause);
+            }
+        }
+        if (!page.isOk()) {
+            throw new IllegalStateException("Failed to fetch the next page (error: " + page.getError() + ")");
+        }
+        return page;
+    }
+
+}
@@ -56,17 +56,19 @@ import com.github.seratch.jslack.api.methods.request.users.*;
 import com.github.seratch.jslack.api.methods.request.users.profile.UsersProfileGetRequest;
 import com.github.seratch.jslack.api.methods.request.users.profile.UsersProfileSetRequest;
 import com.github.seratch.jslack.api.model.ConversationType;
+import com.github.seratch.jslack.common.http.StreamingRequestBody;
 import com.github.seratch.jslack.common.json.GsonFactory;
 import okhttp3.FormBody;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
 import okhttp3.RequestBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
-import static java.util.stream.Collectors.joining;
-
 public class RequestFormBuilder {
 
     private RequestFormBuilder() {
@@ -90,7 +92,7 @@ public class RequestFormBuilder {
         FormBody.Builder form = new FormBody.Builder();
         setIfNotNull("trigger_id", req.getTriggerId(), form);
         if (req.getScopes() != null) {
-            setIfNotNull("scopes", req.getScopes().stream().collect(joining(",")), form);
+            setIfNotNull("scopes", String.join(",", req.getScopes()), form);
         }
         return form;
     }
@@ -123,7 +125,7 @@ public class RequestFormBuilder {
         FormBody.Builder form = new FormBody.Builder();
         setIfNotNull("trigger_id", req.getTriggerId(), form);
         if (req.getScopes() != null) {
-            setIfNotNull("scopes", req.getScopes().stream().collect(joining(",")), form);
+            setIfNotNull("scopes", String.join(",", req.getScopes()), form);
         }
         setIfNotNull("user", req.getUser(), form);
         return form;
@@ -289,14 +291,8 @@ public class RequestFormBuilder {
         setIfNotNull("post_at", req.getPostAt(), form);
         setIfNotNull("text", req.getText(), form);
         setIfNotNull("as_user", req.isAsUser(), form);
-        if (req.getBlocks() != null) {
-            String json = GsonFactory.createSnakeCase().toJson(req.getBlocks());
-            form.add("blocks", json);
-        }
-        if (req.getAttachments() != null) {
-            String json = GsonFactory.createSnakeCase().toJson(req.getAttachments());
-            form.add("attachments", json);
-        }
+        setJsonIfNotNull("blocks", req.getBlocks(), form);
+        setJsonIfNotNull("attachments", req.getAttachments(), form);
         setIfNotNull("link_names", req.isLinkNames(), form);
         setIfNotNull("parse", req.getParse(), form);
         setIfNotNull("reply_broadcast", req.isReplyBroadcast(), form);
@@ -322,14 +318,8 @@ public class RequestFormBuilder {
         setIfNotNull("text", req.getText(), form);
         setIfNotNull("user", req.getUser(), form);
         setIfNotNull("as_user", req.isAsUser(), form);
-        if (req.getBlocks() != null) {
-            String json = GsonFactory.createSnakeCase().toJson(req.getBlocks());
-            form.add("blocks", json);
-        }
-        if (req.getAttachments() != null) {
-            String json = GsonFactory.createSnakeCase().toJson(req.getAttachments());
-            form.add("attachments", json);
-        }
+        setJsonIfNotNull("blocks", req.getBlocks(), form);
+        setJsonIfNotNull("attachments", req.getAttachments(), form);
         setIfNotNull("link_names", req.isLinkNames(), form);
         setIfNotNull("parse", req.getParse(), form);
         return form;
@@ -343,14 +333,8 @@ public class RequestFormBuilder {
         setIfNotNull("parse", req.getParse(), form);
         setIfNotNull("link_names", req.isLinkNames(), form);
         setIfNotNull("mrkdwn", req.isMrkdwn(), form);
-        if (req.getBlocks() != null) {
-            String json = GsonFactory.createSnakeCase().toJson(req.getBlocks());
-            form.add("blocks", json);
-        }
-        if (req.getAttachments() != null) {
-            String json = GsonFactory.createSnakeCase().toJson(req.getAttachments());
-            form.add("attachments", json);
-        }
+        setJsonIfNotNull("blocks", req.getBlocks(), form);
+        setJsonIfNotNull("attachments", req.getAttachments(), form);
         setIfNotNull("unfurl_links", req.isUnfurlLinks(), form);
         setIfNotNull("unfurl_media", req.isUnfurlMedia(), form);
         setIfNotNull("username", req.getUsername(), form);
@@ -369,14 +353,8 @@ public class RequestFormBuilder {
         setIfNotNull("text", req.getText(), form);
         setIfNotNull("parse", req.getParse(), form);
         setIfNotNull("link_names", req.isLinkNames(), form);
-        if (req.getBlocks() != null) {
-            String json = GsonFactory.createSnakeCase().toJson(req.getBlocks());
-            form.add("blocks", json);
-        }
-        if (req.getAttachments() != null) {
-            String json = GsonFactory.createSnakeCase().toJson(req.getAttachments());
-            form.add("attachments", json);
-        }
+        setJsonIfNotNull("blocks", req.getBlocks(), form);
+        setJsonIfNotNull("attachments", req.getAttachments(), form);
         setIfNotNull("as_user", req.isAsUser(), form);
         return form;
     }
@@ -433,7 +411,7 @@ public class RequestFormBuilder {
         FormBody.Builder form = new FormBody.Builder();
         setIfNotNull("channel", req.getChannel(), form);
         if (req.getUsers() != null) {
-            setIfNotNull("users", req.getUsers().stream().collect(joining(",")), form);
+            setIfNotNull("users", String.join(",", req.getUsers()), form);
         }
         return form;
     }
@@ -468,7 +446,7 @@ public class RequestFormBuilder {
             for (ConversationType type : req.getTypes()) {
                 typeValues.add(type.value());
             }
-            setIfNotNull("types", typeValues.stream().collect(joining(",")), form);
+            setIfNotNull("types", String.join(",", typeValues), form);
         }
         return form;
     }
@@ -486,7 +464,7 @@ public class RequestFormBuilder {
         setIfNotNull("channel", req.getChannel(), form);
         setIfNotNull("return_im", req.isReturnIm(), form);
         if (req.getUsers() != null) {
-            setIfNotNull("users", req.getUsers().stream().collect(joining(",")), form);
+            setIfNotNull("users", String.join(",", req.getUsers()), form);
         }
         return form;
     }
@@ -530,10 +508,7 @@ public class RequestFormBuilder {
     public static FormBody.Builder toForm(DialogOpenRequest req) {
         FormBody.Builder form = new FormBody.Builder();
         setIfNotNull("trigger_id", req.getTriggerId(), form);
-        if (req.getDialog() != null) {
-            String json = GsonFactory.createSnakeCase().toJson(req.getDialog());
-            form.add("dialog", json);
-        }
+        setJsonIfNotNull("dialog", req.getDialog(), form);
         return form;
     }
 
@@ -562,7 +537,7 @@ public class RequestFormBuilder {
     public static FormBody.Builder toForm(DndTeamInfoRequest req) {
         FormBody.Builder form = new FormBody.Builder();
         if (req.getUsers() != null) {
-            setIfNotNull("user", req.getUsers().stream().collect(joining(",")), form);
+            setIfNotNull("user", String.join(",", req.getUsers()), form);
         }
         return form;
     }
@@ -593,7 +568,7 @@ public class RequestFormBuilder {
         setIfNotNull("ts_from", req.getTsFrom(), form);
         setIfNotNull("ts_to", req.getTsTo(), form);
         if (req.getTypes() != null) {
-            setIfNotNull("types", req.getTypes().stream().collect(joining(",")), form);
+            setIfNotNull("types", String.join(",", req.getTypes()), form);
         }
         setIfNotNull("count", req.getCount(), form);
         setIfNotNull("page", req.getPage(), form);
@@ -620,7 +595,7 @@ public class RequestFormBuilder {
         setIfNotNull("title", req.getTitle(), form);
         setIfNotNull("initial_comment", req.getInitialComment(), form);
         if (req.getChannels() != null) {
-            setIfNotNull("channels", req.getChannels().stream().collect(joining(",")), form);
+            setIfNotNull("channels", String.join(",", req.getChannels()), form);
         }
         return form;
     }
@@ -628,15 +603,14 @@ public class RequestFormBuilder {
     public static MultipartBody.Builder toMultipartBody(FilesUploadRequest req) {
         MultipartBody.Builder form = new MultipartBody.Builder();
 
-        RequestBody file = RequestBody.create(MultipartBody.FORM, req.getFile());
-        form.addFormDataPart("file", req.getFilename(), file);
+        form.addFormDataPart("file", req.getFilename(), toFileRequestBody(req));
 
         setIfNotNull("filetype", req.getFiletype(), form);
         setIfNotNull("filename", req.getFilename(), form);
         setIfNotNull("title", req.getTitle(), form);
         setIfNotNull("initial_comment", req.getInitialComment(), form);
         if (req.getChannels() != null) {
-            setIfNotNull("channels", req.getChannels().stream().collect(joining(",")), form);
+            setIfNotNull("channels", String.join(",", req.getChannels()), form);
         }
         setIfNotNull("thread_ts", req.getThreadTs(), form);
         return form;
@@ -831,7 +805,7 @@ public class RequestFormBuilder {
         FormBody.Builder form = new FormBody.Builder();
         setIfNotNull("to_old", req.isToOld(), form);
         if (req.getUsers() != null) {
-            setIfNotNull("users", req.getUsers().stream().collect(joining(",")), form);
+            setIfNotNull("users", String.join(",", req.getUsers()), form);
         }
         return form;
     }
@@ -875,7 +849,7 @@ public class RequestFormBuilder {
     public static FormBody.Builder toForm(MpimOpenRequest req) {
         FormBody.Builder form = new FormBody.Builder();
         if (req.getUsers() != null) {
-            setIfNotNull("users", req.getUsers().stream().collect(joining(",")), form);
+            setIfNotNull("users", String.join(",", req.getUsers()), form);
         }
         return form;
     }
@@ -1112,7 +1086,7 @@ public class RequestFormBuilder {
         setIfNotNull("handle", req.getHandle(), form);
         setIfNotNull("description", req.getDescription(), form);
         if (req.getChannels() != null) {
-            setIfNotNull("channels", req.getChannels().stream().collect(joining(",")), form);
+            setIfNotNull("channels", String.join(",", req.getChannels()), form);
         }
         setIfNotNull("include_count", req.isIncludeCount(), form);
         return form;
@@ -1147,7 +1121,7 @@ public class RequestFormBuilder {
         setIfNotNull("handle", req.getHandle(), form);
         setIfNotNull("description", req.getDescription(), form);
         if (req.getChannels() != null) {
-            setIfNotNull("channels", req.getChannels().stream().collect(joining(",")), form);
+            setIfNotNull("channels", String.join(",", req.getChannels()), form);
         }
         setIfNotNull("include_count", req.isIncludeCount(), form);
         return form;
@@ -1164,7 +1138,7 @@ public class RequestFormBuilder {
         FormBody.Builder form = new FormBody.Builder();
         setIfNotNull("usergroup", req.getUsergroup(), form);
         if (req.getUsers() != null) {
-            setIfNotNull("users", req.getUsers().stream().collect(joining(",")), form);
+            setIfNotNull("users", String.join(",", req.getUsers()), form);
         }
         setIfNotNull("include_count", req.isIncludeCount(), form);
         return form;
@@ -1182,7 +1156,7 @@ public class RequestFormBuilder {
             for (ConversationType type : req.getTypes()) {
                 typeValues.add(type.value());
             }
-            setIfNotNull("types", typeValues.stream().collect(joining(",")), form);
+            setIfNotNull("types", String.join(",", typeValues), form);
         }
         return form;
     }
@@ -1257,7 +1231,7 @@ public class RequestFormBuilder {
         FormBody.Builder form = new FormBody.Builder();
         setIfNotNull("user", req.getUser(), form);
         if (req.getProfile() != null) {
-            setIfNotNull("profile", GsonFactory.createSnakeCase().toJson(req.getProfile()), form);
+            setJsonIfNotNull("profile", req.getProfile(), form);
         } else {
             setIfNotNull("name", req.getName(), form);
             setIfNotNull("value", req.getValue(), form);
@@ -1269,17 +1243,78 @@ public class RequestFormBuilder {
     // internal methods
     // ----------------------------------------------------------------------------------
 
+    private static RequestBody toFileRequestBody(FilesUploadRequest req) {
+        long length = req.getFileLength() != null ? req.getFileLength() : -1L;
+        StreamingRequestBody.ProgressListener listener = req.getProgressListener();
+        if (req.getFile() != null) {
+            if (listener == null) {
+                return RequestBody.create(MultipartBody.FORM, req.getFile());
+            }
+            return toRequestBody(req.getFile().toPath(), listener);
+        } else if (req.getFilePath() != null) {
+            return toRequestBody(req.getFilePath(), listener);
+        } else if (req.getFileInputStream() != null) {
+            return StreamingRequestBody.create(MultipartBody.FORM, req.getFileInputStream(), length, listener);
+        } else if (req.getFileChannel() != null) {
+            return StreamingRequestBody.create(MultipartBody.FORM, req.getFileChannel(), length, listener);
+        } else if (req.getFileData() != null) {
+            return StreamingRequestBody.create(MultipartBody.FORM, req.getFileData(), listener);
+        }
+        throw new IllegalStateException("No file contents to upload");
+    }
+
+    private static RequestBody toRequestBody(Path path, StreamingRequestBody.ProgressListener listener) {
+        try {
+            return StreamingRequestBody.create(MultipartBody.FORM, path, listener);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // The values are encoded by FormValueEncoder in the same way as FormBody.Builder#add does.
+
+    private static void setIfNotNull(String name, String value, FormBody.Builder form) {
+        if (value != null) {
+            form.addEncoded(name, FormValueEncoder.encode(value));
+        }
+    }
+
+    private static void setIfNotNull(String name, boolean value, FormBody.Builder form) {
+        form.addEncoded(name, value ? "1" : "0");
+    }
+
+    private static void setIfNotNull(String name, Boolean value, FormBody.Builder form) {
+        if (value != null) {
+            setIfNotNull(name, value.booleanValue(), form);
+        }
+    }
+
+    private static void setIfNotNull(String name, int value, FormBody.Builder form) {
+        form.addEncoded(name, Integer.toString(value));
+    }
+
+    private static void setIfNotNull(String name, Integer value, FormBody.Builder form) {
+        if (value != null) {
+            setIfNotNull(name, value.intValue(), form);
+        }
+    }
+
     private static void setIfNotNull(String name, Object value, FormBody.Builder form) {
         if (value != null) {
             if (value instanceof Boolean) {
-                String numValue = ((Boolean) value) ? "1" : "0";
-                form.add(name, numValue);
+                setIfNotNull(name, ((Boolean) value).booleanValue(), form);
             } else {
-                form.add(name, String.valueOf(value));
+                setIfNotNull(name, String.valueOf(value), form);
             }
         }
     }
 
+    private static void setJsonIfNotNull(String name, Object value, FormBody.Builder form) {
+        if (value != null) {
+            form.addEncoded(name, FormValueEncoder.encodeJson(GsonFactory.createSnakeCase(), value));
+        }
+    }
+
     private static void setIfNotNull(String name, Object value, MultipartBody.Builder form) {
         if (value != null) {
             if (value instanceof Boolean) {
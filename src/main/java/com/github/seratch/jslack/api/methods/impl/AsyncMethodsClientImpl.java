@@ -0,0 +1,942 @@
+package com.github.seratch.jslack.api.methods.impl;
+
+import com.github.seratch.jslack.api.methods.Methods;
+import com.github.seratch.jslack.api.methods.AsyncMethodsClient;
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.request.api.ApiTestRequest;
+import com.github.seratch.jslack.api.methods.request.apps.AppsUninstallRequest;
+import com.github.seratch.jslack.api.methods.request.apps.permissions.AppsPermissionsInfoRequest;
+import com.github.seratch.jslack.api.methods.request.apps.permissions.AppsPermissionsRequestRequest;
+import com.github.seratch.jslack.api.methods.request.apps.permissions.resources.AppsPermissionsResourcesListRequest;
+import com.github.seratch.jslack.api.methods.request.apps.permissions.scopes.AppsPermissionsScopesListRequest;
+import com.github.seratch.jslack.api.methods.request.apps.permissions.users.AppsPermissionsUsersListRequest;
+import com.github.seratch.jslack.api.methods.request.apps.permissions.users.AppsPermissionsUsersRequestRequest;
+import com.github.seratch.jslack.api.methods.request.auth.AuthRevokeRequest;
+import com.github.seratch.jslack.api.methods.request.auth.AuthTestRequest;
+import com.github.seratch.jslack.api.methods.request.bots.BotsInfoRequest;
+import com.github.seratch.jslack.api.methods.request.channels.*;
+import com.github.seratch.jslack.api.methods.request.chat.*;
+import com.github.seratch.jslack.api.methods.request.chat.scheduled_messages.ChatScheduleMessagesListRequest;
+import com.github.seratch.jslack.api.methods.request.conversations.*;
+import com.github.seratch.jslack.api.methods.request.dialog.DialogOpenRequest;
+import com.github.seratch.jslack.api.methods.request.dnd.*;
+import com.github.seratch.jslack.api.methods.request.emoji.EmojiListRequest;
+import com.github.seratch.jslack.api.methods.request.files.*;
+import com.github.seratch.jslack.api.methods.request.files.comments.FilesCommentsAddRequest;
+import com.github.seratch.jslack.api.methods.request.files.comments.FilesCommentsDeleteRequest;
+import com.github.seratch.jslack.api.methods.request.files.comments.FilesCommentsEditRequest;
+import com.github.seratch.jslack.api.methods.request.groups.*;
+import com.github.seratch.jslack.api.methods.request.im.*;
+import com.github.seratch.jslack.api.methods.request.migration.MigrationExchangeRequest;
+import com.github.seratch.jslack.api.methods.request.mpim.*;
+import com.github.seratch.jslack.api.methods.request.oauth.OAuthAccessRequest;
+import com.github.seratch.jslack.api.methods.request.oauth.OAuthTokenRequest;
+import com.github.seratch.jslack.api.methods.request.pins.PinsAddRequest;
+import com.github.seratch.jslack.api.methods.request.pins.PinsListRequest;
+import com.github.seratch.jslack.api.methods.request.pins.PinsRemoveRequest;
+import com.github.seratch.jslack.api.methods.request.reactions.ReactionsAddRequest;
+import com.github.seratch.jslack.api.methods.request.reactions.ReactionsGetRequest;
+import com.github.seratch.jslack.api.methods.request.reactions.ReactionsListRequest;
+import com.github.seratch.jslack.api.methods.request.reactions.ReactionsRemoveRequest;
+import com.github.seratch.jslack.api.methods.request.reminders.*;
+import com.github.seratch.jslack.api.methods.request.rtm.RTMConnectRequest;
+import com.github.seratch.jslack.api.methods.request.rtm.RTMStartRequest;
+import com.github.seratch.jslack.api.methods.request.search.SearchAllRequest;
+import com.github.seratch.jslack.api.methods.request.search.SearchFilesRequest;
+import com.github.seratch.jslack.api.methods.request.search.SearchMessagesRequest;
+import com.github.seratch.jslack.api.methods.request.stars.StarsAddRequest;
+import com.github.seratch.jslack.api.methods.request.stars.StarsListRequest;
+import com.github.seratch.jslack.api.methods.request.stars.StarsRemoveRequest;
+import com.github.seratch.jslack.api.methods.request.team.TeamAccessLogsRequest;
+import com.github.seratch.jslack.api.methods.request.team.TeamBillableInfoRequest;
+import com.github.seratch.jslack.api.methods.request.team.TeamInfoRequest;
+import com.github.seratch.jslack.api.methods.request.team.TeamIntegrationLogsRequest;
+import com.github.seratch.jslack.api.methods.request.team.profile.TeamProfileGetRequest;
+import com.github.seratch.jslack.api.methods.request.usergroups.*;
+import com.github.seratch.jslack.api.methods.request.usergroups.users.UsergroupUsersListRequest;
+import com.github.seratch.jslack.api.methods.request.usergroups.users.UsergroupUsersUpdateRequest;
+import com.github.seratch.jslack.api.methods.request.users.*;
+import com.github.seratch.jslack.api.methods.request.users.profile.UsersProfileGetRequest;
+import com.github.seratch.jslack.api.methods.request.users.profile.UsersProfileSetRequest;
+import com.github.seratch.jslack.api.methods.response.api.ApiTestResponse;
+import com.github.seratch.jslack.api.methods.response.apps.AppsUninstallResponse;
+import com.github.seratch.jslack.api.methods.response.apps.permissions.AppsPermissionsInfoResponse;
+import com.github.seratch.jslack.api.methods.response.apps.permissions.AppsPermissionsRequestResponse;
+import com.github.seratch.jslack.api.methods.response.apps.permissions.resources.AppsPermissionsResourcesListResponse;
+import com.github.seratch.jslack.api.methods.response.apps.permissions.scopes.AppsPermissionsScopesListResponse;
+import com.github.seratch.jslack.api.methods.response.apps.permissions.users.AppsPermissionsUsersListResponse;
+import com.github.seratch.jslack.api.methods.response.apps.permissions.users.AppsPermissionsUsersRequestResponse;
+import com.github.seratch.jslack.api.methods.response.auth.AuthRevokeResponse;
+import com.github.seratch.jslack.api.methods.response.auth.AuthTestResponse;
+import com.github.seratch.jslack.api.methods.response.bots.BotsInfoResponse;
+import com.github.seratch.jslack.api.methods.response.channels.*;
+import com.github.seratch.jslack.api.methods.response.chat.*;
+import com.github.seratch.jslack.api.methods.response.chat.scheduled_messages.ChatScheduleMessagesListResponse;
+import com.github.seratch.jslack.api.methods.response.conversations.*;
+import com.github.seratch.jslack.api.methods.response.dialog.DialogOpenResponse;
+import com.github.seratch.jslack.api.methods.response.dnd.*;
+import com.github.seratch.jslack.api.methods.response.emoji.EmojiListResponse;
+import com.github.seratch.jslack.api.methods.response.files.*;
+import com.github.seratch.jslack.api.methods.response.files.comments.FilesCommentsAddResponse;
+import com.github.seratch.jslack.api.methods.response.files.comments.FilesCommentsDeleteResponse;
+import com.github.seratch.jslack.api.methods.response.files.comments.FilesCommentsEditResponse;
+import com.github.seratch.jslack.api.methods.response.groups.*;
+import com.github.seratch.jslack.api.methods.response.im.*;
+import com.github.seratch.jslack.api.methods.response.migration.MigrationExchangeResponse;
+import com.github.seratch.jslack.api.methods.response.mpim.*;
+import com.github.seratch.jslack.api.methods.response.oauth.OAuthAccessResponse;
+import com.github.seratch.jslack.api.methods.response.oauth.OAuthTokenResponse;
+import com.github.seratch.jslack.api.methods.response.pins.PinsAddResponse;
+import com.github.seratch.jslack.api.methods.response.pins.PinsListResponse;
+import com.github.seratch.jslack.api.methods.response.pins.PinsRemoveResponse;
+import com.github.seratch.jslack.api.methods.response.reactions.ReactionsAddResponse;
+import com.github.seratch.jslack.api.methods.response.reactions.ReactionsGetResponse;
+import com.github.seratch.jslack.api.methods.response.reactions.ReactionsListResponse;
+import com.github.seratch.jslack.api.methods.response.reactions.ReactionsRemoveResponse;
+import com.github.seratch.jslack.api.methods.response.reminders.*;
+import com.github.seratch.jslack.api.methods.response.rtm.RTMConnectResponse;
+import com.github.seratch.jslack.api.methods.response.rtm.RTMStartResponse;
+import com.github.seratch.jslack.api.methods.response.search.SearchAllResponse;
+import com.github.seratch.jslack.api.methods.response.search.SearchFilesResponse;
+import com.github.seratch.jslack.api.methods.response.search.SearchMessagesResponse;
+import com.github.seratch.jslack.api.methods.response.stars.StarsAddResponse;
+import com.github.seratch.jslack.api.methods.response.stars.StarsListResponse;
+import com.github.seratch.jslack.api.methods.response.stars.StarsRemoveResponse;
+import com.github.seratch.jslack.api.methods.response.team.TeamAccessLogsResponse;
+import com.github.seratch.jslack.api.methods.response.team.TeamBillableInfoResponse;
+import com.github.seratch.jslack.api.methods.response.team.TeamInfoResponse;
+import com.github.seratch.jslack.api.methods.response.team.TeamIntegrationLogsResponse;
+import com.github.seratch.jslack.api.methods.response.team.profile.TeamProfileGetResponse;
+import com.github.seratch.jslack.api.methods.response.usergroups.*;
+import com.github.seratch.jslack.api.methods.response.usergroups.users.UsergroupUsersListResponse;
+import com.github.seratch.jslack.api.methods.response.usergroups.users.UsergroupUsersUpdateResponse;
+import com.github.seratch.jslack.api.methods.response.users.*;
+import com.github.seratch.jslack.api.methods.response.users.profile.UsersProfileGetResponse;
+import com.github.seratch.jslack.api.methods.response.users.profile.UsersProfileSetResponse;
+import com.github.seratch.jslack.common.http.SlackHttpClient;
+import okhttp3.FormBody;
+import okhttp3.MultipartBody;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.seratch.jslack.api.methods.RequestFormBuilder.toForm;
+import static com.github.seratch.jslack.api.methods.RequestFormBuilder.toMultipartBody;
+
+public class AsyncMethodsClientImpl implements AsyncMethodsClient {
+
+    private String endpointUrlPrefix = "https://slack.com/api/";
+
+    private final SlackHttpClient slackHttpClient;
+
+    public AsyncMethodsClientImpl(SlackHttpClient slackHttpClient) {
+        this.slackHttpClient = slackHttpClient;
+    }
+
+    @Override
+    public void setEndpointUrlPrefix(String endpointUrlPrefix) {
+        this.endpointUrlPrefix = endpointUrlPrefix;
+    }
+
+    // ----------------------------------------------------------------------------------
+    // public methods
+    // ----------------------------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<ApiTestResponse> apiTest(ApiTestRequest req) {
+        return doPostForm(toForm(req), Methods.API_TEST, ApiTestResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<AppsUninstallResponse> appsUninstall(AppsUninstallRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.APPS_UNINSTALL, req.getToken(), AppsUninstallResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<AppsPermissionsInfoResponse> appsPermissionsInfo(AppsPermissionsInfoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.APPS_PERMISSIONS_INFO, req.getToken(), AppsPermissionsInfoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<AppsPermissionsRequestResponse> appsPermissionsRequest(AppsPermissionsRequestRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.APPS_PERMISSIONS_REQUEST, req.getToken(), AppsPermissionsRequestResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<AppsPermissionsResourcesListResponse> appsPermissionsResourcesList(AppsPermissionsResourcesListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.APPS_PERMISSIONS_RESOURCES_LIST, req.getToken(), AppsPermissionsResourcesListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<AppsPermissionsScopesListResponse> appsPermissionsScopesList(AppsPermissionsScopesListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.APPS_PERMISSIONS_SCOPES_LIST, req.getToken(), AppsPermissionsScopesListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<AppsPermissionsUsersListResponse> appsPermissionsUsersList(AppsPermissionsUsersListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.APPS_PERMISSIONS_USERS_LIST, req.getToken(), AppsPermissionsUsersListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<AppsPermissionsUsersRequestResponse> appsPermissionsUsersRequest(AppsPermissionsUsersRequestRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.APPS_PERMISSIONS_USERS_REQUEST, req.getToken(), AppsPermissionsUsersRequestResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<AuthRevokeResponse> authRevoke(AuthRevokeRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.AUTH_REVOKE, req.getToken(), AuthRevokeResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<AuthTestResponse> authTest(AuthTestRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.AUTH_TEST, req.getToken(), AuthTestResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<BotsInfoResponse> botsInfo(BotsInfoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.BOTS_INFO, req.getToken(), BotsInfoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsArchiveResponse> channelsArchive(ChannelsArchiveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_ARCHIVE, req.getToken(), ChannelsArchiveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsCreateResponse> channelsCreate(ChannelsCreateRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_CREATE, req.getToken(), ChannelsCreateResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsHistoryResponse> channelsHistory(ChannelsHistoryRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_HISTORY, req.getToken(), ChannelsHistoryResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsRepliesResponse> channelsReplies(ChannelsRepliesRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_REPLIES, req.getToken(), ChannelsRepliesResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsInfoResponse> channelsInfo(ChannelsInfoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_INFO, req.getToken(), ChannelsInfoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsListResponse> channelsList(ChannelsListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_LIST, req.getToken(), ChannelsListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsInviteResponse> channelsInvite(ChannelsInviteRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_INVITE, req.getToken(), ChannelsInviteResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsJoinResponse> channelsJoin(ChannelsJoinRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_JOIN, req.getToken(), ChannelsJoinResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsKickResponse> channelsKick(ChannelsKickRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_KICK, req.getToken(), ChannelsKickResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsLeaveResponse> channelsLeave(ChannelsLeaveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_LEAVE, req.getToken(), ChannelsLeaveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsMarkResponse> channelsMark(ChannelsMarkRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_MARK, req.getToken(), ChannelsMarkResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsRenameResponse> channelsRename(ChannelsRenameRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_RENAME, req.getToken(), ChannelsRenameResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsSetPurposeResponse> channelsSetPurpose(ChannelsSetPurposeRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_SET_PURPOSE, req.getToken(), ChannelsSetPurposeResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsSetTopicResponse> channelsSetTopic(ChannelsSetTopicRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_SET_TOPIC, req.getToken(), ChannelsSetTopicResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChannelsUnarchiveResponse> channelsUnarchive(ChannelsUnarchiveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHANNELS_UNARCHIVE, req.getToken(), ChannelsUnarchiveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChatGetPermalinkResponse> chatGetPermalink(ChatGetPermalinkRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHAT_GET_PERMALINK, req.getToken(), ChatGetPermalinkResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChatDeleteResponse> chatDelete(ChatDeleteRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHAT_DELETE, req.getToken(), ChatDeleteResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChatDeleteScheduledMessageResponse> chatDeleteScheduledMessage(ChatDeleteScheduledMessageRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHAT_DELETE_SCHEDULED_MESSAGE, req.getToken(), ChatDeleteScheduledMessageResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChatMeMessageResponse> chatMeMessage(ChatMeMessageRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHAT_ME_MESSAGE, req.getToken(), ChatMeMessageResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChatPostEphemeralResponse> chatPostEphemeral(ChatPostEphemeralRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHAT_POST_EPHEMERAL, req.getToken(), ChatPostEphemeralResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChatPostMessageResponse> chatPostMessage(ChatPostMessageRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHAT_POST_MESSAGE, req.getToken(), ChatPostMessageResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChatScheduleMessageResponse> chatScheduleMessage(ChatScheduleMessageRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHAT_SCHEDULE_MESSAGE, req.getToken(), ChatScheduleMessageResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChatUpdateResponse> chatUpdate(ChatUpdateRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHAT_UPDATE, req.getToken(), ChatUpdateResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChatUnfurlResponse> chatUnfurl(ChatUnfurlRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHAT_UNFURL, req.getToken(), ChatUnfurlResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ChatScheduleMessagesListResponse> chatScheduleMessagesListMessage(ChatScheduleMessagesListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CHAT_SCHEDULED_MESSAGES_LIST, req.getToken(), ChatScheduleMessagesListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsArchiveResponse> conversationsArchive(ConversationsArchiveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_ARCHIVE, req.getToken(), ConversationsArchiveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsCloseResponse> conversationsClose(ConversationsCloseRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_CLOSE, req.getToken(), ConversationsCloseResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsCreateResponse> conversationsCreate(ConversationsCreateRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_CREATE, req.getToken(), ConversationsCreateResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsHistoryResponse> conversationsHistory(ConversationsHistoryRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_HISTORY, req.getToken(), ConversationsHistoryResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsInfoResponse> conversationsInfo(ConversationsInfoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_INFO, req.getToken(), ConversationsInfoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsInviteResponse> conversationsInvite(ConversationsInviteRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_INVITE, req.getToken(), ConversationsInviteResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsJoinResponse> conversationsJoin(ConversationsJoinRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_JOIN, req.getToken(), ConversationsJoinResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsKickResponse> conversationsKick(ConversationsKickRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_KICK, req.getToken(), ConversationsKickResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsLeaveResponse> conversationsLeave(ConversationsLeaveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_LEAVE, req.getToken(), ConversationsLeaveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsListResponse> conversationsList(ConversationsListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_LIST, req.getToken(), ConversationsListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsMembersResponse> conversationsMembers(ConversationsMembersRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_MEMBERS, req.getToken(), ConversationsMembersResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsOpenResponse> conversationsOpen(ConversationsOpenRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_OPEN, req.getToken(), ConversationsOpenResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsRenameResponse> conversationsRename(ConversationsRenameRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_RENAME, req.getToken(), ConversationsRenameResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsRepliesResponse> conversationsReplies(ConversationsRepliesRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_REPLIES, req.getToken(), ConversationsRepliesResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsSetPurposeResponse> conversationsSetPurpose(ConversationsSetPurposeRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_SET_PURPOSE, req.getToken(), ConversationsSetPurposeResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsSetTopicResponse> conversationsSetTopic(ConversationsSetTopicRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_SET_TOPIC, req.getToken(), ConversationsSetTopicResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ConversationsUnarchiveResponse> conversationsUnarchive(ConversationsUnarchiveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.CONVERSATIONS_UNARCHIVE, req.getToken(), ConversationsUnarchiveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<DialogOpenResponse> dialogOpen(DialogOpenRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.DIALOG_OPEN, req.getToken(), DialogOpenResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<DndEndDndResponse> dndEndDnd(DndEndDndRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.DND_END_DND, req.getToken(), DndEndDndResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<DndEndSnoozeResponse> dndEndSnooze(DndEndSnoozeRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.DND_END_SNOOZE, req.getToken(), DndEndSnoozeResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<DndInfoResponse> dndInfo(DndInfoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.DND_INFO, req.getToken(), DndInfoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<DndSetSnoozeResponse> dndSetSnooze(DndSetSnoozeRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.DND_SET_SNOOZE, req.getToken(), DndSetSnoozeResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<DndTeamInfoResponse> dndTeamInfo(DndTeamInfoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.DND_TEAM_INFO, req.getToken(), DndTeamInfoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<EmojiListResponse> emojiList(EmojiListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.EMOJI_LIST, req.getToken(), EmojiListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<FilesDeleteResponse> filesDelete(FilesDeleteRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.FILES_DELETE, req.getToken(), FilesDeleteResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<FilesInfoResponse> filesInfo(FilesInfoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.FILES_INFO, req.getToken(), FilesInfoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<FilesListResponse> filesList(FilesListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.FILES_LIST, req.getToken(), FilesListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<FilesRevokePublicURLResponse> filesRevokePublicURL(FilesRevokePublicURLRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.FILES_REVOKE_PUBLIC_URL, req.getToken(), FilesRevokePublicURLResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<FilesSharedPublicURLResponse> filesSharedPublicURL(FilesSharedPublicURLRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.FILES_SHARED_PUBLIC_URL, req.getToken(), FilesSharedPublicURLResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<FilesUploadResponse> filesUpload(FilesUploadRequest req) {
+        if (req.isMultipartUpload()) {
+            return doPostMultipart(toMultipartBody(req), Methods.FILES_UPLOAD, req.getToken(), FilesUploadResponse.class);
+        } else {
+            return doPostFormWithToken(toForm(req), Methods.FILES_UPLOAD, req.getToken(), FilesUploadResponse.class);
+        }
+    }
+
+    @Override
+    public CompletableFuture<FilesCommentsAddResponse> filesCommentsAdd(FilesCommentsAddRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.FILES_COMMENTS_ADD, req.getToken(), FilesCommentsAddResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<FilesCommentsDeleteResponse> filesCommentsDelete(FilesCommentsDeleteRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.FILES_COMMENTS_DELETE, req.getToken(), FilesCommentsDeleteResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<FilesCommentsEditResponse> filesCommentEdit(FilesCommentsEditRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.FILES_COMMENTS_EDIT, req.getToken(), FilesCommentsEditResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsArchiveResponse> groupsArchive(GroupsArchiveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_ARCHIVE, req.getToken(), GroupsArchiveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsCloseResponse> groupsClose(GroupsCloseRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_CLOSE, req.getToken(), GroupsCloseResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsCreateChildResponse> groupsCreateChild(GroupsCreateChildRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_CREATE_CHILD, req.getToken(), GroupsCreateChildResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsCreateResponse> groupsCreate(GroupsCreateRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_CREATE, req.getToken(), GroupsCreateResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsHistoryResponse> groupsHistory(GroupsHistoryRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_HISTORY, req.getToken(), GroupsHistoryResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsRepliesResponse> groupsReplies(GroupsRepliesRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_REPLIES, req.getToken(), GroupsRepliesResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsInfoResponse> groupsInfo(GroupsInfoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_INFO, req.getToken(), GroupsInfoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsInviteResponse> groupsInvite(GroupsInviteRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_INVITE, req.getToken(), GroupsInviteResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsKickResponse> groupsKick(GroupsKickRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_KICK, req.getToken(), GroupsKickResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsLeaveResponse> groupsLeave(GroupsLeaveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_LEAVE, req.getToken(), GroupsLeaveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsListResponse> groupsList(GroupsListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_LIST, req.getToken(), GroupsListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsMarkResponse> groupsMark(GroupsMarkRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_MARK, req.getToken(), GroupsMarkResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsOpenResponse> groupsOpen(GroupsOpenRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_OPEN, req.getToken(), GroupsOpenResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsRenameResponse> groupsRename(GroupsRenameRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_RENAME, req.getToken(), GroupsRenameResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsSetPurposeResponse> groupsSetPurpose(GroupsSetPurposeRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_SET_PURPOSE, req.getToken(), GroupsSetPurposeResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsSetTopicResponse> groupsSetTopic(GroupsSetTopicRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_SET_TOPIC, req.getToken(), GroupsSetTopicResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GroupsUnarchiveResponse> groupsUnarchive(GroupsUnarchiveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.GROUPS_UNARCHIVE, req.getToken(), GroupsUnarchiveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ImCloseResponse> imClose(ImCloseRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.IM_CLOSE, req.getToken(), ImCloseResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ImHistoryResponse> imHistory(ImHistoryRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.IM_HISTORY, req.getToken(), ImHistoryResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ImListResponse> imList(ImListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.IM_LIST, req.getToken(), ImListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ImMarkResponse> imMark(ImMarkRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.IM_MARK, req.getToken(), ImMarkResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ImOpenResponse> imOpen(ImOpenRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.IM_OPEN, req.getToken(), ImOpenResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ImRepliesResponse> imReplies(ImRepliesRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.IM_REPLIES, req.getToken(), ImRepliesResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<MigrationExchangeResponse> migrationExchange(MigrationExchangeRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.MIGRATION_EXCHANGE, req.getToken(), MigrationExchangeResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<MpimCloseResponse> mpimClose(MpimCloseRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.MPIM_CLOSE, req.getToken(), MpimCloseResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<MpimHistoryResponse> mpimHistory(MpimHistoryRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.MPIM_HISTORY, req.getToken(), MpimHistoryResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<MpimListResponse> mpimList(MpimListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.MPIM_LIST, req.getToken(), MpimListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<MpimRepliesResponse> mpimReplies(MpimRepliesRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.MPIM_REPLIES, req.getToken(), MpimRepliesResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<MpimMarkResponse> mpimMark(MpimMarkRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.MPIM_MARK, req.getToken(), MpimMarkResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<MpimOpenResponse> mpimOpen(MpimOpenRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.MPIM_OPEN, req.getToken(), MpimOpenResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<OAuthAccessResponse> oauthAccess(OAuthAccessRequest req) {
+        return doPostForm(toForm(req), Methods.OAUTH_ACCESS, OAuthAccessResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<OAuthTokenResponse> oauthToken(OAuthTokenRequest req) {
+        return doPostForm(toForm(req), Methods.OAUTH_TOKEN, OAuthTokenResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<PinsAddResponse> pinsAdd(PinsAddRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.PINS_ADD, req.getToken(), PinsAddResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<PinsListResponse> pinsList(PinsListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.PINS_LIST, req.getToken(), PinsListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<PinsRemoveResponse> pinsRemove(PinsRemoveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.PINS_REMOVE, req.getToken(), PinsRemoveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ReactionsAddResponse> reactionsAdd(ReactionsAddRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.REACTIONS_ADD, req.getToken(), ReactionsAddResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ReactionsGetResponse> reactionsGet(ReactionsGetRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.REACTIONS_GET, req.getToken(), ReactionsGetResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ReactionsListResponse> reactionsList(ReactionsListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.REACTIONS_LIST, req.getToken(), ReactionsListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ReactionsRemoveResponse> reactionsRemove(ReactionsRemoveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.REACTIONS_REMOVE, req.getToken(), ReactionsRemoveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<RemindersAddResponse> remindersAdd(RemindersAddRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.REMINDERS_ADD, req.getToken(), RemindersAddResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<RemindersCompleteResponse> remindersComplete(RemindersCompleteRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.REMINDERS_COMPLETE, req.getToken(), RemindersCompleteResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<RemindersDeleteResponse> remindersDelete(RemindersDeleteRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.REMINDERS_DELETE, req.getToken(), RemindersDeleteResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<RemindersInfoResponse> remindersInfo(RemindersInfoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.REMINDERS_INFO, req.getToken(), RemindersInfoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<RemindersListResponse> remindersList(RemindersListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.REMINDERS_LIST, req.getToken(), RemindersListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<RTMConnectResponse> rtmConnect(RTMConnectRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.RTM_CONNECT, req.getToken(), RTMConnectResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<RTMStartResponse> rtmStart(RTMStartRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.RTM_START, req.getToken(), RTMStartResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<SearchAllResponse> searchAll(SearchAllRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.SEARCH_ALL, req.getToken(), SearchAllResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<SearchMessagesResponse> searchMessages(SearchMessagesRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.SEARCH_MESSAGES, req.getToken(), SearchMessagesResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<SearchFilesResponse> searchFiles(SearchFilesRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.SEARCH_FILES, req.getToken(), SearchFilesResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<StarsAddResponse> starsAdd(StarsAddRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.STARS_ADD, req.getToken(), StarsAddResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<StarsListResponse> starsList(StarsListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.STARS_LIST, req.getToken(), StarsListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<StarsRemoveResponse> starsRemove(StarsRemoveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.STARS_REMOVE, req.getToken(), StarsRemoveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<TeamAccessLogsResponse> teamAccessLogs(TeamAccessLogsRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.TEAM_ACCESS_LOGS, req.getToken(), TeamAccessLogsResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<TeamBillableInfoResponse> teamBillableInfo(TeamBillableInfoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.TEAM_BILLABLE_INFO, req.getToken(), TeamBillableInfoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<TeamInfoResponse> teamInfo(TeamInfoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.TEAM_INFO, req.getToken(), TeamInfoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<TeamIntegrationLogsResponse> teamIntegrationLogs(TeamIntegrationLogsRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.TEAM_INTEGRATION_LOGS, req.getToken(), TeamIntegrationLogsResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<TeamProfileGetResponse> teamProfileGet(TeamProfileGetRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.TEAM_PROFILE_GET, req.getToken(), TeamProfileGetResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsergroupsCreateResponse> usergroupsCreate(UsergroupsCreateRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERGROUPS_CREATE, req.getToken(), UsergroupsCreateResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsergroupsDisableResponse> usergroupsDisable(UsergroupsDisableRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERGROUPS_DISABLE, req.getToken(), UsergroupsDisableResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsergroupsEnableResponse> usergroupsEnable(UsergroupsEnableRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERGROUPS_ENABLE, req.getToken(), UsergroupsEnableResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsergroupsListResponse> usergroupsList(UsergroupsListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERGROUPS_LIST, req.getToken(), UsergroupsListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsergroupsUpdateResponse> usergroupsUpdate(UsergroupsUpdateRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERGROUPS_UPDATE, req.getToken(), UsergroupsUpdateResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsergroupUsersListResponse> usergroupUsersList(UsergroupUsersListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERGROUPS_USERS_LIST, req.getToken(), UsergroupUsersListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsergroupUsersUpdateResponse> usergroupUsersUpdate(UsergroupUsersUpdateRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERGROUPS_USERS_UPDATE, req.getToken(), UsergroupUsersUpdateResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsersConversationsResponse> usersConversations(UsersConversationsRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERS_CONVERSATIONS, req.getToken(), UsersConversationsResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsersDeletePhotoResponse> usersDeletePhoto(UsersDeletePhotoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERS_DELETE_PHOTO, req.getToken(), UsersDeletePhotoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsersGetPresenceResponse> usersGetPresence(UsersGetPresenceRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERS_GET_PRESENCE, req.getToken(), UsersGetPresenceResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsersIdentityResponse> usersIdentity(UsersIdentityRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERS_IDENTITY, req.getToken(), UsersIdentityResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsersInfoResponse> usersInfo(UsersInfoRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERS_INFO, req.getToken(), UsersInfoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsersListResponse> usersList(UsersListRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERS_LIST, req.getToken(), UsersListResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsersLookupByEmailResponse> usersLookupByEmail(UsersLookupByEmailRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERS_LOOKUP_BY_EMAIL, req.getToken(), UsersLookupByEmailResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsersSetActiveResponse> usersSetActive(UsersSetActiveRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERS_SET_ACTIVE, req.getToken(), UsersSetActiveResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsersSetPhotoResponse> usersSetPhoto(UsersSetPhotoRequest req) {
+        return doPostMultipart(toMultipartBody(req), Methods.USERS_SET_PHOTO, req.getToken(), UsersSetPhotoResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsersSetPresenceResponse> usersSetPresence(UsersSetPresenceRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERS_SET_PRESENCE, req.getToken(), UsersSetPresenceResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsersProfileGetResponse> usersProfileGet(UsersProfileGetRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERS_PROFILE_GET, req.getToken(), UsersProfileGetResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<UsersProfileSetResponse> usersProfileSet(UsersProfileSetRequest req) {
+        return doPostFormWithToken(toForm(req), Methods.USERS_PROFILE_SET, req.getToken(), UsersProfileSetResponse.class);
+    }
+
+    protected <T> CompletableFuture<T> doPostForm(
+            FormBody.Builder form,
+            String endpoint,
+            Class<T> clazz) {
+        return parseWhenReceived(runPostForm(form, endpoint), clazz);
+    }
+
+    @Override
+    public CompletableFuture<Response> runPostForm(FormBody.Builder form, String endpoint) {
+        return slackHttpClient.postFormAsync(endpointUrlPrefix + endpoint, form.build());
+    }
+
+    public <T> CompletableFuture<T> doPostFormWithToken(
+            FormBody.Builder form,
+            String endpoint,
+            String token,
+            Class<T> clazz) {
+        return parseWhenReceived(runPostFormWithToken(form, endpoint, token), clazz);
+    }
+
+    @Override
+    public CompletableFuture<Response> runPostFormWithToken(FormBody.Builder form, String endpoint, String token) {
+        return slackHttpClient.postFormWithBearerHeaderAsync(endpointUrlPrefix + endpoint, token, form.build());
+    }
+
+    public <T> CompletableFuture<T> doPostMultipart(
+            MultipartBody.Builder form,
+            String endpoint,
+            String token,
+            Class<T> clazz) {
+        form.setType(MultipartBody.FORM);
+        return parseWhenReceived(runPostMultipart(form, endpoint, token), clazz);
+    }
+
+    @Override
+    public CompletableFuture<Response> runPostMultipart(MultipartBody.Builder form, String endpoint, String token) {
+        return slackHttpClient.postMultipartAsync(endpointUrlPrefix + endpoint, token, form.build());
+    }
+
+    /**
+     * Parses the response once it arrives. Cancelling the returned future cancels the underlying call,
+     * and a response arriving after the cancellation is closed so that the connection goes back to the pool.
+     */
+    private <T> CompletableFuture<T> parseWhenReceived(CompletableFuture<Response> responseFuture, Class<T> clazz) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // runs on the OkHttp dispatcher thread that received the response
+        responseFuture.whenComplete((response, e) -> {
+            if (e != null) {
+                result.completeExceptionally(e);
+            } else if (result.isDone()) {
+                response.close();
+            } else {
+                try {
+                    result.complete(slackHttpClient.parseJsonResponse(response, clazz));
+                } catch (IOException | SlackApiException | RuntimeException parseError) {
+                    result.completeExceptionally(parseError);
+                }
+            }
+        });
+        result.whenComplete((parsed, e) -> {
+            if (result.isCancelled()) {
+                responseFuture.cancel(false);
+            }
+        });
+        return result;
+    }
+
+}
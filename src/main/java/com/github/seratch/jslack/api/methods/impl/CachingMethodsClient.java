@@ -0,0 +1,53 @@
+package com.github.seratch.jslack.api.methods.impl;
+
+import com.github.seratch.jslack.api.methods.MethodsCache;
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.SlackApiResponse;
+import com.github.seratch.jslack.common.http.SlackHttpClient;
+import okhttp3.FormBody;
+
+import java.io.IOException;
+
+/**
+ * A MethodsClient which serves the responses of the methods enabled in the MethodsCache from the cache.
+ */
+public class CachingMethodsClient extends MethodsClientImpl {
+
+    private final MethodsCache cache;
+
+    public CachingMethodsClient(SlackHttpClient slackHttpClient, MethodsCache cache) {
+        super(slackHttpClient);
+        this.cache = cache;
+    }
+
+    public MethodsCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public <T> T doPostFormWithToken(
+            FormBody.Builder form,
+            String endpoint,
+            String token,
+            Class<T> clazz) throws IOException, SlackApiException {
+        if (!cache.isEnabled(endpoint) || !SlackApiResponse.class.isAssignableFrom(clazz)) {
+            return super.doPostFormWithToken(form, endpoint, token, clazz);
+        }
+        String key = toCacheKey(endpoint, token, form.build());
+        SlackApiResponse response = cache.get(endpoint, key, SlackApiResponse.class,
+                () -> (SlackApiResponse) super.doPostFormWithToken(form, endpoint, token, clazz));
+        return clazz.cast(response);
+    }
+
+    static String toCacheKey(String endpoint, String token, FormBody formBody) {
+        StringBuilder key = new StringBuilder(endpoint).append('\n').append(token).append('\n');
+        for (int i = 0; i < formBody.size(); i++) {
+            if (i > 0) {
+                key.append('&');
+            }
+            key.append(formBody.encodedName(i)).append('=').append(formBody.encodedValue(i));
+        }
+        return key.toString();
+    }
+
+}
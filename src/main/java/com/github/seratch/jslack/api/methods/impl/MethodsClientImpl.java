@@ -1,7 +1,10 @@
 package com.github.seratch.jslack.api.methods.impl;
 
+import com.github.seratch.jslack.SlackConfig;
 import com.github.seratch.jslack.api.methods.Methods;
 import com.github.seratch.jslack.api.methods.MethodsClient;
+import com.github.seratch.jslack.api.methods.MethodsRateLimiter;
+import com.github.seratch.jslack.api.methods.MethodsRetryPolicy;
 import com.github.seratch.jslack.api.methods.SlackApiException;
 import com.github.seratch.jslack.api.methods.request.api.ApiTestRequest;
 import com.github.seratch.jslack.api.methods.request.apps.AppsUninstallRequest;
@@ -489,7 +492,7 @@ public class MethodsClientImpl implements MethodsClient {
 
     @Override
     public FilesUploadResponse filesUpload(FilesUploadRequest req) throws IOException, SlackApiException {
-        if (req.getFile() != null) {
+        if (req.isMultipartUpload()) {
             return doPostMultipart(toMultipartBody(req), Methods.FILES_UPLOAD, req.getToken(), FilesUploadResponse.class);
         } else {
             return doPostFormWithToken(toForm(req), Methods.FILES_UPLOAD, req.getToken(), FilesUploadResponse.class);
@@ -895,13 +898,18 @@ public class MethodsClientImpl implements MethodsClient {
             FormBody.Builder form,
             String endpoint,
             Class<T> clazz) throws IOException, SlackApiException {
-        Response response = runPostForm(form, endpoint);
-        return slackHttpClient.parseJsonResponse(response, clazz);
+        return withRetries(endpoint, () -> slackHttpClient.parseJsonResponse(runPostForm(form, endpoint), clazz));
     }
 
     @Override
     public Response runPostForm(FormBody.Builder form, String endpoint) throws IOException {
-        return slackHttpClient.postForm(endpointUrlPrefix + endpoint, form.build());
+        FormBody formBody = form.build();
+        MethodsRateLimiter rateLimiter = getRateLimiter();
+        if (rateLimiter == null) {
+            return slackHttpClient.postForm(endpointUrlPrefix + endpoint, formBody);
+        }
+        return rateLimiter.execute(null, endpoint, null,
+                () -> slackHttpClient.postForm(endpointUrlPrefix + endpoint, formBody));
     }
 
     public <T> T doPostFormWithToken(
@@ -909,13 +917,18 @@ public class MethodsClientImpl implements MethodsClient {
             String endpoint,
             String token,
             Class<T> clazz) throws IOException, SlackApiException {
-        Response response = runPostFormWithToken(form, endpoint, token);
-        return slackHttpClient.parseJsonResponse(response, clazz);
+        return withRetries(endpoint, () -> slackHttpClient.parseJsonResponse(runPostFormWithToken(form, endpoint, token), clazz));
     }
 
     @Override
     public Response runPostFormWithToken(FormBody.Builder form, String endpoint, String token) throws IOException {
-        return slackHttpClient.postFormWithBearerHeader(endpointUrlPrefix + endpoint, token, form.build());
+        FormBody formBody = form.build();
+        MethodsRateLimiter rateLimiter = getRateLimiter();
+        if (rateLimiter == null) {
+            return slackHttpClient.postFormWithBearerHeader(endpointUrlPrefix + endpoint, token, formBody);
+        }
+        return rateLimiter.execute(token, endpoint, findChannel(endpoint, formBody),
+                () -> slackHttpClient.postFormWithBearerHeader(endpointUrlPrefix + endpoint, token, formBody));
     }
 
     public <T> T doPostMultipart(
@@ -924,13 +937,62 @@ public class MethodsClientImpl implements MethodsClient {
             String token,
             Class<T> clazz) throws IOException, SlackApiException {
         form.setType(MultipartBody.FORM);
-        Response response = runPostMultipart(form, endpoint, token);
-        return slackHttpClient.parseJsonResponse(response, clazz);
+        if (isOneShot(form.build())) {
+            // an InputStream or a channel can be sent only once, so the original failure is surfaced instead of retrying
+            return slackHttpClient.parseJsonResponse(runPostMultipart(form, endpoint, token), clazz);
+        }
+        return withRetries(endpoint, () -> slackHttpClient.parseJsonResponse(runPostMultipart(form, endpoint, token), clazz));
     }
 
     @Override
     public Response runPostMultipart(MultipartBody.Builder form, String endpoint, String token) throws IOException {
-        return slackHttpClient.postMultipart(endpointUrlPrefix + endpoint, token, form.build());
+        MultipartBody multipartBody = form.build();
+        MethodsRateLimiter rateLimiter = getRateLimiter();
+        if (rateLimiter == null) {
+            return slackHttpClient.postMultipart(endpointUrlPrefix + endpoint, token, multipartBody);
+        }
+        if (isOneShot(multipartBody)) {
+            return rateLimiter.execute(token, endpoint, null, 0,
+                    () -> slackHttpClient.postMultipart(endpointUrlPrefix + endpoint, token, multipartBody));
+        }
+        return rateLimiter.execute(token, endpoint, null,
+                () -> slackHttpClient.postMultipart(endpointUrlPrefix + endpoint, token, multipartBody));
+    }
+
+    private static boolean isOneShot(MultipartBody multipartBody) {
+        for (MultipartBody.Part part : multipartBody.parts()) {
+            if (part.body().isOneShot()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <T> T withRetries(String endpoint, MethodsRetryPolicy.Call<T> call) throws IOException, SlackApiException {
+        SlackConfig config = slackHttpClient.getConfig();
+        MethodsRetryPolicy retryPolicy = config != null ? config.getMethodsRetryPolicy() : null;
+        if (retryPolicy == null) {
+            return call.execute();
+        }
+        // the rate limiter owns the retries on HTTP 429 when it's enabled
+        return retryPolicy.execute(endpoint, getRateLimiter() == null, call);
+    }
+
+    private MethodsRateLimiter getRateLimiter() {
+        SlackConfig config = slackHttpClient.getConfig();
+        return config != null ? config.getMethodsRateLimiter() : null;
+    }
+
+    // chat.postMessage is rate-limited per channel
+    private static String findChannel(String endpoint, FormBody formBody) {
+        if (Methods.CHAT_POST_MESSAGE.equals(endpoint)) {
+            for (int i = 0; i < formBody.size(); i++) {
+                if (formBody.name(i).equals("channel")) {
+                    return formBody.value(i);
+                }
+            }
+        }
+        return null;
     }
 
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package com.github.seratch.jslack.api.methods.request.files;
 
 import com.github.seratch.jslack.api.methods.SlackApiRequest;
+import com.github.seratch.jslack.common.http.StreamingRequestBody;
 import lombok.Builder;
 import lombok.Data;
 
 import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 import java.util.List;
 
 @Data
@@ -21,6 +26,38 @@ public class FilesUploadRequest implements SlackApiRequest {
      */
     private File file;
 
+    /**
+     * File contents streamed from a file. An alternative to `file`, the file is memory-mapped while being sent.
+     */
+    private Path filePath;
+
+    /**
+     * File contents streamed from an InputStream, which is closed after being sent. An alternative to `file`.
+     * Set `fileLength` when the length is known; otherwise the request is sent with chunked transfer encoding.
+     */
+    private InputStream fileInputStream;
+
+    /**
+     * File contents streamed from a channel, which is closed after being sent. An alternative to `file`.
+     * Set `fileLength` when the length is known; otherwise the request is sent with chunked transfer encoding.
+     */
+    private ReadableByteChannel fileChannel;
+
+    /**
+     * File contents in a ByteBuffer (e.g., a direct or mapped one). The remaining bytes are sent. An alternative to `file`.
+     */
+    private ByteBuffer fileData;
+
+    /**
+     * The length of `fileInputStream` or `fileChannel` if known.
+     */
+    private Long fileLength;
+
+    /**
+     * Receives the number of bytes sent while uploading the file contents.
+     */
+    private StreamingRequestBody.ProgressListener progressListener;
+
     /**
      * File contents via a POST variable. If omitting this parameter, you must provide a `file`.
      */
@@ -56,4 +93,11 @@ public class FilesUploadRequest implements SlackApiRequest {
      */
     private String threadTs;
 
-}
\ No newline at end of file
+    /**
+     * Returns true when the file contents are sent as multipart/form-data instead of `content`.
+     */
+    public boolean isMultipartUpload() {
+        return file != null || filePath != null || fileInputStream != null || fileChannel != null || fileData != null;
+    }
+
+}
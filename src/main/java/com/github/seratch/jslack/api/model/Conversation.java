@@ -13,7 +13,7 @@ import java.util.List;
  * @see https://api.slack.com/docs/conversations-api
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class Conversation {
 
     private String id;
@@ -13,5 +13,6 @@ public class ReconnectUrlEvent implements Event {
     public static final String TYPE_NAME = "reconnect_url";
 
     private final String type = TYPE_NAME;
+    private String url;
 
 }
\ No newline at end of file
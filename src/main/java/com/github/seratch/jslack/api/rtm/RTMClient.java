@@ -1,10 +1,21 @@
 package com.github.seratch.jslack.api.rtm;
 
 import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.MethodsClient;
+import com.github.seratch.jslack.api.methods.MethodsRateLimiter;
 import com.github.seratch.jslack.api.methods.SlackApiException;
 import com.github.seratch.jslack.api.methods.request.rtm.RTMConnectRequest;
 import com.github.seratch.jslack.api.methods.response.rtm.RTMConnectResponse;
 import com.github.seratch.jslack.api.model.User;
+import com.github.seratch.jslack.api.model.event.GoodbyeEvent;
+import com.github.seratch.jslack.api.model.event.HelloEvent;
+import com.github.seratch.jslack.api.model.event.ReconnectUrlEvent;
+import com.github.seratch.jslack.api.rtm.message.Message;
+import com.github.seratch.jslack.common.json.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.websocket.*;
@@ -12,12 +23,27 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * Real Time Messaging API
  * <p>
+ * The session is supervised as configured by SlackConfig#rtmClientConfig:
+ * a ping is sent periodically to measure the round-trip time, and the connection is considered dead
+ * when the pongs stop arriving. A session closed by anything other than #disconnect(), a dead connection
+ * and a goodbye event start a reconnect with jittered exponential backoff (rtm.connect is rate-limited).
+ * <p>
+ * The messages are written one at a time in the order #sendMessage was called, and only after Slack
+ * says hello, so the ones given while (re)connecting are held until then. #sendMessage(Message) assigns the ID
+ * and returns a future completed with the reply Slack sends back for it.
+ * <p>
  * https://api.slack.com/rtm
  */
 @ClientEndpoint
@@ -34,6 +60,13 @@ public class RTMClient implements Closeable {
      */
     private final String botApiToken;
 
+    /**
+     * Used for calling rtm.connect when reconnecting.
+     */
+    private final MethodsClient methods;
+
+    private final RTMClientConfig config;
+
     /**
      * WebSocket URL to connect to.
      */
@@ -47,17 +80,84 @@ public class RTMClient implements Closeable {
     /**
      * Current WebSocket session. This field is null when disconnected.
      */
-    private Session currentSession;
+    private volatile Session currentSession;
+
+    // copy-on-write lists: the handlers can be added or removed while messages arrive
+    private final List<RTMMessageHandler> messageHandlers = new CopyOnWriteArrayList<>();
+    private final List<RTMErrorHandler> errorHandlers = new CopyOnWriteArrayList<>();
+    private final List<RTMCloseHandler> closeHandlers = new CopyOnWriteArrayList<>();
+
+    private static final Gson GSON = GsonFactory.createSnakeCase();
+
+    // runs the pings, the reconnects and the reply timeouts; shared by the clients of an RTMConnectionManager
+    private final ScheduledExecutorService supervisor;
+    // takes over the reconnects of the clients of an RTMConnectionManager; null for a standalone client
+    private final Consumer<RTMClient> reconnectQueue;
+    private final boolean supervisorOwned;
+    private final AtomicBoolean pingStarted = new AtomicBoolean(false);
+    private volatile ScheduledFuture<?> pingTask;
+    private final AtomicBoolean reconnecting = new AtomicBoolean(false);
+    private volatile boolean disconnectRequested = false;
+    private volatile boolean closed = false;
+
+    // looked up once and reused by the reconnects; shared by the clients of an RTMConnectionManager
+    private WebSocketContainer webSocketContainer;
+
+    private final AtomicLong messageIdSequence = new AtomicLong(0L);
+    // ping ID -> System.nanoTime() when it was sent
+    private final ConcurrentMap<Long, Long> pendingPings = new ConcurrentHashMap<>();
+    private volatile long lastPingRoundTripMillis = -1L;
+    private final AtomicLong reconnectCount = new AtomicLong(0L);
+
+    // runs the message handlers off the WebSocket I/O thread; null when messageHandlerThreads is 0
+    private final RTMMessageQueue<String> messageQueue;
 
-    // NOTE: Needless to say, manipulating these List objects is not thread-safe
-    private final List<RTMMessageHandler> messageHandlers = new ArrayList<>();
-    private final List<RTMErrorHandler> errorHandlers = new ArrayList<>();
-    private final List<RTMCloseHandler> closeHandlers = new ArrayList<>();
+    // the URL sent by the reconnect_url event, used once instead of calling rtm.connect
+    private volatile URI reconnectUri;
+
+    // true once the current session got the hello event
+    private boolean ready = false;
+    private final Object sendLock = new Object();
+
+    // the single writer of the outbound messages
+    private final RTMMessageSender messageSender;
+    // guards the writes to the session, shared by the message sender and the pings
+    private final Object writeLock = new Object();
 
     public RTMClient(Slack slack,
                      String botApiToken,
                      String wssUrl,
                      User connectedBotUser) throws URISyntaxException {
+        this(slack, slack.methods(), botApiToken, wssUrl, connectedBotUser);
+    }
+
+    public RTMClient(Slack slack,
+                     MethodsClient methods,
+                     String botApiToken,
+                     String wssUrl,
+                     User connectedBotUser) throws URISyntaxException {
+        this(slack, methods, botApiToken, wssUrl, connectedBotUser, rtmClientConfig(slack), null, null, null, null);
+    }
+
+    /**
+     * Used by RTMConnectionManager to share a WebSocket container, a supervisor and a writer among the clients.
+     *
+     * @param webSocketContainer the container to connect with, or null to look it up with ContainerProvider
+     * @param supervisor         the executor to run the supervision with, or null to start a thread for this client
+     * @param writer             the executor to write the outbound messages with, or null to use the supervisor
+     * @param reconnectQueue     receives this client when it needs to reconnect, or null to reconnect on the supervisor.
+     *                           The receiver calls #reconnectOnce() until it succeeds, and then #endReconnect().
+     */
+    RTMClient(Slack slack,
+              MethodsClient methods,
+              String botApiToken,
+              String wssUrl,
+              User connectedBotUser,
+              RTMClientConfig config,
+              WebSocketContainer webSocketContainer,
+              ScheduledExecutorService supervisor,
+              Executor writer,
+              Consumer<RTMClient> reconnectQueue) throws URISyntaxException {
         if (wssUrl == null) {
             throw new IllegalArgumentException("The wss URL to start Real Time Messaging API is absent.");
         }
@@ -66,9 +166,34 @@ public class RTMClient implements Closeable {
         }
 
         this.slack = slack;
+        this.methods = methods;
         this.botApiToken = botApiToken;
         this.wssUri = new URI(wssUrl);
         this.connectedBotUser = connectedBotUser;
+        this.config = config;
+        this.webSocketContainer = webSocketContainer;
+        this.reconnectQueue = reconnectQueue;
+        this.supervisorOwned = supervisor == null;
+        this.supervisor = supervisor != null ? supervisor : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jslack-rtm-supervisor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.messageQueue = config.getMessageHandlerThreads() > 0
+                ? RTMMessageQueue.forMessages(config.getMessageHandlerThreads(), config.getMessageQueueCapacity(),
+                config.getMessageQueueOverflowPolicy(), this::runMessageHandlers)
+                : null;
+        this.messageSender = new RTMMessageSender(this::writeToSession, this.supervisor,
+                writer != null ? writer : this.supervisor,
+                config.getSendBufferSize(), config.getMaxInFlightMessages(), config.getReplyTimeoutMillis(),
+                config.getMaxSendAttempts());
+    }
+
+    static RTMClientConfig rtmClientConfig(Slack slack) {
+        SlackConfig slackConfig = slack.getHttpClient().getConfig();
+        return slackConfig != null && slackConfig.getRtmClientConfig() != null
+                ? slackConfig.getRtmClientConfig()
+                : RTMClientConfig.DEFAULT;
     }
 
     /**
@@ -77,8 +202,11 @@ public class RTMClient implements Closeable {
      * Calling this method won't work as you expect.
      */
     public void connect() throws IOException, DeploymentException {
-        WebSocketContainer container = ContainerProvider.getWebSocketContainer();
-        container.connectToServer(this, wssUri);
+        disconnectRequested = false;
+        // the threads start here, so that a client never connected holds none of them
+        messageSender.start();
+        startPings();
+        getWebSocketContainer().connectToServer(this, wssUri);
         log.debug("client connected to the server: {}", wssUri);
     }
 
@@ -88,6 +216,7 @@ public class RTMClient implements Closeable {
      * You need to call #reconnect() or instantiate a new RTMClient instead.
      */
     public void disconnect() throws IOException {
+        disconnectRequested = true;
         if (currentSession != null && currentSession.isOpen()) {
             synchronized (currentSession) {
                 this.currentSession.close(new CloseReason(
@@ -105,36 +234,90 @@ public class RTMClient implements Closeable {
      */
     public void reconnect() throws IOException, SlackApiException, URISyntaxException, DeploymentException {
         // Call rtm.connect again to refresh wss URL
-        RTMConnectResponse response = slack.methods().rtmConnect(RTMConnectRequest.builder().token(botApiToken).build());
+        refreshWssUri();
+        // start a WebSocket session
+        connect();
+    }
+
+    private void refreshWssUri() throws IOException, SlackApiException, URISyntaxException {
+        RTMConnectResponse response = methods.rtmConnect(RTMConnectRequest.builder().token(botApiToken).build());
         if (response.isOk()) {
             this.wssUri = new URI(response.getUrl());
             this.connectedBotUser = response.getSelf();
         } else {
-            throw new IllegalStateException("Failed to the RTM endpoint URL (error: " + response.getError() + ")");
+            throw new RTMConnectError(response.getError());
         }
-        // start a WebSocket session
-        connect();
     }
 
+    /**
+     * Thrown when rtm.connect returns "ok": false.
+     */
+    static class RTMConnectError extends IllegalStateException {
+        private final String error;
+
+        RTMConnectError(String error) {
+            super("Failed to the RTM endpoint URL (error: " + error + ")");
+            this.error = error;
+        }
+    }
+
+    // the rtm.connect errors no retry can fix
+    private static final Set<String> AUTH_ERRORS = new HashSet<>(Arrays.asList(
+            "not_authed", "invalid_auth", "account_inactive", "token_revoked", "token_expired",
+            "no_permission", "missing_scope", "not_allowed_token_type"));
+
+    /**
+     * Returns true when connecting again won't help: an auth error or any other 4xx except 429.
+     */
+    static boolean isTerminalError(Exception e) {
+        if (e instanceof SlackApiException) {
+            int status = ((SlackApiException) e).getResponse().code();
+            return status >= 400 && status < 500 && status != 429;
+        }
+        return e instanceof RTMConnectError && AUTH_ERRORS.contains(((RTMConnectError) e).error);
+    }
+
+    /**
+     * Disconnects and stops the supervision. This instance can't be used after calling this method.
+     */
     @Override
     public void close() throws IOException {
+        closed = true;
         disconnect();
+        messageSender.close();
+        if (supervisorOwned) {
+            supervisor.shutdownNow();
+        } else if (pingTask != null) {
+            pingTask.cancel(false);
+        }
+        if (messageQueue != null) {
+            messageQueue.stop(config.getMessageQueueShutdownTimeoutMillis());
+        }
     }
 
     @OnOpen
     public void onOpen(Session session) {
         updateSession(session);
+        pendingPings.clear();
         log.debug("session opened: {}", session.getId());
     }
 
     @OnClose
     public void onClose(Session session, CloseReason reason) {
-        updateSession(session);
         log.debug("session closed: {}, reason: {}", session.getId(), reason.getReasonPhrase());
+        if (session != currentSession) {
+            // a session replaced by a reconnect
+            return;
+        }
+        setReady(false);
 
         closeHandlers.forEach(closeHandler -> {
             closeHandler.handle(reason);
         });
+
+        if (!disconnectRequested) {
+            startReconnect();
+        }
     }
 
     @OnError
@@ -149,6 +332,35 @@ public class RTMClient implements Closeable {
     @OnMessage
     public void onMessage(String message) {
         log.debug("message: {}", message);
+        String type = RTMEventsDispatcherImpl.detectEventType(message);
+        if (type == null && message.contains("\"reply_to\"")) {
+            handleReply(message);
+        } else if (HelloEvent.TYPE_NAME.equals(type)) {
+            setReady(true);
+        } else if (PONG_TYPE_NAME.equals(type)) {
+            handlePong(message);
+        } else if (GoodbyeEvent.TYPE_NAME.equals(type)) {
+            log.info("goodbye event received, reconnecting");
+            startReconnect();
+        } else if (ReconnectUrlEvent.TYPE_NAME.equals(type)) {
+            saveReconnectUrl(message);
+        }
+        // the messages above are processed right away so that slow handlers never delay pongs or reconnects
+        if (messageQueue == null) {
+            runMessageHandlers(message);
+            return;
+        }
+        try {
+            messageQueue.enqueue(message);
+        } catch (RejectedExecutionException e) {
+            log.warn("Rejected a message: {}", e.getMessage());
+            errorHandlers.forEach(errorHandler -> {
+                errorHandler.handle(e);
+            });
+        }
+    }
+
+    private void runMessageHandlers(String message) {
         messageHandlers.forEach(messageHandler -> {
             messageHandler.handle(message);
         });
@@ -178,8 +390,99 @@ public class RTMClient implements Closeable {
         closeHandlers.remove(closeHandler);
     }
 
+    /**
+     * Queues the message. While the session is being (re)established, the message is held and sent after hello.
+     *
+     * @throws IllegalStateException when this client has been disconnected or the send buffer is full
+     */
     public void sendMessage(String message) {
-        this.currentSession.getAsyncRemote().sendText(message);
+        if (disconnectRequested) {
+            throw new IllegalStateException("This RTM client has been disconnected");
+        }
+        messageSender.enqueue(message);
+    }
+
+    /**
+     * Assigns a new ID to the message and queues it.
+     * The returned future is completed with the reply from Slack (check RTMMessageReply#isOk()),
+     * or fails with a TimeoutException when no reply arrives within RTMClientConfig#replyTimeoutMillis.
+     * A message written right before the connection is lost may never get its reply.
+     *
+     * @throws IllegalStateException when this client has been disconnected or the send buffer is full
+     */
+    public CompletableFuture<RTMMessageReply> sendMessage(Message message) {
+        if (disconnectRequested) {
+            throw new IllegalStateException("This RTM client has been disconnected");
+        }
+        long id = nextMessageId();
+        message.setId(id);
+        return messageSender.enqueue(id, message.toJSONString());
+    }
+
+    /**
+     * Returns true when the session is open and Slack has said hello.
+     */
+    public boolean isConnected() {
+        Session session = currentSession;
+        synchronized (sendLock) {
+            return ready && session != null && session.isOpen();
+        }
+    }
+
+    /**
+     * Returns the round-trip time of the last answered ping, or -1 if no pong has arrived yet.
+     */
+    public long getLastPingRoundTripMillis() {
+        return lastPingRoundTripMillis;
+    }
+
+    /**
+     * Returns true while an automatic reconnect is in progress.
+     */
+    public boolean isReconnecting() {
+        return reconnecting.get();
+    }
+
+    /**
+     * Returns the number of the automatic reconnects done so far.
+     */
+    public long getReconnectCount() {
+        return reconnectCount.get();
+    }
+
+    /**
+     * Returns the number of the messages waiting for the message handler threads.
+     */
+    public int getMessageQueueSize() {
+        return messageQueue != null ? messageQueue.size() : 0;
+    }
+
+    /**
+     * Returns the number of the messages discarded because the message queue was full.
+     */
+    public long getDroppedMessageCount() {
+        return messageQueue != null ? messageQueue.getDroppedCount() + messageQueue.getRejectedCount() : 0L;
+    }
+
+    /**
+     * Returns the number of the messages waiting to be written to the socket.
+     */
+    public int getSendQueueSize() {
+        return messageSender.size();
+    }
+
+    /**
+     * Returns the number of the messages sent by #sendMessage(Message) and not replied yet.
+     */
+    public int getAwaitingReplyCount() {
+        return messageSender.getAwaitingReplyCount();
+    }
+
+    /**
+     * Returns a new message ID, unique within this client.
+     */
+    public long nextMessageId() {
+        return messageIdSequence.incrementAndGet();
     }
 
     public URI getWssUri() {
@@ -190,6 +493,215 @@ public class RTMClient implements Closeable {
         return connectedBotUser;
     }
 
+    // ------------------------------
+    // supervision
+
+    private static final String PONG_TYPE_NAME = "pong";
+
+    private void setReady(boolean ready) {
+        synchronized (sendLock) {
+            this.ready = ready;
+        }
+        messageSender.setReady(ready);
+    }
+
+    private void writeToSession(String text) throws IOException {
+        synchronized (writeLock) {
+            Session session = currentSession;
+            if (session == null || !session.isOpen()) {
+                throw new IOException("The session is not open");
+            }
+            session.getBasicRemote().sendText(text);
+        }
+    }
+
+    private void handleReply(String message) {
+        try {
+            RTMMessageReply reply = GSON.fromJson(message, RTMMessageReply.class);
+            if (!messageSender.handleReply(reply)) {
+                log.debug("No message is waiting for the reply: {}", message);
+            }
+        } catch (RuntimeException e) {
+            log.debug("Failed to parse a reply message: {}", message);
+        }
+    }
+
+    private void startPings() {
+        long interval = config.getPingIntervalMillis();
+        if (interval > 0 && pingStarted.compareAndSet(false, true)) {
+            pingTask = supervisor.scheduleWithFixedDelay(this::ping, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void ping() {
+        try {
+            if (reconnecting.get() || !isConnected()) {
+                return;
+            }
+            if (pendingPings.size() >= config.getMaxMissedPongs()) {
+                log.warn("No pong for the last {} pings, the connection seems to be dead", pendingPings.size());
+                pendingPings.clear();
+                startReconnect();
+                return;
+            }
+            long id = nextMessageId();
+            pendingPings.put(id, System.nanoTime());
+            writeToSession("{\"id\":" + id + ",\"type\":\"ping\"}");
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to send a ping", e);
+        }
+    }
+
+    private void handlePong(String message) {
+        try {
+            JsonElement replyTo = GSON.fromJson(message, JsonObject.class).get("reply_to");
+            Long sentAt = replyTo != null && replyTo.isJsonPrimitive() ? pendingPings.remove(replyTo.getAsLong()) : null;
+            if (sentAt != null) {
+                lastPingRoundTripMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentAt);
+                // any pong proves the connection is alive
+                pendingPings.clear();
+            }
+        } catch (RuntimeException e) {
+            log.debug("Failed to parse a pong message: {}", message);
+        }
+    }
+
+    private void saveReconnectUrl(String message) {
+        try {
+            ReconnectUrlEvent event = GSON.fromJson(message, ReconnectUrlEvent.class);
+            if (event.getUrl() != null) {
+                reconnectUri = new URI(event.getUrl());
+            }
+        } catch (URISyntaxException | RuntimeException e) {
+            log.debug("Failed to parse a reconnect_url event: {}", message);
+        }
+    }
+
+    private void startReconnect() {
+        if (!config.isAutoReconnectEnabled() || disconnectRequested) {
+            return;
+        }
+        if (reconnecting.compareAndSet(false, true)) {
+            if (reconnectQueue != null) {
+                reconnectQueue.accept(this);
+                return;
+            }
+            try {
+                supervisor.execute(() -> reconnectAttempt(1));
+            } catch (RejectedExecutionException e) {
+                reconnecting.set(false);
+            }
+        }
+    }
+
+    private void closeCurrentSession() {
+        Session oldSession = currentSession;
+        setReady(false);
+        if (oldSession != null && oldSession.isOpen()) {
+            try {
+                oldSession.close(new CloseReason(CloseReason.CloseCodes.GOING_AWAY, "reconnecting"));
+            } catch (IOException | RuntimeException e) {
+                log.debug("Failed to close the old session: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Closes the current session and starts a new one, with the reconnect_url if any, or with rtm.connect.
+     * Used by the reconnects; the caller calls #endReconnect() once it's done.
+     */
+    void reconnectOnce() throws IOException, SlackApiException, URISyntaxException, DeploymentException {
+        closeCurrentSession();
+        URI uri = reconnectUri;
+        reconnectUri = null;
+        if (uri != null) {
+            wssUri = uri;
+        } else {
+            refreshWssUri();
+        }
+        Session session = getWebSocketContainer().connectToServer(this, wssUri);
+        if (disconnectRequested) {
+            session.close();
+        } else {
+            reconnectCount.incrementAndGet();
+        }
+    }
+
+    void endReconnect() {
+        reconnecting.set(false);
+    }
+
+    /**
+     * Returns true when no more reconnect should be made.
+     */
+    boolean isDisconnectRequested() {
+        return disconnectRequested || closed;
+    }
+
+    // the attempts of a standalone client are scheduled on its own supervisor instead of sleeping in between;
+    // the clients of an RTMConnectionManager don't come here, the blocking handshakes never run on its shared supervisor
+    private void reconnectAttempt(int attempt) {
+        if (isDisconnectRequested()) {
+            endReconnect();
+            return;
+        }
+        long retryAfterMillis = 0L;
+        try {
+            reconnectOnce();
+            log.info("Reconnected to the RTM endpoint (attempt: {})", attempt);
+            endReconnect();
+            return;
+        } catch (SlackApiException e) {
+            if (isTerminalError(e)) {
+                giveUpReconnect(e);
+                return;
+            }
+            if (e.getResponse().code() == 429) {
+                retryAfterMillis = TimeUnit.SECONDS.toMillis(MethodsRateLimiter.parseRetryAfter(e.getResponse().header("Retry-After")));
+            }
+            log.warn("Failed to call rtm.connect (attempt: {}, status: {})", attempt, e.getResponse().code());
+        } catch (IOException | DeploymentException | URISyntaxException | RuntimeException e) {
+            if (isTerminalError(e)) {
+                giveUpReconnect(e);
+                return;
+            }
+            log.warn("Failed to reconnect (attempt: {}, error: {})", attempt, e.getMessage());
+        }
+        long backoff = Math.max(backoffMillis(attempt), retryAfterMillis);
+        log.debug("Reconnecting in {} ms (attempt: {})", backoff, attempt + 1);
+        try {
+            supervisor.schedule(() -> reconnectAttempt(attempt + 1), backoff, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            endReconnect();
+        }
+    }
+
+    private void giveUpReconnect(Exception e) {
+        log.error("Gave up reconnecting to the RTM endpoint: {}", e.getMessage());
+        endReconnect();
+        errorHandlers.forEach(errorHandler -> {
+            errorHandler.handle(e);
+        });
+    }
+
+    long backoffMillis(int retry) {
+        return backoffMillis(config, retry);
+    }
+
+    static long backoffMillis(RTMClientConfig config, int retry) {
+        double exponential = config.getReconnectInitialBackoffMillis() * Math.pow(2, retry - 1);
+        long backoff = (long) Math.min(exponential, config.getReconnectMaxBackoffMillis());
+        double jitter = config.getReconnectJitter();
+        return backoff - (long) (backoff * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    private synchronized WebSocketContainer getWebSocketContainer() {
+        if (webSocketContainer == null) {
+            webSocketContainer = ContainerProvider.getWebSocketContainer();
+        }
+        return webSocketContainer;
+    }
+
     /**
      * Overwrites the underlying WebSocket session.
      *
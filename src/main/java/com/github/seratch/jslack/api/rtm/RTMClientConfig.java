@@ -0,0 +1,116 @@
+package com.github.seratch.jslack.api.rtm;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The connection supervision and message handling settings of RTMClient.
+ * <p>
+ * Set an instance to SlackConfig#rtmClientConfig to change them.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RTMClientConfig {
+
+    public enum OverflowPolicy {
+        /**
+         * Blocks the WebSocket I/O thread until the queue has room, which slows down reading from the socket.
+         */
+        BLOCK,
+        /**
+         * Discards the new message.
+         */
+        DROP,
+        /**
+         * Discards the new message and passes a RejectedExecutionException to the error handlers.
+         */
+        REJECT
+    }
+
+    public static final RTMClientConfig DEFAULT = RTMClientConfig.builder().build();
+
+    /**
+     * How often a ping message is sent to check the connection. 0 disables the pings.
+     */
+    @Builder.Default
+    private long pingIntervalMillis = 30_000L;
+
+    /**
+     * The number of unanswered pings in a row after which the connection is considered dead.
+     */
+    @Builder.Default
+    private int maxMissedPongs = 2;
+
+    /**
+     * Reconnects when the session is closed by anything other than RTMClient#disconnect(),
+     * when the pongs stop arriving, or when Slack sends a goodbye event.
+     */
+    @Builder.Default
+    private boolean autoReconnectEnabled = true;
+
+    @Builder.Default
+    private long reconnectInitialBackoffMillis = 1_000L;
+
+    /**
+     * rtm.connect is a Tier 1 method (1+ per minute), so the backoff grows up to a minute by default.
+     */
+    @Builder.Default
+    private long reconnectMaxBackoffMillis = 60_000L;
+
+    /**
+     * The ratio of the backoff randomly reduced (0.0: no jitter, 1.0: full jitter).
+     */
+    @Builder.Default
+    private double reconnectJitter = 0.5d;
+
+    /**
+     * The max number of messages waiting to be written, including the ones held while the session is being
+     * (re)established. RTMClient#sendMessage throws an IllegalStateException when it's full.
+     */
+    @Builder.Default
+    private int sendBufferSize = 1000;
+
+    /**
+     * The max number of messages sent by RTMClient#sendMessage(Message) and not replied yet.
+     * The writer waits for a reply (or its timeout) before sending more of them.
+     */
+    @Builder.Default
+    private int maxInFlightMessages = 10;
+
+    /**
+     * How long a message sent by RTMClient#sendMessage(Message) waits for the reply since it was queued.
+     */
+    @Builder.Default
+    private long replyTimeoutMillis = 10_000L;
+
+    /**
+     * The number of times the writer tries to send a message while the session is ready before giving it up
+     * (the future of RTMClient#sendMessage(Message) fails with the last error), so that a message
+     * the socket keeps failing to write doesn't block the ones behind it.
+     */
+    @Builder.Default
+    private int maxSendAttempts = 5;
+
+    /**
+     * The number of threads running the message handlers. 0 runs them on the WebSocket I/O thread.
+     * With 1 or more threads, the messages in the same channel are handled in order by the same thread.
+     */
+    @Builder.Default
+    private int messageHandlerThreads = 0;
+
+    /**
+     * The max number of messages waiting for the message handler threads.
+     */
+    @Builder.Default
+    private int messageQueueCapacity = 10000;
+
+    @Builder.Default
+    private OverflowPolicy messageQueueOverflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * How long RTMClient#close() waits for the queued messages to be handled.
+     */
+    @Builder.Default
+    private long messageQueueShutdownTimeoutMillis = 10_000L;
+
+}
@@ -0,0 +1,468 @@
+package com.github.seratch.jslack.api.rtm;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.api.methods.MethodsClient;
+import com.github.seratch.jslack.api.methods.MethodsRateLimiter;
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.request.rtm.RTMConnectRequest;
+import com.github.seratch.jslack.api.methods.response.rtm.RTMConnectResponse;
+import com.github.seratch.jslack.common.json.ChannelIdDetector;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.websocket.ContainerProvider;
+import javax.websocket.DeploymentException;
+import javax.websocket.WebSocketContainer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps RTM connections to many workspaces with shared resources.
+ * <p>
+ * All the clients share one WebSocket container, one supervisor thread pool running their pings and reply timeouts,
+ * and one writer thread pool sending their outbound messages.
+ * The connections, including the reconnects of the clients (e.g., after goodbye events sent to all of them),
+ * are established one by one on a dedicated thread at RTMConnectionManagerConfig#connectIntervalMillis,
+ * so that they don't send a burst of rtm.connect requests and the slow handshakes never delay the pings.
+ * The bot user comes from the rtm.connect response, so no users.info call is made per workspace.
+ * <p>
+ * The messages from all the workspaces go to a single RTMEventsDispatcher along with their team ID
+ * (see RTMEventHandler#handle(String, Event)).
+ */
+@Slf4j
+public class RTMConnectionManager implements Closeable {
+
+    private final Slack slack;
+    private final MethodsClient methods;
+    private final RTMEventsDispatcher dispatcher;
+    private final RTMConnectionManagerConfig config;
+    private final RTMClientConfig clientConfig;
+
+    private final WebSocketContainer webSocketContainer;
+    private final ScheduledExecutorService supervisor;
+    // writes the outbound messages of all the clients; each client's messages are written one at a time
+    private final ExecutorService writer;
+    // runs rtm.connect and the WebSocket handshakes one by one
+    private final ExecutorService connector;
+    // runs the dispatcher off the WebSocket I/O threads; null when messageHandlerThreads is 0
+    private final RTMMessageQueue<TeamMessage> messageQueue;
+
+    // team ID -> workspace
+    private final ConcurrentMap<String, Workspace> workspaces = new ConcurrentHashMap<>();
+    private final BlockingQueue<PendingConnect> connectQueue = new LinkedBlockingQueue<>();
+    private final LongAdder connectFailureCount = new LongAdder();
+    private volatile boolean closed = false;
+
+    private static class Workspace {
+        private final String teamId;
+        private final String botApiToken;
+        private final RTMClient client;
+        private volatile long lastHealthyMillis = System.currentTimeMillis();
+        private final AtomicBoolean restartQueued = new AtomicBoolean(false);
+        private final AtomicLong restartCount = new AtomicLong(0L);
+        // the error the manager gave up connecting again with (e.g., invalid_auth); null while it's managed normally
+        private volatile Exception failure;
+
+        private Workspace(String teamId, String botApiToken, RTMClient client) {
+            this.teamId = teamId;
+            this.botApiToken = botApiToken;
+            this.client = client;
+        }
+    }
+
+    private static class PendingConnect {
+        private final String botApiToken;
+        // completed with the team ID; null for a restart or a reconnect
+        private final CompletableFuture<String> future;
+        // the workspace to restart or reconnect; null for a new one
+        private final Workspace workspace;
+        // true when the health check found the workspace disconnected, false when its client asked for a reconnect
+        private final boolean restart;
+        private int attempt = 0;
+
+        private PendingConnect(String botApiToken, CompletableFuture<String> future, Workspace workspace, boolean restart) {
+            this.botApiToken = botApiToken;
+            this.future = future;
+            this.workspace = workspace;
+            this.restart = restart;
+        }
+    }
+
+    private static class TeamMessage {
+        private final String teamId;
+        private final String json;
+
+        private TeamMessage(String teamId, String json) {
+            this.teamId = teamId;
+            this.json = json;
+        }
+    }
+
+    public RTMConnectionManager(Slack slack, RTMEventsDispatcher dispatcher) {
+        this(slack, slack.methods(), dispatcher, RTMConnectionManagerConfig.DEFAULT);
+    }
+
+    public RTMConnectionManager(Slack slack,
+                                MethodsClient methods,
+                                RTMEventsDispatcher dispatcher,
+                                RTMConnectionManagerConfig config) {
+        this.slack = slack;
+        this.methods = methods;
+        this.dispatcher = dispatcher;
+        this.config = config;
+        // the clients only pass the messages to this manager's queue
+        this.clientConfig = RTMClient.rtmClientConfig(slack).toBuilder().messageHandlerThreads(0).build();
+        this.webSocketContainer = ContainerProvider.getWebSocketContainer();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.supervisor = Executors.newScheduledThreadPool(config.getSupervisorThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "jslack-rtm-manager-supervisor-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger writerThreadCount = new AtomicInteger();
+        this.writer = Executors.newFixedThreadPool(config.getWriterThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "jslack-rtm-manager-writer-" + writerThreadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.connector = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jslack-rtm-manager-connector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.messageQueue = config.getMessageHandlerThreads() > 0
+                ? new RTMMessageQueue<>(config.getMessageHandlerThreads(), config.getMessageQueueCapacity(),
+                config.getMessageQueueOverflowPolicy(), RTMConnectionManager::laneKey, this::dispatch)
+                : null;
+        this.connector.execute(this::runConnectLoop);
+        this.supervisor.scheduleWithFixedDelay(this::checkHealth,
+                config.getHealthCheckIntervalMillis(), config.getHealthCheckIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues a connection to the workspace of the bot token.
+     * The returned future is completed with the team ID once connected. A failure of rtm.connect other than
+     * rate limiting and server errors (e.g., invalid_auth) completes it exceptionally; the others are retried.
+     * Adding a workspace already connected completes it without another connection.
+     */
+    public CompletableFuture<String> addWorkspace(String botApiToken) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        if (closed) {
+            future.completeExceptionally(new IllegalStateException("This RTM connection manager has been closed"));
+            return future;
+        }
+        connectQueue.add(new PendingConnect(botApiToken, future, null, false));
+        return future;
+    }
+
+    /**
+     * Disconnects from the workspace and stops managing it.
+     * A workspace marked as failed (see RTMWorkspaceHealth#isFailed()) needs to be removed and added again.
+     *
+     * @return false when the workspace isn't managed
+     */
+    public boolean removeWorkspace(String teamId) throws IOException {
+        Workspace workspace = workspaces.remove(teamId);
+        if (workspace == null) {
+            return false;
+        }
+        workspace.client.close();
+        return true;
+    }
+
+    /**
+     * Returns the client of the workspace (e.g., to send messages), or null when the workspace isn't managed.
+     */
+    public RTMClient getClient(String teamId) {
+        Workspace workspace = workspaces.get(teamId);
+        return workspace != null ? workspace.client : null;
+    }
+
+    /**
+     * Returns a snapshot of the managed team IDs. Call #removeWorkspace(String) to stop managing one.
+     */
+    public Set<String> getTeamIds() {
+        return Collections.unmodifiableSet(new HashSet<>(workspaces.keySet()));
+    }
+
+    public RTMWorkspaceHealth getHealth(String teamId) {
+        Workspace workspace = workspaces.get(teamId);
+        return workspace != null ? toHealth(workspace) : null;
+    }
+
+    public List<RTMWorkspaceHealth> getHealth() {
+        List<RTMWorkspaceHealth> health = new ArrayList<>();
+        for (Workspace workspace : workspaces.values()) {
+            health.add(toHealth(workspace));
+        }
+        return health;
+    }
+
+    public RTMConnectionManagerMetrics getMetrics() {
+        RTMConnectionManagerMetrics metrics = RTMConnectionManagerMetrics.builder()
+                .pendingConnectCount(connectQueue.size())
+                .connectFailureCount(connectFailureCount.sum())
+                .maxPingRoundTripMillis(-1L)
+                .messageQueueSize(messageQueue != null ? messageQueue.size() : 0)
+                .droppedMessageCount(messageQueue != null ? messageQueue.getDroppedCount() + messageQueue.getRejectedCount() : 0L)
+                .build();
+        for (Workspace workspace : workspaces.values()) {
+            RTMWorkspaceHealth health = toHealth(workspace);
+            metrics.setWorkspaceCount(metrics.getWorkspaceCount() + 1);
+            if (health.isConnected()) {
+                metrics.setConnectedCount(metrics.getConnectedCount() + 1);
+            }
+            if (health.isReconnecting()) {
+                metrics.setReconnectingCount(metrics.getReconnectingCount() + 1);
+            }
+            if (health.isFailed()) {
+                metrics.setFailedCount(metrics.getFailedCount() + 1);
+            }
+            metrics.setReconnectCount(metrics.getReconnectCount() + health.getReconnectCount());
+            metrics.setRestartCount(metrics.getRestartCount() + health.getRestartCount());
+            metrics.setMaxPingRoundTripMillis(Math.max(metrics.getMaxPingRoundTripMillis(), health.getLastPingRoundTripMillis()));
+            metrics.setSendQueueSize(metrics.getSendQueueSize() + health.getSendQueueSize());
+            metrics.setAwaitingReplyCount(metrics.getAwaitingReplyCount() + health.getAwaitingReplyCount());
+        }
+        return metrics;
+    }
+
+    /**
+     * Disconnects from all the workspaces. The connections not established yet are completed exceptionally.
+     * This instance can't be used after calling this method.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        supervisor.shutdownNow();
+        writer.shutdownNow();
+        connector.shutdownNow();
+        PendingConnect pending;
+        while ((pending = connectQueue.poll()) != null) {
+            if (pending.future != null) {
+                pending.future.completeExceptionally(new IllegalStateException("This RTM connection manager has been closed"));
+            }
+        }
+        for (String teamId : new ArrayList<>(workspaces.keySet())) {
+            try {
+                removeWorkspace(teamId);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to disconnect from {}: {}", teamId, e.getMessage());
+            }
+        }
+        if (messageQueue != null) {
+            messageQueue.stop(config.getMessageQueueShutdownTimeoutMillis());
+        }
+    }
+
+    // ------------------------------
+    // connections
+
+    private void runConnectLoop() {
+        try {
+            while (!closed) {
+                connect(connectQueue.take());
+                TimeUnit.MILLISECONDS.sleep(config.getConnectIntervalMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void connect(PendingConnect pending) {
+        if (closed) {
+            fail(pending, new IllegalStateException("This RTM connection manager has been closed"));
+            return;
+        }
+        long retryAfterMillis = 0L;
+        try {
+            if (pending.workspace == null) {
+                establish(pending);
+            } else if (pending.restart) {
+                restart(pending.workspace);
+            } else {
+                reconnect(pending.workspace);
+            }
+            return;
+        } catch (SlackApiException e) {
+            int status = e.getResponse().code();
+            if (status == 429) {
+                retryAfterMillis = TimeUnit.SECONDS.toMillis(MethodsRateLimiter.parseRetryAfter(e.getResponse().header("Retry-After")));
+            } else if (RTMClient.isTerminalError(e)) {
+                fail(pending, e);
+                return;
+            }
+            log.warn("Failed to call rtm.connect (attempt: {}, status: {})", pending.attempt + 1, status);
+        } catch (IOException | DeploymentException | URISyntaxException e) {
+            log.warn("Failed to connect (attempt: {}, error: {})", pending.attempt + 1, e.getMessage());
+        } catch (RuntimeException e) {
+            if (pending.workspace == null || RTMClient.isTerminalError(e)) {
+                fail(pending, e);
+                return;
+            }
+            log.warn("Failed to connect (attempt: {}, error: {})", pending.attempt + 1, e.getMessage());
+        }
+        connectFailureCount.increment();
+        pending.attempt++;
+        long backoff = Math.max(RTMClient.backoffMillis(clientConfig, pending.attempt), retryAfterMillis);
+        try {
+            supervisor.schedule(() -> connectQueue.add(pending), backoff, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            fail(pending, new IllegalStateException("This RTM connection manager has been closed"));
+        }
+    }
+
+    private void establish(PendingConnect pending)
+            throws IOException, SlackApiException, URISyntaxException, DeploymentException {
+        RTMConnectResponse response = methods.rtmConnect(RTMConnectRequest.builder().token(pending.botApiToken).build());
+        if (!response.isOk()) {
+            throw new RTMClient.RTMConnectError(response.getError());
+        }
+        if (response.getTeam() == null || response.getTeam().getId() == null) {
+            throw new IllegalStateException("The team data is absent in the rtm.connect response");
+        }
+        String teamId = response.getTeam().getId();
+        if (workspaces.containsKey(teamId)) {
+            pending.future.complete(teamId);
+            return;
+        }
+        RTMClient client = new RTMClient(slack, methods, pending.botApiToken, response.getUrl(), response.getSelf(),
+                clientConfig, webSocketContainer, supervisor, writer, reconnecting -> queueReconnect(teamId, reconnecting));
+        client.addMessageHandler(message -> onMessage(teamId, message));
+        try {
+            client.connect();
+        } catch (IOException | DeploymentException | RuntimeException e) {
+            client.close();
+            throw e;
+        }
+        workspaces.put(teamId, new Workspace(teamId, pending.botApiToken, client));
+        log.info("Connected to the workspace: {}", teamId);
+        if (closed) {
+            removeWorkspace(teamId);
+        }
+        pending.future.complete(teamId);
+    }
+
+    private void restart(Workspace workspace)
+            throws IOException, SlackApiException, URISyntaxException, DeploymentException {
+        if (workspaces.get(workspace.teamId) != workspace) {
+            // removed meanwhile
+            return;
+        }
+        workspace.client.reconnect();
+        workspace.restartCount.incrementAndGet();
+        workspace.lastHealthyMillis = System.currentTimeMillis();
+        workspace.restartQueued.set(false);
+        log.info("Connected to the workspace again: {}", workspace.teamId);
+    }
+
+    private void reconnect(Workspace workspace)
+            throws IOException, SlackApiException, URISyntaxException, DeploymentException {
+        RTMClient client = workspace.client;
+        if (workspaces.get(workspace.teamId) != workspace || client.isDisconnectRequested()) {
+            // removed meanwhile
+            client.endReconnect();
+            return;
+        }
+        client.reconnectOnce();
+        client.endReconnect();
+        workspace.lastHealthyMillis = System.currentTimeMillis();
+        log.info("Reconnected to the workspace: {}", workspace.teamId);
+    }
+
+    private void queueReconnect(String teamId, RTMClient client) {
+        Workspace workspace = workspaces.get(teamId);
+        if (closed || workspace == null || workspace.client != client) {
+            // not managed (yet); the health check connects it again once it's added
+            client.endReconnect();
+            return;
+        }
+        connectQueue.add(new PendingConnect(workspace.botApiToken, null, workspace, false));
+    }
+
+    private void fail(PendingConnect pending, Exception e) {
+        connectFailureCount.increment();
+        if (pending.future != null) {
+            pending.future.completeExceptionally(e);
+            return;
+        }
+        if (RTMClient.isTerminalError(e)) {
+            log.error("Gave up connecting to the workspace {} again: {}", pending.workspace.teamId, e.getMessage());
+            pending.workspace.failure = e;
+        }
+        if (pending.restart) {
+            pending.workspace.restartQueued.set(false);
+        } else {
+            pending.workspace.client.endReconnect();
+        }
+    }
+
+    private void checkHealth() {
+        long now = System.currentTimeMillis();
+        for (Workspace workspace : workspaces.values()) {
+            RTMClient client = workspace.client;
+            if (workspace.failure != null) {
+                continue;
+            }
+            if (client.isConnected() || client.isReconnecting()) {
+                workspace.lastHealthyMillis = now;
+            } else if (now - workspace.lastHealthyMillis >= config.getHealthCheckIntervalMillis()
+                    && workspace.restartQueued.compareAndSet(false, true)) {
+                log.warn("The workspace {} has been disconnected for {} ms, connecting again",
+                        workspace.teamId, now - workspace.lastHealthyMillis);
+                connectQueue.add(new PendingConnect(workspace.botApiToken, null, workspace, true));
+            }
+        }
+    }
+
+    // ------------------------------
+    // messages
+
+    private void onMessage(String teamId, String message) {
+        if (messageQueue == null) {
+            dispatcher.dispatch(teamId, message);
+            return;
+        }
+        try {
+            messageQueue.enqueue(new TeamMessage(teamId, message));
+        } catch (RejectedExecutionException e) {
+            log.warn("Rejected a message from {}: {}", teamId, e.getMessage());
+        }
+    }
+
+    private void dispatch(TeamMessage message) {
+        dispatcher.dispatch(message.teamId, message.json);
+    }
+
+    private static String laneKey(TeamMessage message) {
+        // the channel IDs are hashed along with the team ID; the events without a channel keep their order per team
+        String channelId = ChannelIdDetector.detectFromRTMMessage(message.json);
+        return channelId != null ? message.teamId + ":" + channelId : message.teamId;
+    }
+
+    private static RTMWorkspaceHealth toHealth(Workspace workspace) {
+        RTMClient client = workspace.client;
+        return RTMWorkspaceHealth.builder()
+                .teamId(workspace.teamId)
+                .connected(client.isConnected())
+                .reconnecting(client.isReconnecting())
+                .lastPingRoundTripMillis(client.getLastPingRoundTripMillis())
+                .reconnectCount(client.getReconnectCount())
+                .restartCount(workspace.restartCount.get())
+                .failed(workspace.failure != null)
+                .sendQueueSize(client.getSendQueueSize())
+                .awaitingReplyCount(client.getAwaitingReplyCount())
+                .build();
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.github.seratch.jslack.api.rtm;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The settings of RTMConnectionManager.
+ * <p>
+ * The clients of the workspaces are supervised as configured by SlackConfig#rtmClientConfig,
+ * except that the message handler threads below are shared instead of RTMClientConfig#messageHandlerThreads.
+ */
+@Getter
+@Builder
+public class RTMConnectionManagerConfig {
+
+    public static final RTMConnectionManagerConfig DEFAULT = RTMConnectionManagerConfig.builder().build();
+
+    /**
+     * The interval between two connection establishments (rtm.connect + WebSocket handshake),
+     * so that adding many workspaces or reconnecting them doesn't send a burst of rtm.connect requests.
+     */
+    @Builder.Default
+    private long connectIntervalMillis = 200L;
+
+    /**
+     * The number of threads running the pings, the reply timeouts and the health checks of all the workspaces.
+     * The connections are established on another thread, so these threads are never blocked by a handshake.
+     */
+    @Builder.Default
+    private int supervisorThreads = 2;
+
+    /**
+     * The number of threads sending the outbound messages of all the workspaces.
+     * The messages of a workspace are still sent one at a time in the order they were given.
+     */
+    @Builder.Default
+    private int writerThreads = 2;
+
+    /**
+     * How often the workspaces are checked. A workspace neither connected nor reconnecting
+     * for this long (e.g., autoReconnectEnabled is false) is connected again.
+     */
+    @Builder.Default
+    private long healthCheckIntervalMillis = 10_000L;
+
+    /**
+     * The number of threads running the dispatcher for all the workspaces. 0 runs it on the WebSocket I/O threads.
+     * With 1 or more threads, the messages in the same channel are handled in order by the same thread.
+     */
+    @Builder.Default
+    private int messageHandlerThreads = 4;
+
+    /**
+     * The max number of messages waiting for the message handler threads.
+     */
+    @Builder.Default
+    private int messageQueueCapacity = 10000;
+
+    @Builder.Default
+    private RTMClientConfig.OverflowPolicy messageQueueOverflowPolicy = RTMClientConfig.OverflowPolicy.BLOCK;
+
+    /**
+     * How long RTMConnectionManager#close() waits for the queued messages to be handled.
+     */
+    @Builder.Default
+    private long messageQueueShutdownTimeoutMillis = 10_000L;
+
+}
@@ -0,0 +1,35 @@
+package com.github.seratch.jslack.api.rtm;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * The aggregate metrics of the workspaces managed by RTMConnectionManager.
+ */
+@Data
+@Builder
+public class RTMConnectionManagerMetrics {
+
+    private int workspaceCount;
+    private int connectedCount;
+    private int reconnectingCount;
+    /**
+     * The number of the workspaces the manager gave up connecting again (see RTMWorkspaceHealth#isFailed()).
+     */
+    private int failedCount;
+    /**
+     * The number of the connection establishments waiting for their turn.
+     */
+    private int pendingConnectCount;
+    private long connectFailureCount;
+    private long reconnectCount;
+    private long restartCount;
+    /**
+     * -1 if no pong has arrived yet.
+     */
+    private long maxPingRoundTripMillis;
+    private int messageQueueSize;
+    private long droppedMessageCount;
+    private int sendQueueSize;
+    private int awaitingReplyCount;
+}
@@ -62,13 +62,34 @@ public abstract class RTMEventHandler<E extends Event> {
      */
     public abstract void handle(E event);
 
+    /**
+     * Receives the events dispatched with the team ID of the workspace (e.g., by RTMConnectionManager).
+     * Override this method to know which workspace an event came from.
+     *
+     * @param teamId the team ID, or null when the dispatcher doesn't know it
+     * @param event  event data
+     */
+    public void handle(String teamId, E event) {
+        handle(event);
+    }
+
     /**
      * Used only internally.
      *
      * @param event event data
      */
     public void acceptUntypedObject(Object event) {
-        handle((E) event);
+        acceptUntypedObject(null, event);
+    }
+
+    /**
+     * Used only internally.
+     *
+     * @param teamId the team ID, or null when the dispatcher doesn't know it
+     * @param event  event data
+     */
+    public void acceptUntypedObject(String teamId, Object event) {
+        handle(teamId, (E) event);
     }
 
 }
\ No newline at end of file
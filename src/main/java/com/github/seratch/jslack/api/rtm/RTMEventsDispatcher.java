@@ -22,6 +22,15 @@ public interface RTMEventsDispatcher {
      */
     void dispatch(String json);
 
+    /**
+     * Dispatches requests from the workspace to appropriate event handlers.
+     *
+     * @see RTMEventHandler#handle(String, Event)
+     */
+    default void dispatch(String teamId, String json) {
+        dispatch(json);
+    }
+
     /**
      * Converts this dispatcher to {@link RTMMessageHandler}.
      */
@@ -2,55 +2,65 @@ package com.github.seratch.jslack.api.rtm;
 
 import com.github.seratch.jslack.api.model.event.Event;
 import com.github.seratch.jslack.common.json.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Slf4j
 public class RTMEventsDispatcherImpl implements RTMEventsDispatcher {
 
+    private static final Gson GSON = GsonFactory.createSnakeCase();
+
+    // copy-on-write lists: dispatching never locks and never sees a list being modified
     private final ConcurrentMap<String, List<RTMEventHandler<?>>> eventTypeAndHandlers = new ConcurrentHashMap<>();
 
     @Override
     public void register(RTMEventHandler<? extends Event> handler) {
-        String eventType = handler.getEventType();
-        List<RTMEventHandler<?>> handlers = eventTypeAndHandlers.getOrDefault(eventType, new ArrayList<>());
-        handlers.add(handler);
-        eventTypeAndHandlers.put(eventType, handlers);
+        eventTypeAndHandlers.computeIfAbsent(handler.getEventType(), type -> new CopyOnWriteArrayList<>()).add(handler);
     }
 
     @Override
     public void deregister(RTMEventHandler<? extends Event> handler) {
-        String eventType = handler.getEventType();
-        List<RTMEventHandler<?>> handlers = eventTypeAndHandlers.getOrDefault(eventType, new ArrayList<>());
-        List<RTMEventHandler<?>> newHandlers = new ArrayList<>();
-        for (RTMEventHandler<?> h : handlers) {
-            if (!h.equals(handler)) {
-                newHandlers.add(h);
-            }
+        List<RTMEventHandler<?>> handlers = eventTypeAndHandlers.get(handler.getEventType());
+        if (handlers != null) {
+            handlers.removeIf(h -> h.equals(handler));
         }
-        eventTypeAndHandlers.put(eventType, newHandlers);
     }
 
     @Override
     public void dispatch(String json) {
+        dispatch(null, json);
+    }
+
+    @Override
+    public void dispatch(String teamId, String json) {
         String eventType = detectEventType(json);
         if (eventType == null) {
             log.debug("Failed to detect event type from the given JSON data: {}", json);
             return;
         }
 
+        // iterates over a snapshot; handlers (de)registered meanwhile take effect from the next event
         List<RTMEventHandler<?>> RTMEventHandlers = eventTypeAndHandlers.get(eventType);
-        if (RTMEventHandlers == null || RTMEventHandlers.size() == 0) {
+        Iterator<RTMEventHandler<?>> snapshot = RTMEventHandlers != null ? RTMEventHandlers.iterator() : Collections.emptyIterator();
+        if (!snapshot.hasNext()) {
             log.debug("No event handler registered for type: {}", eventType);
         } else {
-            Class<?> clazz = RTMEventHandlers.get(0).getEventClass();
-            Event event = (Event) GsonFactory.createSnakeCase().fromJson(json, clazz);
-            for (RTMEventHandler<?> handler : RTMEventHandlers) {
-                handler.acceptUntypedObject(event);
+            RTMEventHandler<?> first = snapshot.next();
+            Event event = (Event) GSON.fromJson(json, first.getEventClass());
+            first.acceptUntypedObject(teamId, event);
+            while (snapshot.hasNext()) {
+                snapshot.next().acceptUntypedObject(teamId, event);
             }
         }
     }
@@ -63,36 +73,22 @@ public class RTMEventsDispatcherImpl implements RTMEventsDispatcher {
         return messageHandler;
     }
 
+    /**
+     * Reads the top-level type value without copying or parsing the whole message.
+     */
     static String detectEventType(String json) {
-        StringBuilder sb = new StringBuilder();
-        char[] chars = json.toCharArray();
-        for (int idx = 0; idx < (chars.length - 6); idx++) {
-            if (chars[idx] == '"'
-                    && chars[idx + 1] == 't'
-                    && chars[idx + 2] == 'y'
-                    && chars[idx + 3] == 'p'
-                    && chars[idx + 4] == 'e'
-                    && chars[idx + 5] == '"'
-                    && chars[idx + 6] == ':') {
-                idx = idx + 7;
-                int doubleQuoteCount = 0;
-                boolean isPreviousCharEscape = false;
-                while (doubleQuoteCount < 2 && idx < chars.length) {
-                    char c = chars[idx];
-                    if (c == '"' && !isPreviousCharEscape) {
-                        doubleQuoteCount++;
-                    } else {
-                        if (doubleQuoteCount == 1) {
-                            sb.append(c);
-                        }
-                    }
-                    isPreviousCharEscape = c == '\\';
-                    idx++;
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("type") && reader.peek() == JsonToken.STRING) {
+                    return reader.nextString();
                 }
-                break;
+                reader.skipValue();
             }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to detect event type from the given JSON data: {}", json);
         }
-        return sb.toString();
+        return null;
     }
 
 }
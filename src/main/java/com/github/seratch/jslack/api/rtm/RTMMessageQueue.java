@@ -0,0 +1,75 @@
+package com.github.seratch.jslack.api.rtm;
+
+import com.github.seratch.jslack.common.concurrent.KeyedWorkQueue;
+import com.github.seratch.jslack.common.json.ChannelIdDetector;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The inbound queue of RTMClient and RTMConnectionManager, which runs the message handlers off the WebSocket I/O thread.
+ * <p>
+ * Each lane has a single worker thread and the messages are hashed by their lane key (the channel ID),
+ * so the messages in the same channel are handled in order while different channels are handled in parallel.
+ * The threads start with the first message, so that an RTMClient never connected holds none of them.
+ *
+ * @param <M> the type of the queued messages
+ */
+class RTMMessageQueue<M> {
+
+    private final RTMClientConfig.OverflowPolicy overflowPolicy;
+    private final KeyedWorkQueue<M> lanes;
+
+    /**
+     * Creates a queue of the raw JSON messages, hashed by their channel ID.
+     */
+    static RTMMessageQueue<String> forMessages(int threads, int capacity, RTMClientConfig.OverflowPolicy overflowPolicy,
+                                               Consumer<String> handler) {
+        return new RTMMessageQueue<>(threads, capacity, overflowPolicy, ChannelIdDetector::detectFromRTMMessage, handler);
+    }
+
+    /**
+     * @param laneKey returns the key of the lane for a message, or null to pick any lane
+     */
+    RTMMessageQueue(int threads, int capacity, RTMClientConfig.OverflowPolicy overflowPolicy,
+                    Function<M, String> laneKey, Consumer<M> handler) {
+        if (threads <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("threads and capacity must be positive");
+        }
+        this.overflowPolicy = overflowPolicy;
+        this.lanes = new KeyedWorkQueue<>("jslack-rtm-message-handler", threads, 1, capacity,
+                laneKey, handler, "This RTM client has been closed");
+    }
+
+    /**
+     * Adds the message to the lane of its channel, following the overflow policy when the lane is full.
+     *
+     * @return false when the message has been dropped
+     * @throws RejectedExecutionException when the policy is REJECT and the lane is full, or after #stop()
+     */
+    boolean enqueue(M message) {
+        lanes.start();
+        return lanes.enqueue(message, KeyedWorkQueue.OverflowPolicy.valueOf(overflowPolicy.name()));
+    }
+
+    /**
+     * Stops accepting new messages and waits for the queued ones to be handled until the timeout passes.
+     */
+    void stop(long timeoutMillis) {
+        lanes.stop(timeoutMillis);
+    }
+
+    int size() {
+        return lanes.size();
+    }
+
+    long getDroppedCount() {
+        return lanes.getDroppedCount();
+    }
+
+    long getRejectedCount() {
+        return lanes.getRejectedCount();
+    }
+
+}
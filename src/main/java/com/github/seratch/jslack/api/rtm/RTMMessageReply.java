@@ -0,0 +1,24 @@
+package com.github.seratch.jslack.api.rtm;
+
+import lombok.Data;
+
+/**
+ * The reply Slack sends back for a message sent over RTM, correlated by reply_to with the message ID.
+ * <p>
+ * https://api.slack.com/rtm#sending_messages
+ */
+@Data
+public class RTMMessageReply {
+
+    private boolean ok;
+    private Long replyTo;
+    private String ts;
+    private String text;
+    private Error error;
+
+    @Data
+    public static class Error {
+        private Integer code;
+        private String msg;
+    }
+}
@@ -0,0 +1,318 @@
+package com.github.seratch.jslack.api.rtm;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * The outbound queue of RTMClient.
+ * <p>
+ * The messages are written in the order they were queued, and only while the session is ready, by a drain task
+ * on the given executor. At most one drain task of a sender is queued or running at a time, so the writes never
+ * overlap, and an executor can be shared by many senders (e.g., the clients of an RTMConnectionManager)
+ * instead of each of them holding a thread. A drain task writes a limited number of messages before
+ * giving the thread to the other senders, and never waits: it ends when there is nothing it can write,
+ * and a new one is submitted when there is again.
+ * <p>
+ * The messages waiting for a reply from Slack are limited to maxInFlight; no more of them are written until
+ * a reply arrives or a reply times out, so that the queue fills up and the senders get rejected instead of
+ * flooding the socket. A message the transport keeps failing to write is given up after maxAttempts,
+ * so that it doesn't block the ones behind it.
+ * <p>
+ * Nothing is submitted to the executors before #start() (RTMClient#connect()).
+ */
+@Slf4j
+class RTMMessageSender {
+
+    // waits before retrying a message the transport failed to write
+    private static final long RETRY_INTERVAL_MILLIS = 100L;
+    // the max number of messages a drain task writes before giving the thread to the other senders
+    private static final int MAX_WRITES_PER_DRAIN = 64;
+
+    @FunctionalInterface
+    interface Transport {
+        void send(String text) throws IOException;
+    }
+
+    private static class Outgoing {
+        private final Long id;
+        private final String text;
+        // null when no reply is expected
+        private final CompletableFuture<RTMMessageReply> future;
+        private final long queuedAt = System.nanoTime();
+        // touched only by the drain tasks, which never run at the same time
+        private boolean permitAcquired;
+        private int failedAttempts;
+
+        private Outgoing(Long id, String text, CompletableFuture<RTMMessageReply> future) {
+            this.id = id;
+            this.text = text;
+            this.future = future;
+        }
+    }
+
+    private final Transport transport;
+    private final ScheduledExecutorService scheduler;
+    private final Executor writer;
+    private final int capacity;
+    private final long replyTimeoutMillis;
+    private final int maxAttempts;
+    private final Semaphore inFlight;
+
+    private final Deque<Outgoing> queue = new ArrayDeque<>();
+    private final ConcurrentMap<Long, Outgoing> awaitingReply = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private boolean ready = false;
+    private boolean closed = false;
+    private boolean started = false;
+    // true while a drain task is queued, scheduled for a retry or running
+    private boolean draining = false;
+
+    /**
+     * @param scheduler runs the reply timeouts and delays the retries
+     * @param writer    runs the drain tasks writing the messages
+     */
+    RTMMessageSender(Transport transport, ScheduledExecutorService scheduler, Executor writer,
+                     int capacity, int maxInFlight, long replyTimeoutMillis, int maxAttempts) {
+        if (capacity <= 0 || maxInFlight <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("capacity, maxInFlight and maxAttempts must be positive");
+        }
+        this.transport = transport;
+        this.scheduler = scheduler;
+        this.writer = writer;
+        this.capacity = capacity;
+        this.replyTimeoutMillis = replyTimeoutMillis;
+        this.maxAttempts = maxAttempts;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Starts writing and the reply timeouts of the messages queued so far. Does nothing after the first call.
+     */
+    void start() {
+        synchronized (lock) {
+            if (started || closed) {
+                return;
+            }
+            started = true;
+            for (Outgoing outgoing : queue) {
+                scheduleTimeout(outgoing);
+            }
+            startDrain();
+        }
+    }
+
+    /**
+     * Queues a message no reply is expected for.
+     *
+     * @throws IllegalStateException when the queue is full or closed
+     */
+    void enqueue(String text) {
+        add(new Outgoing(null, text, null));
+    }
+
+    /**
+     * Queues a message and returns the future completed with the reply whose reply_to is the id.
+     * The future fails with a TimeoutException when no reply arrives within the timeout since it was queued.
+     *
+     * @throws IllegalStateException when the queue is full or closed
+     */
+    CompletableFuture<RTMMessageReply> enqueue(long id, String text) {
+        CompletableFuture<RTMMessageReply> future = new CompletableFuture<>();
+        Outgoing outgoing = new Outgoing(id, text, future);
+        // registered first, the reply can arrive as soon as the writer takes the message
+        awaitingReply.put(id, outgoing);
+        try {
+            add(outgoing);
+        } catch (IllegalStateException e) {
+            awaitingReply.remove(id);
+            throw e;
+        }
+        future.whenComplete((reply, e) -> awaitingReply.remove(id));
+        return future;
+    }
+
+    private void add(Outgoing outgoing) {
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("This RTM client has been closed");
+            }
+            if (queue.size() >= capacity) {
+                throw new IllegalStateException("The send buffer is full (size: " + queue.size() + ")");
+            }
+            queue.add(outgoing);
+            if (started) {
+                scheduleTimeout(outgoing);
+            }
+            startDrain();
+        }
+    }
+
+    // the timeouts are scheduled once started, so that the scheduler doesn't start a thread before RTMClient#connect()
+    private void scheduleTimeout(Outgoing outgoing) {
+        if (outgoing.future == null) {
+            return;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - outgoing.queuedAt);
+        try {
+            ScheduledFuture<?> timeout = scheduler.schedule(() -> {
+                outgoing.future.completeExceptionally(new TimeoutException(
+                        "No reply for the message (id: " + outgoing.id + ") in " + replyTimeoutMillis + " ms"));
+            }, Math.max(0L, replyTimeoutMillis - elapsedMillis), TimeUnit.MILLISECONDS);
+            outgoing.future.whenComplete((reply, e) -> timeout.cancel(false));
+        } catch (RejectedExecutionException e) {
+            outgoing.future.completeExceptionally(new IllegalStateException("This RTM client has been closed"));
+        }
+    }
+
+    /**
+     * Completes the future of the message the reply is for.
+     *
+     * @return false when no message is waiting for the reply
+     */
+    boolean handleReply(RTMMessageReply reply) {
+        if (reply.getReplyTo() == null) {
+            return false;
+        }
+        Outgoing outgoing = awaitingReply.remove(reply.getReplyTo());
+        return outgoing != null && outgoing.future.complete(reply);
+    }
+
+    /**
+     * Starts or stops writing. The queued messages are kept while not ready.
+     */
+    void setReady(boolean ready) {
+        synchronized (lock) {
+            this.ready = ready;
+            startDrain();
+        }
+    }
+
+    /**
+     * Stops writing. The messages not replied yet are completed exceptionally.
+     */
+    void close() {
+        List<Outgoing> abandoned;
+        synchronized (lock) {
+            closed = true;
+            abandoned = new ArrayList<>(queue);
+            queue.clear();
+        }
+        abandoned.addAll(awaitingReply.values());
+        IllegalStateException e = new IllegalStateException("This RTM client has been closed");
+        for (Outgoing outgoing : abandoned) {
+            if (outgoing.future != null) {
+                outgoing.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * The number of the messages waiting to be written.
+     */
+    int size() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * The number of the messages waiting for a reply, including the ones not written yet.
+     */
+    int getAwaitingReplyCount() {
+        return awaitingReply.size();
+    }
+
+    // called holding the lock
+    private void startDrain() {
+        if (draining || closed || !started || !ready || queue.isEmpty()) {
+            return;
+        }
+        draining = true;
+        submitDrain(0L);
+    }
+
+    private void submitDrain(long delayMillis) {
+        try {
+            if (delayMillis > 0) {
+                scheduler.schedule(() -> submitDrain(0L), delayMillis, TimeUnit.MILLISECONDS);
+            } else {
+                writer.execute(this::drain);
+            }
+        } catch (RejectedExecutionException e) {
+            log.debug("Stopped writing the messages as the executor has been shut down");
+            synchronized (lock) {
+                draining = false;
+            }
+        }
+    }
+
+    private void drain() {
+        for (int writes = 0; writes < MAX_WRITES_PER_DRAIN; writes++) {
+            Outgoing next;
+            synchronized (lock) {
+                next = queue.peek();
+                if (closed || !ready || next == null) {
+                    draining = false;
+                    return;
+                }
+                if (next.future != null) {
+                    if (next.future.isDone()) {
+                        // timed out while queued
+                        queue.poll();
+                        continue;
+                    }
+                    if (!next.permitAcquired) {
+                        if (!inFlight.tryAcquire()) {
+                            // a reply or a reply timeout gives back a permit and starts a new drain task
+                            draining = false;
+                            return;
+                        }
+                        next.permitAcquired = true;
+                        next.future.whenComplete((reply, e) -> releasePermit());
+                    }
+                }
+            }
+            try {
+                transport.send(next.text);
+                removeHead(next);
+            } catch (IOException | RuntimeException e) {
+                next.failedAttempts++;
+                if (next.failedAttempts >= maxAttempts) {
+                    log.warn("Gave up sending a message after {} attempts: {}", next.failedAttempts, e.getMessage());
+                    removeHead(next);
+                    if (next.future != null) {
+                        next.future.completeExceptionally(e);
+                    }
+                    continue;
+                }
+                log.debug("Failed to send a message, retrying: {}", e.getMessage());
+                submitDrain(RETRY_INTERVAL_MILLIS);
+                return;
+            }
+        }
+        // more messages may be queued; lets the other senders sharing the executor write theirs first
+        submitDrain(0L);
+    }
+
+    private void releasePermit() {
+        inFlight.release();
+        synchronized (lock) {
+            startDrain();
+        }
+    }
+
+    private void removeHead(Outgoing outgoing) {
+        synchronized (lock) {
+            if (queue.peek() == outgoing) {
+                queue.poll();
+            }
+        }
+    }
+
+}
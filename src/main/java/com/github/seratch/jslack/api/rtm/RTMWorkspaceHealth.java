@@ -0,0 +1,32 @@
+package com.github.seratch.jslack.api.rtm;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * A snapshot of the connection state of a workspace managed by RTMConnectionManager.
+ */
+@Data
+@Builder
+public class RTMWorkspaceHealth {
+
+    private String teamId;
+    private boolean connected;
+    private boolean reconnecting;
+    /**
+     * -1 if no pong has arrived yet.
+     */
+    private long lastPingRoundTripMillis;
+    private long reconnectCount;
+    /**
+     * The number of times the manager connected the workspace again after a failed health check.
+     */
+    private long restartCount;
+    /**
+     * true when the manager gave up connecting the workspace again because of an error no retry can fix
+     * (e.g., invalid_auth, account_inactive).
+     */
+    private boolean failed;
+    private int sendQueueSize;
+    private int awaitingReplyCount;
+}
@@ -24,17 +24,27 @@ public interface EventsDispatcher {
 
     /**
      * Enqueues a JSON payload to the internal queue.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException when the queue doesn't accept the payload or the dispatcher has been stopped
      */
     void enqueue(String json);
 
     /**
-     * Starts the internal thread to handle requests.
+     * Starts the internal threads to handle requests.
      */
     void start();
 
     /**
-     * Stops the internal thread to handle requests.
+     * Stops the internal threads to handle requests after handling the queued ones.
      */
     void stop();
 
+    /**
+     * Returns the current queue and latency statistics.
+     * The implementations which don't collect them return all zeros.
+     */
+    default EventsDispatcherMetrics getMetrics() {
+        return new EventsDispatcherMetrics();
+    }
+
 }
@@ -0,0 +1,60 @@
+package com.github.seratch.jslack.app_backend.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Settings for the internal queue and worker threads of {@link EventsDispatcherImpl}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventsDispatcherConfig {
+
+    public enum OverflowPolicy {
+        /**
+         * Blocks the enqueuing thread until the queue has room.
+         */
+        BLOCK,
+        /**
+         * Discards the new event.
+         */
+        DROP,
+        /**
+         * Throws a RejectedExecutionException to the enqueuing thread.
+         */
+        REJECT
+    }
+
+    /**
+     * The max number of events waiting in the queue.
+     */
+    @Builder.Default
+    private int queueCapacity = 10000;
+
+    /**
+     * The number of threads running the event handlers.
+     * The default is 1 because the handlers haven't been required to be thread-safe.
+     */
+    @Builder.Default
+    private int workerThreads = 1;
+
+    /**
+     * When enabled, the events in the same channel are handled in order by the same worker thread.
+     */
+    @Builder.Default
+    private boolean orderedByChannel = true;
+
+    @Builder.Default
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * How long #stop() waits for the queued events to be handled.
+     */
+    @Builder.Default
+    private long shutdownTimeoutMillis = 10000L;
+
+}
@@ -15,4 +15,11 @@ public class EventsDispatcherFactory {
         return new EventsDispatcherImpl();
     }
 
+    /**
+     * Returns an EventsDispatcher with the given queue and worker settings.
+     */
+    public static EventsDispatcher getInstance(EventsDispatcherConfig config) {
+        return new EventsDispatcherImpl(config);
+    }
+
 }
@@ -1,57 +1,95 @@
 package com.github.seratch.jslack.app_backend.events;
 
 import com.github.seratch.jslack.app_backend.events.payload.EventsApiPayload;
+import com.github.seratch.jslack.common.concurrent.KeyedWorkQueue;
+import com.github.seratch.jslack.common.json.ChannelIdDetector;
 import com.github.seratch.jslack.common.json.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 public class EventsDispatcherImpl implements EventsDispatcher {
 
+    private static final Gson GSON = GsonFactory.createSnakeCase();
+
+    // copy-on-write lists: dispatching never locks and never sees a list being modified
     private final ConcurrentMap<String, List<EventHandler<?>>> eventTypeAndHandlers = new ConcurrentHashMap<>();
 
-    private final Queue<String> queue = new LinkedList<>();
+    private final EventsDispatcherConfig config;
 
-    private final Thread eventLoopThread = new Thread(() -> {
-        while (true) {
-            String json = queue.poll();
-            if (json != null) {
-                log.debug("New message found: {}", json);
-                dispatch(json);
-            }
-            try {
-                Thread.sleep(10L);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+    // When orderedByChannel is enabled, each lane has a single worker and events are hashed by channel ID.
+    // Otherwise, all the workers share a single lane.
+    private final KeyedWorkQueue<QueuedEvent> lanes;
+
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder dispatchedCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public EventsDispatcherImpl() {
+        this(EventsDispatcherConfig.builder().build());
+    }
+
+    public EventsDispatcherImpl(EventsDispatcherConfig config) {
+        if (config.getQueueCapacity() <= 0 || config.getWorkerThreads() <= 0) {
+            throw new IllegalArgumentException("queueCapacity and workerThreads must be positive");
         }
-    });
+        this.config = config;
+        int workers = config.getWorkerThreads();
+        boolean ordered = config.isOrderedByChannel();
+        this.lanes = new KeyedWorkQueue<>("jslack-events-dispatcher", ordered ? workers : 1, ordered ? 1 : workers,
+                config.getQueueCapacity(), event -> ChannelIdDetector.detectFromEventsApiPayload(event.json),
+                this::handle, "This dispatcher has been stopped");
+    }
+
+    private static class QueuedEvent {
+        private final String json;
+        private final long enqueuedAt;
+
+        private QueuedEvent(String json, long enqueuedAt) {
+            this.json = json;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        @Override
+        public String toString() {
+            return json;
+        }
+    }
+
+    private void handle(QueuedEvent event) {
+        log.debug("New message found: {}", event.json);
+        try {
+            dispatch(event.json);
+        } catch (Exception e) {
+            log.error("Failed to handle an event because {}", e.getMessage(), e);
+        } finally {
+            recordLatency(System.nanoTime() - event.enqueuedAt);
+        }
+    }
 
     @Override
     public void register(EventHandler<? extends EventsApiPayload<?>> handler) {
-        String eventType = handler.getEventType();
-        List<EventHandler<?>> handlers = eventTypeAndHandlers.getOrDefault(eventType, new ArrayList<>());
-        handlers.add(handler);
-        eventTypeAndHandlers.put(eventType, handlers);
+        eventTypeAndHandlers.computeIfAbsent(handler.getEventType(), type -> new CopyOnWriteArrayList<>()).add(handler);
     }
 
     @Override
     public void deregister(EventHandler<? extends EventsApiPayload<?>> handler) {
-        String eventType = handler.getEventType();
-        List<EventHandler<?>> handlers = eventTypeAndHandlers.getOrDefault(eventType, new ArrayList<>());
-        List<EventHandler<?>> newHandlers = new ArrayList<>();
-        for (EventHandler<?> h : handlers) {
-            if (!h.equals(handler)) {
-                newHandlers.add(h);
-            }
+        List<EventHandler<?>> handlers = eventTypeAndHandlers.get(handler.getEventType());
+        if (handlers != null) {
+            handlers.removeIf(h -> h.equals(handler));
         }
-        eventTypeAndHandlers.put(eventType, newHandlers);
     }
 
     @Override
@@ -62,76 +100,86 @@ public class EventsDispatcherImpl implements EventsDispatcher {
             return;
         }
 
+        // iterates over a snapshot; handlers (de)registered meanwhile take effect from the next event
         List<EventHandler<?>> eventHandlers = eventTypeAndHandlers.get(eventType);
-        if (eventHandlers == null || eventHandlers.size() == 0) {
+        Iterator<EventHandler<?>> snapshot = eventHandlers != null ? eventHandlers.iterator() : Collections.emptyIterator();
+        if (!snapshot.hasNext()) {
             log.debug("No event handler registered for type: {}", eventType);
         } else {
-            Class<?> clazz = eventHandlers.get(0).getEventPayloadClass();
-            EventsApiPayload<?> event = (EventsApiPayload) GsonFactory.createSnakeCase().fromJson(json, clazz);
-            for (EventHandler<?> handler : eventHandlers) {
-                handler.acceptUntypedObject(event);
+            EventHandler<?> first = snapshot.next();
+            EventsApiPayload<?> event = (EventsApiPayload) GSON.fromJson(json, first.getEventPayloadClass());
+            first.acceptUntypedObject(event);
+            while (snapshot.hasNext()) {
+                snapshot.next().acceptUntypedObject(event);
             }
         }
     }
 
     @Override
     public void enqueue(String json) {
-        queue.add(json);
+        KeyedWorkQueue.OverflowPolicy overflowPolicy = KeyedWorkQueue.OverflowPolicy.valueOf(config.getOverflowPolicy().name());
+        if (lanes.enqueue(new QueuedEvent(json, System.nanoTime()), overflowPolicy)) {
+            enqueuedCount.increment();
+        }
     }
 
     @Override
     public void start() {
-        eventLoopThread.start();
+        lanes.start();
     }
 
+    /**
+     * Stops accepting new events and waits for the queued ones to be handled
+     * until EventsDispatcherConfig#shutdownTimeoutMillis passes.
+     */
     @Override
     public void stop() {
-        eventLoopThread.interrupt();
+        lanes.stop(config.getShutdownTimeoutMillis());
     }
 
-    static String detectEventType(String json) {
-        StringBuilder sb = new StringBuilder();
-        char[] chars = json.toCharArray();
-        boolean isInsideEventData = false;
-        for (int idx = 0; idx < (chars.length - 7); idx++) {
-            if (!isInsideEventData && chars[idx] == '"'
-                    && chars[idx + 1] == 'e'
-                    && chars[idx + 2] == 'v'
-                    && chars[idx + 3] == 'e'
-                    && chars[idx + 4] == 'n'
-                    && chars[idx + 5] == 't'
-                    && chars[idx + 6] == '"'
-                    && chars[idx + 7] == ':') {
-                idx = idx + 8;
-                isInsideEventData = true;
-            }
+    @Override
+    public EventsDispatcherMetrics getMetrics() {
+        long dispatched = dispatchedCount.sum();
+        return EventsDispatcherMetrics.builder()
+                .queueSize(lanes.size())
+                .enqueuedCount(enqueuedCount.sum())
+                .dispatchedCount(dispatched)
+                .droppedCount(lanes.getDroppedCount())
+                .rejectedCount(lanes.getRejectedCount())
+                .averageLatencyMillis(dispatched == 0 ? 0d : totalLatencyNanos.sum() / (double) dispatched / 1_000_000d)
+                .maxLatencyMillis(maxLatencyNanos.get() / 1_000_000d)
+                .build();
+    }
+
+    private void recordLatency(long latencyNanos) {
+        dispatchedCount.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
 
-            if (isInsideEventData && chars[idx] == '"'
-                    && chars[idx + 1] == 't'
-                    && chars[idx + 2] == 'y'
-                    && chars[idx + 3] == 'p'
-                    && chars[idx + 4] == 'e'
-                    && chars[idx + 5] == '"'
-                    && chars[idx + 6] == ':') {
-                idx = idx + 7;
-                int doubleQuoteCount = 0;
-                boolean isPreviousCharEscape = false;
-                while (doubleQuoteCount < 2 && idx < chars.length) {
-                    char c = chars[idx];
-                    if (c == '"' && !isPreviousCharEscape) {
-                        doubleQuoteCount++;
-                    } else {
-                        if (doubleQuoteCount == 1) {
-                            sb.append(c);
+    /**
+     * Reads the event.type value without copying or parsing the whole payload.
+     */
+    static String detectEventType(String json) {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("event") && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        if (reader.nextName().equals("type") && reader.peek() == JsonToken.STRING) {
+                            return reader.nextString();
                         }
+                        reader.skipValue();
                     }
-                    isPreviousCharEscape = c == '\\';
-                    idx++;
+                    return null;
                 }
-                break;
+                reader.skipValue();
             }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to detect event type from the given JSON data: {}", json);
         }
-        return sb.toString();
+        return null;
     }
 
 }
@@ -0,0 +1,28 @@
+package com.github.seratch.jslack.app_backend.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A snapshot of the EventsDispatcher's queue and latency statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventsDispatcherMetrics {
+
+    private int queueSize;
+    private long enqueuedCount;
+    private long dispatchedCount;
+    private long droppedCount;
+    private long rejectedCount;
+    /**
+     * Average time from enqueuing to the end of the handlers' execution.
+     */
+    private double averageLatencyMillis;
+    private double maxLatencyMillis;
+
+}
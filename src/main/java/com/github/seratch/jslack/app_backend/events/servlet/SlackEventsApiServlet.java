@@ -2,6 +2,7 @@ package com.github.seratch.jslack.app_backend.events.servlet;
 
 import com.github.seratch.jslack.app_backend.events.EventsDispatcher;
 import com.github.seratch.jslack.app_backend.events.EventsDispatcherFactory;
+import com.github.seratch.jslack.app_backend.util.SlackSignatureVerifier;
 import com.github.seratch.jslack.common.json.GsonFactory;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -12,19 +13,55 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 public abstract class SlackEventsApiServlet extends HttpServlet {
 
-    private EventsDispatcher dispatcher = EventsDispatcherFactory.getInstance();
+    public static final int DEFAULT_MAX_REQUEST_BODY_BYTES = 1024 * 1024;
+
+    private EventsDispatcher dispatcher;
+    private SlackSignatureVerifier signatureVerifier;
 
     protected abstract void setupDispatcher(EventsDispatcher dispatcher);
 
+    /**
+     * Override this method to customize the queue and worker settings.
+     */
+    protected EventsDispatcher createDispatcher() {
+        return EventsDispatcherFactory.getInstance();
+    }
+
+    /**
+     * Override this method to use a signing secret other than the SLACK_SIGNING_SECRET env variable.
+     * When this method returns null, the request signatures are not verified.
+     */
+    protected SlackSignatureVerifier createSignatureVerifier() {
+        String signingSecret = System.getenv(SlackSignatureVerifier.ENV_VARIABLE_NAME);
+        if (signingSecret == null || signingSecret.isEmpty()) {
+            log.warn("The request signatures won't be verified because {} is absent", SlackSignatureVerifier.ENV_VARIABLE_NAME);
+            return null;
+        }
+        return new SlackSignatureVerifier(signingSecret);
+    }
+
+    /**
+     * Override this method to change the max size of a request body. Larger requests are answered with 413
+     * before their signature is verified, so that no request can make the servlet buffer an arbitrary amount of data.
+     */
+    protected int getMaxRequestBodyBytes() {
+        return DEFAULT_MAX_REQUEST_BODY_BYTES;
+    }
+
     public void init() throws ServletException {
         super.init();
+        signatureVerifier = createSignatureVerifier();
+        dispatcher = createDispatcher();
         setupDispatcher(dispatcher);
         dispatcher.start();
     }
@@ -37,7 +74,21 @@ public abstract class SlackEventsApiServlet extends HttpServlet {
     protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         String contentType = req.getHeader("Content-Type");
         if (contentType != null && contentType.toLowerCase(Locale.ENGLISH).trim().startsWith("application/json")) {
-            String requestBody = req.getReader().lines().collect(Collectors.joining(System.lineSeparator()));
+            byte[] rawBody = readRequestBody(req, getMaxRequestBodyBytes());
+            if (rawBody == null) {
+                log.warn("Too large request body detected - Content-Length: {}", req.getContentLengthLong());
+                resp.setStatus(413);
+                return;
+            }
+            if (signatureVerifier != null && !signatureVerifier.isValid(
+                    req.getHeader(SlackSignatureVerifier.HEADER_TIMESTAMP),
+                    req.getHeader(SlackSignatureVerifier.HEADER_SIGNATURE),
+                    rawBody)) {
+                log.warn("Invalid request signature detected - {}", req.getHeader(SlackSignatureVerifier.HEADER_SIGNATURE));
+                resp.setStatus(401);
+                return;
+            }
+            String requestBody = new String(rawBody, StandardCharsets.UTF_8);
             JsonObject payload = GsonFactory.createSnakeCase().fromJson(requestBody, JsonElement.class).getAsJsonObject();
             String eventType = payload.get("type").getAsString();
             if (eventType != null && eventType.equals("url_verification")) {
@@ -47,8 +98,14 @@ public abstract class SlackEventsApiServlet extends HttpServlet {
                 resp.setHeader("Content-Type", "text/plain");
                 resp.getOutputStream().write(challenge.getBytes(Charsets.UTF8_CHARSET));
             } else {
-                dispatcher.enqueue(requestBody);
-                resp.setStatus(200);
+                try {
+                    dispatcher.enqueue(requestBody);
+                    resp.setStatus(200);
+                } catch (RejectedExecutionException e) {
+                    // Slack retries the request later
+                    log.warn("Failed to enqueue an event because {}", e.getMessage());
+                    resp.setStatus(503);
+                }
             }
         } else {
             log.warn("Unexpected request detected - Content-Type: {}", req.getHeader("Content-Type"));
@@ -56,4 +113,23 @@ public abstract class SlackEventsApiServlet extends HttpServlet {
 
     }
 
+    // returns null when the body is larger than maxBytes; Content-Length is only trusted to reject early
+    private static byte[] readRequestBody(HttpServletRequest req, int maxBytes) throws IOException {
+        if (req.getContentLengthLong() > maxBytes) {
+            return null;
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+        byte[] buffer = new byte[4096];
+        try (InputStream in = req.getInputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (body.size() + read > maxBytes) {
+                    return null;
+                }
+                body.write(buffer, 0, read);
+            }
+        }
+        return body.toByteArray();
+    }
+
 }
@@ -4,6 +4,13 @@ import com.github.seratch.jslack.app_backend.interactive_messages.payload.Attach
 import com.github.seratch.jslack.app_backend.interactive_messages.payload.BlockActionPayload;
 import com.github.seratch.jslack.app_backend.slash_commands.payload.SlashCommandPayload;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Verifies the deprecated verification token in payloads.
+ * Prefer {@link SlackSignatureVerifier}, which verifies the signed request body.
+ */
 public class RequestTokenVerifier {
 
     // https://api.slack.com/apps/{apiAppId}
@@ -36,6 +43,12 @@ public class RequestTokenVerifier {
         if (actualToken == null) {
             return false;
         }
-        return actualToken.equals(this.verificationToken);
+        if (this.verificationToken == null) {
+            return false;
+        }
+        // constant-time comparison
+        return MessageDigest.isEqual(
+                actualToken.getBytes(StandardCharsets.UTF_8),
+                this.verificationToken.getBytes(StandardCharsets.UTF_8));
     }
 }
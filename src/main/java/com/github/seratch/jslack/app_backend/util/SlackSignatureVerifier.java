@@ -0,0 +1,199 @@
+package com.github.seratch.jslack.app_backend.util;
+
+import com.github.seratch.jslack.app_backend.vendor.aws.lambda.request.ApiGatewayRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Verifies the X-Slack-Signature header of the requests from Slack (signature version v0).
+ * <p>
+ * Pass the raw request body as is. For slash commands and interactive payloads,
+ * that means the URL-encoded form body before parsing (e.g., "payload=%7B%22type%22...").
+ * <p>
+ * The requests older than the allowed clock skew and the signatures already seen are rejected.
+ * This class is thread-safe; share a single instance.
+ *
+ * @see "https://api.slack.com/docs/verifying-requests-from-slack"
+ */
+@Slf4j
+public class SlackSignatureVerifier {
+
+    // https://api.slack.com/apps/{apiAppId}
+    // App Credentials > Signing Secret
+    public static final String ENV_VARIABLE_NAME = "SLACK_SIGNING_SECRET";
+
+    public static final String HEADER_SIGNATURE = "X-Slack-Signature";
+    public static final String HEADER_TIMESTAMP = "X-Slack-Request-Timestamp";
+
+    public static final long DEFAULT_MAX_SKEW_SECONDS = 60L * 5;
+    public static final int DEFAULT_REPLAY_CACHE_SIZE = 10000;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "v0";
+    private static final byte[] BASE_STRING_PREFIX = (VERSION + ":").getBytes(StandardCharsets.UTF_8);
+    private static final String SIGNATURE_PREFIX = VERSION + "=";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ThreadLocal<Mac> mac;
+    private final long maxSkewSeconds;
+    private final Clock clock;
+    private final ReplayCache replayCache;
+
+    public SlackSignatureVerifier() {
+        this(System.getenv(ENV_VARIABLE_NAME));
+    }
+
+    public SlackSignatureVerifier(String signingSecret) {
+        this(signingSecret, DEFAULT_MAX_SKEW_SECONDS, DEFAULT_REPLAY_CACHE_SIZE, Clock.systemUTC());
+    }
+
+    /**
+     * @param maxSkewSeconds  how old (or new) the request timestamp can be
+     * @param replayCacheSize the max number of recent signatures remembered to reject replays (0 disables the check)
+     */
+    public SlackSignatureVerifier(String signingSecret, long maxSkewSeconds, int replayCacheSize, Clock clock) {
+        if (signingSecret == null || signingSecret.isEmpty()) {
+            throw new IllegalArgumentException("The signing secret is required (env: " + ENV_VARIABLE_NAME + ")");
+        }
+        SecretKeySpec key = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+            }
+        });
+        this.maxSkewSeconds = maxSkewSeconds;
+        this.clock = clock;
+        this.replayCache = replayCacheSize > 0 ? new ReplayCache(replayCacheSize) : null;
+    }
+
+    public boolean isValid(String timestamp, String signature, String requestBody) {
+        byte[] body = requestBody != null ? requestBody.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        return isValid(timestamp, signature, body);
+    }
+
+    public boolean isValid(String timestamp, String signature, byte[] requestBody) {
+        if (timestamp == null || signature == null || requestBody == null) {
+            return false;
+        }
+        long requestedAt;
+        try {
+            requestedAt = Long.parseLong(timestamp.trim());
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        long nowSeconds = clock.millis() / 1000L;
+        if (Math.abs(nowSeconds - requestedAt) > maxSkewSeconds) {
+            log.debug("The request timestamp is out of the allowed range: {}", timestamp);
+            return false;
+        }
+        if (!matches(signature, sign(timestamp, requestBody))) {
+            return false;
+        }
+        if (replayCache != null && !replayCache.add(signature, requestedAt, nowSeconds - maxSkewSeconds)) {
+            log.debug("A replayed request detected: {}", signature);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Verifies a request received by AWS Lambda through API Gateway.
+     */
+    public boolean isValid(ApiGatewayRequest request) {
+        if (request == null || request.getHeaders() == null) {
+            return false;
+        }
+        String body = request.getBody() != null ? request.getBody() : "";
+        byte[] bytes = request.isBase64Encoded()
+                ? Base64.getDecoder().decode(body)
+                : body.getBytes(StandardCharsets.UTF_8);
+        return isValid(
+                findHeader(request.getHeaders(), HEADER_TIMESTAMP),
+                findHeader(request.getHeaders(), HEADER_SIGNATURE),
+                bytes);
+    }
+
+    private byte[] sign(String timestamp, byte[] body) {
+        Mac mac = this.mac.get();
+        mac.update(BASE_STRING_PREFIX);
+        mac.update(timestamp.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) ':');
+        mac.update(body);
+        return mac.doFinal();
+    }
+
+    // Compares "v0=" + hex(digest) with the given signature in constant time
+    static boolean matches(String signature, byte[] digest) {
+        if (signature.length() != SIGNATURE_PREFIX.length() + digest.length * 2 || !signature.startsWith(SIGNATURE_PREFIX)) {
+            return false;
+        }
+        int diff = 0;
+        int offset = SIGNATURE_PREFIX.length();
+        for (int i = 0; i < digest.length; i++) {
+            diff |= signature.charAt(offset + i * 2) ^ HEX[(digest[i] >> 4) & 0x0f];
+            diff |= signature.charAt(offset + i * 2 + 1) ^ HEX[digest[i] & 0x0f];
+        }
+        return diff == 0;
+    }
+
+    private static String findHeader(Map<String, String> headers, String name) {
+        String value = headers.get(name);
+        if (value != null) {
+            return value;
+        }
+        // API Gateway doesn't normalize the header names
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remembers the recent signatures until they get older than the allowed skew or the cache is full.
+     */
+    private static class ReplayCache {
+
+        private final Map<String, Long> signatureAndTimestamp;
+
+        private ReplayCache(int maxSize) {
+            this.signatureAndTimestamp = new LinkedHashMap<String, Long>(16, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        /**
+         * Returns false if the signature has already been seen.
+         */
+        private synchronized boolean add(String signature, long timestamp, long expiredBefore) {
+            if (signatureAndTimestamp.containsKey(signature)) {
+                return false;
+            }
+            // the entries are roughly in timestamp order, so only the head needs to be checked
+            Iterator<Long> timestamps = signatureAndTimestamp.values().iterator();
+            while (timestamps.hasNext() && timestamps.next() < expiredBefore) {
+                timestamps.remove();
+            }
+            signatureAndTimestamp.put(signature, timestamp);
+            return true;
+        }
+    }
+
+}
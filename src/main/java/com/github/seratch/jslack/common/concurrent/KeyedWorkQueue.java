@@ -0,0 +1,269 @@
+package com.github.seratch.jslack.common.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bounded lanes of messages handled by worker threads, shared by EventsDispatcherImpl and RTMMessageQueue.
+ * <p>
+ * The messages are hashed by their key (e.g., the channel ID) to a lane. With a single worker per lane,
+ * the messages with the same key are handled in order while different keys are handled in parallel.
+ * #stop() lets the workers handle the queued messages and finish; the messages enqueued after it are rejected.
+ *
+ * @param <M> the type of the queued messages
+ */
+@Slf4j
+public class KeyedWorkQueue<M> {
+
+    public enum OverflowPolicy {
+        BLOCK, DROP, REJECT
+    }
+
+    // a message that tells a worker to finish
+    private static final Object POISON_PILL = new Object();
+
+    private final int capacity;
+    private final Function<M, String> keyFunction;
+    private final Consumer<M> handler;
+    private final String stoppedMessage;
+    private final List<Lane> lanes;
+
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    // enqueue holds the read lock and stop() the write lock, so that no message is queued behind the poison pills
+    private final ReadWriteLock stopLock = new ReentrantReadWriteLock();
+    private volatile boolean stopped = false;
+    private volatile boolean started = false;
+
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * @param threadNamePrefix the workers are named {prefix}-{lane}-{worker}
+     * @param laneCount        the number of lanes
+     * @param workersPerLane   the number of workers taking the messages of a lane
+     * @param capacity         the max number of queued messages, divided among the lanes
+     * @param keyFunction      returns the key of a message, or null to pick any lane
+     * @param stoppedMessage   the message of the RejectedExecutionException thrown after #stop()
+     */
+    public KeyedWorkQueue(String threadNamePrefix, int laneCount, int workersPerLane, int capacity,
+                          Function<M, String> keyFunction, Consumer<M> handler, String stoppedMessage) {
+        if (laneCount <= 0 || workersPerLane <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("laneCount, workersPerLane and capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.keyFunction = keyFunction;
+        this.handler = handler;
+        this.stoppedMessage = stoppedMessage;
+        int capacityPerLane = Math.max(1, capacity / laneCount);
+        this.lanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            this.lanes.add(new Lane(threadNamePrefix + "-" + i, capacityPerLane, workersPerLane));
+        }
+    }
+
+    private class Lane {
+        private final BlockingQueue<Object> queue;
+        private final List<Thread> workers = new ArrayList<>();
+
+        private Lane(String name, int capacity, int workerThreads) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            for (int i = 0; i < workerThreads; i++) {
+                Thread worker = new Thread(this::runLoop, name + "-" + i);
+                worker.setDaemon(true);
+                workers.add(worker);
+            }
+        }
+
+        private void runLoop() {
+            while (true) {
+                Object message;
+                try {
+                    message = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (message == POISON_PILL) {
+                    return;
+                }
+                // nothing but enqueue(M) and the poison pill puts objects into the queue
+                @SuppressWarnings("unchecked")
+                M typed = (M) message;
+                try {
+                    handler.accept(typed);
+                } catch (Exception e) {
+                    log.error("Failed to handle a message because {}", e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts the workers. Does nothing after the first call or after #stop().
+     */
+    public void start() {
+        if (started) {
+            return;
+        }
+        synchronized (this) {
+            if (started || stopped) {
+                return;
+            }
+            started = true;
+            for (Lane lane : lanes) {
+                lane.workers.forEach(Thread::start);
+            }
+        }
+    }
+
+    /**
+     * Adds the message to the lane of its key, following the overflow policy when the lane is full.
+     * The messages enqueued before #start() wait for it.
+     *
+     * @return false when the message has been dropped
+     * @throws RejectedExecutionException when the policy is REJECT and the lane is full, or after #stop()
+     */
+    public boolean enqueue(M message, OverflowPolicy overflowPolicy) {
+        Lock lock = stopLock.readLock();
+        lock.lock();
+        try {
+            if (stopped) {
+                rejectedCount.increment();
+                throw new RejectedExecutionException(stoppedMessage);
+            }
+            Lane lane = selectLane(message);
+            switch (overflowPolicy) {
+                case BLOCK:
+                    try {
+                        lane.queue.put(message);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        rejectedCount.increment();
+                        throw new RejectedExecutionException("Interrupted while waiting for the queue", e);
+                    }
+                    return true;
+                case DROP:
+                    if (!lane.queue.offer(message)) {
+                        droppedCount.increment();
+                        log.warn("The queue is full, dropped a message: {}", message);
+                        return false;
+                    }
+                    return true;
+                case REJECT:
+                default:
+                    if (!lane.queue.offer(message)) {
+                        rejectedCount.increment();
+                        throw new RejectedExecutionException("The queue is full (capacity: " + capacity + ")");
+                    }
+                    return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting new messages and waits for the queued ones to be handled until the timeout passes.
+     * The workers still running by then are interrupted.
+     */
+    public synchronized void stop(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Lock lock = stopLock.writeLock();
+        boolean locked = false;
+        try {
+            // waits for the messages being enqueued (e.g., blocked on a full lane)
+            locked = lock.tryLock(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!locked) {
+            log.warn("Gave up waiting for the messages being enqueued; they may not be handled");
+        }
+        try {
+            stopped = true;
+            if (!started) {
+                return;
+            }
+            for (Lane lane : lanes) {
+                for (int i = 0; i < lane.workers.size(); i++) {
+                    try {
+                        long remaining = deadline - System.nanoTime();
+                        if (!lane.queue.offer(POISON_PILL, Math.max(0L, remaining), TimeUnit.NANOSECONDS)) {
+                            break;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        } finally {
+            if (locked) {
+                lock.unlock();
+            }
+        }
+        for (Lane lane : lanes) {
+            for (Thread worker : lane.workers) {
+                try {
+                    long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remainingMillis > 0) {
+                        worker.join(remainingMillis);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (worker.isAlive()) {
+                    log.warn("Gave up waiting for {} to handle the queued messages", worker.getName());
+                    worker.interrupt();
+                }
+            }
+        }
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * The number of the queued messages.
+     */
+    public int size() {
+        int size = 0;
+        for (Lane lane : lanes) {
+            size += lane.queue.size();
+        }
+        return size;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    private Lane selectLane(M message) {
+        if (lanes.size() == 1) {
+            return lanes.get(0);
+        }
+        String key = keyFunction.apply(message);
+        int hash = key != null ? key.hashCode() : roundRobin.getAndIncrement();
+        return lanes.get((hash & Integer.MAX_VALUE) % lanes.size());
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.github.seratch.jslack.common.http;
+
+import com.github.seratch.jslack.SlackConfig;
+import lombok.Value;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the OkHttpClient instances shared among SlackHttpClients.
+ * <p>
+ * All of them are derived from a single base client, so they use the same connection pool
+ * and the same dispatcher (thread pool) unless SlackConfig specifies its own pool or concurrency limits.
+ * The SlackConfigs that have the same HTTP settings get the same OkHttpClient instance.
+ * The instances are keyed only by values (timeouts, limits, protocols), so their number is bounded by
+ * the distinct settings in use. A config with its own connection pool gets a new OkHttpClient each time,
+ * derived from the shared one, so that nothing here keeps the pool (and its threads) alive.
+ */
+public final class SharedOkHttpClients {
+
+    private SharedOkHttpClients() {
+    }
+
+    private static final OkHttpClient BASE = new OkHttpClient.Builder().build();
+
+    private static final ConcurrentMap<DispatcherKey, Dispatcher> DISPATCHERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<ClientKey, OkHttpClient> CLIENTS = new ConcurrentHashMap<>();
+
+    @Value
+    private static class DispatcherKey {
+        private int maxRequests;
+        private int maxRequestsPerHost;
+    }
+
+    @Value
+    private static class ClientKey {
+        private DispatcherKey dispatcherKey;
+        private long connectTimeoutMillis;
+        private long readTimeoutMillis;
+        private long writeTimeoutMillis;
+        private long callTimeoutMillis;
+        private boolean http2Enabled;
+    }
+
+    /**
+     * Returns the OkHttpClient for the HTTP settings of the given config.
+     * The settings are read only when the client is created; changing them afterwards has no effect on it.
+     */
+    public static OkHttpClient get(SlackConfig config) {
+        ClientKey key = new ClientKey(
+                new DispatcherKey(config.getHttpMaxRequests(), config.getHttpMaxRequestsPerHost()),
+                config.getHttpConnectTimeoutMillis(),
+                config.getHttpReadTimeoutMillis(),
+                config.getHttpWriteTimeoutMillis(),
+                config.getHttpCallTimeoutMillis(),
+                config.isHttp2Enabled());
+        OkHttpClient client = CLIENTS.computeIfAbsent(key, SharedOkHttpClients::build);
+        ConnectionPool connectionPool = config.getHttpConnectionPool();
+        if (connectionPool != null && connectionPool != client.connectionPool()) {
+            // not cached; released along with the SlackHttpClient using it
+            return client.newBuilder().connectionPool(connectionPool).build();
+        }
+        return client;
+    }
+
+    private static OkHttpClient build(ClientKey key) {
+        return BASE.newBuilder()
+                .dispatcher(DISPATCHERS.computeIfAbsent(key.getDispatcherKey(), SharedOkHttpClients::buildDispatcher))
+                .connectTimeout(key.getConnectTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(key.getReadTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .writeTimeout(key.getWriteTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .callTimeout(key.getCallTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .protocols(key.isHttp2Enabled()
+                        ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : Collections.singletonList(Protocol.HTTP_1_1))
+                .build();
+    }
+
+    private static Dispatcher buildDispatcher(DispatcherKey key) {
+        if (key.getMaxRequests() == BASE.dispatcher().getMaxRequests()
+                && key.getMaxRequestsPerHost() == BASE.dispatcher().getMaxRequestsPerHost()) {
+            return BASE.dispatcher();
+        }
+        // shares the thread pool with the base dispatcher, only the concurrency limits differ
+        Dispatcher dispatcher = new Dispatcher(BASE.dispatcher().executorService());
+        dispatcher.setMaxRequests(key.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(key.getMaxRequestsPerHost());
+        return dispatcher;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.github.seratch.jslack.common.http;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * Thrown without sending the request when the API family already has the max number of calls in flight.
+ */
+@Getter
+public class SlackBulkheadFullException extends IOException {
+
+    private final String family;
+
+    public SlackBulkheadFullException(String family) {
+        super("Too many concurrent calls for " + family + ".* methods");
+        this.family = family;
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.github.seratch.jslack.common.http;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.InterruptedIOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the concurrent API method calls per API family (e.g., "files" for files.upload, "chat" for chat.postMessage)
+ * so that slow calls of a family don't take all the threads and connections from the others.
+ * <p>
+ * Set an instance to SlackConfig#bulkheads to enable it.
+ */
+@Getter
+@Builder
+public class SlackBulkheads {
+
+    /**
+     * The max number of concurrent calls for the families not listed in limits.
+     */
+    @Builder.Default
+    private int defaultMaxConcurrentCalls = 20;
+
+    /**
+     * The max number of concurrent calls per family (e.g., "files" -> 4).
+     */
+    private Map<String, Integer> limits;
+
+    /**
+     * How long a synchronous call waits for a permit. Asynchronous calls never wait.
+     */
+    @Builder.Default
+    private long maxWaitMillis = 0L;
+
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+
+    SlackBulkheads(int defaultMaxConcurrentCalls, Map<String, Integer> limits, long maxWaitMillis) {
+        this.defaultMaxConcurrentCalls = defaultMaxConcurrentCalls;
+        this.limits = Collections.unmodifiableMap(new HashMap<>(limits));
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    // limit(family, max) is written here instead of @Singular, whose generated build() has a redundant cast
+    public static class SlackBulkheadsBuilder {
+        private final Map<String, Integer> limits = new HashMap<>();
+
+        public SlackBulkheadsBuilder limit(String family, int maxConcurrentCalls) {
+            this.limits.put(family, maxConcurrentCalls);
+            return this;
+        }
+
+        public SlackBulkheadsBuilder limits(Map<String, Integer> limits) {
+            this.limits.putAll(limits);
+            return this;
+        }
+
+        public SlackBulkheadsBuilder clearLimits() {
+            this.limits.clear();
+            return this;
+        }
+    }
+
+    public static String toFamily(String method) {
+        int index = method.indexOf('.');
+        return index >= 0 ? method.substring(0, index) : method;
+    }
+
+    /**
+     * Takes a permit for the method's family, waiting up to maxWaitMillis. Call Permit#release when the call completes.
+     *
+     * @throws SlackBulkheadFullException when no permit is available in time
+     */
+    public Permit acquire(String method) throws SlackBulkheadFullException, InterruptedIOException {
+        return acquire(method, maxWaitMillis);
+    }
+
+    /**
+     * Takes a permit without waiting.
+     */
+    public Permit tryAcquire(String method) throws SlackBulkheadFullException {
+        try {
+            return acquire(method, 0L);
+        } catch (InterruptedIOException e) {
+            // never happens without waiting
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Permit acquire(String method, long waitMillis) throws SlackBulkheadFullException, InterruptedIOException {
+        String family = toFamily(method);
+        Semaphore semaphore = semaphores.computeIfAbsent(family,
+                f -> new Semaphore(limits.getOrDefault(f, defaultMaxConcurrentCalls)));
+        boolean acquired;
+        try {
+            acquired = waitMillis > 0
+                    ? semaphore.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)
+                    : semaphore.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the bulkhead of " + family);
+        }
+        if (!acquired) {
+            throw new SlackBulkheadFullException(family);
+        }
+        return new Permit(semaphore);
+    }
+
+    public int getAvailablePermits(String family) {
+        Semaphore semaphore = semaphores.get(family);
+        return semaphore != null ? semaphore.availablePermits() : limits.getOrDefault(family, defaultMaxConcurrentCalls);
+    }
+
+    public static class Permit {
+        private final Semaphore semaphore;
+        private boolean released;
+
+        private Permit(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        public synchronized void release() {
+            if (!released) {
+                released = true;
+                semaphore.release();
+            }
+        }
+    }
+
+}
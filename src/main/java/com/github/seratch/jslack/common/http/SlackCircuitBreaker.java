@@ -0,0 +1,226 @@
+package com.github.seratch.jslack.common.http;
+
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Fails API method calls fast while the method keeps failing, instead of letting the threads wait for timeouts.
+ * <p>
+ * Each API method (and workspace, when teamIdResolver is given) has its own circuit.
+ * A circuit opens after the consecutive failures (I/O errors and 5xx responses) reach the threshold.
+ * While it's open, the calls immediately fail with SlackCircuitBreakerOpenException.
+ * After openDurationMillis, a limited number of trial calls are let through (half-open);
+ * the circuit closes when a trial call succeeds and opens again when one fails.
+ * <p>
+ * Set an instance to SlackConfig#circuitBreaker to enable it.
+ */
+@Slf4j
+@Getter
+@Builder
+public class SlackCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @FunctionalInterface
+    public interface StateChangeListener {
+        /**
+         * @param teamId null unless teamIdResolver is given
+         */
+        void onStateChange(String method, String teamId, State from, State to);
+    }
+
+    @Builder.Default
+    private int failureThreshold = 5;
+
+    @Builder.Default
+    private long openDurationMillis = 30_000L;
+
+    /**
+     * The max number of trial calls running concurrently while half-open.
+     */
+    @Builder.Default
+    private int halfOpenMaxCalls = 1;
+
+    /**
+     * Resolves the team ID from a token to have separate circuits per workspace. Nullable.
+     * When null, the circuits are shared among all the workspaces.
+     */
+    private Function<String, String> teamIdResolver;
+
+    @Singular
+    private List<StateChangeListener> listeners;
+
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<CircuitKey, Circuit> circuits = new ConcurrentHashMap<>();
+
+    @Value
+    private static class CircuitKey {
+        private String method;
+        private String teamId;
+    }
+
+    public State getState(String method, String teamId) {
+        Circuit circuit = circuits.get(new CircuitKey(method, teamId));
+        return circuit == null ? State.CLOSED : circuit.currentState(System.nanoTime());
+    }
+
+    /**
+     * Takes a permit for a call. Report the result with Permit#onSuccess or Permit#onFailure.
+     *
+     * @throws SlackCircuitBreakerOpenException when the circuit is open
+     */
+    public Permit acquire(String method, String token) throws SlackCircuitBreakerOpenException {
+        String teamId = teamIdResolver != null && token != null ? teamIdResolver.apply(token) : null;
+        CircuitKey key = new CircuitKey(method, teamId);
+        Circuit circuit = circuits.computeIfAbsent(key, k -> new Circuit());
+        State before;
+        State after;
+        boolean acquired;
+        synchronized (circuit) {
+            before = circuit.state;
+            acquired = circuit.tryAcquire(System.nanoTime());
+            after = circuit.state;
+        }
+        notifyIfChanged(key, before, after);
+        if (!acquired) {
+            throw new SlackCircuitBreakerOpenException(method);
+        }
+        return new Permit(key, circuit);
+    }
+
+    /**
+     * Only the first report of a permit counts; the later ones are ignored.
+     */
+    public class Permit {
+        private final CircuitKey key;
+        private final Circuit circuit;
+        // guarded by the circuit
+        private boolean reported;
+
+        private Permit(CircuitKey key, Circuit circuit) {
+            this.key = key;
+            this.circuit = circuit;
+        }
+
+        public void onSuccess() {
+            State before;
+            State after;
+            synchronized (circuit) {
+                if (reported) {
+                    return;
+                }
+                reported = true;
+                before = circuit.state;
+                circuit.onSuccess();
+                after = circuit.state;
+            }
+            notifyIfChanged(key, before, after);
+        }
+
+        /**
+         * Gives the permit back without a result (e.g., the call was cancelled).
+         */
+        public void onCancel() {
+            synchronized (circuit) {
+                if (reported) {
+                    return;
+                }
+                reported = true;
+                circuit.onCancel();
+            }
+        }
+
+        public void onFailure() {
+            State before;
+            State after;
+            synchronized (circuit) {
+                if (reported) {
+                    return;
+                }
+                reported = true;
+                before = circuit.state;
+                circuit.onFailure(System.nanoTime());
+                after = circuit.state;
+            }
+            notifyIfChanged(key, before, after);
+        }
+    }
+
+    private void notifyIfChanged(CircuitKey key, State from, State to) {
+        if (from == to) {
+            return;
+        }
+        log.debug("The circuit for {} (team: {}) changed from {} to {}", key.getMethod(), key.getTeamId(), from, to);
+        for (StateChangeListener listener : listeners) {
+            try {
+                listener.onStateChange(key.getMethod(), key.getTeamId(), from, to);
+            } catch (Exception e) {
+                log.error("Failed to run a circuit breaker listener", e);
+            }
+        }
+    }
+
+    // guarded by the instance lock
+    private class Circuit {
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private int trialCalls;
+
+        private State currentState(long now) {
+            synchronized (this) {
+                if (state == State.OPEN && now - openedAt >= TimeUnit.MILLISECONDS.toNanos(openDurationMillis)) {
+                    return State.HALF_OPEN;
+                }
+                return state;
+            }
+        }
+
+        private boolean tryAcquire(long now) {
+            if (state == State.OPEN) {
+                if (now - openedAt < TimeUnit.MILLISECONDS.toNanos(openDurationMillis)) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialCalls = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (trialCalls >= halfOpenMaxCalls) {
+                    return false;
+                }
+                trialCalls++;
+            }
+            return true;
+        }
+
+        private void onSuccess() {
+            consecutiveFailures = 0;
+            if (state == State.HALF_OPEN) {
+                state = State.CLOSED;
+            }
+        }
+
+        private void onCancel() {
+            if (state == State.HALF_OPEN && trialCalls > 0) {
+                trialCalls--;
+            }
+        }
+
+        private void onFailure(long now) {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                state = State.OPEN;
+                openedAt = now;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.github.seratch.jslack.common.http;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * Thrown without sending the request while the circuit for the API method is open.
+ */
+@Getter
+public class SlackCircuitBreakerOpenException extends IOException {
+
+    private final String method;
+
+    public SlackCircuitBreakerOpenException(String method) {
+        super("The circuit for " + method + " is open");
+        this.method = method;
+    }
+
+}
@@ -6,10 +6,22 @@ import com.github.seratch.jslack.common.http.listener.DetailedLoggingListener;
 import com.github.seratch.jslack.common.http.listener.HttpResponseListener;
 import com.github.seratch.jslack.common.json.GsonFactory;
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 @Slf4j
 public class SlackHttpClient {
@@ -18,14 +30,29 @@ public class SlackHttpClient {
 
     private SlackConfig config = SlackConfig.DEFAULT;
 
+    /**
+     * Uses the OkHttpClient shared among the SlackHttpClients with the default settings.
+     */
     public SlackHttpClient() {
-        this.okHttpClient = new OkHttpClient.Builder().build();
+        this.okHttpClient = SharedOkHttpClients.get(SlackConfig.DEFAULT);
+    }
+
+    /**
+     * Uses the OkHttpClient shared among the SlackHttpClients with the same HTTP settings.
+     */
+    public SlackHttpClient(SlackConfig config) {
+        this.okHttpClient = SharedOkHttpClients.get(config);
+        this.config = config;
     }
 
     public SlackHttpClient(OkHttpClient okHttpClient) {
         this.okHttpClient = okHttpClient;
     }
 
+    public OkHttpClient getOkHttpClient() {
+        return okHttpClient;
+    }
+
     public SlackConfig getConfig() {
         return config;
     }
@@ -37,20 +64,177 @@ public class SlackHttpClient {
     public Response postMultipart(String url, String token, MultipartBody multipartBody) throws IOException {
         String bearerHeaderValue = "Bearer " + token;
         Request request = new Request.Builder().url(url).header("Authorization", bearerHeaderValue).post(multipartBody).build();
-        return okHttpClient.newCall(request).execute();
+        return execute(request, token);
     }
 
     public Response postForm(String url, FormBody formBody) throws IOException {
         Request request = new Request.Builder().url(url).post(formBody).build();
-        return okHttpClient.newCall(request).execute();
+        return execute(request, null);
     }
 
     public Response postFormWithBearerHeader(String url, String token, FormBody formBody) throws IOException {
         String bearerHeaderValue = "Bearer " + token;
         Request request = new Request.Builder().url(url).header("Authorization", bearerHeaderValue).post(formBody).build();
+        return execute(request, token);
+    }
+
+    /**
+     * Sends a GET request with the token (e.g., downloading File#urlPrivate). The response body is not buffered.
+     */
+    public Response getWithBearerHeader(String url, String token, Headers additionalHeaders) throws IOException {
+        String bearerHeaderValue = "Bearer " + token;
+        Request.Builder builder = new Request.Builder().url(url);
+        if (additionalHeaders != null) {
+            builder.headers(additionalHeaders);
+        }
+        Request request = builder.header("Authorization", bearerHeaderValue).get().build();
         return okHttpClient.newCall(request).execute();
     }
 
+    public CompletableFuture<Response> postMultipartAsync(String url, String token, MultipartBody multipartBody) {
+        String bearerHeaderValue = "Bearer " + token;
+        Request request = new Request.Builder().url(url).header("Authorization", bearerHeaderValue).post(multipartBody).build();
+        return enqueue(request, token);
+    }
+
+    public CompletableFuture<Response> postFormAsync(String url, FormBody formBody) {
+        Request request = new Request.Builder().url(url).post(formBody).build();
+        return enqueue(request, null);
+    }
+
+    public CompletableFuture<Response> postFormWithBearerHeaderAsync(String url, String token, FormBody formBody) {
+        String bearerHeaderValue = "Bearer " + token;
+        Request request = new Request.Builder().url(url).header("Authorization", bearerHeaderValue).post(formBody).build();
+        return enqueue(request, token);
+    }
+
+    /**
+     * Sends an API method request through the bulkhead and the circuit breaker if they are enabled.
+     */
+    private Response execute(Request request, String token) throws IOException {
+        SlackBulkheads bulkheads = config != null ? config.getBulkheads() : null;
+        SlackCircuitBreaker circuitBreaker = config != null ? config.getCircuitBreaker() : null;
+        if (bulkheads == null && circuitBreaker == null) {
+            return okHttpClient.newCall(request).execute();
+        }
+        String method = toMethod(request.url());
+        SlackBulkheads.Permit bulkheadPermit = bulkheads != null ? bulkheads.acquire(method) : null;
+        try {
+            SlackCircuitBreaker.Permit circuitPermit = circuitBreaker != null ? circuitBreaker.acquire(method, token) : null;
+            try {
+                Response response = okHttpClient.newCall(request).execute();
+                if (circuitPermit != null) {
+                    reportToCircuitBreaker(circuitPermit, response);
+                }
+                return response;
+            } catch (IOException e) {
+                if (circuitPermit != null) {
+                    circuitPermit.onFailure();
+                }
+                throw e;
+            } finally {
+                // gives back a permit not reported yet (e.g., a RuntimeException), so a half-open circuit isn't stuck
+                if (circuitPermit != null) {
+                    circuitPermit.onCancel();
+                }
+            }
+        } finally {
+            if (bulkheadPermit != null) {
+                bulkheadPermit.release();
+            }
+        }
+    }
+
+    private static String toMethod(HttpUrl url) {
+        List<String> segments = url.pathSegments();
+        return segments.get(segments.size() - 1);
+    }
+
+    private static void reportToCircuitBreaker(SlackCircuitBreaker.Permit permit, Response response) {
+        if (response.code() >= 500) {
+            permit.onFailure();
+        } else {
+            permit.onSuccess();
+        }
+    }
+
+    /**
+     * Enqueues the request to the OkHttp dispatcher instead of blocking the caller thread.
+     * Cancelling the returned future cancels the underlying call.
+     * The bulkheads don't wait for a permit here; the future fails right away when the API family is full.
+     * SlackConfig#methodsRateLimiter isn't applied, as it blocks the caller until a permit is available.
+     */
+    private CompletableFuture<Response> enqueue(Request request, String token) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        SlackBulkheads bulkheads = config != null ? config.getBulkheads() : null;
+        SlackCircuitBreaker circuitBreaker = config != null ? config.getCircuitBreaker() : null;
+        String method = toMethod(request.url());
+        SlackBulkheads.Permit bulkheadPermit = null;
+        SlackCircuitBreaker.Permit circuitPermit = null;
+        try {
+            bulkheadPermit = bulkheads != null ? bulkheads.tryAcquire(method) : null;
+            circuitPermit = circuitBreaker != null ? circuitBreaker.acquire(method, token) : null;
+        } catch (IOException | RuntimeException e) {
+            if (bulkheadPermit != null) {
+                bulkheadPermit.release();
+            }
+            future.completeExceptionally(e);
+            return future;
+        }
+        SlackBulkheads.Permit acquiredBulkheadPermit = bulkheadPermit;
+        SlackCircuitBreaker.Permit acquiredCircuitPermit = circuitPermit;
+        Callback callback = new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (acquiredCircuitPermit != null) {
+                    if (call.isCanceled()) {
+                        acquiredCircuitPermit.onCancel();
+                    } else {
+                        acquiredCircuitPermit.onFailure();
+                    }
+                }
+                if (acquiredBulkheadPermit != null) {
+                    acquiredBulkheadPermit.release();
+                }
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                if (acquiredCircuitPermit != null) {
+                    reportToCircuitBreaker(acquiredCircuitPermit, response);
+                }
+                if (acquiredBulkheadPermit != null) {
+                    acquiredBulkheadPermit.release();
+                }
+                if (!future.complete(response)) {
+                    // cancelled meanwhile; nobody else will close it
+                    response.close();
+                }
+            }
+        };
+        Call call;
+        try {
+            call = okHttpClient.newCall(request);
+            call.enqueue(callback);
+        } catch (RuntimeException e) {
+            if (acquiredCircuitPermit != null) {
+                acquiredCircuitPermit.onCancel();
+            }
+            if (acquiredBulkheadPermit != null) {
+                acquiredBulkheadPermit.release();
+            }
+            future.completeExceptionally(e);
+            return future;
+        }
+        future.whenComplete((response, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
     public Response postJsonPostRequest(String url, Object obj) throws IOException {
         RequestBody body = RequestBody.create(MediaType.parse("application/json; charset=utf-8"), toJsonString(obj));
         Request request = new Request.Builder().url(url).post(body).build();
@@ -68,23 +252,127 @@ public class SlackHttpClient {
 
 
     public void runHttpResponseListeners(Response response, String body) {
-        HttpResponseListener.State state = new HttpResponseListener.State(config, response, body);
-        for (HttpResponseListener responseListener : config.getHttpClientResponseHandlers()) {
-            responseListener.accept(state);
+        List<HttpResponseListener> listeners = config.getHttpClientResponseHandlers();
+        HttpResponseListener.State state = null;
+        for (int i = 0; i < listeners.size(); i++) {
+            HttpResponseListener listener = listeners.get(i);
+            if (listener.isActive(config)) {
+                if (state == null) {
+                    state = new HttpResponseListener.State(config, response, body);
+                }
+                listener.accept(state);
+            }
         }
     }
 
+    /**
+     * Runs the listeners with the response body which is loaded only when a listener reads it.
+     */
+    public void runHttpResponseListeners(Response response, Supplier<String> bodyLoader) {
+        List<HttpResponseListener> listeners = config.getHttpClientResponseHandlers();
+        HttpResponseListener.State state = null;
+        for (int i = 0; i < listeners.size(); i++) {
+            HttpResponseListener listener = listeners.get(i);
+            if (listener.isActive(config)) {
+                if (state == null) {
+                    state = new HttpResponseListener.State(config, response, bodyLoader);
+                }
+                listener.accept(state);
+            }
+        }
+    }
+
+    /**
+     * Parses the response body while streaming it, without building the whole body as a String.
+     * The body is copied aside only when a registered listener requires it.
+     */
     public <T> T parseJsonResponse(Response response, Class<T> clazz) throws IOException, SlackApiException {
         if (response.code() == 200) {
-            String body = response.body().string();
-            runHttpResponseListeners(response, body);
-            return GsonFactory.createSnakeCase(config).fromJson(body, clazz);
+            Gson gson = GsonFactory.createSnakeCase(config);
+            try (ResponseBody body = response.body()) {
+                ListenerRequirement requirement = getListenerRequirement();
+                if (requirement != ListenerRequirement.BODY) {
+                    T result;
+                    try {
+                        result = parse(gson, body.charStream(), clazz);
+                    } catch (IOException | RuntimeException e) {
+                        if (requirement == ListenerRequirement.STATE) {
+                            runHttpResponseListeners(response, (String) null);
+                        }
+                        throw e;
+                    }
+                    if (requirement == ListenerRequirement.STATE) {
+                        runHttpResponseListeners(response, (String) null);
+                    }
+                    return result;
+                }
+                Charset charset = body.contentType() != null
+                        ? body.contentType().charset(StandardCharsets.UTF_8)
+                        : StandardCharsets.UTF_8;
+                Buffer captured = new Buffer();
+                BufferedSource source = Okio.buffer(new ForwardingSource(body.source()) {
+                    @Override
+                    public long read(Buffer sink, long byteCount) throws IOException {
+                        long read = super.read(sink, byteCount);
+                        if (read > 0) {
+                            sink.copyTo(captured, sink.size() - read, read);
+                        }
+                        return read;
+                    }
+                });
+                T result;
+                try {
+                    result = parse(gson, new InputStreamReader(source.inputStream(), charset), clazz);
+                } catch (IOException | RuntimeException e) {
+                    // the listeners (e.g., DetailedLoggingListener) still get the body that failed to be parsed
+                    try {
+                        source.readAll(Okio.blackhole());
+                    } catch (IOException ignore) {
+                        // logs what has been read so far
+                    }
+                    runHttpResponseListeners(response, () -> captured.readString(charset));
+                    throw e;
+                }
+                runHttpResponseListeners(response, () -> captured.readString(charset));
+                return result;
+            }
         } else {
             String body = response.body().string();
             throw new SlackApiException(response, body);
         }
     }
 
+    private enum ListenerRequirement {
+        NONE, STATE, BODY
+    }
+
+    private ListenerRequirement getListenerRequirement() {
+        ListenerRequirement requirement = ListenerRequirement.NONE;
+        List<HttpResponseListener> listeners = config.getHttpClientResponseHandlers();
+        for (int i = 0; i < listeners.size(); i++) {
+            HttpResponseListener listener = listeners.get(i);
+            if (listener.isActive(config)) {
+                if (listener.isResponseBodyRequired(config)) {
+                    return ListenerRequirement.BODY;
+                }
+                requirement = ListenerRequirement.STATE;
+            }
+        }
+        return requirement;
+    }
+
+    private static <T> T parse(Gson gson, Reader reader, Class<T> clazz) throws IOException {
+        try {
+            return gson.fromJson(reader, clazz);
+        } catch (JsonParseException e) {
+            // Gson wraps the I/O errors while reading the stream (JsonIOException or JsonSyntaxException)
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     private static final DetailedLoggingListener DETAILED_LOGGER = new DetailedLoggingListener();
 
     // use parseJsonResponse instead
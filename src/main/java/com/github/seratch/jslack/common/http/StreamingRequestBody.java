@@ -0,0 +1,175 @@
+package com.github.seratch.jslack.common.http;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A request body which streams its content with a constant-size buffer instead of loading it in memory.
+ * <p>
+ * Files are memory-mapped in windows of {@link #MAPPED_WINDOW_SIZE} bytes.
+ * InputStream and ReadableByteChannel contents can be written only once ({@link #isOneShot()}),
+ * so neither MethodsRateLimiter nor MethodsRetryPolicy resends the requests with them.
+ */
+public abstract class StreamingRequestBody extends RequestBody {
+
+    public static final int BUFFER_SIZE = 8192;
+    public static final long MAPPED_WINDOW_SIZE = 4L * 1024 * 1024;
+
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called on the sending thread every time a chunk has been written.
+         *
+         * @param contentLength -1 when unknown
+         */
+        void onProgress(long bytesWritten, long contentLength);
+    }
+
+    private final MediaType contentType;
+    private final long contentLength;
+    private final ProgressListener progressListener;
+
+    protected StreamingRequestBody(MediaType contentType, long contentLength, ProgressListener progressListener) {
+        this.contentType = contentType;
+        this.contentLength = contentLength;
+        this.progressListener = progressListener;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    protected void reportProgress(long bytesWritten) {
+        if (progressListener != null) {
+            progressListener.onProgress(bytesWritten, contentLength);
+        }
+    }
+
+    public static StreamingRequestBody create(MediaType contentType, Path path, ProgressListener listener) throws IOException {
+        return new StreamingRequestBody(contentType, Files.size(path), listener) {
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    long size = channel.size();
+                    long position = 0L;
+                    while (position < size) {
+                        MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                                position, Math.min(MAPPED_WINDOW_SIZE, size - position));
+                        position += writeInChunks(window, sink, position, this);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * The remaining bytes of the buffer are written. The buffer's position is not changed.
+     */
+    public static StreamingRequestBody create(MediaType contentType, ByteBuffer buffer, ProgressListener listener) {
+        return new StreamingRequestBody(contentType, buffer.remaining(), listener) {
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                writeInChunks(buffer.duplicate(), sink, 0L, this);
+            }
+        };
+    }
+
+    /**
+     * @param contentLength -1 when unknown, the body is sent with chunked transfer encoding then
+     */
+    public static StreamingRequestBody create(MediaType contentType, InputStream input, long contentLength, ProgressListener listener) {
+        return new OneShot(contentType, contentLength, listener) {
+            @Override
+            protected void writeContent(BufferedSink sink) throws IOException {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long written = 0L;
+                try (InputStream in = input) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        sink.write(buffer, 0, read);
+                        written += read;
+                        reportProgress(written);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * @param contentLength -1 when unknown, the body is sent with chunked transfer encoding then
+     */
+    public static StreamingRequestBody create(MediaType contentType, ReadableByteChannel channel, long contentLength, ProgressListener listener) {
+        return new OneShot(contentType, contentLength, listener) {
+            @Override
+            protected void writeContent(BufferedSink sink) throws IOException {
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                long written = 0L;
+                try (ReadableByteChannel in = channel) {
+                    while (in.read(buffer) != -1) {
+                        buffer.flip();
+                        written += sink.write(buffer);
+                        buffer.clear();
+                        reportProgress(written);
+                    }
+                }
+            }
+        };
+    }
+
+    private abstract static class OneShot extends StreamingRequestBody {
+        private final AtomicBoolean written = new AtomicBoolean(false);
+
+        private OneShot(MediaType contentType, long contentLength, ProgressListener listener) {
+            super(contentType, contentLength, listener);
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return true;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            if (!written.compareAndSet(false, true)) {
+                // e.g., a retry after the content has been consumed
+                throw new IOException("The content has already been sent and cannot be sent again");
+            }
+            writeContent(sink);
+        }
+
+        protected abstract void writeContent(BufferedSink sink) throws IOException;
+    }
+
+    // writes the buffer in BUFFER_SIZE slices so that the progress is reported regularly
+    private static long writeInChunks(ByteBuffer buffer, BufferedSink sink, long writtenBefore, StreamingRequestBody body) throws IOException {
+        long written = 0L;
+        while (buffer.hasRemaining()) {
+            ByteBuffer slice = buffer.slice();
+            slice.limit(Math.min(BUFFER_SIZE, slice.remaining()));
+            int count = sink.write(slice);
+            buffer.position(buffer.position() + count);
+            written += count;
+            body.reportProgress(writtenBefore + written);
+        }
+        return written;
+    }
+
+}
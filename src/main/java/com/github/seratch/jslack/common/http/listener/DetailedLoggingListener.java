@@ -1,6 +1,11 @@
 package com.github.seratch.jslack.common.http.listener;
 
+import com.github.seratch.jslack.SlackConfig;
 import lombok.extern.slf4j.Slf4j;
+import com.github.seratch.jslack.common.http.StreamingRequestBody;
+import okhttp3.FormBody;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
 import okhttp3.Response;
 import okio.Buffer;
 
@@ -9,31 +14,40 @@ import java.io.IOException;
 @Slf4j
 public class DetailedLoggingListener extends HttpResponseListener {
 
+    @Override
+    public boolean isActive(SlackConfig config) {
+        return log.isDebugEnabled();
+    }
+
     @Override
     public void accept(State state) {
         if (log.isDebugEnabled()) {
             Response response = state.getResponse();
             String body = state.getParsedResponseBody();
-
-            Buffer requestBody = new Buffer();
-            try {
-                response.request().body().writeTo(requestBody);
-            } catch (IOException e) {
-                log.error("Failed to read the request body because {}", e.getMessage(), e);
-            }
+            RequestBody requestBody = response.request().body();
 
             String textRequestBody = null;
-            try {
-                textRequestBody = requestBody.buffer().readUtf8();
-            } catch (Exception e) {
-                log.debug("Failed to read request body because {}, error: {}", e.getMessage(), e.getClass().getCanonicalName());
-            }
-
             Long contentLength = null;
-            try {
-                contentLength = response.request().body().contentLength();
-            } catch (IOException e) {
-                log.error("Failed to read the content length because {}", e.getMessage(), e);
+            if (requestBody instanceof FormBody) {
+                // FormBody holds the encoded fields, no need to write them into a buffer
+                textRequestBody = toEncodedString((FormBody) requestBody);
+                contentLength = (long) textRequestBody.length();
+            } else if (requestBody instanceof MultipartBody || requestBody instanceof StreamingRequestBody
+                    || (requestBody != null && requestBody.isOneShot())) {
+                // writing these bodies would load whole files in memory or consume one-shot streams
+                textRequestBody = "(omitted)";
+                contentLength = contentLengthOrNull(requestBody);
+            } else if (requestBody != null) {
+                Buffer buffer = new Buffer();
+                try {
+                    requestBody.writeTo(buffer);
+                    contentLength = buffer.size();
+                    textRequestBody = buffer.readUtf8();
+                } catch (IOException e) {
+                    log.error("Failed to read the request body because {}", e.getMessage(), e);
+                } catch (Exception e) {
+                    log.debug("Failed to read request body because {}, error: {}", e.getMessage(), e.getClass().getCanonicalName());
+                }
             }
 
             log.debug("\n[Request URL]\n{} {}\n" +
@@ -49,7 +63,7 @@ public class DetailedLoggingListener extends HttpResponseListener {
                     response.request().url(),
                     response.request().headers(),
                     textRequestBody,
-                    response.request().body().contentType(),
+                    requestBody != null ? requestBody.contentType() : null,
                     contentLength,
                     response.code(),
                     response.message(),
@@ -57,4 +71,24 @@ public class DetailedLoggingListener extends HttpResponseListener {
                     body);
         }
     }
+
+    private static Long contentLengthOrNull(RequestBody requestBody) {
+        try {
+            long length = requestBody.contentLength();
+            return length >= 0 ? length : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String toEncodedString(FormBody formBody) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < formBody.size(); i++) {
+            if (i > 0) {
+                sb.append('&');
+            }
+            sb.append(formBody.encodedName(i)).append('=').append(formBody.encodedValue(i));
+        }
+        return sb.toString();
+    }
 }
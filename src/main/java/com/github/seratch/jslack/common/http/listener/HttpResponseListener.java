@@ -1,22 +1,63 @@
 package com.github.seratch.jslack.common.http.listener;
 
 import com.github.seratch.jslack.SlackConfig;
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import okhttp3.Response;
 
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public abstract class HttpResponseListener implements Consumer<HttpResponseListener.State> {
 
     public abstract void accept(State state);
 
-    @AllArgsConstructor
+    /**
+     * Returns false if this listener does nothing with the given config (e.g., its logger is disabled).
+     * When no listener is active, the client skips capturing the body and building the State.
+     */
+    public boolean isActive(SlackConfig config) {
+        return true;
+    }
+
+    /**
+     * Returns false if this listener doesn't read State#getParsedResponseBody() with the given config.
+     * When no listener requires it, API responses are parsed without keeping a copy of the body.
+     */
+    public boolean isResponseBodyRequired(SlackConfig config) {
+        return true;
+    }
+
     @Data
     public static class State {
         private SlackConfig config;
         private Response response;
         private String parsedResponseBody;
+
+        @EqualsAndHashCode.Exclude
+        @ToString.Exclude
+        private Supplier<String> responseBodyLoader;
+
+        public State(SlackConfig config, Response response, String parsedResponseBody) {
+            this.config = config;
+            this.response = response;
+            this.parsedResponseBody = parsedResponseBody;
+        }
+
+        public State(SlackConfig config, Response response, Supplier<String> responseBodyLoader) {
+            this.config = config;
+            this.response = response;
+            this.responseBodyLoader = responseBodyLoader;
+        }
+
+        public String getParsedResponseBody() {
+            if (parsedResponseBody == null && responseBodyLoader != null) {
+                parsedResponseBody = responseBodyLoader.get();
+                responseBodyLoader = null;
+            }
+            return parsedResponseBody;
+        }
     }
 
 }
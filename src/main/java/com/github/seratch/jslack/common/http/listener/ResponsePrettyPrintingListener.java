@@ -12,6 +12,11 @@ public class ResponsePrettyPrintingListener extends HttpResponseListener {
     private static final Logger JSON_RESPONSE_LOGGER = LoggerFactory.getLogger("com.github.seratach.jslack.maintainer.json");
     private static final JsonParser JSON_PARSER = new JsonParser();
 
+    @Override
+    public boolean isActive(SlackConfig config) {
+        return config.isPrettyResponseLoggingEnabled() && JSON_RESPONSE_LOGGER.isDebugEnabled();
+    }
+
     @Override
     public void accept(State state) {
         SlackConfig config = state.getConfig();
@@ -0,0 +1,78 @@
+package com.github.seratch.jslack.common.json;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * Finds the channel ID of an event payload without parsing the whole JSON data,
+ * so that the dispatchers can keep the events in the same channel in order.
+ */
+@Slf4j
+public class ChannelIdDetector {
+    private ChannelIdDetector() {
+    }
+
+    /**
+     * Finds the channel ID of an Events API payload (event.channel, event.channel.id, event.channel_id or event.item.channel).
+     */
+    public static String detectFromEventsApiPayload(String json) {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("event") && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                    return findChannelId(reader);
+                }
+                reader.skipValue();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to detect channel ID from the given JSON data: {}", json);
+        }
+        return null;
+    }
+
+    /**
+     * Finds the channel ID of an RTM message (channel, channel.id, channel_id or item.channel).
+     */
+    public static String detectFromRTMMessage(String json) {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            return findChannelId(reader);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to detect channel ID from the given JSON data: {}", json);
+        }
+        return null;
+    }
+
+    private static String findChannelId(JsonReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            JsonToken token = reader.peek();
+            if (token == JsonToken.STRING && (name.equals("channel") || name.equals("channel_id"))) {
+                return reader.nextString();
+            } else if (token == JsonToken.BEGIN_OBJECT && name.equals("channel")) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (reader.nextName().equals("id") && reader.peek() == JsonToken.STRING) {
+                        return reader.nextString();
+                    }
+                    reader.skipValue();
+                }
+                reader.endObject();
+            } else if (token == JsonToken.BEGIN_OBJECT && name.equals("item")) {
+                String channelId = findChannelId(reader);
+                if (channelId != null) {
+                    return channelId;
+                }
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return null;
+    }
+
+}
@@ -9,31 +9,63 @@ import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Provides Gson instances for the Slack API payloads.
+ * <p>
+ * Gson objects are immutable and thread-safe, and each of them holds its own TypeAdapter cache.
+ * Building a new one for every call throws the cache away and runs the reflection again,
+ * so this factory returns shared instances keyed by the config flags that affect serialization.
+ */
 public class GsonFactory {
     private GsonFactory() {
     }
 
+    // index: (libraryMaintainerMode ? 1 : 0) | (prettyResponseLoggingEnabled ? 2 : 0)
+    private static final AtomicReferenceArray<Gson> SHARED_INSTANCES = new AtomicReferenceArray<>(4);
+
+    private static final int DEFAULT_INDEX = 0;
+
+    /**
+     * Returns the shared snake_case Gson instance.
+     */
     public static Gson createSnakeCase() {
-        return new GsonBuilder()
-                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-                .registerTypeAdapter(LayoutBlock.class, new GsonLayoutBlockFactory())
-                .registerTypeAdapter(TextObject.class, new GsonTextObjectFactory())
-                .registerTypeAdapter(ContextBlockElement.class, new GsonContextBlockElementFactory())
-                .registerTypeAdapter(BlockElement.class, new GsonBlockElementFactory())
-                .create();
+        return getOrCreate(DEFAULT_INDEX);
     }
 
+    /**
+     * Returns the shared snake_case Gson instance for the given config.
+     */
     public static Gson createSnakeCase(SlackConfig config) {
+        return getOrCreate(toIndex(config.isLibraryMaintainerMode(), config.isPrettyResponseLoggingEnabled()));
+    }
+
+    private static int toIndex(boolean libraryMaintainerMode, boolean prettyResponseLoggingEnabled) {
+        return (libraryMaintainerMode ? 1 : 0) | (prettyResponseLoggingEnabled ? 2 : 0);
+    }
+
+    private static Gson getOrCreate(int index) {
+        Gson gson = SHARED_INSTANCES.get(index);
+        if (gson != null) {
+            return gson;
+        }
+        // building the same instance twice in a race is harmless; only one of them is kept
+        SHARED_INSTANCES.compareAndSet(index, null, build((index & 1) != 0, (index & 2) != 0));
+        return SHARED_INSTANCES.get(index);
+    }
+
+    private static Gson build(boolean libraryMaintainerMode, boolean prettyResponseLoggingEnabled) {
         GsonBuilder gsonBuilder = new GsonBuilder()
                 .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
                 .registerTypeAdapter(LayoutBlock.class, new GsonLayoutBlockFactory())
                 .registerTypeAdapter(TextObject.class, new GsonTextObjectFactory())
                 .registerTypeAdapter(ContextBlockElement.class, new GsonContextBlockElementFactory())
                 .registerTypeAdapter(BlockElement.class, new GsonBlockElementFactory());
-        if (config.isLibraryMaintainerMode()) {
+        if (libraryMaintainerMode) {
             gsonBuilder = gsonBuilder.registerTypeAdapterFactory(new UnknownPropertyDetectionAdapterFactory());
         }
-        if (config.isPrettyResponseLoggingEnabled()) {
+        if (prettyResponseLoggingEnabled) {
             gsonBuilder = gsonBuilder.setPrettyPrinting();
         }
         return gsonBuilder.create();
@@ -0,0 +1,590 @@
+package com.github.seratch.jslack.directory;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.api.methods.MethodsClient;
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.request.conversations.ConversationsListRequest;
+import com.github.seratch.jslack.api.methods.request.usergroups.UsergroupsListRequest;
+import com.github.seratch.jslack.api.methods.request.users.UsersListRequest;
+import com.github.seratch.jslack.api.methods.response.usergroups.UsergroupsListResponse;
+import com.github.seratch.jslack.api.model.Conversation;
+import com.github.seratch.jslack.api.model.ConversationType;
+import com.github.seratch.jslack.api.model.User;
+import com.github.seratch.jslack.api.model.Usergroup;
+import com.github.seratch.jslack.api.model.event.*;
+import com.github.seratch.jslack.api.rtm.RTMEventHandler;
+import com.github.seratch.jslack.api.rtm.RTMEventsDispatcher;
+import com.github.seratch.jslack.app_backend.events.EventsDispatcher;
+import com.github.seratch.jslack.app_backend.events.handler.*;
+import com.github.seratch.jslack.app_backend.events.payload.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * An in-memory directory of a workspace's users, channels and user groups.
+ * <p>
+ * Call #load() once to fetch everything via the paginated list methods, then register this directory
+ * to an RTMEventsDispatcher or an EventsDispatcher to keep it fresh with the change events.
+ * All the lookups are done in memory and never call the API.
+ * <p>
+ * This class is thread-safe. Lookups don't block; updates are serialized.
+ */
+@Slf4j
+public class WorkspaceDirectory {
+
+    private final MethodsClient methods;
+    private final String token;
+
+    private final Index<User> users = new Index<>(User::getId, User::getName);
+    private final Index<Conversation> conversations = new Index<>(Conversation::getId, Conversation::getName);
+    private final Index<Usergroup> usergroups = new Index<>(Usergroup::getId, Usergroup::getHandle);
+
+    public WorkspaceDirectory(Slack slack, String token) {
+        this(slack.methods(), token);
+    }
+
+    public WorkspaceDirectory(MethodsClient methods, String token) {
+        this.methods = methods;
+        this.token = token;
+    }
+
+    // ------------------------------
+    // bulk load
+
+    /**
+     * Loads all the users, channels (public and private) and user groups.
+     */
+    public void load() throws IOException, SlackApiException {
+        loadUsers();
+        loadConversations();
+        loadUsergroups();
+    }
+
+    public void loadUsers() throws IOException, SlackApiException {
+        UsersListRequest request = UsersListRequest.builder().token(token).limit(1000).build();
+        users.replaceAll(collect(methods.paginate(request)));
+    }
+
+    public void loadConversations() throws IOException, SlackApiException {
+        ConversationsListRequest request = ConversationsListRequest.builder()
+                .token(token)
+                .limit(1000)
+                .types(Arrays.asList(ConversationType.PUBLIC_CHANNEL, ConversationType.PRIVATE_CHANNEL))
+                .build();
+        conversations.replaceAll(collect(methods.paginate(request)));
+    }
+
+    /**
+     * Loads the public channels only, which doesn't need the groups:read scope.
+     * The private channels already in this directory are kept as-is.
+     */
+    public void loadPublicChannels() throws IOException, SlackApiException {
+        ConversationsListRequest request = ConversationsListRequest.builder()
+                .token(token)
+                .limit(1000)
+                .types(Collections.singletonList(ConversationType.PUBLIC_CHANNEL))
+                .build();
+        conversations.replaceAll(collect(methods.paginate(request)), c -> !c.isPrivate() && !c.isGroup());
+    }
+
+    public void loadUsergroups() throws IOException, SlackApiException {
+        UsergroupsListResponse response = methods.usergroupsList(UsergroupsListRequest.builder()
+                .token(token)
+                .includeUsers(true)
+                .build());
+        if (!response.isOk()) {
+            throw new IllegalStateException("Failed to load user groups (error: " + response.getError() + ")");
+        }
+        usergroups.replaceAll(response.getUsergroups());
+    }
+
+    private static <T> List<T> collect(Stream<T> stream) throws IOException, SlackApiException {
+        try (Stream<T> items = stream) {
+            List<T> result = new ArrayList<>();
+            items.forEach(result::add);
+            return result;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof SlackApiException) {
+                throw (SlackApiException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // ------------------------------
+    // lookups
+
+    public Optional<User> findUserById(String id) {
+        return users.findById(id);
+    }
+
+    public Optional<User> findUserByName(String name) {
+        return users.findByName(name);
+    }
+
+    public Optional<Conversation> findConversationById(String id) {
+        return conversations.findById(id);
+    }
+
+    public Optional<Conversation> findConversationByName(String name) {
+        return conversations.findByName(name);
+    }
+
+    public Optional<Usergroup> findUsergroupById(String id) {
+        return usergroups.findById(id);
+    }
+
+    public Optional<Usergroup> findUsergroupByHandle(String handle) {
+        return usergroups.findByName(handle);
+    }
+
+    public Collection<User> getUsers() {
+        return users.values();
+    }
+
+    public Collection<Conversation> getConversations() {
+        return conversations.values();
+    }
+
+    public Collection<Usergroup> getUsergroups() {
+        return usergroups.values();
+    }
+
+    // ------------------------------
+    // incremental updates
+
+    public void putUser(User user) {
+        users.put(user);
+    }
+
+    public void putConversation(Conversation conversation) {
+        conversations.put(conversation);
+    }
+
+    public void removeConversation(String id) {
+        conversations.remove(id);
+    }
+
+    public void putUsergroup(Usergroup usergroup) {
+        usergroups.put(usergroup);
+    }
+
+    public void apply(ChannelCreatedEvent event) {
+        ChannelCreatedEvent.Channel channel = event.getChannel();
+        if (channel != null) {
+            putConversation(Conversation.builder()
+                    .id(channel.getId())
+                    .name(channel.getName())
+                    .created(channel.getCreated() != null ? String.valueOf(channel.getCreated()) : null)
+                    .creator(channel.getCreator())
+                    .isChannel(true)
+                    .build());
+        }
+    }
+
+    public void apply(ChannelRenameEvent event) {
+        if (event.getChannel() != null) {
+            rename(event.getChannel().getId(), event.getChannel().getName());
+        }
+    }
+
+    public void apply(GroupRenameEvent event) {
+        if (event.getChannel() != null) {
+            rename(event.getChannel().getId(), event.getChannel().getName());
+        }
+    }
+
+    public void apply(ChannelArchiveEvent event) {
+        setArchived(event.getChannel(), true);
+    }
+
+    public void apply(ChannelUnarchiveEvent event) {
+        setArchived(event.getChannel(), false);
+    }
+
+    public void apply(GroupArchiveEvent event) {
+        setArchived(event.getChannel(), true);
+    }
+
+    public void apply(GroupUnarchiveEvent event) {
+        setArchived(event.getChannel(), false);
+    }
+
+    public void apply(ChannelDeletedEvent event) {
+        removeConversation(event.getChannel());
+    }
+
+    public void apply(GroupDeletedEvent event) {
+        removeConversation(event.getChannel());
+    }
+
+    public void apply(UserChangeEvent event) {
+        if (event.getUser() != null) {
+            putUser(event.getUser());
+        }
+    }
+
+    public void apply(TeamJoinEvent event) {
+        if (event.getUser() != null) {
+            putUser(event.getUser());
+        }
+    }
+
+    public void apply(SubteamCreatedEvent event) {
+        SubteamCreatedEvent.Subteam subteam = event.getSubteam();
+        if (subteam != null) {
+            putUsergroup(Usergroup.builder()
+                    .id(subteam.getId())
+                    .teamId(subteam.getTeamId())
+                    .usergroup(subteam.isUsergroup())
+                    .name(subteam.getName())
+                    .description(subteam.getDescription())
+                    .handle(subteam.getHandle())
+                    .external(subteam.isExternal())
+                    .dateCreate(subteam.getDateCreate())
+                    .dateUpdate(subteam.getDateUpdate())
+                    .dateDelete(subteam.getDateDelete())
+                    .autoType(subteam.getAutoType())
+                    .createdBy(subteam.getCreatedBy())
+                    .updatedBy(subteam.getUpdatedBy())
+                    .deletedBy(subteam.getDeletedBy())
+                    .prefs(toPrefs(subteam.getPrefs() != null ? subteam.getPrefs().getChannels() : null,
+                            subteam.getPrefs() != null ? subteam.getPrefs().getGroups() : null))
+                    .userCount(parseUserCount(subteam.getUserCount()))
+                    .build());
+        }
+    }
+
+    public void apply(SubteamUpdatedEvent event) {
+        SubteamUpdatedEvent.Subteam subteam = event.getSubteam();
+        if (subteam != null) {
+            putUsergroup(Usergroup.builder()
+                    .id(subteam.getId())
+                    .teamId(subteam.getTeamId())
+                    .usergroup(subteam.isUsergroup())
+                    .name(subteam.getName())
+                    .description(subteam.getDescription())
+                    .handle(subteam.getHandle())
+                    .external(subteam.isExternal())
+                    .dateCreate(subteam.getDateCreate())
+                    .dateUpdate(subteam.getDateUpdate())
+                    .dateDelete(subteam.getDateDelete())
+                    .autoType(subteam.getAutoType())
+                    .createdBy(subteam.getCreatedBy())
+                    .updatedBy(subteam.getUpdatedBy())
+                    .deletedBy(subteam.getDeletedBy())
+                    .prefs(toPrefs(subteam.getPrefs() != null ? subteam.getPrefs().getChannels() : null,
+                            subteam.getPrefs() != null ? subteam.getPrefs().getGroups() : null))
+                    .users(subteam.getUsers())
+                    .userCount(parseUserCount(subteam.getUserCount()))
+                    .build());
+        }
+    }
+
+    private void rename(String id, String newName) {
+        conversations.update(id, conversation -> conversation.toBuilder().name(newName).build());
+    }
+
+    private void setArchived(String id, boolean archived) {
+        conversations.update(id, conversation -> conversation.toBuilder().isArchived(archived).build());
+    }
+
+    private static Usergroup.Prefs toPrefs(List<String> channels, List<String> groups) {
+        Usergroup.Prefs prefs = new Usergroup.Prefs();
+        prefs.setChannels(channels);
+        prefs.setGroups(groups);
+        return prefs;
+    }
+
+    private static Integer parseUserCount(String userCount) {
+        if (userCount == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(userCount);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // ------------------------------
+    // dispatcher integration
+
+    /**
+     * Keeps this directory fresh with the RTM events.
+     */
+    public void registerTo(RTMEventsDispatcher dispatcher) {
+        dispatcher.register(new RTMEventHandler<ChannelCreatedEvent>() {
+            @Override
+            public void handle(ChannelCreatedEvent event) {
+                apply(event);
+            }
+        });
+        dispatcher.register(new RTMEventHandler<ChannelRenameEvent>() {
+            @Override
+            public void handle(ChannelRenameEvent event) {
+                apply(event);
+            }
+        });
+        dispatcher.register(new RTMEventHandler<ChannelArchiveEvent>() {
+            @Override
+            public void handle(ChannelArchiveEvent event) {
+                apply(event);
+            }
+        });
+        dispatcher.register(new RTMEventHandler<ChannelUnarchiveEvent>() {
+            @Override
+            public void handle(ChannelUnarchiveEvent event) {
+                apply(event);
+            }
+        });
+        dispatcher.register(new RTMEventHandler<ChannelDeletedEvent>() {
+            @Override
+            public void handle(ChannelDeletedEvent event) {
+                apply(event);
+            }
+        });
+        dispatcher.register(new RTMEventHandler<GroupRenameEvent>() {
+            @Override
+            public void handle(GroupRenameEvent event) {
+                apply(event);
+            }
+        });
+        dispatcher.register(new RTMEventHandler<GroupArchiveEvent>() {
+            @Override
+            public void handle(GroupArchiveEvent event) {
+                apply(event);
+            }
+        });
+        dispatcher.register(new RTMEventHandler<GroupUnarchiveEvent>() {
+            @Override
+            public void handle(GroupUnarchiveEvent event) {
+                apply(event);
+            }
+        });
+        dispatcher.register(new RTMEventHandler<GroupDeletedEvent>() {
+            @Override
+            public void handle(GroupDeletedEvent event) {
+                apply(event);
+            }
+        });
+        dispatcher.register(new RTMEventHandler<UserChangeEvent>() {
+            @Override
+            public void handle(UserChangeEvent event) {
+                apply(event);
+            }
+        });
+        dispatcher.register(new RTMEventHandler<TeamJoinEvent>() {
+            @Override
+            public void handle(TeamJoinEvent event) {
+                apply(event);
+            }
+        });
+        dispatcher.register(new RTMEventHandler<SubteamCreatedEvent>() {
+            @Override
+            public void handle(SubteamCreatedEvent event) {
+                apply(event);
+            }
+        });
+        dispatcher.register(new RTMEventHandler<SubteamUpdatedEvent>() {
+            @Override
+            public void handle(SubteamUpdatedEvent event) {
+                apply(event);
+            }
+        });
+    }
+
+    /**
+     * Keeps this directory fresh with the Events API events.
+     */
+    public void registerTo(EventsDispatcher dispatcher) {
+        dispatcher.register(new ChannelCreatedHandler() {
+            @Override
+            public void handle(ChannelCreatedPayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+        dispatcher.register(new ChannelRenameHandler() {
+            @Override
+            public void handle(ChannelRenamePayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+        dispatcher.register(new ChannelArchiveHandler() {
+            @Override
+            public void handle(ChannelArchivePayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+        dispatcher.register(new ChannelUnarchiveHandler() {
+            @Override
+            public void handle(ChannelUnarchivePayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+        dispatcher.register(new ChannelDeletedHandler() {
+            @Override
+            public void handle(ChannelDeletedPayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+        dispatcher.register(new GroupRenameHandler() {
+            @Override
+            public void handle(GroupRenamePayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+        dispatcher.register(new GroupArchiveHandler() {
+            @Override
+            public void handle(GroupArchivePayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+        dispatcher.register(new GroupUnarchiveHandler() {
+            @Override
+            public void handle(GroupUnarchivePayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+        dispatcher.register(new GroupDeletedHandler() {
+            @Override
+            public void handle(GroupDeletedPayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+        dispatcher.register(new UserChangeHandler() {
+            @Override
+            public void handle(UserChangePayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+        dispatcher.register(new TeamJoinHandler() {
+            @Override
+            public void handle(TeamJoinPayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+        dispatcher.register(new SubteamCreatedHandler() {
+            @Override
+            public void handle(SubteamCreatedPayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+        dispatcher.register(new SubteamUpdatedHandler() {
+            @Override
+            public void handle(SubteamUpdatedPayload payload) {
+                apply(payload.getEvent());
+            }
+        });
+    }
+
+    /**
+     * An ID index and a name index which are updated together.
+     */
+    private static class Index<T> {
+
+        private final Function<T, String> idGetter;
+        private final Function<T, String> nameGetter;
+
+        private final ConcurrentMap<String, T> byId = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, String> idsByName = new ConcurrentHashMap<>();
+
+        private Index(Function<T, String> idGetter, Function<T, String> nameGetter) {
+            this.idGetter = idGetter;
+            this.nameGetter = nameGetter;
+        }
+
+        private Optional<T> findById(String id) {
+            return id != null ? Optional.ofNullable(byId.get(id)) : Optional.empty();
+        }
+
+        private Optional<T> findByName(String name) {
+            if (name == null) {
+                return Optional.empty();
+            }
+            String id = idsByName.get(name);
+            return id != null ? Optional.ofNullable(byId.get(id)) : Optional.empty();
+        }
+
+        private Collection<T> values() {
+            return Collections.unmodifiableCollection(byId.values());
+        }
+
+        private synchronized void put(T item) {
+            String id = idGetter.apply(item);
+            if (id == null) {
+                return;
+            }
+            T previous = byId.put(id, item);
+            if (previous != null) {
+                unindexName(id, nameGetter.apply(previous));
+            }
+            String name = nameGetter.apply(item);
+            if (name != null) {
+                idsByName.put(name, id);
+            }
+        }
+
+        private synchronized void remove(String id) {
+            if (id == null) {
+                return;
+            }
+            T previous = byId.remove(id);
+            if (previous != null) {
+                unindexName(id, nameGetter.apply(previous));
+            }
+        }
+
+        /**
+         * Replaces the item with the updated copy the modifier returns and reindexes its name.
+         * The items already returned by the lookups are never modified.
+         */
+        private synchronized void update(String id, UnaryOperator<T> modifier) {
+            T item = id != null ? byId.get(id) : null;
+            if (item == null) {
+                log.debug("Skipped updating an unknown item: {}", id);
+                return;
+            }
+            put(modifier.apply(item));
+        }
+
+        /**
+         * Puts all the loaded items and removes the ones that no longer exist.
+         */
+        private void replaceAll(List<T> items) {
+            replaceAll(items, item -> true);
+        }
+
+        // the existing items out of the scope are never removed
+        private synchronized void replaceAll(List<T> items, Predicate<T> scope) {
+            Set<String> loadedIds = new HashSet<>();
+            for (T item : items) {
+                put(item);
+                loadedIds.add(idGetter.apply(item));
+            }
+            for (Map.Entry<String, T> entry : new ArrayList<>(byId.entrySet())) {
+                if (!loadedIds.contains(entry.getKey()) && scope.test(entry.getValue())) {
+                    remove(entry.getKey());
+                }
+            }
+        }
+
+        private void unindexName(String id, String name) {
+            if (name != null) {
+                idsByName.remove(name, id);
+            }
+        }
+    }
+
+}
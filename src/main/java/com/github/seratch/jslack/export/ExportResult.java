@@ -0,0 +1,31 @@
+package com.github.seratch.jslack.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportResult {
+
+    private String channel;
+    private Path file;
+    /**
+     * The top-level messages in the file, including the ones written before resuming.
+     */
+    private long messageCount;
+    /**
+     * The thread replies in the file, including the ones written before resuming.
+     */
+    private long replyCount;
+    /**
+     * True when the export continued from a checkpoint of an earlier run.
+     */
+    private boolean resumed;
+
+}
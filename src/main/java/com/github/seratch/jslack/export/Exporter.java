@@ -0,0 +1,340 @@
+package com.github.seratch.jslack.export;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.api.methods.Methods;
+import com.github.seratch.jslack.api.methods.MethodsClient;
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.SlackApiResponse;
+import com.github.seratch.jslack.api.methods.request.conversations.ConversationsHistoryRequest;
+import com.github.seratch.jslack.api.methods.request.conversations.ConversationsRepliesRequest;
+import com.github.seratch.jslack.api.methods.response.conversations.ConversationsHistoryResponse;
+import com.github.seratch.jslack.api.methods.response.conversations.ConversationsRepliesResponse;
+import com.github.seratch.jslack.api.model.Message;
+import com.github.seratch.jslack.api.model.ResponseMetadata;
+import com.github.seratch.jslack.common.json.GsonFactory;
+import com.google.gson.Gson;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports the messages of channels, including their thread replies, into NDJSON files.
+ * <p>
+ * Each channel is written to &lt;outputDirectory&gt;/&lt;channel&gt;.ndjson.gz (or .ndjson) with one Message per line,
+ * in the order of conversations.history (newest first). The replies of a thread follow their parent message.
+ * The replies of the threads in a history page are fetched in parallel, up to ExporterConfig#repliesConcurrency
+ * calls at a time for all the channels.
+ * <p>
+ * The calls go through the given MethodsClient as they are. Set SlackConfig#methodsRateLimiter to keep them
+ * within the rate limits of conversations.history and conversations.replies and to wait for Retry-After
+ * on 429 responses, and SlackConfig#methodsRetryPolicy to retry the transient errors.
+ * <p>
+ * After each history page, the file is flushed and a checkpoint (&lt;channel&gt;.checkpoint) records the cursor
+ * and the file length. When an export is started again after a crash, the file is truncated to the checkpoint
+ * and the export continues from its cursor. A completed channel is skipped. Remove the files to export it again.
+ * With gzip enabled, each page is written as a gzip member; GZIPInputStream and zcat read them as a single stream.
+ *
+ * @see "https://api.slack.com/methods/conversations.history"
+ * @see "https://api.slack.com/methods/conversations.replies"
+ */
+@Slf4j
+public class Exporter implements AutoCloseable {
+
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+    private final MethodsClient methods;
+    private final String token;
+    private final ExporterConfig config;
+
+    private final Gson gson = GsonFactory.createSnakeCase();
+
+    private final ExecutorService channelExecutor;
+    private final ExecutorService repliesExecutor;
+
+    public Exporter(Slack slack, String token, ExporterConfig config) {
+        this(slack.methods(), token, config);
+    }
+
+    public Exporter(MethodsClient methods, String token, ExporterConfig config) {
+        if (config.getOutputDirectory() == null) {
+            throw new IllegalArgumentException("outputDirectory is required");
+        }
+        this.methods = methods;
+        this.token = token;
+        this.config = config;
+        this.channelExecutor = newExecutor(config.getChannelConcurrency(), "jslack-exporter-channel");
+        this.repliesExecutor = newExecutor(config.getRepliesConcurrency(), "jslack-exporter-replies");
+    }
+
+    private static ExecutorService newExecutor(int threads, String name) {
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Exports the channels in parallel. When some of them fail, the others are still exported
+     * and the first failure is thrown at the end.
+     */
+    public Map<String, ExportResult> export(Collection<String> channels) throws IOException, SlackApiException {
+        Map<String, Future<ExportResult>> futures = new LinkedHashMap<>();
+        for (String channel : channels) {
+            futures.put(channel, channelExecutor.submit(() -> export(channel)));
+        }
+        Map<String, ExportResult> results = new LinkedHashMap<>();
+        Exception failure = null;
+        for (Map.Entry<String, Future<ExportResult>> entry : futures.entrySet()) {
+            try {
+                results.put(entry.getKey(), await(entry.getValue()));
+            } catch (IOException | SlackApiException | RuntimeException e) {
+                log.warn("Failed to export {}: {}", entry.getKey(), e.getMessage());
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof SlackApiException) {
+            throw (SlackApiException) failure;
+        } else if (failure != null) {
+            throw (RuntimeException) failure;
+        }
+        return results;
+    }
+
+    /**
+     * Exports a channel on the current thread, resuming from its checkpoint if it exists.
+     */
+    public ExportResult export(String channel) throws IOException, SlackApiException {
+        Path directory = config.getOutputDirectory();
+        Files.createDirectories(directory);
+        Path file = directory.resolve(channel + (config.isGzipEnabled() ? ".ndjson.gz" : ".ndjson"));
+        Path checkpointFile = directory.resolve(channel + CHECKPOINT_SUFFIX);
+
+        Checkpoint checkpoint = Checkpoint.load(checkpointFile);
+        boolean resumed = checkpoint != null;
+        if (checkpoint == null) {
+            checkpoint = new Checkpoint();
+        } else if (checkpoint.completed) {
+            log.debug("{} has already been exported", channel);
+            return toResult(channel, file, checkpoint, true);
+        } else {
+            log.debug("Resuming the export of {} from {} messages", channel, checkpoint.messageCount);
+        }
+
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // drops the lines written after the last checkpoint
+            out.truncate(checkpoint.length);
+            out.position(checkpoint.length);
+            do {
+                ConversationsHistoryRequest request = ConversationsHistoryRequest.builder()
+                        .token(token)
+                        .channel(channel)
+                        .cursor(checkpoint.cursor)
+                        .oldest(config.getOldest())
+                        .latest(config.getLatest())
+                        .limit(config.getHistoryPageSize())
+                        .build();
+                ConversationsHistoryResponse page = ensureOk(Methods.CONVERSATIONS_HISTORY, methods.conversationsHistory(request));
+                List<Message> messages = page.getMessages() != null ? page.getMessages() : Collections.emptyList();
+
+                writePage(channel, messages, out, checkpoint);
+                out.force(false);
+
+                checkpoint.cursor = nextCursor(page.getResponseMetadata());
+                checkpoint.length = out.position();
+                checkpoint.completed = checkpoint.cursor == null;
+                checkpoint.save(checkpointFile);
+            } while (!checkpoint.completed);
+        }
+        return toResult(channel, file, checkpoint, resumed);
+    }
+
+    private void writePage(String channel, List<Message> messages, FileChannel out, Checkpoint checkpoint) throws IOException, SlackApiException {
+        List<Future<List<Message>>> threads = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            threads.add(isThreadParent(message) ? repliesExecutor.submit(() -> fetchReplies(channel, message.getTs())) : null);
+        }
+        try (Writer writer = newWriter(out)) {
+            for (int i = 0; i < messages.size(); i++) {
+                writeLine(writer, messages.get(i));
+                checkpoint.messageCount++;
+                Future<List<Message>> thread = threads.get(i);
+                if (thread != null) {
+                    for (Message reply : await(thread)) {
+                        writeLine(writer, reply);
+                        checkpoint.replyCount++;
+                    }
+                }
+            }
+        } catch (IOException | SlackApiException | RuntimeException e) {
+            threads.stream().filter(Objects::nonNull).forEach(f -> f.cancel(true));
+            throw e;
+        }
+    }
+
+    private List<Message> fetchReplies(String channel, String threadTs) throws IOException, SlackApiException {
+        List<Message> replies = new ArrayList<>();
+        String cursor = null;
+        do {
+            ConversationsRepliesRequest request = ConversationsRepliesRequest.builder()
+                    .token(token)
+                    .channel(channel)
+                    .ts(threadTs)
+                    .cursor(cursor)
+                    .limit(config.getRepliesPageSize())
+                    .build();
+            ConversationsRepliesResponse page = ensureOk(Methods.CONVERSATIONS_REPLIES, methods.conversationsReplies(request));
+            if (page.getMessages() != null) {
+                for (Message message : page.getMessages()) {
+                    // the parent message is already in the history
+                    if (!threadTs.equals(message.getTs())) {
+                        replies.add(message);
+                    }
+                }
+            }
+            cursor = nextCursor(page.getResponseMetadata());
+        } while (cursor != null);
+        return replies;
+    }
+
+    private static boolean isThreadParent(Message message) {
+        return message.getTs() != null
+                && message.getTs().equals(message.getThreadTs())
+                && message.getReplyCount() != null
+                && message.getReplyCount() > 0;
+    }
+
+    private static String nextCursor(ResponseMetadata metadata) {
+        String cursor = metadata != null ? metadata.getNextCursor() : null;
+        return cursor != null && !cursor.isEmpty() ? cursor : null;
+    }
+
+    private static <T extends SlackApiResponse> T ensureOk(String method, T response) {
+        if (!response.isOk()) {
+            throw new IllegalStateException("Failed to call " + method + " (error: " + response.getError() + ")");
+        }
+        return response;
+    }
+
+    private static <T> T await(Future<T> future) throws IOException, SlackApiException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while exporting");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof SlackApiException) {
+                throw (SlackApiException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    private Writer newWriter(FileChannel out) throws IOException {
+        OutputStream channelStream = Channels.newOutputStream(out);
+        // closing the writer finishes the gzip member but keeps the file open
+        OutputStream stream = new FilterOutputStream(channelStream) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                channelStream.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        if (config.isGzipEnabled()) {
+            stream = new GZIPOutputStream(stream, 8192);
+        }
+        return new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+    }
+
+    private void writeLine(Writer writer, Message message) throws IOException {
+        gson.toJson(message, Message.class, writer);
+        writer.write('\n');
+    }
+
+    private static ExportResult toResult(String channel, Path file, Checkpoint checkpoint, boolean resumed) {
+        return ExportResult.builder()
+                .channel(channel)
+                .file(file)
+                .messageCount(checkpoint.messageCount)
+                .replyCount(checkpoint.replyCount)
+                .resumed(resumed)
+                .build();
+    }
+
+    /**
+     * Stops the export threads. The exports in progress fail and can be resumed later.
+     */
+    @Override
+    public void close() {
+        channelExecutor.shutdownNow();
+        repliesExecutor.shutdownNow();
+    }
+
+    private static class Checkpoint {
+
+        private String cursor;
+        private long length;
+        private long messageCount;
+        private long replyCount;
+        private boolean completed;
+
+        private static Checkpoint load(Path path) throws IOException {
+            if (!Files.exists(path)) {
+                return null;
+            }
+            Properties props = new Properties();
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                props.load(reader);
+            }
+            Checkpoint checkpoint = new Checkpoint();
+            checkpoint.cursor = props.getProperty("cursor");
+            checkpoint.length = Long.parseLong(props.getProperty("length", "0"));
+            checkpoint.messageCount = Long.parseLong(props.getProperty("messageCount", "0"));
+            checkpoint.replyCount = Long.parseLong(props.getProperty("replyCount", "0"));
+            checkpoint.completed = Boolean.parseBoolean(props.getProperty("completed", "false"));
+            return checkpoint;
+        }
+
+        private void save(Path path) throws IOException {
+            Properties props = new Properties();
+            if (cursor != null) {
+                props.setProperty("cursor", cursor);
+            }
+            props.setProperty("length", String.valueOf(length));
+            props.setProperty("messageCount", String.valueOf(messageCount));
+            props.setProperty("replyCount", String.valueOf(replyCount));
+            props.setProperty("completed", String.valueOf(completed));
+            // replaces the previous checkpoint atomically so that a crash never leaves a broken one
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                props.store(writer, null);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.github.seratch.jslack.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExporterConfig {
+
+    /**
+     * The directory where the <channel>.ndjson(.gz) files and their checkpoints are written.
+     */
+    private Path outputDirectory;
+
+    @Builder.Default
+    private boolean gzipEnabled = true;
+
+    /**
+     * The channels exported at the same time.
+     */
+    @Builder.Default
+    private int channelConcurrency = 2;
+
+    /**
+     * The conversations.replies calls running at the same time, shared among all the channels.
+     */
+    @Builder.Default
+    private int repliesConcurrency = 4;
+
+    @Builder.Default
+    private int historyPageSize = 200;
+
+    @Builder.Default
+    private int repliesPageSize = 200;
+
+    /**
+     * Start of time range of messages to export (nullable).
+     */
+    private String oldest;
+
+    /**
+     * End of time range of messages to export (nullable).
+     */
+    private String latest;
+
+}
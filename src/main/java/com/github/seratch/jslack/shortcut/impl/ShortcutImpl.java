@@ -3,19 +3,17 @@ package com.github.seratch.jslack.shortcut.impl;
 import com.github.seratch.jslack.Slack;
 import com.github.seratch.jslack.api.methods.SlackApiException;
 import com.github.seratch.jslack.api.methods.request.channels.ChannelsHistoryRequest;
-import com.github.seratch.jslack.api.methods.request.channels.ChannelsListRequest;
 import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
 import com.github.seratch.jslack.api.methods.request.reactions.ReactionsAddRequest;
 import com.github.seratch.jslack.api.methods.request.search.SearchAllRequest;
 import com.github.seratch.jslack.api.methods.response.channels.ChannelsHistoryResponse;
-import com.github.seratch.jslack.api.methods.response.channels.ChannelsListResponse;
 import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
 import com.github.seratch.jslack.api.methods.response.reactions.ReactionsAddResponse;
 import com.github.seratch.jslack.api.methods.response.search.SearchAllResponse;
 import com.github.seratch.jslack.api.model.Attachment;
-import com.github.seratch.jslack.api.model.Channel;
 import com.github.seratch.jslack.api.model.Message;
 import com.github.seratch.jslack.api.model.block.LayoutBlock;
+import com.github.seratch.jslack.directory.WorkspaceDirectory;
 import com.github.seratch.jslack.shortcut.Shortcut;
 import com.github.seratch.jslack.shortcut.model.ApiToken;
 import com.github.seratch.jslack.shortcut.model.ChannelId;
@@ -23,7 +21,6 @@ import com.github.seratch.jslack.shortcut.model.ChannelName;
 import com.github.seratch.jslack.shortcut.model.ReactionName;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -34,35 +31,38 @@ public class ShortcutImpl implements Shortcut {
 
     private final Slack slack;
 
-    private List<Channel> channels = new ArrayList<>();
+    private final WorkspaceDirectory directory;
 
     public ShortcutImpl(Slack slack) {
         this.apiToken = Optional.empty();
         this.slack = slack;
+        this.directory = new WorkspaceDirectory(slack, null);
     }
 
     public ShortcutImpl(Slack slack, ApiToken apiToken) {
+        this(slack, apiToken, new WorkspaceDirectory(slack, apiToken != null ? apiToken.getValue() : null));
+    }
+
+    /**
+     * Uses the given directory, which may be kept fresh by events, for the channel lookups.
+     */
+    public ShortcutImpl(Slack slack, ApiToken apiToken, WorkspaceDirectory directory) {
         this.apiToken = Optional.ofNullable(apiToken);
         this.slack = slack;
+        this.directory = directory;
     }
 
     @Override
     public Optional<ChannelId> findChannelIdByName(ChannelName name) throws IOException, SlackApiException {
-        if (channels.isEmpty()) {
+        if (directory.getConversations().isEmpty()) {
             updateChannelsCache();
         }
-        return channels.stream()
-                .filter(c -> c.getName().equals(name.getValue()))
-                .findFirst()
-                .map(c -> new ChannelId(c.getId()));
+        return directory.findConversationByName(name.getValue()).map(c -> new ChannelId(c.getId()));
     }
 
     @Override
     public Optional<ChannelName> findChannelNameById(ChannelId channelId) {
-        return channels.stream()
-                .filter(c -> c.getId().equals(channelId.getValue()))
-                .findFirst()
-                .map(c -> new ChannelName(c.getName()));
+        return directory.findConversationById(channelId.getValue()).map(c -> new ChannelName(c.getName()));
     }
 
     @Override
@@ -193,13 +193,14 @@ public class ShortcutImpl implements Shortcut {
     @Override
     public void updateChannelsCache() throws IOException, SlackApiException {
         if (apiToken.isPresent()) {
-            if (channels.isEmpty()) {
-                ChannelsListResponse response = slack.methods().channelsList(ChannelsListRequest.builder().
-                        token(apiToken.get().getValue())
-                        .build());
-                if (response.isOk()) {
-                    channels = response.getChannels();
+            try {
+                // public channels only: the private ones need the groups:read scope
+                directory.loadPublicChannels();
+            } catch (IllegalStateException e) {
+                if (e.getCause() != null) {
+                    throw e;
                 }
+                // an "ok": false response keeps the current cache
             }
         } else {
             throw new IllegalStateException("apiToken is absent.");
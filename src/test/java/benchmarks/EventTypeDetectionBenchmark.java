@@ -0,0 +1,213 @@
+package benchmarks;
+
+import com.github.seratch.jslack.api.rtm.RTMEventsDispatcher;
+import com.github.seratch.jslack.api.rtm.RTMEventsDispatcherFactory;
+import com.github.seratch.jslack.app_backend.events.EventsDispatcher;
+import com.github.seratch.jslack.app_backend.events.EventsDispatcherFactory;
+import com.google.gson.stream.JsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former char[] scanning with the JsonReader based event type detection
+ * over the json-logs/samples/events and json-logs/samples/rtm fixtures.
+ * Run with the GC profiler to see the allocation per event (gc.alloc.rate.norm / number of fixtures).
+ * <p>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.EventTypeDetectionBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventTypeDetectionBenchmark {
+
+    private List<String> eventsPayloads;
+    private List<String> rtmMessages;
+
+    private EventsDispatcher eventsDispatcher;
+    private RTMEventsDispatcher rtmEventsDispatcher;
+
+    @Setup
+    public void setup() throws Exception {
+        eventsPayloads = load("json-logs/samples/events");
+        rtmMessages = load("json-logs/samples/rtm");
+        // no handlers registered, dispatching detects the type only
+        eventsDispatcher = EventsDispatcherFactory.getInstance();
+        rtmEventsDispatcher = RTMEventsDispatcherFactory.getInstance();
+    }
+
+    private static List<String> load(String dir) throws IOException {
+        List<String> jsons = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(dir), "*.json")) {
+            for (Path file : files) {
+                jsons.add(new String(Files.readAllBytes(file), "UTF-8"));
+            }
+        }
+        return jsons;
+    }
+
+    @Benchmark
+    public void eventsCharArrayScan(Blackhole blackhole) {
+        for (String json : eventsPayloads) {
+            blackhole.consume(scanEventsApiEventType(json));
+        }
+    }
+
+    @Benchmark
+    public void eventsJsonReader(Blackhole blackhole) throws IOException {
+        for (String json : eventsPayloads) {
+            blackhole.consume(readEventsApiEventType(json));
+        }
+    }
+
+    @Benchmark
+    public void eventsDispatch() {
+        for (String json : eventsPayloads) {
+            eventsDispatcher.dispatch(json);
+        }
+    }
+
+    @Benchmark
+    public void rtmCharArrayScan(Blackhole blackhole) {
+        for (String json : rtmMessages) {
+            blackhole.consume(scanRTMEventType(json));
+        }
+    }
+
+    @Benchmark
+    public void rtmJsonReader(Blackhole blackhole) throws IOException {
+        for (String json : rtmMessages) {
+            blackhole.consume(readRTMEventType(json));
+        }
+    }
+
+    @Benchmark
+    public void rtmDispatch() {
+        for (String json : rtmMessages) {
+            rtmEventsDispatcher.dispatch(json);
+        }
+    }
+
+    // the same logic as the dispatchers' detectEventType methods
+
+    private static String readEventsApiEventType(String json) throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("event")) {
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        if (reader.nextName().equals("type")) {
+                            return reader.nextString();
+                        }
+                        reader.skipValue();
+                    }
+                    return null;
+                }
+                reader.skipValue();
+            }
+        }
+        return null;
+    }
+
+    private static String readRTMEventType(String json) throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("type")) {
+                    return reader.nextString();
+                }
+                reader.skipValue();
+            }
+        }
+        return null;
+    }
+
+    // the former implementations
+
+    private static String scanEventsApiEventType(String json) {
+        StringBuilder sb = new StringBuilder();
+        char[] chars = json.toCharArray();
+        boolean isInsideEventData = false;
+        for (int idx = 0; idx < (chars.length - 7); idx++) {
+            if (!isInsideEventData && chars[idx] == '"'
+                    && chars[idx + 1] == 'e'
+                    && chars[idx + 2] == 'v'
+                    && chars[idx + 3] == 'e'
+                    && chars[idx + 4] == 'n'
+                    && chars[idx + 5] == 't'
+                    && chars[idx + 6] == '"'
+                    && chars[idx + 7] == ':') {
+                idx = idx + 8;
+                isInsideEventData = true;
+            }
+            if (isInsideEventData && chars[idx] == '"'
+                    && chars[idx + 1] == 't'
+                    && chars[idx + 2] == 'y'
+                    && chars[idx + 3] == 'p'
+                    && chars[idx + 4] == 'e'
+                    && chars[idx + 5] == '"'
+                    && chars[idx + 6] == ':') {
+                return readQuoted(chars, idx + 7, sb);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String scanRTMEventType(String json) {
+        StringBuilder sb = new StringBuilder();
+        char[] chars = json.toCharArray();
+        for (int idx = 0; idx < (chars.length - 6); idx++) {
+            if (chars[idx] == '"'
+                    && chars[idx + 1] == 't'
+                    && chars[idx + 2] == 'y'
+                    && chars[idx + 3] == 'p'
+                    && chars[idx + 4] == 'e'
+                    && chars[idx + 5] == '"'
+                    && chars[idx + 6] == ':') {
+                return readQuoted(chars, idx + 7, sb);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String readQuoted(char[] chars, int idx, StringBuilder sb) {
+        int doubleQuoteCount = 0;
+        boolean isPreviousCharEscape = false;
+        while (doubleQuoteCount < 2 && idx < chars.length) {
+            char c = chars[idx];
+            if (c == '"' && !isPreviousCharEscape) {
+                doubleQuoteCount++;
+            } else if (doubleQuoteCount == 1) {
+                sb.append(c);
+            }
+            isPreviousCharEscape = c == '\\';
+            idx++;
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(EventTypeDetectionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
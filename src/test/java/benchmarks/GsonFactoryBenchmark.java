@@ -0,0 +1,66 @@
+package benchmarks;
+
+import com.github.seratch.jslack.api.methods.response.users.UsersInfoResponse;
+import com.github.seratch.jslack.api.model.block.ContextBlockElement;
+import com.github.seratch.jslack.api.model.block.LayoutBlock;
+import com.github.seratch.jslack.api.model.block.composition.TextObject;
+import com.github.seratch.jslack.api.model.block.element.BlockElement;
+import com.github.seratch.jslack.common.json.*;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building a Gson per call (the former GsonFactory behavior) with the shared instances.
+ * <p>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.GsonFactoryBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GsonFactoryBenchmark {
+
+    private String json;
+
+    @Setup
+    public void setup() throws Exception {
+        json = new String(Files.readAllBytes(Paths.get("json-logs/samples/api/users.info.json")), "UTF-8");
+    }
+
+    @Benchmark
+    public UsersInfoResponse newGsonPerCall() {
+        Gson gson = new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapter(LayoutBlock.class, new GsonLayoutBlockFactory())
+                .registerTypeAdapter(TextObject.class, new GsonTextObjectFactory())
+                .registerTypeAdapter(ContextBlockElement.class, new GsonContextBlockElementFactory())
+                .registerTypeAdapter(BlockElement.class, new GsonBlockElementFactory())
+                .create();
+        return gson.fromJson(json, UsersInfoResponse.class);
+    }
+
+    @Benchmark
+    public UsersInfoResponse sharedGson() {
+        return GsonFactory.createSnakeCase().fromJson(json, UsersInfoResponse.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(GsonFactoryBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
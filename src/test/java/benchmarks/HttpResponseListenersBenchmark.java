@@ -0,0 +1,76 @@
+package benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.response.users.UsersInfoResponse;
+import com.github.seratch.jslack.common.http.SlackHttpClient;
+import com.github.seratch.jslack.common.http.listener.DetailedLoggingListener;
+import okhttp3.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call overhead of the response listeners registered by default,
+ * with debug logging enabled and disabled.
+ * <p>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.HttpResponseListenersBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HttpResponseListenersBenchmark {
+
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+    @Param({"false", "true"})
+    private boolean debugLoggingEnabled;
+
+    private String json;
+    private Request request;
+    private SlackHttpClient httpClient;
+
+    @Setup
+    public void setup() throws Exception {
+        json = new String(Files.readAllBytes(Paths.get("json-logs/samples/api/users.info.json")), "UTF-8");
+        request = new Request.Builder()
+                .url("https://slack.com/api/users.info")
+                .post(new FormBody.Builder().add("token", "xoxb-123").add("user", "U123").build())
+                .build();
+        Logger logger = (Logger) LoggerFactory.getLogger(DetailedLoggingListener.class);
+        logger.setLevel(debugLoggingEnabled ? Level.DEBUG : Level.INFO);
+        // the default listeners: DetailedLoggingListener and ResponsePrettyPrintingListener
+        httpClient = new SlackHttpClient(new SlackConfig());
+    }
+
+    @Benchmark
+    public UsersInfoResponse parseJsonResponse() throws Exception {
+        Response response = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(JSON, json))
+                .build();
+        return httpClient.parseJsonResponse(response, UsersInfoResponse.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(HttpResponseListenersBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
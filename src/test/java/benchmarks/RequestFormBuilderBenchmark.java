@@ -0,0 +1,144 @@
+package benchmarks;
+
+import com.github.seratch.jslack.api.methods.RequestFormBuilder;
+import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
+import com.github.seratch.jslack.api.methods.request.users.UsersListRequest;
+import com.github.seratch.jslack.api.model.Attachment;
+import com.github.seratch.jslack.api.model.block.LayoutBlock;
+import com.github.seratch.jslack.api.model.block.SectionBlock;
+import com.github.seratch.jslack.api.model.block.composition.MarkdownTextObject;
+import com.github.seratch.jslack.common.json.GsonFactory;
+import okhttp3.FormBody;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former form encoding (FormBody.Builder#add with JSON strings) with RequestFormBuilder's current one.
+ * Both build the form and write it to a Buffer as OkHttp does when sending the request.
+ * Run with the GC profiler to see the allocation per form (gc.alloc.rate.norm).
+ * <p>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.RequestFormBuilderBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestFormBuilderBenchmark {
+
+    private ChatPostMessageRequest chatPostMessage;
+    private UsersListRequest usersList;
+
+    @Setup
+    public void setup() {
+        List<LayoutBlock> blocks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            blocks.add(SectionBlock.builder()
+                    .text(MarkdownTextObject.builder().text("*Alert #" + i + "*: CPU usage > 90% on <https://example.com|web-" + i + ">").build())
+                    .blockId("alert-" + i)
+                    .build());
+        }
+        chatPostMessage = ChatPostMessageRequest.builder()
+                .token("xoxb-123")
+                .channel("C1234567")
+                .text("CPU usage alerts: 5 hosts are above the threshold")
+                .blocks(blocks)
+                .attachments(Collections.singletonList(Attachment.builder().color("#ff0000").text("See the dashboard").build()))
+                .unfurlLinks(true)
+                .build();
+        usersList = UsersListRequest.builder().token("xoxb-123").cursor("dXNlcjpVMDYxTkZUVDI=").limit(200).build();
+    }
+
+    @Benchmark
+    public Buffer chatPostMessageLegacy() throws IOException {
+        return write(legacyToForm(chatPostMessage));
+    }
+
+    @Benchmark
+    public Buffer chatPostMessageCurrent() throws IOException {
+        return write(RequestFormBuilder.toForm(chatPostMessage));
+    }
+
+    @Benchmark
+    public Buffer usersListLegacy() throws IOException {
+        return write(legacyToForm(usersList));
+    }
+
+    @Benchmark
+    public Buffer usersListCurrent() throws IOException {
+        return write(RequestFormBuilder.toForm(usersList));
+    }
+
+    private static Buffer write(FormBody.Builder form) throws IOException {
+        Buffer buffer = new Buffer();
+        form.build().writeTo(buffer);
+        buffer.clear();
+        return buffer;
+    }
+
+    // the former implementations
+
+    private static FormBody.Builder legacyToForm(ChatPostMessageRequest req) {
+        FormBody.Builder form = new FormBody.Builder();
+        setIfNotNull("channel", req.getChannel(), form);
+        setIfNotNull("thread_ts", req.getThreadTs(), form);
+        setIfNotNull("text", req.getText(), form);
+        setIfNotNull("parse", req.getParse(), form);
+        setIfNotNull("link_names", req.isLinkNames(), form);
+        setIfNotNull("mrkdwn", req.isMrkdwn(), form);
+        if (req.getBlocks() != null) {
+            form.add("blocks", GsonFactory.createSnakeCase().toJson(req.getBlocks()));
+        }
+        if (req.getAttachments() != null) {
+            form.add("attachments", GsonFactory.createSnakeCase().toJson(req.getAttachments()));
+        }
+        setIfNotNull("unfurl_links", req.isUnfurlLinks(), form);
+        setIfNotNull("unfurl_media", req.isUnfurlMedia(), form);
+        setIfNotNull("username", req.getUsername(), form);
+        setIfNotNull("as_user", req.isAsUser(), form);
+        setIfNotNull("icon_url", req.getIconUrl(), form);
+        setIfNotNull("icon_emoji", req.getIconEmoji(), form);
+        setIfNotNull("thread_ts", req.getThreadTs(), form);
+        setIfNotNull("reply_broadcast", req.isReplyBroadcast(), form);
+        return form;
+    }
+
+    private static FormBody.Builder legacyToForm(UsersListRequest req) {
+        FormBody.Builder form = new FormBody.Builder();
+        setIfNotNull("cursor", req.getCursor(), form);
+        setIfNotNull("limit", req.getLimit(), form);
+        setIfNotNull("include_locale", req.isIncludeLocale(), form);
+        setIfNotNull("presence", req.isPresence(), form);
+        return form;
+    }
+
+    private static void setIfNotNull(String name, Object value, FormBody.Builder form) {
+        if (value != null) {
+            if (value instanceof Boolean) {
+                String numValue = ((Boolean) value) ? "1" : "0";
+                form.add(name, numValue);
+            } else {
+                form.add(name, String.valueOf(value));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(RequestFormBuilderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
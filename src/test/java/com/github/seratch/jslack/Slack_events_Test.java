@@ -174,6 +174,21 @@ public class Slack_events_Test {
         assertThat(GOODBYE_CALL_COUNTER.get(), is(1));
     }
 
+    @Test
+    public void tooLargeBody() throws Exception {
+        ServletTester tester = getServletTester();
+        HttpTester.Request request = prepareRequest();
+
+        StringBuilder text = new StringBuilder();
+        while (text.length() <= SlackEventsApiServlet.DEFAULT_MAX_REQUEST_BODY_BYTES) {
+            text.append("0123456789");
+        }
+        request.setContent("{\"type\":\"event_callback\",\"text\":\"" + text + "\"}");
+
+        HttpTester.Response response = HttpTester.parseResponse(tester.getResponses(request.generate()));
+        assertThat(response.getStatus(), is(equalTo(413)));
+    }
+
     // -------------------------------------------------------------------
 
     private static ServletTester getServletTester() throws Exception {
@@ -0,0 +1,266 @@
+package com.github.seratch.jslack.api.files;
+
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.model.File;
+import com.github.seratch.jslack.common.http.SlackHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class FilesDownloaderTest {
+
+    private static final byte[] CONTENT = new byte[100_000];
+
+    static {
+        new Random(42).nextBytes(CONTENT);
+    }
+
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+    private volatile String lastRange;
+    private volatile String lastAuthorization;
+    private volatile boolean rangeSupported = true;
+    private volatile boolean corrupted = false;
+    private volatile String etag = "\"v1\"";
+    private volatile boolean wrongRangeStart = false;
+
+    private final HttpServlet servlet = new HttpServlet() {
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            int current = concurrent.incrementAndGet();
+            maxConcurrent.accumulateAndGet(current, Math::max);
+            try {
+                if (req.getRequestURI().startsWith("/slow")) {
+                    Thread.sleep(100L);
+                }
+                lastAuthorization = req.getHeader("Authorization");
+                lastRange = req.getHeader("Range");
+                resp.setContentType("application/octet-stream");
+                resp.setHeader("Digest", "SHA-256=" + Base64.getEncoder().encodeToString(sha256(CONTENT)));
+                resp.setHeader("ETag", etag);
+                int from = 0;
+                if (rangeSupported && lastRange != null && etag.equals(req.getHeader("If-Range"))) {
+                    from = wrongRangeStart ? 0 : Integer.parseInt(lastRange.substring("bytes=".length(), lastRange.length() - 1));
+                    if (from >= CONTENT.length) {
+                        resp.setStatus(416);
+                        resp.setHeader("Content-Range", "bytes */" + CONTENT.length);
+                        return;
+                    }
+                    resp.setStatus(206);
+                    resp.setHeader("Content-Range", "bytes " + from + "-" + (CONTENT.length - 1) + "/" + CONTENT.length);
+                }
+                byte[] body = Arrays.copyOfRange(CONTENT, from, CONTENT.length);
+                if (corrupted) {
+                    body[body.length - 1]++;
+                }
+                resp.getOutputStream().write(body);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    };
+
+    private MockSlackApiServer server;
+    private FilesDownloader downloader;
+    private Path dir;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(servlet);
+        downloader = new FilesDownloader(new SlackHttpClient(), 2);
+        dir = Files.createTempDirectory("jslack-files-downloader");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+        Files.list(dir).forEach(path -> path.toFile().delete());
+        Files.delete(dir);
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getPort() + path;
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    public void outputStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FilesDownloadResult result = downloader.download("xoxb-token", url("/files-pri/T1-F1/a.bin"), out);
+        assertThat(out.toByteArray(), is(CONTENT));
+        assertThat(result.getBytesDownloaded(), is((long) CONTENT.length));
+        assertThat(result.isChecksumVerified(), is(true));
+        assertThat(result.getContentType(), is("application/octet-stream"));
+        assertThat(lastAuthorization, is("Bearer xoxb-token"));
+        assertThat(lastRange, is(nullValue()));
+    }
+
+    @Test
+    public void resume() throws Exception {
+        Path path = dir.resolve("a.bin");
+        Files.write(path, Arrays.copyOf(CONTENT, 30_000));
+        Files.write(FilesDownloader.validatorPath(path), etag.getBytes(StandardCharsets.UTF_8));
+
+        FilesDownloadResult result = downloader.download("xoxb-token", url("/files-pri/T1-F1/a.bin"), path);
+        assertThat(lastRange, is("bytes=30000-"));
+        assertThat(result.isResumed(), is(true));
+        assertThat(result.getBytesDownloaded(), is(70_000L));
+        assertThat(result.getTotalBytes(), is((long) CONTENT.length));
+        assertThat(result.isChecksumVerified(), is(true));
+        assertThat(Files.readAllBytes(path), is(CONTENT));
+        assertThat(Files.exists(FilesDownloader.validatorPath(path)), is(false));
+
+        // already complete
+        Files.write(FilesDownloader.validatorPath(path), etag.getBytes(StandardCharsets.UTF_8));
+        result = downloader.download("xoxb-token", url("/files-pri/T1-F1/a.bin"), path);
+        assertThat(result.getBytesDownloaded(), is(0L));
+        assertThat(result.getTotalBytes(), is((long) CONTENT.length));
+        assertThat(Files.readAllBytes(path), is(CONTENT));
+    }
+
+    @Test
+    public void resume_fileChanged() throws Exception {
+        Path path = dir.resolve("a.bin");
+        Files.write(path, new byte[30_000]);
+        Files.write(FilesDownloader.validatorPath(path), "\"v0\"".getBytes(StandardCharsets.UTF_8));
+
+        FilesDownloadResult result = downloader.download("xoxb-token", url("/files-pri/T1-F1/a.bin"), path);
+        assertThat(lastRange, is("bytes=30000-"));
+        assertThat(result.isResumed(), is(false));
+        assertThat(result.getBytesDownloaded(), is((long) CONTENT.length));
+        assertThat(Files.readAllBytes(path), is(CONTENT));
+    }
+
+    @Test
+    public void resume_noValidator() throws Exception {
+        Path path = dir.resolve("a.bin");
+        Files.write(path, new byte[30_000]);
+
+        FilesDownloadResult result = downloader.download("xoxb-token", url("/files-pri/T1-F1/a.bin"), path);
+        assertThat(lastRange, is(nullValue()));
+        assertThat(result.isResumed(), is(false));
+        assertThat(Files.readAllBytes(path), is(CONTENT));
+    }
+
+    @Test
+    public void resume_unexpectedRange() throws Exception {
+        wrongRangeStart = true;
+        Path path = dir.resolve("a.bin");
+        Files.write(path, new byte[30_000]);
+        Files.write(FilesDownloader.validatorPath(path), etag.getBytes(StandardCharsets.UTF_8));
+
+        FilesDownloadResult result = downloader.download("xoxb-token", url("/files-pri/T1-F1/a.bin"), path);
+        assertThat(lastRange, is(nullValue()));
+        assertThat(result.isResumed(), is(false));
+        assertThat(result.getBytesDownloaded(), is((long) CONTENT.length));
+        assertThat(Files.readAllBytes(path), is(CONTENT));
+    }
+
+    @Test
+    public void resume_rangeNotSupported() throws Exception {
+        rangeSupported = false;
+        Path path = dir.resolve("a.bin");
+        Files.write(path, new byte[30_000]);
+        Files.write(FilesDownloader.validatorPath(path), etag.getBytes(StandardCharsets.UTF_8));
+
+        FilesDownloadResult result = downloader.download("xoxb-token", url("/files-pri/T1-F1/a.bin"), path);
+        assertThat(result.isResumed(), is(false));
+        assertThat(result.getBytesDownloaded(), is((long) CONTENT.length));
+        assertThat(Files.readAllBytes(path), is(CONTENT));
+    }
+
+    @Test
+    public void checksumMismatch() throws Exception {
+        corrupted = true;
+        Path path = dir.resolve("a.bin");
+        try {
+            downloader.download("xoxb-token", url("/files-pri/T1-F1/a.bin"), path);
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage().contains("SHA-256"), is(true));
+        }
+        assertThat(Files.exists(path), is(false));
+    }
+
+    @Test
+    public void sizeMismatch() throws Exception {
+        File file = new File();
+        file.setId("F1");
+        file.setUrlPrivateDownload(url("/files-pri/T1-F1/download/a.bin"));
+        file.setSize(CONTENT.length + 1);
+        try {
+            downloader.download("xoxb-token", file, dir.resolve("a.bin"));
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage().contains("differs"), is(true));
+        }
+        file.setSize(CONTENT.length);
+        Files.delete(dir.resolve("a.bin"));
+        FilesDownloadResult result = downloader.download("xoxb-token", file, dir.resolve("a.bin"));
+        assertThat(result.getTotalBytes(), is((long) CONTENT.length));
+    }
+
+    @Test
+    public void notFound() throws Exception {
+        HttpServlet notFound = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.sendError(404);
+            }
+        };
+        try (MockSlackApiServer server = new MockSlackApiServer(notFound)) {
+            downloader.download("xoxb-token", "http://localhost:" + server.getPort() + "/files-pri/x", new ByteArrayOutputStream());
+            fail();
+        } catch (SlackApiException e) {
+            assertThat(e.getResponse().code(), is(404));
+        }
+    }
+
+    @Test
+    public void concurrencyLimit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            java.util.List<Future<FilesDownloadResult>> futures = new java.util.ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(executor.submit(() -> downloader.download("xoxb-token", url("/slow/a.bin"), new ByteArrayOutputStream())));
+            }
+            for (Future<FilesDownloadResult> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS).getBytesDownloaded(), is((long) CONTENT.length));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(maxConcurrent.get() <= 2, is(true));
+    }
+
+}
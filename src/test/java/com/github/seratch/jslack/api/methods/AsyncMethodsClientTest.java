@@ -0,0 +1,134 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
+import com.github.seratch.jslack.api.methods.request.users.UsersInfoRequest;
+import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
+import com.github.seratch.jslack.api.methods.impl.AsyncMethodsClientImpl;
+import com.github.seratch.jslack.api.methods.response.users.UsersInfoResponse;
+import com.github.seratch.jslack.common.http.SlackHttpClient;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.ForwardingSource;
+import okio.Okio;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class AsyncMethodsClientTest {
+
+    public static class MockApi extends HttpServlet {
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            if (req.getRequestURI().endsWith("/users.info")) {
+                resp.setStatus(200);
+                resp.setContentType("application/json");
+                resp.getWriter().write("{\"ok\":true,\"user\":{\"id\":\"" + req.getParameter("user") + "\"}}");
+            } else {
+                resp.setStatus(500);
+                resp.getWriter().write("{\"ok\":false,\"error\":\"internal_error\"}");
+            }
+        }
+    }
+
+    MockSlackApiServer server;
+    AsyncMethodsClient client;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(new MockApi());
+        client = Slack.getInstance().methodsAsync();
+        client.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    public void usersInfo() throws Exception {
+        List<CompletableFuture<UsersInfoResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(client.usersInfo(UsersInfoRequest.builder().token("xoxb-dummy").user("U" + i).build()));
+        }
+        for (int i = 0; i < 50; i++) {
+            UsersInfoResponse response = futures.get(i).get(10, TimeUnit.SECONDS);
+            assertThat(response.isOk(), is(true));
+            assertThat(response.getUser().getId(), is("U" + i));
+        }
+    }
+
+    @Test
+    public void errorResponse() throws Exception {
+        CompletableFuture<ChatPostMessageResponse> future = client.chatPostMessage(
+                ChatPostMessageRequest.builder().token("xoxb-dummy").channel("C123").text("hi").build());
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(SlackApiException.class)));
+            SlackApiException apiException = (SlackApiException) e.getCause();
+            assertThat(apiException.getResponse().code(), is(500));
+            assertThat(apiException.getError().getError(), is("internal_error"));
+        }
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        CountDownLatch received = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        AtomicBoolean callCancelled = new AtomicBoolean(false);
+        CountDownLatch closed = new CountDownLatch(1);
+        OkHttpClient okHttpClient = new OkHttpClient.Builder().addInterceptor(chain -> {
+            Response response = chain.proceed(chain.request());
+            received.countDown();
+            try {
+                cancelled.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            callCancelled.set(chain.call().isCanceled());
+            ResponseBody body = response.body();
+            ResponseBody tracked = ResponseBody.create(body.contentType(), body.contentLength(),
+                    Okio.buffer(new ForwardingSource(body.source()) {
+                        @Override
+                        public void close() throws IOException {
+                            closed.countDown();
+                            super.close();
+                        }
+                    }));
+            return response.newBuilder().body(tracked).build();
+        }).build();
+        AsyncMethodsClient cancellingClient = new AsyncMethodsClientImpl(new SlackHttpClient(okHttpClient));
+        cancellingClient.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+
+        CompletableFuture<UsersInfoResponse> future = cancellingClient.usersInfo(
+                UsersInfoRequest.builder().token("xoxb-dummy").user("U1").build());
+        assertThat(received.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(future.cancel(true), is(true));
+        cancelled.countDown();
+
+        // the response arriving after the cancellation is closed
+        assertThat(closed.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(callCancelled.get(), is(true));
+    }
+}
@@ -0,0 +1,246 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.request.files.FilesUploadRequest;
+import com.github.seratch.jslack.api.methods.response.files.FilesUploadResponse;
+import com.github.seratch.jslack.common.http.StreamingRequestBody;
+import com.github.seratch.jslack.common.http.listener.DetailedLoggingListener;
+import com.github.seratch.jslack.common.http.listener.HttpResponseListener;
+import okhttp3.*;
+import okio.Buffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class FilesUploadStreamingTest {
+
+    public static class RecordingApi extends HttpServlet {
+        volatile String body;
+        volatile String contentLength;
+        volatile String transferEncoding;
+
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            try (InputStream in = req.getInputStream()) {
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+            body = new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+            contentLength = req.getHeader("Content-Length");
+            transferEncoding = req.getHeader("Transfer-Encoding");
+            resp.setStatus(200);
+            resp.setContentType("application/json");
+            resp.getWriter().write("{\"ok\":true,\"file\":{\"id\":\"F1\"}}");
+        }
+    }
+
+    RecordingApi api = new RecordingApi();
+    MockSlackApiServer server;
+    MethodsClient methods;
+    byte[] content;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(api);
+        methods = Slack.getInstance(new SlackConfig()).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+        // larger than the buffer size to have multiple chunks
+        content = new byte[100_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) ('a' + i % 26);
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    FilesUploadRequest.FilesUploadRequestBuilder builder(List<long[]> progress) {
+        return FilesUploadRequest.builder()
+                .token("xoxb-1")
+                .filename("report.txt")
+                .channels(Collections.singletonList("C1"))
+                .progressListener((written, total) -> progress.add(new long[]{written, total}));
+    }
+
+    void assertUploaded(FilesUploadResponse response, List<long[]> progress, long expectedTotal) {
+        assertThat(response.isOk(), is(true));
+        assertThat(api.body.contains(new String(content, StandardCharsets.ISO_8859_1)), is(true));
+        assertThat(api.body.contains("name=\"channels\""), is(true));
+        assertThat(progress.size() > 1, is(true));
+        long[] last = progress.get(progress.size() - 1);
+        assertThat(last[0], is((long) content.length));
+        assertThat(last[1], is(expectedTotal));
+    }
+
+    @Test
+    public void inputStreamWithUnknownLength() throws Exception {
+        List<long[]> progress = new CopyOnWriteArrayList<>();
+        FilesUploadResponse response = methods.filesUpload(builder(progress)
+                .fileInputStream(new ByteArrayInputStream(content)).build());
+        assertUploaded(response, progress, -1L);
+        assertThat(api.transferEncoding, is("chunked"));
+    }
+
+    @Test
+    public void inputStreamWithKnownLength() throws Exception {
+        List<long[]> progress = new CopyOnWriteArrayList<>();
+        FilesUploadResponse response = methods.filesUpload(builder(progress)
+                .fileInputStream(new ByteArrayInputStream(content)).fileLength((long) content.length).build());
+        assertUploaded(response, progress, content.length);
+        assertThat(api.contentLength, is(notNullValue()));
+    }
+
+    @Test
+    public void path() throws Exception {
+        Path file = Files.createTempFile("jslack", ".txt");
+        try {
+            Files.write(file, content);
+            List<long[]> progress = new CopyOnWriteArrayList<>();
+            FilesUploadResponse response = methods.filesUpload(builder(progress).filePath(file).build());
+            assertUploaded(response, progress, content.length);
+            assertThat(api.contentLength, is(notNullValue()));
+
+            // java.io.File with a progress listener goes through the same path
+            progress.clear();
+            response = methods.filesUpload(builder(progress).file(file.toFile()).build());
+            assertUploaded(response, progress, content.length);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void channel() throws Exception {
+        List<long[]> progress = new CopyOnWriteArrayList<>();
+        FilesUploadResponse response = methods.filesUpload(builder(progress)
+                .fileChannel(Channels.newChannel(new ByteArrayInputStream(content))).build());
+        assertUploaded(response, progress, -1L);
+    }
+
+    @Test
+    public void byteBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(content.length);
+        buffer.put(content).flip();
+        List<long[]> progress = new CopyOnWriteArrayList<>();
+        FilesUploadResponse response = methods.filesUpload(builder(progress).fileData(buffer).build());
+        assertUploaded(response, progress, content.length);
+        // not consumed
+        assertThat(buffer.remaining(), is(content.length));
+    }
+
+    @Test
+    public void oneShot() throws Exception {
+        RequestBody body = StreamingRequestBody.create(MultipartBody.FORM, new ByteArrayInputStream(content), -1L, null);
+        assertThat(body.isOneShot(), is(true));
+        body.writeTo(new Buffer());
+        try {
+            body.writeTo(new Buffer());
+            fail();
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void oneShotUploadsAreNotResent() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        MockSlackApiServer rateLimitedServer = new MockSlackApiServer(new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                try (InputStream in = req.getInputStream()) {
+                    while (in.read(new byte[8192]) != -1) {
+                        // drain
+                    }
+                }
+                requests.incrementAndGet();
+                resp.setStatus(429);
+                resp.setHeader("Retry-After", "0");
+                resp.getWriter().write("{\"ok\":false,\"error\":\"ratelimited\"}");
+            }
+        });
+        try {
+            SlackConfig config = new SlackConfig();
+            config.setMethodsRateLimiter(new MethodsRateLimiter());
+            config.setMethodsRetryPolicy(MethodsRetryPolicy.builder().build());
+            MethodsClient client = Slack.getInstance(config).methods();
+            client.setEndpointUrlPrefix(rateLimitedServer.getEndpointUrlPrefix());
+            try {
+                client.filesUpload(builder(new CopyOnWriteArrayList<>())
+                        .fileInputStream(new ByteArrayInputStream(content)).build());
+                fail();
+            } catch (SlackApiException e) {
+                // the original response, not "The content has already been sent"
+                assertThat(e.getResponse().code(), is(429));
+            }
+            assertThat(requests.get(), is(1));
+
+            // a file can be sent again (without the rate limiter, whose files.upload bucket would slow down this test)
+            SlackConfig retryOnlyConfig = new SlackConfig();
+            retryOnlyConfig.setMethodsRetryPolicy(MethodsRetryPolicy.builder().build());
+            MethodsClient retryingClient = Slack.getInstance(retryOnlyConfig).methods();
+            retryingClient.setEndpointUrlPrefix(rateLimitedServer.getEndpointUrlPrefix());
+            Path file = Files.createTempFile("jslack", ".txt");
+            try {
+                Files.write(file, content);
+                retryingClient.filesUpload(builder(new CopyOnWriteArrayList<>()).filePath(file).build());
+                fail();
+            } catch (SlackApiException e) {
+                assertThat(e.getResponse().code(), is(429));
+            } finally {
+                Files.delete(file);
+            }
+            assertThat(requests.get(), is(4));
+        } finally {
+            rateLimitedServer.close();
+        }
+    }
+
+    @Test
+    public void loggingListenerDoesNotReadStreamingBodies() throws Exception {
+        RequestBody streamBody = StreamingRequestBody.create(MultipartBody.FORM, new ByteArrayInputStream(content), -1L, null);
+        MultipartBody multipartBody = new MultipartBody.Builder().setType(MultipartBody.FORM)
+                .addFormDataPart("file", "report.txt", streamBody)
+                .build();
+        Request request = new Request.Builder().url(server.getEndpointUrlPrefix() + "files.upload").post(multipartBody).build();
+        Response response = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .build();
+        new DetailedLoggingListener().accept(new HttpResponseListener.State(new SlackConfig(), response, "{\"ok\":true}"));
+        // not consumed by the listener
+        Buffer sent = new Buffer();
+        streamBody.writeTo(sent);
+        assertThat(sent.size(), is((long) content.length));
+    }
+
+}
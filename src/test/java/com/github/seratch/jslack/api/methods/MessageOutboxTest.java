@@ -0,0 +1,168 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
+import com.github.seratch.jslack.api.methods.request.chat.ChatUpdateRequest;
+import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
+import com.github.seratch.jslack.api.methods.response.chat.ChatUpdateResponse;
+import com.github.seratch.jslack.api.model.block.DividerBlock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MessageOutboxTest {
+
+    public static class RecordingApi extends HttpServlet {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        final List<Long> calledAt = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            String method = req.getRequestURI().substring(req.getRequestURI().lastIndexOf('/') + 1);
+            calls.add(method + ":" + req.getParameter("channel") + ":" + req.getParameter("text"));
+            calledAt.add(System.currentTimeMillis());
+            resp.setStatus(200);
+            resp.setContentType("application/json");
+            resp.getWriter().write("{\"ok\":true,\"channel\":\"" + req.getParameter("channel") + "\",\"ts\":\"" + calls.size() + ".0\"}");
+        }
+    }
+
+    RecordingApi api = new RecordingApi();
+    MockSlackApiServer server;
+    MethodsClient methods;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(api);
+        methods = Slack.getInstance(new SlackConfig()).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    MessageOutbox outbox(int maxMergedMessages) {
+        return new MessageOutbox(methods, MessageOutboxConfig.builder()
+                .channelIntervalMillis(200L)
+                .maxMergedMessages(maxMergedMessages)
+                .build());
+    }
+
+    CompletableFuture<ChatPostMessageResponse> post(MessageOutbox outbox, String channel, String text) {
+        return outbox.post(ChatPostMessageRequest.builder().token("xoxb-1").channel(channel).text(text).build());
+    }
+
+    @Test
+    public void merging() throws Exception {
+        try (MessageOutbox outbox = outbox(20)) {
+            post(outbox, "C1", "first").get(5, TimeUnit.SECONDS);
+            List<CompletableFuture<ChatPostMessageResponse>> futures = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) {
+                futures.add(post(outbox, "C1", "m" + i));
+            }
+            for (CompletableFuture<ChatPostMessageResponse> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).getTs(), is("2.0"));
+            }
+            assertThat(api.calls.size(), is(2));
+            assertThat(api.calls.get(1), is("chat.postMessage:C1:m1\nm2\nm3\nm4\nm5"));
+            assertThat(api.calledAt.get(1) - api.calledAt.get(0) >= 190L, is(true));
+        }
+    }
+
+    @Test
+    public void mergingLimits() throws Exception {
+        try (MessageOutbox outbox = outbox(2)) {
+            post(outbox, "C1", "first").get(5, TimeUnit.SECONDS);
+            List<CompletableFuture<ChatPostMessageResponse>> futures = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                futures.add(post(outbox, "C1", "m" + i));
+            }
+            futures.add(outbox.post(ChatPostMessageRequest.builder().token("xoxb-1").channel("C1")
+                    .text("with blocks").blocks(Collections.singletonList(new DividerBlock())).build()));
+            futures.add(post(outbox, "C1", "m4"));
+            for (CompletableFuture<ChatPostMessageResponse> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            assertThat(api.calls.size(), is(5));
+            assertThat(api.calls.get(1), is("chat.postMessage:C1:m1\nm2"));
+            assertThat(api.calls.get(2), is("chat.postMessage:C1:m3"));
+            assertThat(api.calls.get(3), is("chat.postMessage:C1:with blocks"));
+            assertThat(api.calls.get(4), is("chat.postMessage:C1:m4"));
+        }
+    }
+
+    @Test
+    public void channelsAreIndependent() throws Exception {
+        try (MessageOutbox outbox = outbox(20)) {
+            post(outbox, "C1", "first").get(5, TimeUnit.SECONDS);
+            long startedAt = System.currentTimeMillis();
+            post(outbox, "C2", "other").get(5, TimeUnit.SECONDS);
+            assertThat(System.currentTimeMillis() - startedAt < 150L, is(true));
+        }
+    }
+
+    @Test
+    public void collapsingUpdates() throws Exception {
+        try (MessageOutbox outbox = outbox(20)) {
+            post(outbox, "C1", "first").get(5, TimeUnit.SECONDS);
+            List<CompletableFuture<ChatUpdateResponse>> futures = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                futures.add(outbox.update(ChatUpdateRequest.builder()
+                        .token("xoxb-1").channel("C1").ts("1.0").text("progress " + i).build()));
+            }
+            for (CompletableFuture<ChatUpdateResponse> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).isOk(), is(true));
+            }
+            assertThat(api.calls.size(), is(2));
+            assertThat(api.calls.get(1), is("chat.update:C1:progress 3"));
+        }
+    }
+
+    @Test
+    public void idleQueuesAreRemoved() throws Exception {
+        try (MessageOutbox outbox = outbox(20)) {
+            post(outbox, "C1", "first").get(5, TimeUnit.SECONDS);
+            post(outbox, "C2", "first").get(5, TimeUnit.SECONDS);
+            assertThat(outbox.getChannelQueueCount() > 0, is(true));
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (outbox.getChannelQueueCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50L);
+            }
+            assertThat(outbox.getChannelQueueCount(), is(0));
+            assertThat(post(outbox, "C1", "again").get(5, TimeUnit.SECONDS).isOk(), is(true));
+        }
+    }
+
+    @Test
+    public void closeSendsQueuedMessages() throws Exception {
+        MessageOutbox outbox = outbox(1);
+        List<CompletableFuture<ChatPostMessageResponse>> futures = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            futures.add(post(outbox, "C1", "m" + i));
+        }
+        outbox.close();
+        for (CompletableFuture<ChatPostMessageResponse> future : futures) {
+            assertThat(future.isDone() && !future.isCompletedExceptionally(), is(true));
+        }
+        assertThat(post(outbox, "C1", "after").isCompletedExceptionally(), is(true));
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.response.bots.BotsInfoResponse;
+import com.github.seratch.jslack.api.methods.response.users.UsersInfoResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class MethodsBatchLoaderTest {
+
+    public static class CountingApi extends HttpServlet {
+        final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        // holds users.list responses while not null
+        volatile CountDownLatch usersListLatch;
+
+        int calls(String method) {
+            AtomicInteger count = calls.get(method);
+            return count == null ? 0 : count.get();
+        }
+
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            String method = req.getRequestURI().substring(req.getRequestURI().lastIndexOf('/') + 1);
+            calls.computeIfAbsent(method, k -> new AtomicInteger()).incrementAndGet();
+            resp.setStatus(200);
+            resp.setContentType("application/json");
+            String body;
+            if (method.equals("users.info")) {
+                String user = req.getParameter("user");
+                if (user.startsWith("UX")) {
+                    resp.setStatus(500);
+                    resp.getWriter().write("{\"ok\":false}");
+                    return;
+                }
+                body = user.startsWith("U9")
+                        ? "{\"ok\":false,\"error\":\"user_not_found\"}"
+                        : "{\"ok\":true,\"user\":{\"id\":\"" + user + "\"}}";
+            } else if (method.equals("users.list")) {
+                CountDownLatch latch = usersListLatch;
+                if (latch != null) {
+                    try {
+                        latch.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                // two pages with U0..U5 and U5..U9 (U9 is missing)
+                boolean firstPage = req.getParameter("cursor") == null;
+                StringBuilder members = new StringBuilder();
+                for (int i = firstPage ? 0 : 5; i < (firstPage ? 5 : 9); i++) {
+                    members.append(i == (firstPage ? 0 : 5) ? "" : ",").append("{\"id\":\"U").append(i).append("\"}");
+                }
+                body = "{\"ok\":true,\"members\":[" + members + "],\"response_metadata\":{\"next_cursor\":\""
+                        + (firstPage ? "next" : "") + "\"}}";
+            } else if (method.equals("bots.info")) {
+                body = "{\"ok\":true,\"bot\":{\"id\":\"" + req.getParameter("bot") + "\"}}";
+            } else {
+                body = "{\"ok\":false,\"error\":\"unknown_method\"}";
+            }
+            resp.getWriter().write(body);
+        }
+    }
+
+    CountingApi api = new CountingApi();
+    MockSlackApiServer server;
+    MethodsClient methods;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(api);
+        methods = Slack.getInstance(new SlackConfig()).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    public void dedupe() throws Exception {
+        try (MethodsBatchLoader loader = new MethodsBatchLoader(methods, "xoxb-1", 50L, 10)) {
+            CompletableFuture<UsersInfoResponse> first = loader.usersInfo("U1");
+            CompletableFuture<UsersInfoResponse> second = loader.usersInfo("U1");
+            CompletableFuture<UsersInfoResponse> third = loader.usersInfo("U2");
+            CompletableFuture<BotsInfoResponse> bot1 = loader.botsInfo("B1");
+            CompletableFuture<BotsInfoResponse> bot2 = loader.botsInfo("B1");
+
+            assertThat(first, is(not(sameInstance(second))));
+            assertThat(first.get(5, TimeUnit.SECONDS).getUser().getId(), is("U1"));
+            assertThat(second.get(5, TimeUnit.SECONDS).getUser().getId(), is("U1"));
+            assertThat(third.get(5, TimeUnit.SECONDS).getUser().getId(), is("U2"));
+            assertThat(bot1.get(5, TimeUnit.SECONDS).getBot().getId(), is("B1"));
+            assertThat(bot2.get(5, TimeUnit.SECONDS).getBot().getId(), is("B1"));
+
+            assertThat(api.calls("users.info"), is(2));
+            assertThat(api.calls("users.list"), is(0));
+            assertThat(api.calls("bots.info"), is(1));
+        }
+    }
+
+    @Test
+    public void listScan() throws Exception {
+        try (MethodsBatchLoader loader = new MethodsBatchLoader(methods, "xoxb-1", 50L, 3)) {
+            List<CompletableFuture<UsersInfoResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(loader.usersInfo("U" + i));
+            }
+            for (int i = 0; i < 9; i++) {
+                UsersInfoResponse response = futures.get(i).get(5, TimeUnit.SECONDS);
+                assertThat(response.isOk(), is(true));
+                assertThat(response.getUser().getId(), is("U" + i));
+            }
+            // not found by the scan, so users.info tells the error
+            UsersInfoResponse notFound = futures.get(9).get(5, TimeUnit.SECONDS);
+            assertThat(notFound.isOk(), is(false));
+            assertThat(notFound.getError(), is("user_not_found"));
+
+            assertThat(api.calls("users.list"), is(2));
+            assertThat(api.calls("users.info"), is(1));
+        }
+    }
+
+    @Test
+    public void failuresAreIsolatedPerId() throws Exception {
+        try (MethodsBatchLoader loader = new MethodsBatchLoader(methods, "xoxb-1", 50L, 10)) {
+            CompletableFuture<UsersInfoResponse> ok = loader.usersInfo("U1");
+            CompletableFuture<UsersInfoResponse> failing = loader.usersInfo("UX1");
+            CompletableFuture<UsersInfoResponse> failingAgain = loader.usersInfo("UX1");
+
+            assertThat(ok.get(5, TimeUnit.SECONDS).getUser().getId(), is("U1"));
+            for (CompletableFuture<UsersInfoResponse> future : Arrays.asList(failing, failingAgain)) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                    fail();
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause() instanceof SlackApiException, is(true));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void scanDoesNotBlockOtherLookups() throws Exception {
+        api.usersListLatch = new CountDownLatch(1);
+        try (MethodsBatchLoader loader = new MethodsBatchLoader(methods, "xoxb-1", 10L, 3)) {
+            List<CompletableFuture<UsersInfoResponse>> scanned = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                scanned.add(loader.usersInfo("U" + i));
+            }
+            CompletableFuture<BotsInfoResponse> bot = loader.botsInfo("B1");
+            assertThat(bot.get(3, TimeUnit.SECONDS).getBot().getId(), is("B1"));
+            assertThat(scanned.get(0).isDone(), is(false));
+
+            api.usersListLatch.countDown();
+            for (int i = 0; i < 3; i++) {
+                assertThat(scanned.get(i).get(5, TimeUnit.SECONDS).getUser().getId(), is("U" + i));
+            }
+        }
+    }
+
+    @Test
+    public void closed() throws Exception {
+        MethodsBatchLoader loader = new MethodsBatchLoader(methods, "xoxb-1");
+        loader.close();
+        assertThat(loader.usersInfo("U1").isCompletedExceptionally(), is(true));
+    }
+
+}
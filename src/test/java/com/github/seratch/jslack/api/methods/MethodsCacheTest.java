@@ -0,0 +1,166 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
+import com.github.seratch.jslack.api.methods.request.users.UsersInfoRequest;
+import com.github.seratch.jslack.api.methods.response.users.UsersInfoResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class MethodsCacheTest {
+
+    public static class CountingApi extends HttpServlet {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            resp.setStatus(200);
+            resp.setContentType("application/json");
+            String user = req.getParameter("user");
+            if ("U404".equals(user)) {
+                resp.getWriter().write("{\"ok\":false,\"error\":\"user_not_found\"}");
+            } else {
+                resp.getWriter().write("{\"ok\":true,\"user\":{\"id\":\"" + user + "\"}}");
+            }
+        }
+    }
+
+    CountingApi api = new CountingApi();
+    MockSlackApiServer server;
+    MethodsCache cache;
+    MethodsClient methods;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(api);
+        cache = MethodsCache.builder()
+                .cache(Methods.USERS_INFO, 1, TimeUnit.MINUTES, 2)
+                .build();
+        methods = Slack.getInstance(new SlackConfig()).methods(cache);
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    UsersInfoResponse usersInfo(String token, String user) throws Exception {
+        return methods.usersInfo(UsersInfoRequest.builder().token(token).user(user).build());
+    }
+
+    @Test
+    public void readThrough() throws Exception {
+        UsersInfoResponse first = usersInfo("xoxb-1", "U1");
+        UsersInfoResponse second = usersInfo("xoxb-1", "U1");
+        assertThat(second, is(sameInstance(first)));
+        assertThat(api.calls.get(), is(1));
+
+        // a different token is a different key
+        usersInfo("xoxb-2", "U1");
+        assertThat(api.calls.get(), is(2));
+
+        // error responses are not cached
+        usersInfo("xoxb-1", "U404");
+        usersInfo("xoxb-1", "U404");
+        assertThat(api.calls.get(), is(4));
+
+        // write methods are never cached
+        methods.chatPostMessage(ChatPostMessageRequest.builder().token("xoxb-1").channel("C1").text("hi").build());
+        methods.chatPostMessage(ChatPostMessageRequest.builder().token("xoxb-1").channel("C1").text("hi").build());
+        assertThat(api.calls.get(), is(6));
+
+        MethodsCacheStats stats = cache.getStats(Methods.USERS_INFO);
+        assertThat(stats.getHitCount(), is(1L));
+        assertThat(stats.getMissCount(), is(4L));
+        assertThat(stats.getSize(), is(2));
+    }
+
+    @Test
+    public void lruEviction() throws Exception {
+        usersInfo("xoxb-1", "U1");
+        usersInfo("xoxb-1", "U2");
+        usersInfo("xoxb-1", "U1"); // U2 is the least recently used
+        usersInfo("xoxb-1", "U3");
+        assertThat(api.calls.get(), is(3));
+
+        usersInfo("xoxb-1", "U1");
+        assertThat(api.calls.get(), is(3));
+        usersInfo("xoxb-1", "U2");
+        assertThat(api.calls.get(), is(4));
+        assertThat(cache.getStats(Methods.USERS_INFO).getEvictionCount(), is(2L));
+    }
+
+    @Test
+    public void singleFlight() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<UsersInfoResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return usersInfo("xoxb-1", "U1");
+                }));
+            }
+            start.countDown();
+            for (Future<UsersInfoResponse> future : futures) {
+                assertThat(future.get().getUser().getId(), is("U1"));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(api.calls.get(), is(1));
+        MethodsCacheStats stats = cache.getStats(Methods.USERS_INFO);
+        assertThat(stats.getMissCount(), is(1L));
+        assertThat(stats.getHitCount(), is(9L));
+    }
+
+    @Test
+    public void expiration() throws Exception {
+        MethodsCache shortLived = MethodsCache.builder().cache(Methods.USERS_INFO, 50, TimeUnit.MILLISECONDS, 10).build();
+        MethodsClient methods = Slack.getInstance(new SlackConfig()).methods(shortLived);
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+        methods.usersInfo(UsersInfoRequest.builder().token("xoxb-1").user("U1").build());
+        Thread.sleep(100L);
+        methods.usersInfo(UsersInfoRequest.builder().token("xoxb-1").user("U1").build());
+        assertThat(api.calls.get(), is(2));
+        assertThat(shortLived.getStats(Methods.USERS_INFO).getExpirationCount(), is(1L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void writeMethodsAreNotAllowed() {
+        MethodsCache.builder().cache(Methods.CHAT_POST_MESSAGE, 1, TimeUnit.MINUTES, 10);
+    }
+
+    @Test
+    public void readOnlyMethods() {
+        assertThat(MethodsCache.isReadOnlyMethod(Methods.USERS_INFO), is(true));
+        assertThat(MethodsCache.isReadOnlyMethod(Methods.EMOJI_LIST), is(true));
+        assertThat(MethodsCache.isReadOnlyMethod(Methods.TEAM_PROFILE_GET), is(true));
+        assertThat(MethodsCache.isReadOnlyMethod(Methods.CONVERSATIONS_CREATE), is(false));
+        assertThat(MethodsCache.isReadOnlyMethod(Methods.USERS_PROFILE_SET), is(false));
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
+import com.github.seratch.jslack.api.methods.request.users.UsersInfoRequest;
+import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
+import com.github.seratch.jslack.api.methods.response.users.UsersInfoResponse;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class MethodsRateLimiterTest {
+
+    // Returns 429 with Retry-After: 1 for the first two calls
+    public static class RateLimitingApi extends HttpServlet {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            if (calls.incrementAndGet() <= 2) {
+                resp.setStatus(429);
+                resp.setHeader("Retry-After", "1");
+                resp.getWriter().write("{\"ok\":false,\"error\":\"ratelimited\"}");
+            } else {
+                resp.setStatus(200);
+                resp.setContentType("application/json");
+                resp.getWriter().write("{\"ok\":true}");
+            }
+        }
+    }
+
+    RateLimitingApi api = new RateLimitingApi();
+    MockSlackApiServer server;
+    MethodsClient methods;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(api);
+        SlackConfig config = new SlackConfig();
+        config.setMethodsRateLimiter(new MethodsRateLimiter());
+        methods = Slack.getInstance(config).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    public void retryAfter() throws Exception {
+        long startedAt = System.nanoTime();
+        UsersInfoResponse response = methods.usersInfo(UsersInfoRequest.builder().token("xoxb-1").user("U1").build());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(response.isOk(), is(true));
+        assertThat(api.calls.get(), is(3));
+        assertThat(elapsedMillis, is(greaterThanOrEqualTo(2000L)));
+    }
+
+    @Test
+    public void giveUpAfterMaxRetries() throws Exception {
+        SlackConfig config = new SlackConfig();
+        config.setMethodsRateLimiter(new MethodsRateLimiter(1));
+        MethodsClient methods = Slack.getInstance(config).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+        try {
+            methods.usersInfo(UsersInfoRequest.builder().token("xoxb-1").user("U1").build());
+            fail();
+        } catch (SlackApiException e) {
+            assertThat(e.getResponse().code(), is(429));
+            assertThat(e.getError().getError(), is("ratelimited"));
+        }
+        assertThat(api.calls.get(), is(2));
+    }
+
+    @Test
+    public void chatPostMessagePerChannel() throws Exception {
+        api.calls.set(100); // no 429
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            ChatPostMessageResponse response = methods.chatPostMessage(ChatPostMessageRequest.builder()
+                    .token("xoxb-1").channel("C" + i).text("hi").build());
+            assertThat(response.isOk(), is(true));
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), is(lessThan(1000L)));
+
+        startedAt = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            methods.chatPostMessage(ChatPostMessageRequest.builder().token("xoxb-1").channel("C9").text("hi").build());
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), is(greaterThanOrEqualTo(1900L)));
+    }
+
+    @Test
+    public void bucket() {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        MethodsRateLimiter.Bucket bucket = new MethodsRateLimiter.Bucket(2, second, 0L);
+        assertThat(bucket.reserve(0L), is(0L));
+        assertThat(bucket.reserve(0L), is(0L));
+        assertThat(bucket.reserve(0L), is(second));
+        assertThat(bucket.reserve(0L), is(2 * second));
+        // refilled
+        assertThat(bucket.reserve(10 * second), is(0L));
+
+        bucket.pause(15 * second);
+        assertThat(bucket.reserve(10 * second), is(5 * second));
+    }
+
+    @Test
+    public void idleBucketEviction() throws IOException {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        MethodsRateLimiter.Bucket bucket = new MethodsRateLimiter.Bucket(2, second, 0L);
+        bucket.reserve(0L);
+        bucket.reserve(0L);
+        // refilled at 2 seconds, and then idle for the refill time (2 seconds)
+        assertThat(bucket.evictIfIdle(4 * second), is(false));
+        assertThat(bucket.evictIfIdle(4 * second + 1), is(true));
+        assertThat(bucket.reserve(5 * second), is(-1L));
+        assertThat(bucket.pause(6 * second), is(false));
+
+        MethodsRateLimiter.Bucket paused = new MethodsRateLimiter.Bucket(2, second, 0L);
+        paused.pause(10 * second);
+        assertThat(paused.evictIfIdle(4 * second), is(false));
+        assertThat(paused.evictIfIdle(13 * second), is(true));
+
+        MethodsRateLimiter limiter = new MethodsRateLimiter();
+        MethodsRateLimiter.HttpCall ok = () -> new Response.Builder()
+                .request(new Request.Builder().url("http://localhost/").build())
+                .protocol(Protocol.HTTP_1_1).code(200).message("OK").build();
+        limiter.execute("xoxb-1", Methods.CHAT_POST_MESSAGE, "C1", ok);
+        limiter.execute("xoxb-1", Methods.CHAT_POST_MESSAGE, "C2", ok);
+        assertThat(limiter.getBucketCount(), is(2));
+        limiter.evictIdleBuckets(System.nanoTime());
+        assertThat(limiter.getBucketCount(), is(2));
+        limiter.evictIdleBuckets(System.nanoTime() + 3 * second);
+        assertThat(limiter.getBucketCount(), is(0));
+    }
+
+    @Test
+    public void parseRetryAfter() {
+        assertThat(MethodsRateLimiter.parseRetryAfter("30"), is(30L));
+        assertThat(MethodsRateLimiter.parseRetryAfter(null), is(1L));
+        assertThat(MethodsRateLimiter.parseRetryAfter("foo"), is(1L));
+    }
+
+    @Test
+    public void tiers() {
+        assertThat(MethodsRateLimits.lookupTier(Methods.RTM_CONNECT), is(MethodsRateLimitTier.TIER_1));
+        assertThat(MethodsRateLimits.lookupTier(Methods.USERS_LIST), is(MethodsRateLimitTier.TIER_2));
+        assertThat(MethodsRateLimits.lookupTier(Methods.CONVERSATIONS_HISTORY), is(MethodsRateLimitTier.TIER_3));
+        assertThat(MethodsRateLimits.lookupTier(Methods.USERS_INFO), is(MethodsRateLimitTier.TIER_4));
+        assertThat(MethodsRateLimits.lookupTier(Methods.CHAT_POST_MESSAGE), is(MethodsRateLimitTier.SPECIAL));
+    }
+}
@@ -0,0 +1,249 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
+import com.github.seratch.jslack.api.methods.request.users.UsersInfoRequest;
+import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
+import com.github.seratch.jslack.api.methods.response.users.UsersInfoResponse;
+import org.eclipse.jetty.server.Request;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class MethodsRetryPolicyTest {
+
+    enum Fault {
+        STATUS_503, STATUS_429, RATELIMITED, INTERNAL_ERROR, CONNECTION_RESET
+    }
+
+    /**
+     * Responds with the queued faults first, and then with successful responses.
+     */
+    public static class FaultInjectingApi extends HttpServlet {
+        final Queue<Fault> faults = new ConcurrentLinkedQueue<>();
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            calls.incrementAndGet();
+            Fault fault = faults.poll();
+            resp.setContentType("application/json");
+            if (fault == Fault.STATUS_503) {
+                resp.setStatus(503);
+                resp.getWriter().write("{\"ok\":false}");
+            } else if (fault == Fault.STATUS_429) {
+                resp.setStatus(429);
+                resp.setHeader("Retry-After", "0");
+                resp.getWriter().write("{\"ok\":false,\"error\":\"ratelimited\"}");
+            } else if (fault == Fault.RATELIMITED) {
+                resp.setStatus(200);
+                resp.getWriter().write("{\"ok\":false,\"error\":\"ratelimited\"}");
+            } else if (fault == Fault.INTERNAL_ERROR) {
+                resp.setStatus(200);
+                resp.getWriter().write("{\"ok\":false,\"error\":\"internal_error\"}");
+            } else if (fault == Fault.CONNECTION_RESET) {
+                // drops the connection in the middle of the response
+                resp.setStatus(200);
+                resp.setContentLength(1000);
+                resp.getWriter().write("{\"ok\":tr");
+                resp.flushBuffer();
+                ((Request) req).getHttpChannel().getEndPoint().close();
+            } else {
+                resp.setStatus(200);
+                resp.getWriter().write("{\"ok\":true,\"user\":{\"id\":\"U1\"},\"ts\":\"123.456\"}");
+            }
+        }
+    }
+
+    FaultInjectingApi api = new FaultInjectingApi();
+    MockSlackApiServer server;
+    List<MethodsRetryAttempt> attempts = new CopyOnWriteArrayList<>();
+    MethodsRetryPolicy policy;
+    MethodsClient methods;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(api);
+        policy = MethodsRetryPolicy.builder()
+                .maxAttempts(3)
+                .initialBackoffMillis(10L)
+                .listener(attempts::add)
+                .build();
+        SlackConfig config = new SlackConfig();
+        config.setMethodsRetryPolicy(policy);
+        methods = Slack.getInstance(config).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    UsersInfoResponse usersInfo() throws Exception {
+        return methods.usersInfo(UsersInfoRequest.builder().token("xoxb-1").user("U1").build());
+    }
+
+    ChatPostMessageResponse postMessage() throws Exception {
+        return methods.chatPostMessage(ChatPostMessageRequest.builder().token("xoxb-1").channel("C1").text("hi").build());
+    }
+
+    @Test
+    public void readsAreRetried() throws Exception {
+        api.faults.add(Fault.STATUS_503);
+        api.faults.add(Fault.INTERNAL_ERROR);
+        UsersInfoResponse response = usersInfo();
+        assertThat(response.isOk(), is(true));
+        assertThat(api.calls.get(), is(3));
+
+        assertThat(attempts.size(), is(3));
+        assertThat(attempts.get(0).getFailure(), is("HTTP 503"));
+        assertThat(attempts.get(0).isWillRetry(), is(true));
+        assertThat(attempts.get(1).getFailure(), is("internal_error"));
+        assertThat(attempts.get(2).getFailure(), is(nullValue()));
+        assertThat(attempts.get(2).getAttemptNumber(), is(3));
+
+        MethodsRetryStats stats = policy.getStats(Methods.USERS_INFO);
+        assertThat(stats.getAttemptCount(), is(3L));
+        assertThat(stats.getRetryCount(), is(2L));
+        assertThat(stats.getExhaustedCount(), is(0L));
+    }
+
+    @Test
+    public void connectionResetOnRead() throws Exception {
+        api.faults.add(Fault.CONNECTION_RESET);
+        assertThat(usersInfo().isOk(), is(true));
+        assertThat(api.calls.get(), is(2));
+    }
+
+    @Test
+    public void maxAttempts() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            api.faults.add(Fault.INTERNAL_ERROR);
+        }
+        UsersInfoResponse response = usersInfo();
+        assertThat(response.isOk(), is(false));
+        assertThat(response.getError(), is("internal_error"));
+        assertThat(api.calls.get(), is(3));
+        assertThat(policy.getStats(Methods.USERS_INFO).getExhaustedCount(), is(1L));
+    }
+
+    @Test
+    public void deadline() throws Exception {
+        policy = MethodsRetryPolicy.builder().initialBackoffMillis(1000L).jitter(0d).deadlineMillis(500L).build();
+        SlackConfig config = new SlackConfig();
+        config.setMethodsRetryPolicy(policy);
+        methods = Slack.getInstance(config).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+
+        api.faults.add(Fault.INTERNAL_ERROR);
+        assertThat(usersInfo().getError(), is("internal_error"));
+        assertThat(api.calls.get(), is(1));
+    }
+
+    @Test
+    public void writesAreNotRetriedAfterBeingSent() throws Exception {
+        api.faults.add(Fault.STATUS_503);
+        try {
+            postMessage();
+            fail();
+        } catch (SlackApiException e) {
+            assertThat(e.getResponse().code(), is(503));
+        }
+        api.faults.add(Fault.INTERNAL_ERROR);
+        assertThat(postMessage().getError(), is("internal_error"));
+        api.faults.add(Fault.CONNECTION_RESET);
+        try {
+            postMessage();
+            fail();
+        } catch (IOException e) {
+        }
+        assertThat(api.calls.get(), is(3));
+    }
+
+    @Test
+    public void writesAreRetriedWhenRateLimited() throws Exception {
+        api.faults.add(Fault.STATUS_429);
+        api.faults.add(Fault.RATELIMITED);
+        assertThat(postMessage().isOk(), is(true));
+        assertThat(api.calls.get(), is(3));
+    }
+
+    @Test
+    public void http429IsLeftToRateLimiter() throws Exception {
+        SlackConfig config = new SlackConfig();
+        config.setMethodsRetryPolicy(policy);
+        config.setMethodsRateLimiter(new MethodsRateLimiter(1));
+        methods = Slack.getInstance(config).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+
+        for (int i = 0; i < 10; i++) {
+            api.faults.add(Fault.STATUS_429);
+        }
+        try {
+            usersInfo();
+            fail();
+        } catch (SlackApiException e) {
+            assertThat(e.getResponse().code(), is(429));
+        }
+        // the first request and a retry by the rate limiter only
+        assertThat(api.calls.get(), is(2));
+        assertThat(attempts.size(), is(1));
+        assertThat(attempts.get(0).isWillRetry(), is(false));
+    }
+
+    @Test
+    public void writesAreRetriedOnConnectFailures() throws Exception {
+        String endpoint = server.getEndpointUrlPrefix();
+        server.close();
+        methods.setEndpointUrlPrefix(endpoint);
+        try {
+            postMessage();
+            fail();
+        } catch (ConnectException e) {
+        }
+        assertThat(attempts.size(), is(3));
+        assertThat(attempts.get(0).getFailure(), is("ConnectException"));
+        assertThat(policy.getStats(Methods.CHAT_POST_MESSAGE).getExhaustedCount(), is(1L));
+    }
+
+    @Test
+    public void idempotency() {
+        assertThat(policy.isIdempotent(Methods.USERS_INFO), is(true));
+        assertThat(policy.isIdempotent(Methods.CHAT_POST_MESSAGE), is(false));
+        MethodsRetryPolicy custom = MethodsRetryPolicy.builder()
+                .idempotentMethods(Collections.singleton(Methods.CHAT_UPDATE))
+                .build();
+        assertThat(custom.isIdempotent(Methods.CHAT_UPDATE), is(true));
+    }
+
+    @Test
+    public void backoff() {
+        MethodsRetryPolicy noJitter = MethodsRetryPolicy.builder()
+                .initialBackoffMillis(100L).maxBackoffMillis(300L).jitter(0d).build();
+        assertThat(noJitter.backoffMillis(1), is(100L));
+        assertThat(noJitter.backoffMillis(2), is(200L));
+        assertThat(noJitter.backoffMillis(3), is(300L));
+        long jittered = policy.backoffMillis(1);
+        assertThat(jittered >= 5L && jittered <= 10L, is(true));
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.api.methods.request.conversations.ConversationsHistoryRequest;
+import com.github.seratch.jslack.api.model.Message;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class PaginatorTest {
+
+    // 5 pages, 3 messages each
+    public static class HistoryApi extends HttpServlet {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            calls.incrementAndGet();
+            String cursor = req.getParameter("cursor");
+            if ("invalid".equals(req.getParameter("channel"))) {
+                resp.setStatus(200);
+                resp.getWriter().write("{\"ok\":false,\"error\":\"channel_not_found\"}");
+                return;
+            }
+            int page = cursor == null ? 0 : Integer.parseInt(cursor.substring("page".length()));
+            StringBuilder messages = new StringBuilder();
+            for (int i = 0; i < 3; i++) {
+                if (i > 0) {
+                    messages.append(",");
+                }
+                messages.append("{\"type\":\"message\",\"ts\":\"").append(page * 3 + i).append("\"}");
+            }
+            String nextCursor = page < 4 ? "page" + (page + 1) : "";
+            resp.setStatus(200);
+            resp.setContentType("application/json");
+            resp.getWriter().write("{\"ok\":true,\"messages\":[" + messages + "]," +
+                    "\"response_metadata\":{\"next_cursor\":\"" + nextCursor + "\"}}");
+        }
+    }
+
+    HistoryApi api = new HistoryApi();
+    MockSlackApiServer server;
+    MethodsClient methods;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(api);
+        methods = Slack.getInstance().methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    public void allPages() {
+        List<String> timestamps = methods.paginate(ConversationsHistoryRequest.builder().token("xoxb-1").channel("C1").build())
+                .map(Message::getTs)
+                .collect(Collectors.toList());
+        assertThat(timestamps.size(), is(15));
+        for (int i = 0; i < 15; i++) {
+            assertThat(timestamps.get(i), is(String.valueOf(i)));
+        }
+        assertThat(api.calls.get(), is(5));
+    }
+
+    @Test
+    public void lazyAndEarlyTermination() throws Exception {
+        try (Stream<Message> messages = methods.paginate(ConversationsHistoryRequest.builder().token("xoxb-1").channel("C1").build())) {
+            assertThat(api.calls.get(), is(0));
+            List<Message> firstFour = messages.limit(4).collect(Collectors.toList());
+            assertThat(firstFour.size(), is(4));
+        }
+        Thread.sleep(200L);
+        // two pages consumed, at most one prefetched
+        assertThat(api.calls.get(), is(lessThanOrEqualTo(3)));
+    }
+
+    @Test
+    public void errorResponse() {
+        try {
+            methods.paginate(ConversationsHistoryRequest.builder().token("xoxb-1").channel("invalid").build()).count();
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("Failed to fetch the next page (error: channel_not_found)"));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.seratch.jslack.api.methods;
+
+import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
+import com.github.seratch.jslack.api.model.Attachment;
+import com.github.seratch.jslack.api.model.block.LayoutBlock;
+import com.github.seratch.jslack.api.model.block.SectionBlock;
+import com.github.seratch.jslack.api.model.block.composition.PlainTextObject;
+import com.github.seratch.jslack.common.json.GsonFactory;
+import okhttp3.FormBody;
+import okio.Buffer;
+import org.junit.Test;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Verifies that the forms are encoded byte-for-byte in the same way as FormBody.Builder#add does,
+ * and that every form is identical to the one BaselineRequestFormBuilder (the former encoding) builds.
+ */
+public class RequestFormBuilderTest {
+
+    static final String SPECIAL = "a b+c&d=e%f/g?h#i\"j'k<l>m~n\te\nféあ🙂!$()*,;:@[]^`{|}\\";
+
+    static String okHttpEncode(String value) {
+        return new FormBody.Builder().add("v", value).build().encodedValue(0);
+    }
+
+    static String toBytes(FormBody body) throws Exception {
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        return buffer.readUtf8();
+    }
+
+    @Test
+    public void encodeFuzzing() {
+        Random random = new Random(42L);
+        char[] interesting = (SPECIAL + "\u0000\u001f\u007f\u0080߿ࠀ￿𐀀􏿿").toCharArray();
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder value = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                value.append(random.nextBoolean()
+                        ? interesting[random.nextInt(interesting.length)]
+                        : (char) random.nextInt(Character.MAX_VALUE + 1));
+            }
+            String input = value.toString();
+            assertThat(input, FormValueEncoder.encode(input), is(okHttpEncode(input)));
+        }
+        // unpaired surrogates at the end and in the middle
+        assertThat(FormValueEncoder.encode("a\uD83D"), is(okHttpEncode("a\uD83D")));
+        assertThat(FormValueEncoder.encode("\uDE42a"), is(okHttpEncode("\uDE42a")));
+        assertThat(FormValueEncoder.encode("\uD83D🙂"), is(okHttpEncode("\uD83D🙂")));
+        String plain = "C1234567";
+        assertThat(FormValueEncoder.encode(plain) == plain, is(true));
+    }
+
+    @Test
+    public void jsonValues() throws Exception {
+        List<LayoutBlock> blocks = Collections.singletonList(SectionBlock.builder()
+                .text(PlainTextObject.builder().text(SPECIAL).emoji(true).build())
+                .blockId("b 1")
+                .build());
+        Attachment attachment = Attachment.builder().text(SPECIAL).color("#36a64f").build();
+        List<Attachment> attachments = Collections.singletonList(attachment);
+        ChatPostMessageRequest req = ChatPostMessageRequest.builder()
+                .channel("C1").text(SPECIAL).blocks(blocks).attachments(attachments).build();
+
+        FormBody.Builder legacy = new FormBody.Builder();
+        legacy.add("blocks", GsonFactory.createSnakeCase().toJson(blocks));
+        legacy.add("attachments", GsonFactory.createSnakeCase().toJson(attachments));
+        FormBody expected = legacy.build();
+
+        FormBody actual = RequestFormBuilder.toForm(req).build();
+        Map<String, String> actualValues = new HashMap<>();
+        for (int i = 0; i < actual.size(); i++) {
+            actualValues.put(actual.encodedName(i), actual.encodedValue(i));
+        }
+        assertThat(actualValues.get("blocks"), is(expected.encodedValue(0)));
+        assertThat(actualValues.get("attachments"), is(expected.encodedValue(1)));
+    }
+
+    @Test
+    public void allRequestClasses() throws Exception {
+        int verifiedClasses = 0;
+        for (Method toForm : RequestFormBuilder.class.getMethods()) {
+            if (!toForm.getName().equals("toForm") || toForm.getReturnType() != FormBody.Builder.class) {
+                continue;
+            }
+            Class<?> requestClass = toForm.getParameterTypes()[0];
+            Method baseline = BaselineRequestFormBuilder.class.getDeclaredMethod("toForm", requestClass);
+            Object request = buildWithAllFields(requestClass);
+            FormBody actual = ((FormBody.Builder) toForm.invoke(null, request)).build();
+            FormBody expected = ((FormBody.Builder) baseline.invoke(null, request)).build();
+            assertThat(requestClass.getSimpleName(), toBytes(actual), is(toBytes(expected)));
+            verifiedClasses++;
+        }
+        assertThat(verifiedClasses > 100, is(true));
+    }
+
+    static Object buildWithAllFields(Class<?> requestClass) throws Exception {
+        Object builder = requestClass.getMethod("builder").invoke(null);
+        for (Method setter : builder.getClass().getMethods()) {
+            if (setter.getParameterCount() != 1 || setter.getDeclaringClass() != builder.getClass()) {
+                continue;
+            }
+            Object value = sampleValue(setter.getParameterTypes()[0], setter.getGenericParameterTypes()[0]);
+            if (value != null) {
+                setter.invoke(builder, value);
+            }
+        }
+        return builder.getClass().getMethod("build").invoke(builder);
+    }
+
+    static Object sampleValue(Class<?> type, Type genericType) {
+        if (type == String.class) {
+            return SPECIAL;
+        } else if (type == int.class || type == Integer.class) {
+            return 42;
+        } else if (type == long.class || type == Long.class) {
+            return 42L;
+        } else if (type == double.class || type == Double.class) {
+            return 1.5d;
+        } else if (type == boolean.class || type == Boolean.class) {
+            return true;
+        } else if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        } else if (type == List.class && genericType instanceof ParameterizedType) {
+            Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (elementType == String.class) {
+                return Arrays.asList("U1", SPECIAL);
+            } else if (elementType == LayoutBlock.class) {
+                return Collections.singletonList(SectionBlock.builder()
+                        .text(PlainTextObject.builder().text(SPECIAL).emoji(true).build()).blockId("b 1").build());
+            } else if (elementType == Attachment.class) {
+                return Collections.singletonList(Attachment.builder().text(SPECIAL).color("#36a64f").build());
+            } else if (elementType instanceof Class && ((Class<?>) elementType).isEnum()) {
+                return Arrays.asList(((Class<?>) elementType).getEnumConstants());
+            }
+        }
+        return null;
+    }
+
+}
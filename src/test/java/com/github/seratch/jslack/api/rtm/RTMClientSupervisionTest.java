@@ -0,0 +1,332 @@
+package com.github.seratch.jslack.api.rtm;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.MethodsClient;
+import com.github.seratch.jslack.api.model.User;
+import com.github.seratch.jslack.api.rtm.message.Message;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockRTMServer;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class RTMClientSupervisionTest {
+
+    MockRTMServer rtmServer;
+    MockSlackApiServer apiServer;
+    AtomicInteger rtmConnectCalls = new AtomicInteger();
+    volatile boolean tokenRevoked = false;
+    RTMClient client;
+
+    @Before
+    public void setup() throws Exception {
+        rtmServer = new MockRTMServer();
+        apiServer = new MockSlackApiServer(new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                rtmConnectCalls.incrementAndGet();
+                resp.setContentType("application/json");
+                if (tokenRevoked) {
+                    resp.getWriter().write("{\"ok\":false,\"error\":\"token_revoked\"}");
+                    return;
+                }
+                resp.getWriter().write("{\"ok\":true,\"url\":\"" + rtmServer.getUrl() + "\",\"self\":{\"id\":\"U1\"}}");
+            }
+        });
+        SlackConfig config = new SlackConfig();
+        config.setRtmClientConfig(RTMClientConfig.builder()
+                .pingIntervalMillis(100L)
+                .maxMissedPongs(2)
+                .reconnectInitialBackoffMillis(50L)
+                .reconnectMaxBackoffMillis(200L)
+                .sendBufferSize(3)
+                .build());
+        Slack slack = Slack.getInstance(config);
+        MethodsClient methods = slack.methods();
+        methods.setEndpointUrlPrefix(apiServer.getEndpointUrlPrefix());
+        User user = new User();
+        user.setId("U1");
+        client = new RTMClient(slack, methods, "xoxb-token", rtmServer.getUrl(), user);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        client.close();
+        rtmServer.close();
+        apiServer.close();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("timed out");
+            }
+            Thread.sleep(10L);
+        }
+    }
+
+    @Test
+    public void pings() throws Exception {
+        client.connect();
+        waitUntil(client::isConnected);
+        waitUntil(() -> client.getLastPingRoundTripMillis() >= 0);
+        Thread.sleep(300L);
+        assertThat(rtmServer.getConnectionCount(), is(1));
+        assertThat(client.getReconnectCount(), is(0L));
+    }
+
+    @Test
+    public void reconnectWhenDropped() throws Exception {
+        client.connect();
+        waitUntil(client::isConnected);
+        rtmServer.dropAll();
+        waitUntil(() -> rtmServer.getConnectionCount() == 2 && client.isConnected());
+        waitUntil(() -> client.getReconnectCount() == 1L);
+        assertThat(rtmConnectCalls.get(), is(1));
+    }
+
+    @Test
+    public void reconnectWhenPongsStop() throws Exception {
+        client.connect();
+        waitUntil(client::isConnected);
+        rtmServer.setPongEnabled(false);
+        waitUntil(() -> rtmServer.getConnectionCount() == 2);
+        rtmServer.setPongEnabled(true);
+        waitUntil(client::isConnected);
+        assertThat(client.getReconnectCount() >= 1L, is(true));
+    }
+
+    @Test
+    public void noReconnectAfterAuthError() throws Exception {
+        CopyOnWriteArrayList<Throwable> errors = new CopyOnWriteArrayList<>();
+        client.addErrorHandler(errors::add);
+        client.connect();
+        waitUntil(client::isConnected);
+        tokenRevoked = true;
+        rtmServer.sendToAll("{\"type\":\"goodbye\"}");
+        waitUntil(() -> errors.size() == 1);
+        assertThat(errors.get(0).getMessage().contains("token_revoked"), is(true));
+        assertThat(client.isReconnecting(), is(false));
+        Thread.sleep(300L);
+        assertThat(rtmConnectCalls.get(), is(1));
+    }
+
+    @Test
+    public void reconnectOnGoodbye() throws Exception {
+        client.connect();
+        waitUntil(client::isConnected);
+        rtmServer.sendToAll("{\"type\":\"goodbye\"}");
+        waitUntil(() -> rtmServer.getConnectionCount() == 2 && client.isConnected());
+    }
+
+    @Test
+    public void reconnectUrl() throws Exception {
+        client.connect();
+        waitUntil(client::isConnected);
+        rtmServer.sendToAll("{\"type\":\"reconnect_url\",\"url\":\"" + rtmServer.getUrl() + "?reconnect=1\"}");
+        Thread.sleep(100L);
+        rtmServer.dropAll();
+        waitUntil(() -> rtmServer.getConnectionCount() == 2 && client.isConnected());
+        assertThat(rtmConnectCalls.get(), is(0));
+        assertThat(client.getWssUri().getQuery(), is("reconnect=1"));
+    }
+
+    @Test
+    public void bufferWhileReconnecting() throws Exception {
+        client.connect();
+        waitUntil(client::isConnected);
+        rtmServer.setHelloEnabled(false);
+        rtmServer.dropAll();
+        waitUntil(() -> rtmServer.getConnectionCount() == 2);
+        assertThat(client.isConnected(), is(false));
+
+        client.sendMessage("{\"id\":1,\"type\":\"message\",\"text\":\"a\"}");
+        client.sendMessage("{\"id\":2,\"type\":\"message\",\"text\":\"b\"}");
+        client.sendMessage("{\"id\":3,\"type\":\"message\",\"text\":\"c\"}");
+        try {
+            client.sendMessage("{\"id\":4,\"type\":\"message\",\"text\":\"d\"}");
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage().contains("full"), is(true));
+        }
+        assertThat(rtmServer.getReceivedMessages().size(), is(0));
+
+        rtmServer.sendToAll("{\"type\":\"hello\"}");
+        waitUntil(() -> rtmServer.getReceivedMessages().size() == 3);
+        assertThat(rtmServer.getReceivedMessages(), is(Arrays.asList(
+                "{\"id\":1,\"type\":\"message\",\"text\":\"a\"}",
+                "{\"id\":2,\"type\":\"message\",\"text\":\"b\"}",
+                "{\"id\":3,\"type\":\"message\",\"text\":\"c\"}")));
+    }
+
+    @Test
+    public void noReconnectAfterDisconnect() throws Exception {
+        client.connect();
+        waitUntil(client::isConnected);
+        client.disconnect();
+        Thread.sleep(300L);
+        assertThat(rtmServer.getConnectionCount(), is(1));
+        assertThat(client.isConnected(), is(false));
+        try {
+            client.sendMessage("{\"type\":\"message\"}");
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage().contains("disconnected"), is(true));
+        }
+    }
+
+    @Test
+    public void slowHandlersDontDelayPongs() throws Exception {
+        SlackConfig config = new SlackConfig();
+        config.setRtmClientConfig(RTMClientConfig.builder()
+                .pingIntervalMillis(100L)
+                .maxMissedPongs(2)
+                .messageHandlerThreads(2)
+                .build());
+        User user = new User();
+        user.setId("U1");
+        try (RTMClient asyncClient = new RTMClient(Slack.getInstance(config), "xoxb-token", rtmServer.getUrl(), user)) {
+            CountDownLatch handled = new CountDownLatch(1);
+            asyncClient.addMessageHandler(message -> {
+                if (message.contains("C1")) {
+                    try {
+                        Thread.sleep(1000L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    handled.countDown();
+                }
+            });
+            asyncClient.connect();
+            waitUntil(asyncClient::isConnected);
+            rtmServer.sendToAll("{\"type\":\"message\",\"channel\":\"C1\",\"text\":\"slow\"}");
+            assertThat(handled.await(3, TimeUnit.SECONDS), is(true));
+            assertThat(rtmServer.getConnectionCount(), is(1));
+            assertThat(asyncClient.getLastPingRoundTripMillis() >= 0, is(true));
+        }
+    }
+
+    private RTMClient newClient(int maxInFlightMessages, long replyTimeoutMillis) throws Exception {
+        SlackConfig config = new SlackConfig();
+        config.setRtmClientConfig(RTMClientConfig.builder()
+                .pingIntervalMillis(0L)
+                .maxInFlightMessages(maxInFlightMessages)
+                .replyTimeoutMillis(replyTimeoutMillis)
+                .build());
+        User user = new User();
+        user.setId("U1");
+        return new RTMClient(Slack.getInstance(config), "xoxb-token", rtmServer.getUrl(), user);
+    }
+
+    @Test
+    public void replies() throws Exception {
+        rtmServer.setMessageHandler((connection, text) -> {
+            JsonObject json = new JsonParser().parse(text).getAsJsonObject();
+            try {
+                if (json.get("text").getAsString().isEmpty()) {
+                    connection.send("{\"ok\":false,\"reply_to\":" + json.get("id") + ",\"error\":{\"code\":2,\"msg\":\"message text is missing\"}}");
+                } else {
+                    connection.send("{\"ok\":true,\"reply_to\":" + json.get("id") + ",\"ts\":\"123.456\",\"text\":" + json.get("text") + "}");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        try (RTMClient rtm = newClient(10, 5000L)) {
+            rtm.connect();
+            CompletableFuture<RTMMessageReply> first = rtm.sendMessage(Message.builder().channel("C1").text("hi").build());
+            CompletableFuture<RTMMessageReply> second = rtm.sendMessage(Message.builder().channel("C1").text("").build());
+
+            RTMMessageReply reply = first.get(3, TimeUnit.SECONDS);
+            assertThat(reply.isOk(), is(true));
+            assertThat(reply.getTs(), is("123.456"));
+            assertThat(reply.getText(), is("hi"));
+
+            RTMMessageReply error = second.get(3, TimeUnit.SECONDS);
+            assertThat(error.isOk(), is(false));
+            assertThat(error.getError().getCode(), is(2));
+            assertThat(error.getReplyTo() > reply.getReplyTo(), is(true));
+            assertThat(rtm.getAwaitingReplyCount(), is(0));
+        }
+    }
+
+    @Test
+    public void replyTimeout() throws Exception {
+        try (RTMClient rtm = newClient(10, 200L)) {
+            rtm.connect();
+            CompletableFuture<RTMMessageReply> future = rtm.sendMessage(Message.builder().channel("C1").text("hi").build());
+            try {
+                future.get(3, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause() instanceof TimeoutException, is(true));
+            }
+            assertThat(rtm.getAwaitingReplyCount(), is(0));
+        }
+    }
+
+    @Test
+    public void inFlightMessagesAreBounded() throws Exception {
+        try (RTMClient rtm = newClient(2, 5000L)) {
+            rtm.connect();
+            for (int i = 0; i < 5; i++) {
+                rtm.sendMessage(Message.builder().channel("C1").text("m" + i).build());
+            }
+            waitUntil(() -> rtmServer.getReceivedMessages().size() == 2);
+            Thread.sleep(200L);
+            assertThat(rtmServer.getReceivedMessages().size(), is(2));
+            assertThat(rtm.getSendQueueSize(), is(3));
+
+            JsonElement id = new JsonParser().parse(rtmServer.getReceivedMessages().get(0)).getAsJsonObject().get("id");
+            rtmServer.sendToAll("{\"ok\":true,\"reply_to\":" + id + ",\"ts\":\"1.1\"}");
+            waitUntil(() -> rtmServer.getReceivedMessages().size() == 3);
+            Thread.sleep(200L);
+            assertThat(rtmServer.getReceivedMessages().size(), is(3));
+        }
+    }
+
+    @Test
+    public void sendsInOrder() throws Exception {
+        try (RTMClient rtm = newClient(10, 5000L)) {
+            rtm.connect();
+            waitUntil(rtm::isConnected);
+            for (int i = 0; i < 100; i++) {
+                rtm.sendMessage("{\"type\":\"typing\",\"channel\":\"C1\",\"id\":" + i + "}");
+            }
+            waitUntil(() -> rtmServer.getReceivedMessages().size() == 100);
+            for (int i = 0; i < 100; i++) {
+                JsonObject json = new JsonParser().parse(rtmServer.getReceivedMessages().get(i)).getAsJsonObject();
+                assertThat(json.get("id").getAsInt(), is(i));
+            }
+        }
+    }
+
+    @Test
+    public void backoff() {
+        for (int retry = 1; retry <= 10; retry++) {
+            long backoff = client.backoffMillis(retry);
+            long max = Math.min(50L << (retry - 1), 200L);
+            assertThat(backoff <= max && backoff >= max / 2, is(true));
+        }
+    }
+
+}
@@ -0,0 +1,240 @@
+package com.github.seratch.jslack.api.rtm;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.MethodsClient;
+import com.github.seratch.jslack.api.model.event.MessageEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockRTMServer;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class RTMConnectionManagerTest {
+
+    MockRTMServer rtmServer;
+    MockSlackApiServer apiServer;
+    List<Long> rtmConnectCalls = new CopyOnWriteArrayList<>();
+    List<String> usersInfoCalls = new CopyOnWriteArrayList<>();
+    Set<String> revokedTeams = new CopyOnWriteArraySet<>();
+    RTMEventsDispatcher dispatcher = RTMEventsDispatcherFactory.getInstance();
+    RTMConnectionManager manager;
+
+    @Before
+    public void setup() throws Exception {
+        rtmServer = new MockRTMServer();
+        apiServer = new MockSlackApiServer(new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType("application/json");
+                if (!req.getRequestURI().endsWith("rtm.connect")) {
+                    usersInfoCalls.add(req.getRequestURI());
+                    resp.getWriter().write("{\"ok\":false,\"error\":\"unexpected\"}");
+                    return;
+                }
+                rtmConnectCalls.add(System.nanoTime());
+                String token = req.getHeader("Authorization").substring("Bearer ".length());
+                if (token.equals("xoxb-invalid")) {
+                    resp.getWriter().write("{\"ok\":false,\"error\":\"invalid_auth\"}");
+                    return;
+                }
+                String teamId = token.substring("xoxb-".length());
+                if (revokedTeams.contains(teamId)) {
+                    resp.getWriter().write("{\"ok\":false,\"error\":\"account_inactive\"}");
+                    return;
+                }
+                resp.getWriter().write("{\"ok\":true,\"url\":\"" + rtmServer.getUrl() + "\"," +
+                        "\"self\":{\"id\":\"U" + teamId + "\"},\"team\":{\"id\":\"" + teamId + "\"}}");
+            }
+        });
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (manager != null) {
+            manager.close();
+        }
+        rtmServer.close();
+        apiServer.close();
+    }
+
+    private RTMConnectionManager newManager(RTMClientConfig clientConfig, RTMConnectionManagerConfig config) {
+        SlackConfig slackConfig = new SlackConfig();
+        slackConfig.setRtmClientConfig(clientConfig);
+        Slack slack = Slack.getInstance(slackConfig);
+        MethodsClient methods = slack.methods();
+        methods.setEndpointUrlPrefix(apiServer.getEndpointUrlPrefix());
+        return new RTMConnectionManager(slack, methods, dispatcher, config);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("timed out");
+            }
+            Thread.sleep(10L);
+        }
+    }
+
+    @Test
+    public void dispatchWithTeamId() throws Exception {
+        List<String> received = new CopyOnWriteArrayList<>();
+        dispatcher.register(new RTMEventHandler<MessageEvent>() {
+            @Override
+            public void handle(MessageEvent event) {
+                fail("the team ID should be passed");
+            }
+
+            @Override
+            public void handle(String teamId, MessageEvent event) {
+                received.add(teamId + ":" + event.getText());
+            }
+        });
+        manager = newManager(RTMClientConfig.DEFAULT, RTMConnectionManagerConfig.builder().connectIntervalMillis(10L).build());
+        assertThat(manager.addWorkspace("xoxb-T1").get(5, TimeUnit.SECONDS), is("T1"));
+        assertThat(manager.addWorkspace("xoxb-T2").get(5, TimeUnit.SECONDS), is("T2"));
+        assertThat(manager.getTeamIds(), is(new HashSet<>(Arrays.asList("T1", "T2"))));
+        try {
+            manager.getTeamIds().remove("T1");
+            fail();
+        } catch (UnsupportedOperationException e) {
+            assertThat(manager.getTeamIds().contains("T1"), is(true));
+        }
+        assertThat(manager.getClient("T2").getConnectedBotUser().getId(), is("UT2"));
+        waitUntil(() -> manager.getMetrics().getConnectedCount() == 2);
+
+        rtmServer.sendToAll("{\"type\":\"message\",\"channel\":\"C1\",\"text\":\"hi\"}");
+        waitUntil(() -> received.size() == 2);
+        List<String> sorted = new ArrayList<>(received);
+        Collections.sort(sorted);
+        assertThat(sorted, is(Arrays.asList("T1:hi", "T2:hi")));
+
+        // the bot user comes from rtm.connect
+        assertThat(usersInfoCalls.size(), is(0));
+        // an added workspace is not connected twice
+        assertThat(manager.addWorkspace("xoxb-T1").get(5, TimeUnit.SECONDS), is("T1"));
+        assertThat(rtmServer.getConnectionCount(), is(2));
+    }
+
+    @Test
+    public void staggered() throws Exception {
+        manager = newManager(RTMClientConfig.DEFAULT, RTMConnectionManagerConfig.builder().connectIntervalMillis(200L).build());
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(manager.addWorkspace("xoxb-T" + i));
+        }
+        for (CompletableFuture<String> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(rtmConnectCalls.size(), is(3));
+        for (int i = 1; i < rtmConnectCalls.size(); i++) {
+            long interval = TimeUnit.NANOSECONDS.toMillis(rtmConnectCalls.get(i) - rtmConnectCalls.get(i - 1));
+            assertThat("interval: " + interval, interval >= 150L, is(true));
+        }
+    }
+
+    @Test
+    public void reconnectsAreStaggered() throws Exception {
+        manager = newManager(RTMClientConfig.DEFAULT, RTMConnectionManagerConfig.builder().connectIntervalMillis(200L).build());
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(manager.addWorkspace("xoxb-T" + i));
+        }
+        for (CompletableFuture<String> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        waitUntil(() -> manager.getMetrics().getConnectedCount() == 3);
+        rtmConnectCalls.clear();
+
+        rtmServer.sendToAll("{\"type\":\"goodbye\"}");
+        waitUntil(() -> manager.getMetrics().getReconnectCount() == 3L && manager.getMetrics().getConnectedCount() == 3);
+        assertThat(manager.getMetrics().getReconnectingCount(), is(0));
+        assertThat(rtmConnectCalls.size(), is(3));
+        for (int i = 1; i < rtmConnectCalls.size(); i++) {
+            long interval = TimeUnit.NANOSECONDS.toMillis(rtmConnectCalls.get(i) - rtmConnectCalls.get(i - 1));
+            assertThat("interval: " + interval, interval >= 150L, is(true));
+        }
+    }
+
+    @Test
+    public void invalidAuth() throws Exception {
+        manager = newManager(RTMClientConfig.DEFAULT, RTMConnectionManagerConfig.builder().connectIntervalMillis(10L).build());
+        try {
+            manager.addWorkspace("xoxb-invalid").get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause().getMessage().contains("invalid_auth"), is(true));
+        }
+        assertThat(manager.getMetrics().getConnectFailureCount(), is(1L));
+        assertThat(manager.getMetrics().getWorkspaceCount(), is(0));
+    }
+
+    @Test
+    public void restartWhenDisconnected() throws Exception {
+        RTMClientConfig clientConfig = RTMClientConfig.builder().autoReconnectEnabled(false).build();
+        manager = newManager(clientConfig, RTMConnectionManagerConfig.builder()
+                .connectIntervalMillis(10L)
+                .healthCheckIntervalMillis(100L)
+                .build());
+        manager.addWorkspace("xoxb-T1").get(5, TimeUnit.SECONDS);
+        waitUntil(() -> manager.getClient("T1").isConnected());
+
+        rtmServer.dropAll();
+        waitUntil(() -> rtmServer.getConnectionCount() == 2 && manager.getClient("T1").isConnected());
+        waitUntil(() -> manager.getHealth("T1").getRestartCount() == 1L);
+        assertThat(manager.getMetrics().getRestartCount(), is(1L));
+        assertThat(rtmConnectCalls.size(), is(2));
+    }
+
+    @Test
+    public void authErrorsAreTerminal() throws Exception {
+        manager = newManager(RTMClientConfig.builder().reconnectInitialBackoffMillis(10L).build(),
+                RTMConnectionManagerConfig.builder().connectIntervalMillis(10L).healthCheckIntervalMillis(100L).build());
+        manager.addWorkspace("xoxb-T1").get(5, TimeUnit.SECONDS);
+        manager.addWorkspace("xoxb-T2").get(5, TimeUnit.SECONDS);
+        waitUntil(() -> manager.getMetrics().getConnectedCount() == 2);
+
+        revokedTeams.add("T1");
+        rtmServer.sendToAll("{\"type\":\"goodbye\"}");
+        waitUntil(() -> manager.getHealth("T1").isFailed());
+        waitUntil(() -> manager.getHealth("T2").getReconnectCount() == 1L && manager.getClient("T2").isConnected());
+        int calls = rtmConnectCalls.size();
+        Thread.sleep(500L);
+        assertThat(rtmConnectCalls.size(), is(calls));
+        assertThat(manager.getHealth("T1").isConnected(), is(false));
+        assertThat(manager.getHealth("T1").isReconnecting(), is(false));
+        assertThat(manager.getHealth("T2").isFailed(), is(false));
+        assertThat(manager.getMetrics().getFailedCount(), is(1));
+    }
+
+    @Test
+    public void removeWorkspace() throws Exception {
+        manager = newManager(RTMClientConfig.DEFAULT, RTMConnectionManagerConfig.builder().connectIntervalMillis(10L).build());
+        manager.addWorkspace("xoxb-T1").get(5, TimeUnit.SECONDS);
+        RTMClient client = manager.getClient("T1");
+        assertThat(manager.removeWorkspace("T1"), is(true));
+        assertThat(manager.removeWorkspace("T1"), is(false));
+        assertThat(manager.getClient("T1") == null, is(true));
+        waitUntil(() -> !client.isConnected());
+        Thread.sleep(300L);
+        assertThat(rtmServer.getConnectionCount(), is(1));
+    }
+
+}
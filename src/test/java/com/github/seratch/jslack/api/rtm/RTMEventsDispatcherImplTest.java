@@ -1,8 +1,15 @@
 package com.github.seratch.jslack.api.rtm;
 
+import com.github.seratch.jslack.api.model.event.HelloEvent;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 public class RTMEventsDispatcherImplTest {
@@ -12,4 +19,76 @@ public class RTMEventsDispatcherImplTest {
         String type = RTMEventsDispatcherImpl.detectEventType("{\"type\": \"hello\"}");
         assertThat(type, is("hello"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void eventDetection_nested() {
+        String type = RTMEventsDispatcherImpl.detectEventType(
+                "{\"message\": {\"type\": \"message\", \"text\": \"\\\"type\\\": \\\"foo\\\"\"}, \"subtype\": \"message_changed\", \"type\": \"message\"}");
+        assertThat(type, is("message"));
+    }
+
+    @Test
+    public void eventDetection_invalid() {
+        assertThat(RTMEventsDispatcherImpl.detectEventType("{\"ok\": true}"), is(nullValue()));
+        assertThat(RTMEventsDispatcherImpl.detectEventType("not a json"), is(nullValue()));
+    }
+
+    static class CountingHandler extends RTMEventHandler<HelloEvent> {
+        private final AtomicInteger counter;
+
+        CountingHandler(AtomicInteger counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public void handle(HelloEvent event) {
+            counter.incrementAndGet();
+        }
+    }
+
+    @Test
+    public void registerWhileDispatching() throws Exception {
+        RTMEventsDispatcher dispatcher = RTMEventsDispatcherFactory.getInstance();
+        AtomicInteger permanentCalls = new AtomicInteger();
+        AtomicInteger transientCalls = new AtomicInteger();
+        dispatcher.register(new CountingHandler(permanentCalls));
+
+        int registerThreads = 4, handlersPerThread = 500, dispatchThreads = 4, eventsPerThread = 2000;
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < registerThreads; i++) {
+            threads.add(new Thread(() -> {
+                List<CountingHandler> handlers = new ArrayList<>();
+                for (int j = 0; j < handlersPerThread; j++) {
+                    CountingHandler handler = new CountingHandler(transientCalls);
+                    handlers.add(handler);
+                    dispatcher.register(handler);
+                }
+                for (int j = 0; j < handlersPerThread; j += 2) {
+                    dispatcher.deregister(handlers.get(j));
+                }
+            }));
+        }
+        for (int i = 0; i < dispatchThreads; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < eventsPerThread; j++) {
+                    dispatcher.dispatch("{\"type\":\"hello\"}");
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.setUncaughtExceptionHandler((t, e) -> errors.add(e));
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(errors.isEmpty(), is(true));
+        assertThat(permanentCalls.get(), is(dispatchThreads * eventsPerThread));
+        // no registration is lost and no deregistered handler remains
+        int before = transientCalls.get();
+        dispatcher.dispatch("{\"type\":\"hello\"}");
+        assertThat(transientCalls.get() - before, is(registerThreads * handlersPerThread / 2));
+    }
+}
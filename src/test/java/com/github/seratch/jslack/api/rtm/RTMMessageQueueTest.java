@@ -0,0 +1,142 @@
+package com.github.seratch.jslack.api.rtm;
+
+import com.github.seratch.jslack.common.json.ChannelIdDetector;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class RTMMessageQueueTest {
+
+    private static String message(String channel, int seq) {
+        return "{\"type\":\"message\",\"channel\":\"" + channel + "\",\"text\":\"" + seq + "\"}";
+    }
+
+    private static int seq(String message) {
+        return Integer.parseInt(message.substring(message.lastIndexOf(':') + 2, message.length() - 2));
+    }
+
+    @Test
+    public void orderedPerChannel() throws Exception {
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(400);
+        RTMMessageQueue<String> queue = RTMMessageQueue.forMessages(4, 1000, RTMClientConfig.OverflowPolicy.BLOCK, message -> {
+            threads.add(Thread.currentThread().getName());
+            String channel = ChannelIdDetector.detectFromRTMMessage(message);
+            received.computeIfAbsent(channel, c -> Collections.synchronizedList(new ArrayList<>())).add(seq(message));
+            done.countDown();
+        });
+        for (int i = 0; i < 100; i++) {
+            for (int c = 0; c < 4; c++) {
+                queue.enqueue(message("C" + c, i));
+            }
+        }
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        for (List<Integer> seqs : received.values()) {
+            List<Integer> sorted = new ArrayList<>(seqs);
+            Collections.sort(sorted);
+            assertThat(seqs, is(sorted));
+            assertThat(seqs.size(), is(100));
+        }
+        assertThat(threads.size() > 1, is(true));
+        queue.stop(1000L);
+    }
+
+    @Test
+    public void drop() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        RTMMessageQueue<String> queue = RTMMessageQueue.forMessages(1, 2, RTMClientConfig.OverflowPolicy.DROP, message -> {
+            started.countDown();
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(queue.enqueue(message("C1", 0)), is(true));
+        assertThat(started.await(1, TimeUnit.SECONDS), is(true));
+        assertThat(queue.enqueue(message("C1", 1)), is(true));
+        assertThat(queue.enqueue(message("C1", 2)), is(true));
+        assertThat(queue.enqueue(message("C1", 3)), is(false));
+        assertThat(queue.size(), is(2));
+        assertThat(queue.getDroppedCount(), is(1L));
+        blocker.countDown();
+        queue.stop(1000L);
+        assertThat(queue.size(), is(0));
+    }
+
+    @Test
+    public void reject() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        RTMMessageQueue<String> queue = RTMMessageQueue.forMessages(1, 1, RTMClientConfig.OverflowPolicy.REJECT, message -> {
+            started.countDown();
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        queue.enqueue(message("C1", 0));
+        assertThat(started.await(1, TimeUnit.SECONDS), is(true));
+        queue.enqueue(message("C1", 1));
+        try {
+            queue.enqueue(message("C1", 2));
+            fail();
+        } catch (RejectedExecutionException e) {
+            assertThat(queue.getRejectedCount(), is(1L));
+        }
+        blocker.countDown();
+        queue.stop(1000L);
+        try {
+            queue.enqueue(message("C1", 3));
+            fail();
+        } catch (RejectedExecutionException e) {
+            assertThat(e.getMessage().contains("closed"), is(true));
+        }
+    }
+
+    @Test
+    public void messagesEnqueuedWhileStoppingAreHandledOrRejected() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            AtomicInteger handled = new AtomicInteger();
+            AtomicInteger accepted = new AtomicInteger();
+            RTMMessageQueue<String> queue = RTMMessageQueue.forMessages(2, 100, RTMClientConfig.OverflowPolicy.BLOCK,
+                    message -> handled.incrementAndGet());
+
+            List<Thread> producers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                String channel = "C" + i;
+                producers.add(new Thread(() -> {
+                    while (true) {
+                        try {
+                            if (queue.enqueue(message(channel, 0))) {
+                                accepted.incrementAndGet();
+                            }
+                        } catch (RejectedExecutionException e) {
+                            return;
+                        }
+                    }
+                }));
+            }
+            producers.forEach(Thread::start);
+            Thread.sleep(5L);
+            queue.stop(5000L);
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            assertThat(handled.get(), is(accepted.get()));
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.github.seratch.jslack.api.rtm;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class RTMMessageSenderTest {
+
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void failingMessageIsGivenUp() throws Exception {
+        List<String> sent = new CopyOnWriteArrayList<>();
+        AtomicInteger failures = new AtomicInteger();
+        RTMMessageSender sender = new RTMMessageSender(text -> {
+            if (text.equals("broken")) {
+                failures.incrementAndGet();
+                throw new IOException("failed to write");
+            }
+            sent.add(text);
+        }, scheduler, scheduler, 10, 10, 5000L, 3);
+        try {
+            sender.start();
+            sender.setReady(true);
+            CompletableFuture<RTMMessageReply> broken = sender.enqueue(1L, "broken");
+            sender.enqueue("after");
+
+            try {
+                broken.get(3, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause().getMessage(), is("failed to write"));
+            }
+            assertThat(failures.get(), is(3));
+            long deadline = System.currentTimeMillis() + 3000L;
+            while (sent.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertThat(sent.size(), is(1));
+            assertThat(sent.get(0), is("after"));
+        } finally {
+            sender.close();
+        }
+    }
+
+    @Test
+    public void notStartedUntilConnected() throws Exception {
+        ScheduledExecutorService unused = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            fail("no thread should be started");
+            return null;
+        });
+        RTMMessageSender sender = new RTMMessageSender(text -> {
+        }, unused, unused, 10, 10, 5000L, 3);
+        CompletableFuture<RTMMessageReply> future = sender.enqueue(1L, "queued");
+        sender.enqueue("queued");
+        assertThat(sender.size(), is(2));
+        assertThat(future.isDone(), is(false));
+        sender.close();
+        assertThat(future.isCompletedExceptionally(), is(true));
+        unused.shutdownNow();
+    }
+
+    @Test
+    public void sendersShareWriterThread() throws Exception {
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        Map<Integer, List<Integer>> sent = new ConcurrentHashMap<>();
+        List<RTMMessageSender> senders = new ArrayList<>();
+        try {
+            for (int i = 0; i < 10; i++) {
+                int senderId = i;
+                List<Integer> received = new CopyOnWriteArrayList<>();
+                sent.put(senderId, received);
+                RTMMessageSender sender = new RTMMessageSender(text -> received.add(Integer.parseInt(text)),
+                        scheduler, writer, 1000, 10, 5000L, 3);
+                sender.start();
+                sender.setReady(true);
+                senders.add(sender);
+            }
+            for (int seq = 0; seq < 200; seq++) {
+                for (RTMMessageSender sender : senders) {
+                    sender.enqueue(String.valueOf(seq));
+                }
+            }
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (sent.values().stream().anyMatch(list -> list.size() < 200) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+            for (List<Integer> received : sent.values()) {
+                assertThat(received.size(), is(200));
+                for (int seq = 0; seq < 200; seq++) {
+                    assertThat(received.get(seq), is(seq));
+                }
+            }
+        } finally {
+            senders.forEach(RTMMessageSender::close);
+            writer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void inFlightLimit() throws Exception {
+        List<String> sent = new CopyOnWriteArrayList<>();
+        RTMMessageSender sender = new RTMMessageSender(sent::add, scheduler, scheduler, 10, 2, 5000L, 3);
+        try {
+            sender.start();
+            sender.setReady(true);
+            sender.enqueue(1L, "1");
+            sender.enqueue(2L, "2");
+            sender.enqueue(3L, "3");
+            Thread.sleep(200L);
+            assertThat(sent.size(), is(2));
+            RTMMessageReply reply = new RTMMessageReply();
+            reply.setOk(true);
+            reply.setReplyTo(1L);
+            assertThat(sender.handleReply(reply), is(true));
+            long deadline = System.currentTimeMillis() + 3000L;
+            while (sent.size() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertThat(sent.size(), is(3));
+        } finally {
+            sender.close();
+        }
+    }
+}
@@ -1,8 +1,17 @@
 package com.github.seratch.jslack.app_backend.events;
 
+import com.github.seratch.jslack.app_backend.events.handler.GoodbyeHandler;
+import com.github.seratch.jslack.app_backend.events.payload.GoodbyePayload;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 public class EventsDispatcherImplTest {
@@ -50,4 +59,106 @@ public class EventsDispatcherImplTest {
         assertThat(eventType, is("message"));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void detect_nested() {
+        String payload = "{\"type\":\"event_callback\",\"authorizations\":[{\"type\":\"foo\"}]," +
+                "\"event\":{\"item\":{\"type\":\"message\"},\"type\":\"reaction_added\"}}";
+        assertThat(EventsDispatcherImpl.detectEventType(payload), is("reaction_added"));
+        assertThat(EventsDispatcherImpl.detectEventType("{\"type\":\"url_verification\"}"), is(nullValue()));
+    }
+
+    static class CountingHandler extends GoodbyeHandler {
+        private final AtomicInteger counter;
+
+        CountingHandler(AtomicInteger counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public void handle(GoodbyePayload payload) {
+            counter.incrementAndGet();
+        }
+    }
+
+    @Test
+    public void registerWhileDispatching() throws Exception {
+        EventsDispatcherImpl dispatcher = new EventsDispatcherImpl();
+        AtomicInteger permanentCalls = new AtomicInteger();
+        AtomicInteger transientCalls = new AtomicInteger();
+        dispatcher.register(new CountingHandler(permanentCalls));
+        String payload = "{\"type\":\"event_callback\",\"event\":{\"type\":\"goodbye\"}}";
+
+        int registerThreads = 4, handlersPerThread = 500, dispatchThreads = 4, eventsPerThread = 2000;
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < registerThreads; i++) {
+            threads.add(new Thread(() -> {
+                List<CountingHandler> handlers = new ArrayList<>();
+                for (int j = 0; j < handlersPerThread; j++) {
+                    CountingHandler handler = new CountingHandler(transientCalls);
+                    handlers.add(handler);
+                    dispatcher.register(handler);
+                }
+                for (int j = 0; j < handlersPerThread; j += 2) {
+                    dispatcher.deregister(handlers.get(j));
+                }
+            }));
+        }
+        for (int i = 0; i < dispatchThreads; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < eventsPerThread; j++) {
+                    dispatcher.dispatch(payload);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.setUncaughtExceptionHandler((t, e) -> errors.add(e));
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(errors.isEmpty(), is(true));
+        assertThat(permanentCalls.get(), is(dispatchThreads * eventsPerThread));
+        // no registration is lost and no deregistered handler remains
+        int before = transientCalls.get();
+        dispatcher.dispatch(payload);
+        assertThat(transientCalls.get() - before, is(registerThreads * handlersPerThread / 2));
+    }
+
+    @Test
+    public void eventsEnqueuedWhileStoppingAreHandledOrRejected() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            EventsDispatcherImpl dispatcher = new EventsDispatcherImpl(EventsDispatcherConfig.builder()
+                    .workerThreads(2).build());
+            AtomicInteger handled = new AtomicInteger();
+            AtomicInteger accepted = new AtomicInteger();
+            dispatcher.register(new CountingHandler(handled));
+            dispatcher.start();
+            String payload = "{\"type\":\"event_callback\",\"event\":{\"type\":\"goodbye\",\"channel\":\"C1\"}}";
+
+            List<Thread> producers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                producers.add(new Thread(() -> {
+                    while (true) {
+                        try {
+                            dispatcher.enqueue(payload);
+                            accepted.incrementAndGet();
+                        } catch (RejectedExecutionException e) {
+                            return;
+                        }
+                    }
+                }));
+            }
+            producers.forEach(Thread::start);
+            Thread.sleep(5L);
+            dispatcher.stop();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            assertThat(handled.get(), is(accepted.get()));
+        }
+    }
+
+}
@@ -1,14 +1,20 @@
 package com.github.seratch.jslack.app_backend.events;
 
 import com.github.seratch.jslack.app_backend.events.handler.GoodbyeHandler;
+import com.github.seratch.jslack.app_backend.events.handler.MessageHandler;
 import com.github.seratch.jslack.app_backend.events.payload.GoodbyePayload;
+import com.github.seratch.jslack.app_backend.events.payload.MessagePayload;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Test;
 
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 public class EventsDispatcherTest {
 
@@ -48,6 +54,84 @@ public class EventsDispatcherTest {
         assertThat(handler.getCurrentCount(), is(4));
     }
 
+    static String messagePayload(String channel, int seq) {
+        return "{\"token\":\"XXYYZZ\",\"team_id\":\"TXXXXXXXX\",\"type\":\"event_callback\"," +
+                "\"event\":{\"type\":\"message\",\"channel\":\"" + channel + "\",\"text\":\"" + seq + "\"}}";
+    }
+
+    @Test
+    public void workerPoolKeepsOrderPerChannel() throws Exception {
+        EventsDispatcher dispatcher = EventsDispatcherFactory.getInstance(EventsDispatcherConfig.builder()
+                .workerThreads(4)
+                .orderedByChannel(true)
+                .build());
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        dispatcher.register(new MessageHandler() {
+            @Override
+            public void handle(MessagePayload payload) {
+                received.computeIfAbsent(payload.getEvent().getChannel(), c -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(Integer.parseInt(payload.getEvent().getText()));
+            }
+        });
+        dispatcher.start();
+        for (int i = 0; i < 100; i++) {
+            for (int c = 0; c < 8; c++) {
+                dispatcher.enqueue(messagePayload("C" + c, i));
+            }
+        }
+        dispatcher.stop();
+
+        assertThat(received.size(), is(8));
+        for (List<Integer> numbers : received.values()) {
+            assertThat(numbers.size(), is(100));
+            for (int i = 0; i < 100; i++) {
+                assertThat(numbers.get(i), is(i));
+            }
+        }
+        EventsDispatcherMetrics metrics = dispatcher.getMetrics();
+        assertThat(metrics.getEnqueuedCount(), is(800L));
+        assertThat(metrics.getDispatchedCount(), is(800L));
+        assertThat(metrics.getQueueSize(), is(0));
+    }
+
+    @Test
+    public void overflowPolicies() {
+        EventsDispatcher dropping = EventsDispatcherFactory.getInstance(EventsDispatcherConfig.builder()
+                .queueCapacity(2)
+                .overflowPolicy(EventsDispatcherConfig.OverflowPolicy.DROP)
+                .build());
+        for (int i = 0; i < 5; i++) {
+            dropping.enqueue(messagePayload("C1", i));
+        }
+        assertThat(dropping.getMetrics().getQueueSize(), is(2));
+        assertThat(dropping.getMetrics().getDroppedCount(), is(3L));
+
+        EventsDispatcher rejecting = EventsDispatcherFactory.getInstance(EventsDispatcherConfig.builder()
+                .queueCapacity(2)
+                .overflowPolicy(EventsDispatcherConfig.OverflowPolicy.REJECT)
+                .build());
+        rejecting.enqueue(messagePayload("C1", 1));
+        rejecting.enqueue(messagePayload("C1", 2));
+        try {
+            rejecting.enqueue(messagePayload("C1", 3));
+            fail();
+        } catch (RejectedExecutionException e) {
+            assertThat(rejecting.getMetrics().getRejectedCount(), is(1L));
+        }
+    }
+
+    @Test
+    public void rejectAfterStop() {
+        EventsDispatcher dispatcher = EventsDispatcherFactory.getInstance();
+        dispatcher.start();
+        dispatcher.stop();
+        try {
+            dispatcher.enqueue(messagePayload("C1", 1));
+            fail();
+        } catch (RejectedExecutionException e) {
+        }
+    }
+
     @Slf4j
     public static class GoodbyeEventCountHandler extends GoodbyeHandler {
 
@@ -0,0 +1,94 @@
+package com.github.seratch.jslack.app_backend.util;
+
+import com.github.seratch.jslack.app_backend.vendor.aws.lambda.request.ApiGatewayRequest;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class SlackSignatureVerifierTest {
+
+    // https://api.slack.com/docs/verifying-requests-from-slack
+    static final String SIGNING_SECRET = "8f742231b10e8888abcd99yyyzzz85a5";
+    static final String TIMESTAMP = "1531420618";
+    static final String BODY = "token=xyzz0WbapA4vBCDEFasx0q6G&team_id=T1DC2JH3J&team_domain=testteamnow" +
+            "&channel_id=G8PSS9T3V&channel_name=foobar&user_id=U2CERLKJA&user_name=roadrunner" +
+            "&command=%2Fwebhook-collect&text=&response_url=https%3A%2F%2Fhooks.slack.com%2Fcommands%2FT1DC2JH3J" +
+            "%2F397700885554%2F96rGlfmibIGlgcZRskXaIFfN&trigger_id=398738663015.47445629121.803a0bc887a14d10d2c447fce8b6703c";
+    static final String SIGNATURE = "v0=a2114d57b48eac39b9ad189dd8316235a7b4a8d21a10bd27519666489c69b503";
+
+    static Clock clockAt(long epochSeconds) {
+        return Clock.fixed(Instant.ofEpochSecond(epochSeconds), ZoneOffset.UTC);
+    }
+
+    SlackSignatureVerifier newVerifier(long nowSeconds) {
+        return new SlackSignatureVerifier(SIGNING_SECRET, 300L, 100, clockAt(nowSeconds));
+    }
+
+    @Test
+    public void valid() {
+        SlackSignatureVerifier verifier = newVerifier(1531420618L + 10);
+        assertThat(verifier.isValid(TIMESTAMP, SIGNATURE, BODY), is(true));
+    }
+
+    @Test
+    public void invalid() {
+        SlackSignatureVerifier verifier = newVerifier(1531420618L);
+        assertThat(verifier.isValid(TIMESTAMP, SIGNATURE, BODY + "&foo=bar"), is(false));
+        assertThat(verifier.isValid(TIMESTAMP, SIGNATURE.replace("v0=a", "v0=b"), BODY), is(false));
+        assertThat(verifier.isValid(TIMESTAMP, SIGNATURE.substring(0, 10), BODY), is(false));
+        assertThat(verifier.isValid(TIMESTAMP, SIGNATURE.replace("v0=", "v1="), BODY), is(false));
+        assertThat(verifier.isValid(null, SIGNATURE, BODY), is(false));
+        assertThat(verifier.isValid(TIMESTAMP, null, BODY), is(false));
+        assertThat(verifier.isValid("foo", SIGNATURE, BODY), is(false));
+    }
+
+    @Test
+    public void timestampSkew() {
+        assertThat(newVerifier(1531420618L + 301).isValid(TIMESTAMP, SIGNATURE, BODY), is(false));
+        assertThat(newVerifier(1531420618L - 301).isValid(TIMESTAMP, SIGNATURE, BODY), is(false));
+        assertThat(newVerifier(1531420618L + 300).isValid(TIMESTAMP, SIGNATURE, BODY), is(true));
+    }
+
+    @Test
+    public void replay() {
+        SlackSignatureVerifier verifier = newVerifier(1531420618L);
+        assertThat(verifier.isValid(TIMESTAMP, SIGNATURE, BODY), is(true));
+        assertThat(verifier.isValid(TIMESTAMP, SIGNATURE, BODY), is(false));
+
+        SlackSignatureVerifier noCache = new SlackSignatureVerifier(SIGNING_SECRET, 300L, 0, clockAt(1531420618L));
+        assertThat(noCache.isValid(TIMESTAMP, SIGNATURE, BODY), is(true));
+        assertThat(noCache.isValid(TIMESTAMP, SIGNATURE, BODY), is(true));
+    }
+
+    @Test
+    public void apiGatewayRequest() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("x-slack-request-timestamp", TIMESTAMP);
+        headers.put("x-slack-signature", SIGNATURE);
+        ApiGatewayRequest request = new ApiGatewayRequest();
+        request.setHeaders(headers);
+        request.setBody(BODY);
+        assertThat(newVerifier(1531420618L).isValid(request), is(true));
+
+        request.setBase64Encoded(true);
+        request.setBody(Base64.getEncoder().encodeToString(BODY.getBytes(StandardCharsets.UTF_8)));
+        assertThat(newVerifier(1531420618L).isValid(request), is(true));
+
+        request.setHeaders(new HashMap<>());
+        assertThat(newVerifier(1531420618L).isValid(request), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noSigningSecret() {
+        new SlackSignatureVerifier(null);
+    }
+}
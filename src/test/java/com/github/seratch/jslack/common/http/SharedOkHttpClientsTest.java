@@ -0,0 +1,74 @@
+package com.github.seratch.jslack.common.http;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+public class SharedOkHttpClientsTest {
+
+    @Test
+    public void sharedAmongSlackInstances() {
+        OkHttpClient first = Slack.getInstance(new SlackConfig()).getHttpClient().getOkHttpClient();
+        for (int i = 0; i < 300; i++) {
+            SlackConfig config = new SlackConfig();
+            config.setPrettyResponseLoggingEnabled(i % 2 == 0);
+            OkHttpClient client = Slack.getInstance(config).getHttpClient().getOkHttpClient();
+            assertThat(client, is(sameInstance(first)));
+        }
+        assertThat(Slack.getInstance().getHttpClient().getOkHttpClient(), is(sameInstance(first)));
+        assertThat(new SlackHttpClient().getOkHttpClient(), is(sameInstance(first)));
+    }
+
+    @Test
+    public void customSettings() {
+        OkHttpClient defaultClient = SharedOkHttpClients.get(SlackConfig.DEFAULT);
+
+        SlackConfig config = new SlackConfig();
+        config.setHttpReadTimeoutMillis(30_000L);
+        config.setHttpMaxRequestsPerHost(20);
+        config.setHttp2Enabled(false);
+        OkHttpClient client = SharedOkHttpClients.get(config);
+
+        assertThat(client, is(not(sameInstance(defaultClient))));
+        assertThat(client.readTimeoutMillis(), is(30_000));
+        assertThat(client.dispatcher().getMaxRequestsPerHost(), is(20));
+        assertThat(client.protocols(), is(Collections.singletonList(Protocol.HTTP_1_1)));
+        // only the limits differ, the sockets and threads are shared
+        assertThat(client.connectionPool(), is(sameInstance(defaultClient.connectionPool())));
+        assertThat(client.dispatcher().executorService(), is(sameInstance(defaultClient.dispatcher().executorService())));
+        // the default dispatcher is not modified
+        assertThat(defaultClient.dispatcher().getMaxRequestsPerHost(), is(5));
+
+        SlackConfig sameSettings = new SlackConfig();
+        sameSettings.setHttpReadTimeoutMillis(30_000L);
+        sameSettings.setHttpMaxRequestsPerHost(20);
+        sameSettings.setHttp2Enabled(false);
+        assertThat(SharedOkHttpClients.get(sameSettings), is(sameInstance(client)));
+    }
+
+    @Test
+    public void customConnectionPool() {
+        ConnectionPool pool = new ConnectionPool(10, 1, TimeUnit.MINUTES);
+        SlackConfig config = new SlackConfig();
+        config.setHttpConnectionPool(pool);
+        OkHttpClient client = Slack.getInstance(config).getHttpClient().getOkHttpClient();
+        assertThat(client.connectionPool(), is(sameInstance(pool)));
+        assertThat(client.dispatcher(), is(sameInstance(SharedOkHttpClients.get(SlackConfig.DEFAULT).dispatcher())));
+        // never cached, so that the pool can be garbage collected along with the client
+        assertThat(SharedOkHttpClients.get(config), is(not(sameInstance(client))));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void defaultConfigIsImmutable() {
+        SlackConfig.DEFAULT.setHttpReadTimeoutMillis(1L);
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.seratch.jslack.common.http;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.MethodsClient;
+import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
+import com.github.seratch.jslack.api.methods.request.files.FilesListRequest;
+import okhttp3.FormBody;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.*;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class SlackBulkheadsTest {
+
+    public static class SlowFilesApi extends HttpServlet {
+        final CountDownLatch filesStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            if (req.getRequestURI().endsWith("files.list")) {
+                filesStarted.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            resp.setStatus(200);
+            resp.setContentType("application/json");
+            resp.getWriter().write("{\"ok\":true}");
+        }
+    }
+
+    SlowFilesApi api = new SlowFilesApi();
+    MockSlackApiServer server;
+    SlackBulkheads bulkheads;
+    MethodsClient methods;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(api);
+        bulkheads = SlackBulkheads.builder().limit("files", 1).build();
+        SlackConfig config = new SlackConfig();
+        config.setBulkheads(bulkheads);
+        methods = Slack.getInstance(config).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        api.release.countDown();
+        server.close();
+    }
+
+    @Test
+    public void slowFamilyDoesNotStarveOthers() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> slowUpload = executor.submit(() -> methods.filesList(FilesListRequest.builder().token("xoxb-1").build()));
+            assertThat(api.filesStarted.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(bulkheads.getAvailablePermits("files"), is(0));
+
+            try {
+                methods.filesList(FilesListRequest.builder().token("xoxb-1").build());
+                fail();
+            } catch (SlackBulkheadFullException e) {
+                assertThat(e.getFamily(), is("files"));
+            }
+            assertThat(methods.chatPostMessage(ChatPostMessageRequest.builder()
+                    .token("xoxb-1").channel("C1").text("hi").build()).isOk(), is(true));
+
+            api.release.countDown();
+            slowUpload.get(5, TimeUnit.SECONDS);
+            assertThat(bulkheads.getAvailablePermits("files"), is(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void asyncCallsFailFast() throws Exception {
+        SlackConfig config = new SlackConfig();
+        config.setBulkheads(bulkheads);
+        SlackHttpClient client = new SlackHttpClient(config);
+        SlackBulkheads.Permit taken = bulkheads.tryAcquire("files.upload");
+        try {
+            client.postFormWithBearerHeaderAsync(server.getEndpointUrlPrefix() + "files.list", "xoxb-1",
+                    new FormBody.Builder().build()).get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(SlackBulkheadFullException.class)));
+        } finally {
+            taken.release();
+        }
+    }
+
+    @Test
+    public void toFamily() {
+        assertThat(SlackBulkheads.toFamily("files.upload"), is("files"));
+        assertThat(SlackBulkheads.toFamily("users.profile.get"), is("users"));
+        assertThat(SlackBulkheads.toFamily("api.test"), is("api"));
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.github.seratch.jslack.common.http;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.Methods;
+import com.github.seratch.jslack.api.methods.MethodsClient;
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.request.files.FilesListRequest;
+import com.github.seratch.jslack.api.methods.request.users.UsersInfoRequest;
+import okhttp3.FormBody;
+import okhttp3.OkHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class SlackCircuitBreakerTest {
+
+    public static class DegradedFilesApi extends HttpServlet {
+        final AtomicInteger filesCalls = new AtomicInteger();
+        volatile boolean filesHealthy = false;
+
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            resp.setContentType("application/json");
+            if (req.getRequestURI().endsWith("files.list")) {
+                filesCalls.incrementAndGet();
+                if (!filesHealthy) {
+                    resp.setStatus(503);
+                    resp.getWriter().write("{\"ok\":false}");
+                    return;
+                }
+            }
+            resp.setStatus(200);
+            resp.getWriter().write("{\"ok\":true}");
+        }
+    }
+
+    DegradedFilesApi api = new DegradedFilesApi();
+    MockSlackApiServer server;
+    List<String> changes = new CopyOnWriteArrayList<>();
+    SlackCircuitBreaker circuitBreaker;
+    MethodsClient methods;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(api);
+        circuitBreaker = SlackCircuitBreaker.builder()
+                .failureThreshold(2)
+                .openDurationMillis(200L)
+                .teamIdResolver(token -> token.equals("xoxb-1") ? "T1" : "T2")
+                .listener((method, teamId, from, to) -> changes.add(method + ":" + teamId + ":" + from + "->" + to))
+                .build();
+        SlackConfig config = new SlackConfig();
+        config.setCircuitBreaker(circuitBreaker);
+        methods = Slack.getInstance(config).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    void filesList(String token) throws Exception {
+        methods.filesList(FilesListRequest.builder().token(token).build());
+    }
+
+    @Test
+    public void opensAndCloses() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            try {
+                filesList("xoxb-1");
+                fail();
+            } catch (SlackApiException e) {
+                assertThat(e.getResponse().code(), is(503));
+            }
+        }
+        assertThat(circuitBreaker.getState(Methods.FILES_LIST, "T1"), is(SlackCircuitBreaker.State.OPEN));
+        try {
+            filesList("xoxb-1");
+            fail();
+        } catch (SlackCircuitBreakerOpenException e) {
+            assertThat(e.getMethod(), is(Methods.FILES_LIST));
+        }
+        assertThat(api.filesCalls.get(), is(2));
+
+        // the other methods and the other workspaces are not affected
+        assertThat(methods.usersInfo(UsersInfoRequest.builder().token("xoxb-1").user("U1").build()).isOk(), is(true));
+        try {
+            filesList("xoxb-2");
+            fail();
+        } catch (SlackApiException e) {
+            assertThat(e.getResponse().code(), is(503));
+        }
+        assertThat(circuitBreaker.getState(Methods.FILES_LIST, "T2"), is(SlackCircuitBreaker.State.CLOSED));
+
+        Thread.sleep(250L);
+        assertThat(circuitBreaker.getState(Methods.FILES_LIST, "T1"), is(SlackCircuitBreaker.State.HALF_OPEN));
+        api.filesHealthy = true;
+        filesList("xoxb-1");
+        assertThat(circuitBreaker.getState(Methods.FILES_LIST, "T1"), is(SlackCircuitBreaker.State.CLOSED));
+
+        assertThat(changes.get(0), is("files.list:T1:CLOSED->OPEN"));
+        assertThat(changes.get(1), is("files.list:T1:OPEN->HALF_OPEN"));
+        assertThat(changes.get(2), is("files.list:T1:HALF_OPEN->CLOSED"));
+    }
+
+    @Test
+    public void reopensWhenTrialFails() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            try {
+                filesList("xoxb-1");
+            } catch (SlackApiException ignored) {
+            }
+        }
+        Thread.sleep(250L);
+        try {
+            filesList("xoxb-1");
+            fail();
+        } catch (SlackApiException e) {
+            assertThat(e.getResponse().code(), is(503));
+        }
+        assertThat(circuitBreaker.getState(Methods.FILES_LIST, "T1"), is(SlackCircuitBreaker.State.OPEN));
+        assertThat(changes.get(2), is("files.list:T1:HALF_OPEN->OPEN"));
+    }
+
+    @Test
+    public void halfOpenTrialCalls() throws Exception {
+        SlackCircuitBreaker breaker = SlackCircuitBreaker.builder().failureThreshold(1).openDurationMillis(0L).build();
+        breaker.acquire("files.list", "xoxb-1").onFailure();
+        SlackCircuitBreaker.Permit trial = breaker.acquire("files.list", "xoxb-1");
+        try {
+            breaker.acquire("files.list", "xoxb-1");
+            fail();
+        } catch (SlackCircuitBreakerOpenException expected) {
+        }
+        trial.onCancel();
+        breaker.acquire("files.list", "xoxb-1").onSuccess();
+        assertThat(breaker.getState("files.list", null), is(SlackCircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    public void permitsAreReportedOnce() throws Exception {
+        SlackCircuitBreaker breaker = SlackCircuitBreaker.builder().failureThreshold(1).openDurationMillis(0L).build();
+        breaker.acquire("files.list", "xoxb-1").onFailure();
+        SlackCircuitBreaker.Permit trial = breaker.acquire("files.list", "xoxb-1");
+        trial.onSuccess();
+        trial.onCancel();
+        trial.onFailure();
+        assertThat(breaker.getState("files.list", null), is(SlackCircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    public void halfOpenPermitIsGivenBackOnRuntimeException() throws Exception {
+        SlackCircuitBreaker breaker = SlackCircuitBreaker.builder().failureThreshold(1).openDurationMillis(0L).build();
+        breaker.acquire("files.list", "xoxb-1").onFailure();
+        SlackConfig config = new SlackConfig();
+        config.setCircuitBreaker(breaker);
+        SlackHttpClient client = new SlackHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            throw new IllegalStateException("broken interceptor");
+        }).build());
+        client.setConfig(config);
+        String url = server.getEndpointUrlPrefix() + "files.list";
+        for (int i = 0; i < 2; i++) {
+            try {
+                client.postFormWithBearerHeader(url, "xoxb-1", new FormBody.Builder().build());
+                fail();
+            } catch (IllegalStateException e) {
+                assertThat(e.getMessage(), is("broken interceptor"));
+            }
+        }
+        assertThat(breaker.getState("files.list", null), is(SlackCircuitBreaker.State.HALF_OPEN));
+    }
+
+}
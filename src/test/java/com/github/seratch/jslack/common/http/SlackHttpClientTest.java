@@ -0,0 +1,176 @@
+package com.github.seratch.jslack.common.http;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.MethodsClient;
+import com.github.seratch.jslack.api.methods.request.users.UsersListRequest;
+import com.github.seratch.jslack.api.methods.response.users.UsersListResponse;
+import com.github.seratch.jslack.common.http.listener.HttpResponseListener;
+import com.google.gson.JsonParseException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class SlackHttpClientTest {
+
+    static final int NUMBER_OF_USERS = 5000;
+
+    public static class UsersListApi extends HttpServlet {
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            resp.setStatus(200);
+            resp.setContentType("application/json; charset=utf-8");
+            PrintWriter writer = resp.getWriter();
+            writer.write("{\"ok\":true,\"members\":[");
+            for (int i = 0; i < NUMBER_OF_USERS; i++) {
+                if (i > 0) {
+                    writer.write(",");
+                }
+                writer.write("{\"id\":\"U" + i + "\",\"name\":\"ユーザー" + i + "\"}");
+            }
+            writer.write("]}");
+        }
+    }
+
+    static class RecordingListener extends HttpResponseListener {
+        final boolean active;
+        final boolean bodyRequired;
+        final List<String> bodies = new ArrayList<>();
+
+        RecordingListener(boolean bodyRequired) {
+            this(true, bodyRequired);
+        }
+
+        RecordingListener(boolean active, boolean bodyRequired) {
+            this.active = active;
+            this.bodyRequired = bodyRequired;
+        }
+
+        @Override
+        public boolean isActive(SlackConfig config) {
+            return active;
+        }
+
+        @Override
+        public boolean isResponseBodyRequired(SlackConfig config) {
+            return bodyRequired;
+        }
+
+        @Override
+        public void accept(State state) {
+            bodies.add(state.getParsedResponseBody());
+        }
+    }
+
+    MockSlackApiServer server;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(new UsersListApi());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    MethodsClient methods(HttpResponseListener listener) {
+        SlackConfig config = new SlackConfig();
+        config.getHttpClientResponseHandlers().clear();
+        config.getHttpClientResponseHandlers().add(listener);
+        MethodsClient methods = Slack.getInstance(config).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+        return methods;
+    }
+
+    @Test
+    public void streamingWithoutBodyCapture() throws Exception {
+        RecordingListener listener = new RecordingListener(false);
+        UsersListResponse response = methods(listener).usersList(UsersListRequest.builder().token("xoxb-1").build());
+
+        assertThat(response.isOk(), is(true));
+        assertThat(response.getMembers().size(), is(NUMBER_OF_USERS));
+        assertThat(response.getMembers().get(NUMBER_OF_USERS - 1).getName(), is("ユーザー" + (NUMBER_OF_USERS - 1)));
+        assertThat(listener.bodies.size(), is(1));
+        assertThat(listener.bodies.get(0), is(nullValue()));
+    }
+
+    @Test
+    public void streamingWithBodyCapture() throws Exception {
+        RecordingListener listener = new RecordingListener(true);
+        UsersListResponse response = methods(listener).usersList(UsersListRequest.builder().token("xoxb-1").build());
+
+        assertThat(response.getMembers().size(), is(NUMBER_OF_USERS));
+        assertThat(listener.bodies.size(), is(1));
+        String body = listener.bodies.get(0);
+        assertThat(body.startsWith("{\"ok\":true,\"members\":[{\"id\":\"U0\",\"name\":\"ユーザー0\"}"), is(true));
+        assertThat(body.endsWith("\"name\":\"ユーザー" + (NUMBER_OF_USERS - 1) + "\"}]}"), is(true));
+    }
+
+    public static class BrokenJsonApi extends HttpServlet {
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            resp.setStatus(200);
+            resp.setContentType("application/json; charset=utf-8");
+            resp.getWriter().write("{\"ok\":true,\"members\":[{\"id\":\"U1\"},}] trailing");
+        }
+    }
+
+    @Test
+    public void listenersRunWhenParsingFails() throws Exception {
+        server.close();
+        server = new MockSlackApiServer(new BrokenJsonApi());
+        RecordingListener listener = new RecordingListener(true);
+        try {
+            methods(listener).usersList(UsersListRequest.builder().token("xoxb-1").build());
+            fail();
+        } catch (IOException | JsonParseException expected) {
+        }
+        assertThat(listener.bodies.size(), is(1));
+        assertThat(listener.bodies.get(0), is("{\"ok\":true,\"members\":[{\"id\":\"U1\"},}] trailing"));
+
+        RecordingListener stateOnly = new RecordingListener(false);
+        try {
+            methods(stateOnly).usersList(UsersListRequest.builder().token("xoxb-1").build());
+            fail();
+        } catch (IOException | JsonParseException expected) {
+        }
+        assertThat(stateOnly.bodies.size(), is(1));
+    }
+
+    @Test
+    public void inactiveListener() throws Exception {
+        RecordingListener listener = new RecordingListener(false, true);
+        UsersListResponse response = methods(listener).usersList(UsersListRequest.builder().token("xoxb-1").build());
+
+        assertThat(response.getMembers().size(), is(NUMBER_OF_USERS));
+        assertThat(listener.bodies.size(), is(0));
+    }
+
+    @Test
+    public void lazyBody() {
+        int[] loaded = {0};
+        HttpResponseListener.State state = new HttpResponseListener.State(null, null, () -> {
+            loaded[0]++;
+            return "{}";
+        });
+        assertThat(loaded[0], is(0));
+        assertThat(state.getParsedResponseBody(), is("{}"));
+        assertThat(state.getParsedResponseBody(), is("{}"));
+        assertThat(loaded[0], is(1));
+    }
+}
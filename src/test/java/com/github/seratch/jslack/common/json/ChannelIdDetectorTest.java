@@ -0,0 +1,39 @@
+package com.github.seratch.jslack.common.json;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ChannelIdDetectorTest {
+
+    @Test
+    public void eventsApiPayload() {
+        assertThat(ChannelIdDetector.detectFromEventsApiPayload(
+                "{\"type\":\"event_callback\",\"event\":{\"type\":\"message\",\"channel\":\"C123\"}}"),
+                is("C123"));
+        assertThat(ChannelIdDetector.detectFromEventsApiPayload(
+                "{\"event\":{\"type\":\"channel_created\",\"channel\":{\"id\":\"C234\",\"name\":\"general\"}}}"),
+                is("C234"));
+        assertThat(ChannelIdDetector.detectFromEventsApiPayload(
+                "{\"event\":{\"type\":\"reaction_added\",\"item\":{\"type\":\"message\",\"channel\":\"C345\"}}}"),
+                is("C345"));
+        assertThat(ChannelIdDetector.detectFromEventsApiPayload(
+                "{\"event\":{\"type\":\"goodbye\"}}"),
+                is(nullValue()));
+        assertThat(ChannelIdDetector.detectFromEventsApiPayload("not a json"), is(nullValue()));
+    }
+
+    @Test
+    public void rtmMessage() {
+        assertThat(ChannelIdDetector.detectFromRTMMessage("{\"type\":\"message\",\"channel\":\"C123\"}"), is("C123"));
+        assertThat(ChannelIdDetector.detectFromRTMMessage(
+                "{\"type\":\"channel_created\",\"channel\":{\"id\":\"C234\",\"name\":\"general\"}}"), is("C234"));
+        assertThat(ChannelIdDetector.detectFromRTMMessage(
+                "{\"type\":\"reaction_added\",\"item\":{\"type\":\"message\",\"channel\":\"C345\"}}"), is("C345"));
+        assertThat(ChannelIdDetector.detectFromRTMMessage("{\"type\":\"hello\"}"), is(nullValue()));
+        assertThat(ChannelIdDetector.detectFromRTMMessage("not a json"), is(nullValue()));
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.github.seratch.jslack.common.json;
+
+import com.github.seratch.jslack.SlackConfig;
+import com.google.gson.Gson;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+public class GsonFactoryTest {
+
+    @Test
+    public void sharedInstances() {
+        assertThat(GsonFactory.createSnakeCase(), is(sameInstance(GsonFactory.createSnakeCase())));
+        assertThat(GsonFactory.createSnakeCase(SlackConfig.DEFAULT), is(sameInstance(GsonFactory.createSnakeCase())));
+    }
+
+    @Test
+    public void keyedByConfigFlags() {
+        SlackConfig config = new SlackConfig();
+        config.setPrettyResponseLoggingEnabled(true);
+        Gson pretty = GsonFactory.createSnakeCase(config);
+        assertThat(pretty, is(not(sameInstance(GsonFactory.createSnakeCase()))));
+        assertThat(pretty.serializeNulls(), is(false));
+
+        SlackConfig another = new SlackConfig();
+        another.setPrettyResponseLoggingEnabled(true);
+        assertThat(GsonFactory.createSnakeCase(another), is(sameInstance(pretty)));
+
+        config.setLibraryMaintainerMode(true);
+        assertThat(GsonFactory.createSnakeCase(config), is(not(sameInstance(pretty))));
+    }
+}
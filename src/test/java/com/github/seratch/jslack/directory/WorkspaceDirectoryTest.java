@@ -0,0 +1,159 @@
+package com.github.seratch.jslack.directory;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.MethodsClient;
+import com.github.seratch.jslack.api.model.Conversation;
+import com.github.seratch.jslack.api.rtm.RTMEventsDispatcher;
+import com.github.seratch.jslack.api.rtm.RTMEventsDispatcherFactory;
+import com.github.seratch.jslack.app_backend.events.EventsDispatcher;
+import com.github.seratch.jslack.app_backend.events.EventsDispatcherFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class WorkspaceDirectoryTest {
+
+    public static class DirectoryApi extends HttpServlet {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            calls.incrementAndGet();
+            resp.setStatus(200);
+            resp.setContentType("application/json");
+            String body;
+            if (req.getRequestURI().endsWith("/users.list")) {
+                if (req.getParameter("cursor") == null) {
+                    body = "{\"ok\":true,\"members\":[{\"id\":\"U1\",\"name\":\"alice\"}]," +
+                            "\"response_metadata\":{\"next_cursor\":\"page2\"}}";
+                } else {
+                    body = "{\"ok\":true,\"members\":[{\"id\":\"U2\",\"name\":\"bob\"}]}";
+                }
+            } else if (req.getRequestURI().endsWith("/conversations.list") && "public_channel".equals(req.getParameter("types"))) {
+                body = "{\"ok\":true,\"channels\":[{\"id\":\"C3\",\"name\":\"new\",\"is_channel\":true}]}";
+            } else if (req.getRequestURI().endsWith("/conversations.list")) {
+                body = "{\"ok\":true,\"channels\":[{\"id\":\"C1\",\"name\":\"general\",\"is_channel\":true}," +
+                        "{\"id\":\"G1\",\"name\":\"secret\",\"is_group\":true}]}";
+            } else if (req.getRequestURI().endsWith("/usergroups.list")) {
+                body = "{\"ok\":true,\"usergroups\":[{\"id\":\"S1\",\"name\":\"Admins\",\"handle\":\"admins\",\"users\":[\"U1\"]}]}";
+            } else {
+                body = "{\"ok\":false,\"error\":\"unknown_method\"}";
+            }
+            resp.getWriter().write(body);
+        }
+    }
+
+    DirectoryApi api = new DirectoryApi();
+    MockSlackApiServer server;
+    WorkspaceDirectory directory;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(api);
+        MethodsClient methods = Slack.getInstance(new SlackConfig()).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+        directory = new WorkspaceDirectory(methods, "xoxb-1");
+        directory.load();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    public void load() {
+        assertThat(directory.getUsers().size(), is(2));
+        assertThat(directory.findUserByName("bob").get().getId(), is("U2"));
+        assertThat(directory.findUserById("U1").get().getName(), is("alice"));
+        assertThat(directory.findConversationByName("secret").get().getId(), is("G1"));
+        assertThat(directory.findConversationById("C1").get().getName(), is("general"));
+        assertThat(directory.findUsergroupByHandle("admins").get().getId(), is("S1"));
+        assertThat(directory.findUserByName("carol").isPresent(), is(false));
+
+        int calls = api.calls.get();
+        for (int i = 0; i < 100; i++) {
+            directory.findConversationByName("general");
+        }
+        assertThat(api.calls.get(), is(calls));
+    }
+
+    @Test
+    public void loadPublicChannels() throws Exception {
+        directory.loadPublicChannels();
+        assertThat(directory.findConversationByName("new").get().getId(), is("C3"));
+        // removed from the public channels
+        assertThat(directory.findConversationById("C1").isPresent(), is(false));
+        // private channels are kept
+        assertThat(directory.findConversationById("G1").isPresent(), is(true));
+    }
+
+    @Test
+    public void rtmEvents() {
+        RTMEventsDispatcher dispatcher = RTMEventsDispatcherFactory.getInstance();
+        directory.registerTo(dispatcher);
+
+        dispatcher.dispatch("{\"type\":\"channel_created\",\"channel\":{\"id\":\"C2\",\"name\":\"random\",\"created\":1360782804,\"creator\":\"U1\"}}");
+        Conversation created = directory.findConversationByName("random").get();
+        assertThat(created.getId(), is("C2"));
+
+        dispatcher.dispatch("{\"type\":\"channel_rename\",\"channel\":{\"id\":\"C2\",\"name\":\"random2\",\"created\":1360782804}}");
+        assertThat(directory.findConversationByName("random").isPresent(), is(false));
+        Conversation renamed = directory.findConversationByName("random2").get();
+        assertThat(renamed.getId(), is("C2"));
+        // the instance returned before is left as it was
+        assertThat(created.getName(), is("random"));
+
+        dispatcher.dispatch("{\"type\":\"channel_archive\",\"channel\":\"C2\",\"user\":\"U1\"}");
+        assertThat(directory.findConversationById("C2").get().isArchived(), is(true));
+        assertThat(renamed.isArchived(), is(false));
+
+        dispatcher.dispatch("{\"type\":\"channel_deleted\",\"channel\":\"C2\"}");
+        assertThat(directory.findConversationById("C2").isPresent(), is(false));
+        assertThat(directory.findConversationByName("random2").isPresent(), is(false));
+
+        dispatcher.dispatch("{\"type\":\"user_change\",\"user\":{\"id\":\"U1\",\"name\":\"alice2\"}}");
+        assertThat(directory.findUserByName("alice").isPresent(), is(false));
+        assertThat(directory.findUserByName("alice2").get().getId(), is("U1"));
+
+        dispatcher.dispatch("{\"type\":\"team_join\",\"user\":{\"id\":\"U3\",\"name\":\"carol\"}}");
+        assertThat(directory.findUserByName("carol").get().getId(), is("U3"));
+
+        dispatcher.dispatch("{\"type\":\"subteam_updated\",\"subteam\":{\"id\":\"S1\",\"name\":\"Admins\",\"handle\":\"admin-team\",\"users\":[\"U1\",\"U3\"],\"user_count\":\"2\"}}");
+        assertThat(directory.findUsergroupByHandle("admins").isPresent(), is(false));
+        assertThat(directory.findUsergroupByHandle("admin-team").get().getUserCount(), is(2));
+    }
+
+    @Test
+    public void eventsApiEvents() {
+        EventsDispatcher dispatcher = EventsDispatcherFactory.getInstance();
+        directory.registerTo(dispatcher);
+
+        dispatcher.dispatch("{\"type\":\"event_callback\",\"event\":{\"type\":\"group_rename\",\"channel\":{\"id\":\"G1\",\"name\":\"secret2\"}}}");
+        assertThat(directory.findConversationByName("secret2").get().getId(), is("G1"));
+
+        dispatcher.dispatch("{\"type\":\"event_callback\",\"event\":{\"type\":\"subteam_created\",\"subteam\":{\"id\":\"S2\",\"handle\":\"devs\"}}}");
+        assertThat(directory.findUsergroupByHandle("devs").get().getId(), is("S2"));
+    }
+
+    @Test
+    public void reload() throws Exception {
+        directory.putConversation(Conversation.builder().id("C9").name("gone").build());
+        assertThat(directory.findConversationByName("gone").get().getId(), is("C9"));
+        directory.loadConversations();
+        // the channels no longer returned by the API are removed
+        assertThat(directory.findConversationByName("gone").isPresent(), is(false));
+        assertThat(directory.getConversations().size(), is(2));
+    }
+}
@@ -0,0 +1,205 @@
+package com.github.seratch.jslack.export;
+
+import com.github.seratch.jslack.Slack;
+import com.github.seratch.jslack.SlackConfig;
+import com.github.seratch.jslack.api.methods.MethodsClient;
+import com.github.seratch.jslack.api.methods.MethodsRateLimiter;
+import com.github.seratch.jslack.api.model.Message;
+import com.github.seratch.jslack.common.json.GsonFactory;
+import com.google.gson.Gson;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testing.MockSlackApiServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ExporterTest {
+
+    // C1: 3 pages of 3 messages; every message ending with 0 has 2 replies split into 2 pages
+    public static class HistoryApi extends HttpServlet {
+        final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        final AtomicInteger concurrentReplies = new AtomicInteger();
+        final AtomicInteger maxConcurrentReplies = new AtomicInteger();
+        volatile boolean failOnLastPage = false;
+        volatile boolean rateLimitOnce = false;
+
+        int calls(String method) {
+            AtomicInteger count = calls.get(method);
+            return count == null ? 0 : count.get();
+        }
+
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            String method = req.getRequestURI().substring(req.getRequestURI().lastIndexOf('/') + 1);
+            calls.computeIfAbsent(method, k -> new AtomicInteger()).incrementAndGet();
+            resp.setContentType("application/json");
+            String cursor = req.getParameter("cursor");
+            if (method.equals("conversations.history")) {
+                int page = cursor == null ? 0 : Integer.parseInt(cursor);
+                if (page == 2 && failOnLastPage) {
+                    resp.getWriter().write("{\"ok\":false,\"error\":\"internal_error\"}");
+                    return;
+                }
+                if (page == 1 && rateLimitOnce) {
+                    rateLimitOnce = false;
+                    resp.setStatus(429);
+                    resp.setHeader("Retry-After", "1");
+                    return;
+                }
+                StringBuilder messages = new StringBuilder();
+                for (int i = 0; i < 3; i++) {
+                    int ts = 100 - (page * 3 + i) * 10;
+                    messages.append(i == 0 ? "" : ",").append(ts % 20 == 0
+                            ? "{\"type\":\"message\",\"text\":\"m" + ts + "\",\"ts\":\"" + ts + ".0\",\"thread_ts\":\"" + ts + ".0\",\"reply_count\":2}"
+                            : "{\"type\":\"message\",\"text\":\"m" + ts + "\",\"ts\":\"" + ts + ".0\"}");
+                }
+                resp.getWriter().write("{\"ok\":true,\"messages\":[" + messages + "],\"response_metadata\":{\"next_cursor\":\""
+                        + (page < 2 ? String.valueOf(page + 1) : "") + "\"}}");
+            } else if (method.equals("conversations.replies")) {
+                int current = concurrentReplies.incrementAndGet();
+                maxConcurrentReplies.accumulateAndGet(current, Math::max);
+                try {
+                    Thread.sleep(20L);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                } finally {
+                    concurrentReplies.decrementAndGet();
+                }
+                String ts = req.getParameter("ts");
+                String body = cursor == null
+                        ? "{\"ok\":true,\"messages\":[{\"text\":\"parent\",\"ts\":\"" + ts + "\",\"thread_ts\":\"" + ts + "\"},"
+                        + "{\"text\":\"r1\",\"ts\":\"" + ts + "1\",\"thread_ts\":\"" + ts + "\"}],"
+                        + "\"response_metadata\":{\"next_cursor\":\"next\"}}"
+                        : "{\"ok\":true,\"messages\":[{\"text\":\"r2\",\"ts\":\"" + ts + "2\",\"thread_ts\":\"" + ts + "\"}]}";
+                resp.getWriter().write(body);
+            } else {
+                resp.getWriter().write("{\"ok\":false,\"error\":\"unknown_method\"}");
+            }
+        }
+    }
+
+    HistoryApi api = new HistoryApi();
+    MockSlackApiServer server;
+    MethodsClient methods;
+    Path dir;
+    Gson gson = GsonFactory.createSnakeCase();
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockSlackApiServer(api);
+        methods = Slack.getInstance(new SlackConfig()).methods();
+        methods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+        dir = Files.createTempDirectory("jslack-exporter");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+        Files.list(dir).forEach(path -> path.toFile().delete());
+        Files.delete(dir);
+    }
+
+    private List<Message> read(Path file, boolean gzip) throws IOException {
+        try (InputStream in = gzip ? new GZIPInputStream(Files.newInputStream(file)) : Files.newInputStream(file);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return reader.lines().map(line -> gson.fromJson(line, Message.class)).collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> expectedTexts() {
+        List<String> texts = new ArrayList<>();
+        for (int ts = 100; ts > 10; ts -= 10) {
+            texts.add("m" + ts);
+            if (ts % 20 == 0) {
+                texts.add("r1");
+                texts.add("r2");
+            }
+        }
+        return texts;
+    }
+
+    @Test
+    public void export() throws Exception {
+        ExporterConfig config = ExporterConfig.builder().outputDirectory(dir).repliesConcurrency(2).build();
+        try (Exporter exporter = new Exporter(methods, "xoxp-token", config)) {
+            ExportResult result = exporter.export(Arrays.asList("C1")).get("C1");
+            assertThat(result.getMessageCount(), is(9L));
+            assertThat(result.getReplyCount(), is(10L));
+            assertThat(result.isResumed(), is(false));
+            assertThat(result.getFile().getFileName().toString(), is("C1.ndjson.gz"));
+
+            List<Message> messages = read(result.getFile(), true);
+            assertThat(messages.stream().map(Message::getText).collect(Collectors.toList()), is(expectedTexts()));
+            assertThat(messages.get(1).getThreadTs(), is("100.0"));
+        }
+        assertThat(api.calls("conversations.history"), is(3));
+        assertThat(api.calls("conversations.replies"), is(10));
+        assertThat(api.maxConcurrentReplies.get() <= 2, is(true));
+    }
+
+    @Test
+    public void resume() throws Exception {
+        api.failOnLastPage = true;
+        ExporterConfig config = ExporterConfig.builder().outputDirectory(dir).gzipEnabled(false).build();
+        try (Exporter exporter = new Exporter(methods, "xoxp-token", config)) {
+            try {
+                exporter.export("C1");
+                fail();
+            } catch (IllegalStateException e) {
+                assertThat(e.getMessage().contains("internal_error"), is(true));
+            }
+            assertThat(read(dir.resolve("C1.ndjson"), false).size(), is(12));
+
+            api.failOnLastPage = false;
+            ExportResult result = exporter.export("C1");
+            assertThat(result.isResumed(), is(true));
+            assertThat(result.getMessageCount(), is(9L));
+            assertThat(result.getReplyCount(), is(10L));
+            assertThat(read(result.getFile(), false).stream().map(Message::getText).collect(Collectors.toList()), is(expectedTexts()));
+            // page 0, 1, 2 (failed), 2
+            assertThat(api.calls("conversations.history"), is(4));
+
+            // completed channels are skipped
+            result = exporter.export("C1");
+            assertThat(result.getMessageCount(), is(9L));
+            assertThat(api.calls("conversations.history"), is(4));
+        }
+    }
+
+    @Test
+    public void rateLimited() throws Exception {
+        api.rateLimitOnce = true;
+        SlackConfig slackConfig = new SlackConfig();
+        slackConfig.setMethodsRateLimiter(new MethodsRateLimiter());
+        MethodsClient rateLimitedMethods = Slack.getInstance(slackConfig).methods();
+        rateLimitedMethods.setEndpointUrlPrefix(server.getEndpointUrlPrefix());
+        ExporterConfig config = ExporterConfig.builder().outputDirectory(dir).build();
+        long start = System.currentTimeMillis();
+        try (Exporter exporter = new Exporter(rateLimitedMethods, "xoxp-token", config)) {
+            ExportResult result = exporter.export("C1");
+            assertThat(result.getMessageCount(), is(9L));
+        }
+        assertThat(System.currentTimeMillis() - start >= 1000L, is(true));
+        assertThat(api.calls("conversations.history"), is(4));
+    }
+
+}
@@ -0,0 +1,286 @@
+package testing;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * A local stand-in for the RTM WebSocket endpoint (a minimal RFC 6455 server).
+ * <p>
+ * It sends a hello event to every new connection and replies to the RTM pings with pongs.
+ */
+@Slf4j
+public class MockRTMServer implements AutoCloseable {
+
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private final ServerSocket serverSocket = new ServerSocket(0);
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "mock-rtm-server");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+    private final List<String> receivedMessages = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private volatile boolean pongEnabled = true;
+    private volatile boolean helloEnabled = true;
+    private volatile BiConsumer<Connection, String> messageHandler;
+
+    public MockRTMServer() throws IOException {
+        executor.execute(this::acceptLoop);
+    }
+
+    public String getUrl() {
+        return "ws://localhost:" + serverSocket.getLocalPort() + "/websocket";
+    }
+
+    public void setPongEnabled(boolean pongEnabled) {
+        this.pongEnabled = pongEnabled;
+    }
+
+    public void setHelloEnabled(boolean helloEnabled) {
+        this.helloEnabled = helloEnabled;
+    }
+
+    /**
+     * Receives the text messages other than pings.
+     */
+    public void setMessageHandler(BiConsumer<Connection, String> messageHandler) {
+        this.messageHandler = messageHandler;
+    }
+
+    public List<String> getReceivedMessages() {
+        return receivedMessages;
+    }
+
+    /**
+     * The number of connections accepted so far.
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    public List<Connection> getConnections() {
+        return connections;
+    }
+
+    public void sendToAll(String text) throws IOException {
+        for (Connection connection : connections) {
+            connection.send(text);
+        }
+    }
+
+    /**
+     * Closes all the sockets without a close frame.
+     */
+    public void dropAll() {
+        connections.forEach(Connection::drop);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        dropAll();
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Connection connection = new Connection(serverSocket.accept());
+                executor.execute(() -> serve(connection));
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    private void serve(Connection connection) {
+        try {
+            connection.handshake();
+            connections.add(connection);
+            connectionCount.incrementAndGet();
+            if (helloEnabled) {
+                connection.send("{\"type\":\"hello\"}");
+            }
+            String text;
+            while ((text = connection.read()) != null) {
+                JsonObject json = new JsonParser().parse(text).getAsJsonObject();
+                if (json.has("type") && json.get("type").getAsString().equals("ping")) {
+                    if (pongEnabled) {
+                        connection.send("{\"type\":\"pong\",\"reply_to\":" + json.get("id") + "}");
+                    }
+                    continue;
+                }
+                receivedMessages.add(text);
+                BiConsumer<Connection, String> handler = messageHandler;
+                if (handler != null) {
+                    handler.accept(connection, text);
+                }
+            }
+        } catch (IOException e) {
+            log.debug("connection closed: {}", e.getMessage());
+        } finally {
+            connections.remove(connection);
+            connection.drop();
+        }
+    }
+
+    public static class Connection {
+
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+
+        private Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        private void handshake() throws IOException {
+            String key = null;
+            String line;
+            while ((line = readLine()) != null && !line.isEmpty()) {
+                int index = line.indexOf(':');
+                if (index > 0 && line.substring(0, index).trim().equalsIgnoreCase("Sec-WebSocket-Key")) {
+                    key = line.substring(index + 1).trim();
+                }
+            }
+            if (key == null) {
+                throw new IOException("Not a WebSocket handshake");
+            }
+            String accept;
+            try {
+                MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+                accept = Base64.getEncoder().encodeToString(sha1.digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.US_ASCII)));
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+            synchronized (this) {
+                out.write(("HTTP/1.1 101 Switching Protocols\r\n" +
+                        "Upgrade: websocket\r\n" +
+                        "Connection: Upgrade\r\n" +
+                        "Sec-WebSocket-Accept: " + accept + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+            }
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            int c;
+            while ((c = in.read()) != -1) {
+                if (c == '\n') {
+                    break;
+                }
+                if (c != '\r') {
+                    line.append((char) c);
+                }
+            }
+            return c == -1 && line.length() == 0 ? null : line.toString();
+        }
+
+        /**
+         * Reads the next text message, or returns null when the connection is closed.
+         */
+        private String read() throws IOException {
+            ByteArrayOutputStream message = new ByteArrayOutputStream();
+            while (true) {
+                int b0 = in.read();
+                int b1 = in.read();
+                if (b0 == -1 || b1 == -1) {
+                    return null;
+                }
+                boolean fin = (b0 & 0x80) != 0;
+                int opcode = b0 & 0x0F;
+                long length = b1 & 0x7F;
+                if (length == 126) {
+                    length = (in.read() << 8) | in.read();
+                } else if (length == 127) {
+                    length = 0;
+                    for (int i = 0; i < 8; i++) {
+                        length = (length << 8) | in.read();
+                    }
+                }
+                byte[] mask = new byte[4];
+                if ((b1 & 0x80) != 0) {
+                    readFully(mask);
+                }
+                byte[] payload = new byte[(int) length];
+                readFully(payload);
+                for (int i = 0; i < payload.length; i++) {
+                    payload[i] ^= mask[i % 4];
+                }
+                if (opcode == 0x8) {
+                    writeFrame(0x8, payload);
+                    return null;
+                } else if (opcode == 0x9) {
+                    writeFrame(0xA, payload);
+                } else if (opcode == 0x1 || opcode == 0x0) {
+                    message.write(payload);
+                    if (fin) {
+                        return new String(message.toByteArray(), StandardCharsets.UTF_8);
+                    }
+                }
+            }
+        }
+
+        private void readFully(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                int read = in.read(bytes, offset, bytes.length - offset);
+                if (read == -1) {
+                    throw new EOFException();
+                }
+                offset += read;
+            }
+        }
+
+        public void send(String text) throws IOException {
+            writeFrame(0x1, text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private synchronized void writeFrame(int opcode, byte[] payload) throws IOException {
+            out.write(0x80 | opcode);
+            if (payload.length < 126) {
+                out.write(payload.length);
+            } else if (payload.length < 65536) {
+                out.write(126);
+                out.write(payload.length >>> 8);
+                out.write(payload.length & 0xFF);
+            } else {
+                out.write(127);
+                for (int i = 7; i >= 0; i--) {
+                    out.write((int) (((long) payload.length >>> (8 * i)) & 0xFF));
+                }
+            }
+            out.write(payload);
+            out.flush();
+        }
+
+        public void drop() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+}
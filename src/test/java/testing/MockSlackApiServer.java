@@ -0,0 +1,47 @@
+package testing;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+
+import javax.servlet.http.HttpServlet;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * A local stand-in for https://slack.com/api/ backed by the given servlet.
+ */
+public class MockSlackApiServer implements AutoCloseable {
+
+    private final Server server = new Server(0);
+
+    public MockSlackApiServer(HttpServlet servlet) throws Exception {
+        ServletContextHandler handler = new ServletContextHandler();
+        handler.addServlet(new ServletHolder(servlet), "/*");
+        server.setHandler(handler);
+        server.start();
+    }
+
+    public int getPort() {
+        return ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+    }
+
+    public String getEndpointUrlPrefix() {
+        return "http://localhost:" + getPort() + "/api/";
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            server.stop();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while stopping the server");
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+}